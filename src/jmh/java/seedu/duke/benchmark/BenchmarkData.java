@@ -0,0 +1,76 @@
+package seedu.duke.benchmark;
+
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.item.Category;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.transaction.Transaction;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+// @@author bdthanh
+
+/**
+ * Users, items and transactions for the benchmarks, made the same way every time for a given size.
+ * There are 10 transactions for each item and 10 items for each user. The transactions of each
+ * item follow one another up to today without overlapping, and the last one is still ongoing for
+ * every other item.
+ */
+public class BenchmarkData {
+    static final int TRANSACTIONS_PER_ITEM = 10;
+    static final int ITEMS_PER_USER = 10;
+    static final int NUMBER_OF_NAMES = 100;
+    private static final int DAYS_PER_TRANSACTION = 8;
+    private static final int NUMBER_OF_CATEGORIES = Category.Categories.values().length;
+    private static final long SEED = 2103L;
+
+    final UserList userList = new UserList();
+    final ItemList itemList = new ItemList();
+    final TransactionList transactionList = new TransactionList();
+    final String[] itemIds;
+    final LocalDate firstDay;
+
+    /**
+     * Constructor for BenchmarkData.
+     *
+     * @param numberOfTransactions The number of transactions, which decides the number of items and users
+     */
+    BenchmarkData(int numberOfTransactions) throws InvalidCategoryException {
+        Random random = new Random(SEED);
+        int numberOfItems = Math.max(1, numberOfTransactions / TRANSACTIONS_PER_ITEM);
+        int numberOfUsers = Math.max(2, numberOfItems / ITEMS_PER_USER);
+        for (int i = 0; i < numberOfUsers; i++) {
+            userList.addUser(new User(getUserName(i), 18 + random.nextInt(60), String.format("%08d", 80000000 + i)));
+        }
+        itemIds = new String[numberOfItems];
+        firstDay = BusinessClock.today().minusDays((long) TRANSACTIONS_PER_ITEM * DAYS_PER_TRANSACTION);
+        for (int i = 0; i < numberOfItems; i++) {
+            int owner = i % numberOfUsers;
+            Item item = new Item(getItemName(i), 1 + random.nextInt(NUMBER_OF_CATEGORIES),
+                    100 + random.nextInt(100000), getUserName(owner));
+            itemList.addItem(item);
+            itemIds[i] = item.getItemId();
+            for (int j = 0; j < TRANSACTIONS_PER_ITEM; j++) {
+                int borrower = (owner + 1 + random.nextInt(numberOfUsers - 1)) % numberOfUsers;
+                boolean isOngoing = j == TRANSACTIONS_PER_ITEM - 1 && i % 2 == 0;
+                int duration = isOngoing ? 2 * DAYS_PER_TRANSACTION : 1 + random.nextInt(DAYS_PER_TRANSACTION - 1);
+                transactionList.addTransaction(new Transaction(item.getName(), item.getItemId(),
+                        getUserName(borrower), getUserName(owner), duration,
+                        firstDay.plusDays((long) j * DAYS_PER_TRANSACTION), item.getPricePerDay() * duration));
+            }
+        }
+    }
+
+    static String getUserName(int index) {
+        return "user" + index;
+    }
+
+    static String getItemName(int index) {
+        return "item" + index % NUMBER_OF_NAMES;
+    }
+}
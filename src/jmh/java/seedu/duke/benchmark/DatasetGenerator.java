@@ -0,0 +1,325 @@
+package seedu.duke.benchmark;
+
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.parser.MoneyParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+// @@author bdthanh
+
+/**
+ * Writes user.txt, item.txt and transaction.txt with as many users, items and transactions as asked,
+ * all of which pass the checks made when the files are loaded. The same seed always gives the same
+ * files on the same day.
+ *
+ * <p>Some items are borrowed far more often than others, and some users borrow or lend far more than
+ * others, following a power law with the given skew (0 for none). The transactions of each item are
+ * spread over evenly sized periods from 2016-01-01 to today so that they never overlap, and a given
+ * ratio of the items that have transactions are still on loan today.
+ *
+ * <p>Lines are written as they are made and nothing is kept for the whole run. The attributes of an
+ * item are made again from its own seed when its transactions are written, so the memory used does
+ * not grow with the number of users, items or transactions.
+ */
+public class DatasetGenerator {
+    private static final String USAGE = "Usage: DatasetGenerator [--users N] [--items N] [--transactions N]"
+            + " [--seed N] [--item-skew S] [--user-skew S] [--on-loan RATIO] [--out DIRECTORY]";
+    private static final String SEPARATOR = " | ";
+    private static final long FIRST_ID_VALUE = Long.parseLong("g0000000", Character.MAX_RADIX);
+    private static final long ITEM_SEED_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2016, 1, 1);
+    private static final int MAX_USERS = 10000000;
+    private static final int MAX_DURATION = 30;
+    private static final String[] ITEM_NAMES = {"racket", "football", "textbook", "notes", "laptop", "fan",
+        "chair", "desk", "kettle", "wok", "bicycle", "scooter", "jacket", "suit", "tent", "umbrella"};
+    private static final int[] ITEM_CATEGORIES = {1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8};
+
+    private int numberOfUsers = 10000;
+    private int numberOfItems = 100000;
+    private long numberOfTransactions = 2000000;
+    private long seed = 2103;
+    private double itemSkew = 1.0;
+    private double userSkew = 1.0;
+    private double onLoanRatio = 0.1;
+    private Path outputDir = Paths.get("build", "dataset");
+    private final LocalDate today = BusinessClock.today();
+
+    /**
+     * Generates the files with the options given.
+     *
+     * @param args The options, see {@link #USAGE}
+     */
+    public static void main(String[] args) throws IOException {
+        DatasetGenerator generator;
+        try {
+            generator = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+        generator.generate();
+    }
+
+    /**
+     * Reads the options of the generator.
+     *
+     * @param args The options, each followed by its value
+     * @return The generator
+     * @throws IllegalArgumentException If an option is unknown or its value is invalid
+     */
+    static DatasetGenerator parse(String[] args) {
+        DatasetGenerator generator = new DatasetGenerator();
+        if (args.length % 2 != 0) {
+            throw new IllegalArgumentException("Every option needs a value");
+        }
+        for (int i = 0; i < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+            case "--users":
+                generator.numberOfUsers = Integer.parseInt(value);
+                break;
+            case "--items":
+                generator.numberOfItems = Integer.parseInt(value);
+                break;
+            case "--transactions":
+                generator.numberOfTransactions = Long.parseLong(value);
+                break;
+            case "--seed":
+                generator.seed = Long.parseLong(value);
+                break;
+            case "--item-skew":
+                generator.itemSkew = Double.parseDouble(value);
+                break;
+            case "--user-skew":
+                generator.userSkew = Double.parseDouble(value);
+                break;
+            case "--on-loan":
+                generator.onLoanRatio = Double.parseDouble(value);
+                break;
+            case "--out":
+                generator.outputDir = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        generator.checkOptions();
+        return generator;
+    }
+
+    private void checkOptions() {
+        if (numberOfUsers < 2 || numberOfUsers > MAX_USERS) {
+            throw new IllegalArgumentException("There must be 2 to " + MAX_USERS + " users");
+        }
+        if (numberOfItems < 1) {
+            throw new IllegalArgumentException("There must be at least 1 item");
+        }
+        if (numberOfTransactions < 0 || numberOfTransactions > (long) numberOfItems * getNumberOfDays()) {
+            throw new IllegalArgumentException("There can be at most " + getNumberOfDays()
+                    + " transactions per item without overlapping");
+        }
+        if (itemSkew < 0 || userSkew < 0) {
+            throw new IllegalArgumentException("The skews cannot be negative");
+        }
+        if (onLoanRatio < 0 || onLoanRatio > 1) {
+            throw new IllegalArgumentException("The on-loan ratio must be from 0 to 1");
+        }
+    }
+
+    // Finished transactions end before today, so they are spread over the days from FIRST_DAY to yesterday
+    private int getNumberOfDays() {
+        return (int) (today.toEpochDay() - FIRST_DAY.toEpochDay());
+    }
+
+    /**
+     * Writes the three files into the output folder, replacing any files already there.
+     */
+    void generate() throws IOException {
+        Files.createDirectories(outputDir);
+        writeUsers();
+        writeItems();
+        long numberOfOnLoan = writeTransactions();
+        System.out.println("Wrote " + numberOfUsers + " users, " + numberOfItems + " items and "
+                + numberOfTransactions + " transactions (" + numberOfOnLoan + " on loan) to " + outputDir);
+    }
+
+    private void writeUsers() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDir.resolve("user.txt"), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < numberOfUsers; i++) {
+                writer.write(getUserName(i) + SEPARATOR + (18 + random.nextInt(63)) + SEPARATOR + (80000000 + i));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static String getUserName(int index) {
+        return "user" + index;
+    }
+
+    private void writeItems() throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDir.resolve("item.txt"), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < numberOfItems; i++) {
+                GeneratedItem item = getItem(i);
+                writer.write(item.name + SEPARATOR + item.categoryNumber + SEPARATOR + MoneyParser.formatCents(
+                        item.pricePerDay) + SEPARATOR + item.ownerId + SEPARATOR + item.itemId);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Makes an item from its own seed, so that it is the same every time it is made.
+     * Users with a low rank as lenders own the most items.
+     */
+    private GeneratedItem getItem(int index) {
+        SplittableRandom random = new SplittableRandom(seed + index * ITEM_SEED_GAMMA);
+        int nameIndex = random.nextInt(ITEM_NAMES.length);
+        int owner = numberOfUsers - 1 - sampleRank(random, numberOfUsers, userSkew);
+        return new GeneratedItem(formatId(index), ITEM_NAMES[nameIndex] + index / ITEM_NAMES.length,
+                ITEM_CATEGORIES[nameIndex], 100 + random.nextInt(4901), owner);
+    }
+
+    private static String formatId(long index) {
+        return Long.toString(FIRST_ID_VALUE + index, Character.MAX_RADIX);
+    }
+
+    /**
+     * Writes the transactions item by item. Item i gets about scale / (i + 1)^itemSkew transactions,
+     * but never more than there are days, and the scale is chosen so that the counts add up to the
+     * number of transactions asked for.
+     *
+     * @return The number of transactions still ongoing today
+     */
+    private long writeTransactions() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        double scale = findScale();
+        double expectedCount = 0;
+        long numberOfWritten = 0;
+        long numberOfOnLoan = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDir.resolve("transaction.txt"),
+                StandardCharsets.UTF_8)) {
+            for (int i = 0; i < numberOfItems; i++) {
+                expectedCount += getCount(scale, i);
+                // A count rounded up past the number of days is carried over to the next items
+                int count = (int) Math.min(getNumberOfDays(),
+                        Math.min(Math.round(expectedCount), numberOfTransactions) - numberOfWritten);
+                boolean isOnLoan = count > 0 && random.nextDouble() < onLoanRatio;
+                writeTransactionsOfItem(writer, random, getItem(i), count, isOnLoan, numberOfItems + numberOfWritten);
+                numberOfWritten += count;
+                numberOfOnLoan += isOnLoan ? 1 : 0;
+            }
+        }
+        assert numberOfWritten == numberOfTransactions : "Transaction counts do not add up";
+        return numberOfOnLoan;
+    }
+
+    private double getCount(double scale, int index) {
+        return Math.min(getNumberOfDays(), scale * Math.pow(index + 1, -itemSkew));
+    }
+
+    private double findScale() {
+        double low = 0;
+        double high = 1;
+        while (getTotalCount(high) < numberOfTransactions) {
+            high *= 2;
+        }
+        for (int i = 0; i < 64; i++) {
+            double mid = (low + high) / 2;
+            if (getTotalCount(mid) < numberOfTransactions) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    private double getTotalCount(double scale) {
+        double total = 0;
+        for (int i = 0; i < numberOfItems; i++) {
+            total += getCount(scale, i);
+        }
+        return total;
+    }
+
+    /**
+     * Writes the transactions of an item, one in each of count evenly sized periods. A finished
+     * transaction starts and ends inside its period. If the item is on loan, its last transaction
+     * starts in the last period and ends after today instead.
+     */
+    private void writeTransactionsOfItem(BufferedWriter writer, SplittableRandom random, GeneratedItem item,
+            int count, boolean isOnLoan, long firstIdIndex) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        int periodLength = getNumberOfDays() / count;
+        for (int j = 0; j < count; j++) {
+            LocalDate periodStart = FIRST_DAY.plusDays((long) j * periodLength);
+            LocalDate createdAt;
+            int duration;
+            if (isOnLoan && j == count - 1) {
+                LocalDate latestStart = today.minusDays(random.nextInt(MAX_DURATION + 1));
+                createdAt = latestStart.isAfter(periodStart) ? latestStart : periodStart;
+                duration = (int) (today.toEpochDay() - createdAt.toEpochDay()) + 1 + random.nextInt(MAX_DURATION);
+            } else {
+                // Only items borrowed every day have transactions that start and end on the same day
+                duration = periodLength == 1 ? 0 : 1 + random.nextInt(Math.min(periodLength - 1, MAX_DURATION));
+                createdAt = periodStart.plusDays(random.nextInt(periodLength - duration));
+            }
+            int borrower = sampleRank(random, numberOfUsers, userSkew);
+            if (borrower == item.owner) {
+                borrower = (borrower + 1) % numberOfUsers;
+            }
+            writer.write(item.itemId + SEPARATOR + getUserName(borrower) + SEPARATOR + duration + SEPARATOR
+                    + createdAt + SEPARATOR + item.ownerId + SEPARATOR + item.name + SEPARATOR
+                    + MoneyParser.formatCents(item.pricePerDay * duration) + SEPARATOR + formatId(firstIdIndex + j));
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Picks a rank from 0 to n - 1, where rank r is picked about (r + 1)^-skew times as often as rank 0.
+     * The inverse of the continuous power law is used, so it takes constant time and memory.
+     */
+    private static int sampleRank(SplittableRandom random, int n, double skew) {
+        double u = random.nextDouble();
+        double x;
+        if (skew == 0) {
+            x = u * n;
+        } else if (skew == 1) {
+            x = Math.exp(u * Math.log(n + 1.0)) - 1;
+        } else {
+            double exponent = 1 - skew;
+            x = Math.pow((Math.pow(n + 1.0, exponent) - 1) * u + 1, 1 / exponent) - 1;
+        }
+        return Math.min(n - 1, (int) x);
+    }
+
+    private static class GeneratedItem {
+        private final String itemId;
+        private final String name;
+        private final int categoryNumber;
+        private final long pricePerDay;
+        private final int owner;
+        private final String ownerId;
+
+        private GeneratedItem(String itemId, String name, int categoryNumber, long pricePerDay, int owner) {
+            this.itemId = itemId;
+            this.name = name;
+            this.categoryNumber = categoryNumber;
+            this.pricePerDay = pricePerDay;
+            this.owner = owner;
+            this.ownerId = getUserName(owner);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.CommandParser;
+import seedu.duke.transaction.Transaction;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+// @@author bdthanh
+
+/**
+ * Benchmarks of the operations most commands go through, for lists of different sizes. Each call
+ * looks at the next item in turn, so the results are not for one item that stays in the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int numberOfTransactions;
+
+    private BenchmarkData data;
+    private String[] inputs;
+    private Command sortItemCommand;
+    private PrintStream systemOut;
+    private int next = 0;
+
+    /**
+     * Makes the lists, and stops the output of commands from being printed.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws DukeException {
+        data = new BenchmarkData(numberOfTransactions);
+        String itemId = data.itemIds[0];
+        inputs = new String[] {
+            "view-item /i " + itemId,
+            "add-tx /i " + itemId + " /b " + BenchmarkData.getUserName(1) + " /d 5 /c " + BusinessClock.today(),
+            "add-item /n pen /c 2 /p 1.5 /o " + BenchmarkData.getUserName(0),
+            "sort-items /mode hl /min 1 /max 500 /cat 3",
+            "find-item /k " + BenchmarkData.getItemName(7)
+        };
+        sortItemCommand = CommandParser.createCommand("sort-items /mode lh", data.userList, data.itemList,
+                data.transactionList);
+        systemOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(systemOut);
+    }
+
+    private String nextItemId() {
+        next = (next + 1) % data.itemIds.length;
+        return data.itemIds[next];
+    }
+
+    @Benchmark
+    public Item getItemById() throws DukeException {
+        return data.itemList.getItemById(nextItemId());
+    }
+
+    @Benchmark
+    public ItemList getItemsByKeyword() throws DukeException {
+        next = (next + 1) % BenchmarkData.NUMBER_OF_NAMES;
+        return data.itemList.getItemsByKeyword(BenchmarkData.getItemName(next));
+    }
+
+    /**
+     * Checks a new transaction that starts after every transaction of its item has ended.
+     */
+    @Benchmark
+    public Transaction checkOverlapWithNewWhenFree() throws DukeException {
+        Item item = data.itemList.getItemById(nextItemId());
+        Transaction transaction = new Transaction(item.getName(), item.getItemId(), BenchmarkData.getUserName(1),
+                item.getOwnerId(), 1, BusinessClock.today().plusDays(30), 100);
+        data.transactionList.checkOldTransactionsOverlapWithNew(transaction);
+        return transaction;
+    }
+
+    /**
+     * Checks a new transaction that overlaps the first transaction of its item.
+     */
+    @Benchmark
+    public boolean checkOverlapWithNewWhenTaken() throws DukeException {
+        Item item = data.itemList.getItemById(nextItemId());
+        Transaction transaction = new Transaction(item.getName(), item.getItemId(), BenchmarkData.getUserName(1),
+                item.getOwnerId(), 1, data.firstDay, 100);
+        try {
+            data.transactionList.checkOldTransactionsOverlapWithNew(transaction);
+            return false;
+        } catch (InvalidTransactionException e) {
+            return true;
+        }
+    }
+
+    @Benchmark
+    public boolean hasThisItemBeingBorrowed() {
+        return data.transactionList.hasThisItemBeingBorrowed(nextItemId());
+    }
+
+    @Benchmark
+    public boolean executeSortItemCommand() throws DukeException {
+        return sortItemCommand.executeCommand();
+    }
+
+    @Benchmark
+    public Command createCommand() throws DukeException {
+        next = (next + 1) % inputs.length;
+        return CommandParser.createCommand(inputs[next], data.userList, data.itemList, data.transactionList);
+    }
+}
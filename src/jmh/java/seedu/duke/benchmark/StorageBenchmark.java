@@ -0,0 +1,108 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.exception.DukeException;
+import seedu.duke.item.ItemList;
+import seedu.duke.storage.ItemStorage;
+import seedu.duke.storage.TransactionStorage;
+import seedu.duke.storage.UserStorage;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.user.UserList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// @@author bdthanh
+
+/**
+ * Benchmarks of reading and writing the files of users, items and transactions, for files of
+ * different sizes. The files are written once into a temporary folder before the benchmarks start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int numberOfTransactions;
+
+    private BenchmarkData data;
+    private Path dataDir;
+    private UserStorage userStorage;
+    private ItemStorage itemStorage;
+    private TransactionStorage transactionStorage;
+
+    /**
+     * Makes the lists and writes them to a temporary folder.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws DukeException, IOException {
+        data = new BenchmarkData(numberOfTransactions);
+        dataDir = Files.createTempDirectory("duke-benchmark");
+        userStorage = new UserStorage(dataDir.resolve("user.txt").toString());
+        itemStorage = new ItemStorage(dataDir.resolve("item.txt").toString(), data.userList);
+        transactionStorage = new TransactionStorage(dataDir.resolve("transaction.txt").toString(),
+                data.userList, data.itemList);
+        userStorage.writeData(data.userList);
+        itemStorage.writeData(data.itemList);
+        transactionStorage.writeData(data.transactionList);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = dataDir.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dataDir.toFile().delete();
+    }
+
+    @Benchmark
+    public UserList loadUsers() throws DukeException {
+        return userStorage.loadData();
+    }
+
+    @Benchmark
+    public ItemList loadItems() throws DukeException {
+        return itemStorage.loadData();
+    }
+
+    @Benchmark
+    public TransactionList loadTransactions() throws DukeException {
+        return transactionStorage.loadData();
+    }
+
+    @Benchmark
+    public void writeUsers() throws DukeException {
+        userStorage.writeData(data.userList);
+    }
+
+    @Benchmark
+    public void writeItems() throws DukeException {
+        itemStorage.writeData(data.itemList);
+    }
+
+    @Benchmark
+    public void writeTransactions() throws DukeException {
+        transactionStorage.writeData(data.transactionList);
+    }
+}
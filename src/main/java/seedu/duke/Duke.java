@@ -1,9 +1,19 @@
 package seedu.duke;
 
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.event.CommandExecutedEvent;
+import seedu.duke.event.DayRolledOverEvent;
+import seedu.duke.event.DukeEvent;
+import seedu.duke.event.EventBus;
 import seedu.duke.exception.DukeException;
 import seedu.duke.exception.StoreFailureException;
+import seedu.duke.id.IdGenerator;
 import seedu.duke.item.ItemList;
 import seedu.duke.logger.DukeLogger;
+import seedu.duke.logger.LoggingSubscriber;
+import seedu.duke.metrics.CommandEvent;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.storage.PersistenceSubscriber;
 import seedu.duke.storage.StorageManager;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.command.Command;
@@ -11,10 +21,17 @@ import seedu.duke.parser.CommandParser;
 import seedu.duke.ui.Ui;
 import seedu.duke.user.UserList;
 
-import static seedu.duke.logger.LoggerMessages.LOG_EXECUTE_SUCCESSFULLY;
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
 import static seedu.duke.logger.LoggerMessages.LOG_EXIT_DUKE;
 import static seedu.duke.logger.LoggerMessages.LOG_RUN_DUKE;
+import static seedu.duke.storage.FilePath.HISTORY_FILE_PATH;
+import static seedu.duke.storage.FilePath.ID_FILE_PATH;
 import static seedu.duke.storage.FilePath.ITEM_FILE_PATH;
+import static seedu.duke.storage.FilePath.ROLLUP_FILE_PATH;
+import static seedu.duke.storage.FilePath.SKETCH_FILE_PATH;
 import static seedu.duke.storage.FilePath.TRANSACTION_FILE_PATH;
 import static seedu.duke.storage.FilePath.USER_FILE_PATH;
 
@@ -29,7 +46,9 @@ public class Duke {
     private TransactionList transactionList;
     private final DukeLogger dukeLogger;
     private final StorageManager storageManager;
+    private final ReadWriteLock dataLock = new ReentrantReadWriteLock();
     private boolean isExit = false;
+    private LocalDate currentDay = BusinessClock.today();
 
     /**
      * Constructor of Duke.
@@ -41,29 +60,115 @@ public class Duke {
     private Duke(String userFilePath, String itemFilePath, String transactionFilePath) {
         dukeLogger = new DukeLogger();
         storageManager = new StorageManager(userFilePath, itemFilePath, transactionFilePath);
+        IdGenerator.initialize(ID_FILE_PATH);
         try {
             StorageManager.checkThreeFilesSimultaneouslyExistOrNotExist();
             userList = storageManager.initializeUserList(userFilePath);
             itemList = storageManager.initializeItemList(itemFilePath, userList);
             transactionList = storageManager.initializeTransactionList(transactionFilePath, userList, itemList);
+            transactionList.setRollups(storageManager.initializeRollups(ROLLUP_FILE_PATH, transactionList, itemList));
+            transactionList.setSketches(storageManager.initializeSketches(SKETCH_FILE_PATH, transactionList, itemList));
+            transactionList.setHistory(storageManager.initializeHistory(HISTORY_FILE_PATH, transactionList));
         } catch (StoreFailureException e) {
             isExit = storageManager.handleDataCorruption(e.getMessage());
         }
+        if (!isExit) {
+            registerSubscribers();
+        }
+    }
+
+    /**
+     * Registers the subscribers that save and log what the commands do, and makes sure
+     * they finish their queued events even if Duke is closed without the exit command.
+     */
+    private void registerSubscribers() {
+        EventBus.register(new PersistenceSubscriber(storageManager, userList, itemList, transactionList, dataLock));
+        EventBus.register(new LoggingSubscriber(dukeLogger));
+        Runtime.getRuntime().addShutdownHook(new Thread(EventBus::shutdown));
     }
 
     /**
      * Main activity of Duke: reads input from user and parses command,
-     * and execute it.
+     * and execute it. Saving and logging are left to the subscribers of the events
+     * the command records, which are published only after the lists are unlocked.
+     * A CommandEvent is committed for Flight Recorder whether the command succeeds or not.
      *
      * @throws DukeException If there is any error
      */
     private void readInputAndParseCommand() throws DukeException {
         String input = Ui.readInput();
-        Command command =
-                CommandParser.createCommand(input, userList, itemList, transactionList);
-        isExit = command.executeCommand();
-        storageManager.writeDataToFiles(userList, itemList, transactionList);
-        dukeLogger.info(LOG_EXECUTE_SUCCESSFULLY + input);
+        CommandEvent commandEvent = new CommandEvent();
+        commandEvent.begin();
+        long rowsScannedBefore = CommandMetrics.getRowsScanned();
+        boolean isSuccessful = false;
+        try {
+            publishDayRolledOverIfNeeded();
+            Command command;
+            dataLock.writeLock().lock();
+            try {
+                command = CommandParser.createCommand(input, userList, itemList, transactionList);
+                isExit = executeCommand(command);
+            } finally {
+                dataLock.writeLock().unlock();
+            }
+            for (DukeEvent event : command.getEvents()) {
+                EventBus.publish(event);
+            }
+            EventBus.publish(new CommandExecutedEvent(input));
+            isSuccessful = true;
+        } finally {
+            commandEvent.commitCommand(input, CommandMetrics.getRowsScanned() - rowsScannedBefore, isSuccessful);
+        }
+    }
+
+    /**
+     * Executes a command and records the time it took and the rows it scanned, even if it fails.
+     *
+     * @param command The command to execute
+     * @return true If the command is the exit command
+     * @throws DukeException If the command fails
+     */
+    private boolean executeCommand(Command command) throws DukeException {
+        long rowsScannedBefore = CommandMetrics.getRowsScanned();
+        long startTime = System.nanoTime();
+        try {
+            return command.executeCommand();
+        } finally {
+            CommandMetrics.recordExecute(command.getMetricsName(), System.nanoTime() - startTime,
+                    CommandMetrics.getRowsScanned() - rowsScannedBefore);
+        }
+    }
+
+    /**
+     * Publishes a DayRolledOverEvent if the day has changed since the previous command,
+     * and moves the transactions that have become finished into the archive.
+     */
+    private void publishDayRolledOverIfNeeded() {
+        LocalDate today = BusinessClock.today();
+        if (!today.isAfter(currentDay)) {
+            return;
+        }
+        int finishedCount;
+        dataLock.writeLock().lock();
+        try {
+            finishedCount = transactionList.countFinishedSince(currentDay, today);
+            transactionList.archiveFinished(today);
+        } finally {
+            dataLock.writeLock().unlock();
+        }
+        EventBus.publish(new DayRolledOverEvent(currentDay, today, finishedCount));
+        currentDay = today;
+    }
+
+    /**
+     * Shows the errors hit by the subscribers since the previous command, for example a save that
+     * failed. The subscribers handle the failed events again with the next ones.
+     */
+    private void printSubscriberFailures() {
+        for (Exception e : EventBus.takeFailures()) {
+            Ui.printErrorMessage(e.getMessage());
+            dukeLogger.logDukeException(e);
+        }
     }
 
     /**
@@ -75,6 +180,7 @@ public class Duke {
             dukeLogger.info(LOG_RUN_DUKE);
         }
         while (!isExit) {
+            printSubscriberFailures();
             try {
                 readInputAndParseCommand();
             } catch (Exception e) {
@@ -82,7 +188,11 @@ public class Duke {
                 dukeLogger.logDukeException(e);
             }
         }
+        EventBus.shutdown();
+        printSubscriberFailures();
+        IdGenerator.saveHighWaterMark();
         dukeLogger.info(LOG_EXIT_DUKE);
+        dukeLogger.close();
     }
 
     /**
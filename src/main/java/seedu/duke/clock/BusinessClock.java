@@ -0,0 +1,75 @@
+package seedu.duke.clock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+//@@author bdthanh
+
+/**
+ * The clock that tells Duke what day it is. The current day is worked out from the time zone
+ * rules only once and then kept until midnight, so asking for today costs one read of the system
+ * time. Tests can replace the clock to pin the day.
+ */
+public class BusinessClock {
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile Day currentDay = null;
+
+    /**
+     * Gets the current day.
+     *
+     * @return Today
+     */
+    public static LocalDate today() {
+        Day day = currentDay;
+        long nowMillis = clock.millis();
+        if (day == null || nowMillis < day.startMillis || nowMillis >= day.endMillis) {
+            day = new Day(nowMillis, clock.getZone());
+            currentDay = day;
+        }
+        return day.date;
+    }
+
+    /**
+     * Gets the current day as a number of days since 1970-01-01.
+     *
+     * @return The epoch day of today
+     */
+    public static long todayEpochDay() {
+        return today().toEpochDay();
+    }
+
+    /**
+     * Replaces the clock, e.g. with a fixed clock in tests.
+     *
+     * @param newClock The clock to use from now on
+     */
+    public static void setClock(Clock newClock) {
+        clock = newClock;
+        currentDay = null;
+    }
+
+    /**
+     * Goes back to the clock of the system in its default time zone.
+     */
+    public static void useSystemClock() {
+        setClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * A day together with the times it starts and ends, so checking if it is still
+     * the same day needs no time zone rules.
+     */
+    private static class Day {
+        private final LocalDate date;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Day(long nowMillis, ZoneId zone) {
+            date = Instant.ofEpochMilli(nowMillis).atZone(zone).toLocalDate();
+            startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+}
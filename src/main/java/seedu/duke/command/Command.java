@@ -1,9 +1,49 @@
 package seedu.duke.command;
 
+import seedu.duke.event.DukeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
 //@@author winston-lim
 
 /**
  * An abstract class for Commands.
  */
 public abstract class Command implements CommandInterface {
+    private final List<DukeEvent> events = new ArrayList<>();
+
+    //@@author bdthanh
+    private String metricsName = "";
+
+    /**
+     * Records an event to be published once the command has finished executing.
+     *
+     * @param event The event to record
+     */
+    protected void addEvent(DukeEvent event) {
+        events.add(event);
+    }
+
+    /**
+     * Gets the events recorded while executing the command, in order.
+     *
+     * @return The recorded events
+     */
+    public List<DukeEvent> getEvents() {
+        return events;
+    }
+
+    public String getMetricsName() {
+        return metricsName;
+    }
+
+    /**
+     * Sets the name that the time taken by the command is recorded under.
+     *
+     * @param metricsName The word the command was created from, e.g. list-tx
+     */
+    public void setMetricsName(String metricsName) {
+        this.metricsName = metricsName;
+    }
 }
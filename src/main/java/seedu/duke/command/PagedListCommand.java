@@ -0,0 +1,191 @@
+package seedu.duke.command;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.ui.Ui;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_CURSOR_NOT_FOUND;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PAGE_AND_CURSOR;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PAGE_INVALID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PAGE_OUT_OF_RANGE;
+
+// @@author bdthanh
+
+/**
+ * An abstract class for commands that list users, items or transactions. Without arguments the whole
+ * list is printed. With /page, /size or /after only one page is printed, and the last line tells how
+ * to continue from the last row shown. A list may take other arguments, e.g. to choose the rows.
+ */
+public abstract class PagedListCommand<T> extends Command {
+    private static final int MAX_NUMBER_OF_ARGS = 2;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final ArgumentSpec<Integer> PAGE =
+            ArgumentSpec.optional("page", PagedListCommand::getPositiveNumber, 0);
+    private static final ArgumentSpec<Integer> SIZE =
+            ArgumentSpec.optional("size", PagedListCommand::getPositiveNumber, DEFAULT_PAGE_SIZE);
+    private static final ArgumentSpec<String> AFTER = ArgumentSpec.optional("after", value -> value, null);
+    private static final ArgumentSpec<?>[] PAGE_SPECS = {PAGE, SIZE, AFTER};
+    private final Arguments args;
+    private final int pageNumber;
+    private final int pageSize;
+    private final String afterId;
+
+    /**
+     * Constructor for PagedListCommand.
+     *
+     * @param input The scanned user input
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     */
+    protected PagedListCommand(ParsedInput input) throws DukeException {
+        this(input, new ArgumentSpec<?>[0]);
+    }
+
+    /**
+     * Constructor for PagedListCommand of a list that takes more arguments than the page.
+     *
+     * @param input      The scanned user input
+     * @param extraSpecs The declarations of the other arguments
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws InvalidArgumentException      If there is a part that cannot be parsed
+     */
+    protected PagedListCommand(ParsedInput input, ArgumentSpec<?>... extraSpecs) throws DukeException {
+        ArgumentSpec<?>[] specs = Arrays.copyOf(PAGE_SPECS, PAGE_SPECS.length + extraSpecs.length);
+        System.arraycopy(extraSpecs, 0, specs, PAGE_SPECS.length, extraSpecs.length);
+        ArgumentSchema schema =
+                ArgumentSchema.of(specs).withMaxNumberOfParts(MAX_NUMBER_OF_ARGS + extraSpecs.length);
+        schema.checkNumberOfParts(input);
+        this.args = schema.parse(input);
+        this.pageNumber = args.get(PAGE);
+        this.pageSize = args.get(SIZE);
+        this.afterId = args.get(AFTER);
+        if (pageNumber > 0 && afterId != null) {
+            throw new InvalidArgumentException(MESSAGE_PAGE_AND_CURSOR);
+        }
+    }
+
+    /**
+     * Gets the value of one of the other arguments.
+     *
+     * @param spec The declaration of the argument
+     * @return The value of the argument
+     */
+    protected <V> V getArgument(ArgumentSpec<V> spec) {
+        return args.get(spec);
+    }
+
+    /**
+     * Gets the whole list to print.
+     *
+     * @return The rows of the list
+     */
+    protected abstract List<T> getRows();
+
+    /**
+     * Gets the ID of a row, used as the cursor to continue after it.
+     *
+     * @param row The row
+     * @return The ID of the row
+     */
+    protected abstract String getId(T row);
+
+    /**
+     * Writes one row.
+     *
+     * @param out The builder to append to
+     * @param row The row
+     */
+    protected abstract void appendRow(StringBuilder out, T row);
+
+    /**
+     * Gets the command word, used to tell the user how to see the next page.
+     *
+     * @return The command word
+     */
+    protected abstract String getCommandWord();
+
+    /**
+     * Gets the message to print when the list is empty.
+     *
+     * @return The message
+     */
+    protected abstract String getEmptyMessage();
+
+    /**
+     * Gets what the rows are, e.g. "item(s) in the list".
+     *
+     * @return The description of the rows
+     */
+    protected abstract String getRowsDescription();
+
+    private static int getPositiveNumber(String value) throws InvalidArgumentException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number <= 0) {
+                throw new InvalidArgumentException(MESSAGE_PAGE_INVALID);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException(MESSAGE_PAGE_INVALID);
+        }
+    }
+
+    private int getStartIndex(List<T> rows) throws InvalidArgumentException {
+        if (afterId != null) {
+            for (int i = 0; i < rows.size(); i++) {
+                if (getId(rows.get(i)).equals(afterId)) {
+                    return i + 1;
+                }
+            }
+            throw new InvalidArgumentException(MESSAGE_CURSOR_NOT_FOUND);
+        }
+        if (pageNumber == 0) {
+            return 0;
+        }
+        long startIndex = (long) (pageNumber - 1) * pageSize;
+        if (startIndex >= rows.size()) {
+            throw new InvalidArgumentException(MESSAGE_PAGE_OUT_OF_RANGE);
+        }
+        return (int) startIndex;
+    }
+
+    /**
+     * Executes the list command.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed or the page does not exist
+     */
+    public boolean executeCommand() throws DukeException {
+        List<T> rows = getRows();
+        if (rows.isEmpty()) {
+            Ui.printResponse(getEmptyMessage());
+            return false;
+        }
+        String header = "Here are " + rows.size() + " " + getRowsDescription();
+        if (!args.isGiven(PAGE) && !args.isGiven(SIZE) && !args.isGiven(AFTER)) {
+            Ui.printRows(header + ":", rows, 0, rows.size(), this::appendRow, null);
+            return false;
+        }
+        int startIndex = getStartIndex(rows);
+        int endIndex = (int) Math.min((long) startIndex + pageSize, rows.size());
+        if (startIndex == endIndex) {
+            Ui.printResponse("You have reached the end of the list");
+            return false;
+        }
+        String footer = null;
+        if (endIndex < rows.size()) {
+            footer = "To see more, type: " + getCommandWord() + " /after " + getId(rows.get(endIndex - 1))
+                    + " /size " + pageSize;
+        }
+        Ui.printRows(header + ", showing " + (startIndex + 1) + " to " + endIndex + ":",
+                rows, startIndex, endIndex, this::appendRow, footer);
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.duke.command.bulk;
+
+import seedu.duke.command.Command;
+import seedu.duke.event.DataImportedEvent;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidImportException;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.storage.BulkImporter;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.ui.Ui;
+import seedu.duke.user.UserList;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to import many users, items or transactions from a file.
+ */
+public class ImportDataCommand extends Command {
+    private final Arguments args;
+    private final UserList userList;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+    private static final ArgumentSpec<String> TYPE = ArgumentSpec.text("t");
+    private static final ArgumentSpec<String> FILE = ArgumentSpec.text("f");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(TYPE, FILE);
+
+    /**
+     * Constructor for ImportDataCommand.
+     *
+     * @param input           The scanned user input
+     * @param userList        The list of users to work with
+     * @param itemList        The list of items to work with
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
+     */
+    public ImportDataCommand(ParsedInput input, UserList userList, ItemList itemList,
+            TransactionList transactionList) throws DukeException {
+        this.userList = userList;
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    /**
+     * Executes ImportDataCommand.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @throws InvalidImportException   If the file cannot be read or any row is invalid
+     */
+    public boolean executeCommand() throws DukeException {
+        String type = args.get(TYPE);
+        String fileName = args.get(FILE);
+        BulkImporter bulkImporter = new BulkImporter(userList, itemList, transactionList);
+        int importedCount = bulkImporter.importFile(type, fileName);
+        addEvent(new DataImportedEvent(type, importedCount));
+        Ui.printResponse("Noted. " + importedCount + " " + type + "(s) have been imported from " + fileName);
+        return false;
+    }
+}
@@ -12,8 +12,8 @@ import java.util.Map;
  * A representation of a command to print all commands.
  */
 public class HelpCommand extends Command {
-    private static final int NUMBER_OF_COMMANDS = 26;
-    private static final int NUMBER_OF_HEADERS = 7;
+    private static final int NUMBER_OF_COMMANDS = 36;
+    private static final int NUMBER_OF_HEADERS = 8;
     private static final String COMMAND_TO_DETAIL_SEPARATOR_TOKEN = ": ";
 
     // Header constants
@@ -23,6 +23,7 @@ public class HelpCommand extends Command {
     private static final String VIEW_COMMAND_HEADER = "VIEW-RELATED-COMMANDS";
     private static final String UPDATE_COMMAND_HEADER = "UPDATE-RELATED-COMMANDS";
     private static final String FIND_COMMAND_HEADER = "FIND-RELATED-COMMANDS";
+    private static final String REPORT_COMMAND_HEADER = "REPORT-RELATED-COMMANDS";
     private static final String ADDITIONAL_DETAILS_HEADER = "ADDITIONAL-DETAILS";
 
     // Command constants
@@ -38,6 +39,10 @@ public class HelpCommand extends Command {
             "add-tx /i <itemId> /b <borrowerName> /d <duration> /c <createdAt>";
     private static final String COMMAND_ADD_TX_DESCRIPTION = "Add a transaction";
 
+    private static final String COMMAND_IMPORT_DATA = "import-data /t <user, item or tx> /f <fileName>";
+    private static final String COMMAND_IMPORT_DATA_DESCRIPTION =
+            "Import users, items or transactions from a CSV or pipe-separated file in the data folder";
+
     private static final String COMMAND_REMOVE_USER = "remove-user /u <userName>";
     private static final String COMMAND_REMOVE_USER_DESCRIPTION = "Remove a user";
 
@@ -50,14 +55,15 @@ public class HelpCommand extends Command {
     private static final String COMMAND_HELP = "help";
     private static final String COMMAND_HELP_DESCRIPTION = "List all commands";
 
-    private static final String COMMAND_LIST_USERS = "list-users";
-    private static final String COMMAND_LIST_USERS_DESCRIPTION = "List all users";
+    private static final String COMMAND_LIST_USERS = "list-users [/page <page>] [/size <size>] [/after <userName>]";
+    private static final String COMMAND_LIST_USERS_DESCRIPTION = "List all users, or one page of them";
 
-    private static final String COMMAND_LIST_ITEMS = "list-items";
-    private static final String COMMAND_LIST_ITEMS_DESCRIPTION = "List all items";
+    private static final String COMMAND_LIST_ITEMS = "list-items [/page <page>] [/size <size>] [/after <itemId>]";
+    private static final String COMMAND_LIST_ITEMS_DESCRIPTION = "List all items, or one page of them";
 
-    private static final String COMMAND_LIST_TX = "list-tx";
-    private static final String COMMAND_LIST_TX_DESCRIPTION = "List all transactions";
+    private static final String COMMAND_LIST_TX =
+            "list-tx [/page <page>] [/size <size>] [/after <transactionId>] [/asof <YYYY-MM-DD>]";
+    private static final String COMMAND_LIST_TX_DESCRIPTION = "List all transactions, or one page of them";
 
     private static final String COMMAND_LIST_CATEGORIES = "list-categories";
     private static final String COMMAND_LIST_CATEGORIES_DESCRIPTION =
@@ -72,11 +78,11 @@ public class HelpCommand extends Command {
     private static final String COMMAND_VIEW_ITEM = "view-item /i <itemId>";
     private static final String COMMAND_VIEW_ITEM_DESCRIPTION = "View a item";
 
-    private static final String COMMAND_VIEW_USER_LOSS = "view-user-loss /u <userName>";
+    private static final String COMMAND_VIEW_USER_LOSS = "view-user-loss /u <userName> [/asof <YYYY-MM-DD>]";
     private static final String COMMAND_VIEW_USER_LOSS_DESCRIPTION =
             "View the amount of money loss of a user";
 
-    private static final String COMMAND_VIEW_USER_GAIN = "view-user-gain /u <userName>";
+    private static final String COMMAND_VIEW_USER_GAIN = "view-user-gain /u <userName> [/asof <YYYY-MM-DD>]";
     private static final String COMMAND_VIEW_USER_GAIN_DESCRIPTION =
             "View the amount of money gain of a user";
 
@@ -98,11 +104,11 @@ public class HelpCommand extends Command {
     private static final String COMMAND_UPDATE_ITEM = "update-item /i <itemId> /p <price>";
     private static final String COMMAND_UPDATE_ITEM_DESCRIPTION = "Update price of an item";
 
-    private static final String COMMAND_FIND_FINISHED_TX = "find-tx /s finished";
+    private static final String COMMAND_FIND_FINISHED_TX = "find-tx /s finished [/asof <YYYY-MM-DD>]";
     private static final String COMMAND_FIND_FINISHED_TX_DESCRIPTION =
             "Find all finished transactions";
 
-    private static final String COMMAND_FIND_UNFINISHED_TX = "find-tx /s unfinished";
+    private static final String COMMAND_FIND_UNFINISHED_TX = "find-tx /s unfinished [/asof <YYYY-MM-DD>]";
     private static final String COMMAND_FIND_UNFINISHED_TX_DESCRIPTION =
             "Find all unfinished transactions";
 
@@ -116,6 +122,45 @@ public class HelpCommand extends Command {
             "sort-items /mode <mode: hl or lh> /min <min> /max <max> /cat <categoryIndex>";
     private static final String COMMAND_SORT_ITEM_DESCRIPTION = "Sort all items in a range";
 
+    private static final String COMMAND_FIND_AVAILABLE =
+            "find-available /from <YYYY-MM-DD> /to <YYYY-MM-DD> [/cat <categoryIndex>] [/max <price>]";
+    private static final String COMMAND_FIND_AVAILABLE_DESCRIPTION = "Find items free to borrow over a period";
+
+    private static final String COMMAND_REPORT_UTILIZATION =
+            "report-utilization /from <YYYY-MM-DD> /to <YYYY-MM-DD> [/cat <categoryIndex>]";
+    private static final String COMMAND_REPORT_UTILIZATION_DESCRIPTION =
+            "Report occupancy, idle days and revenue of items over a period";
+
+    private static final String COMMAND_TOP_LENDERS =
+            "top-lenders [/n <number>] [/from <YYYY-MM-DD>] [/to <YYYY-MM-DD>]";
+    private static final String COMMAND_TOP_LENDERS_DESCRIPTION = "Rank the lenders by money earned";
+
+    private static final String COMMAND_TOP_BORROWERS =
+            "top-borrowers [/n <number>] [/from <YYYY-MM-DD>] [/to <YYYY-MM-DD>]";
+    private static final String COMMAND_TOP_BORROWERS_DESCRIPTION = "Rank the borrowers by money spent";
+
+    private static final String COMMAND_TOP_ITEMS = "top-items [/n <number>] [/from <YYYY-MM-DD>] [/to <YYYY-MM-DD>]";
+    private static final String COMMAND_TOP_ITEMS_DESCRIPTION = "Rank the items by times rented";
+
+    private static final String COMMAND_REPORT_REVENUE =
+            "report-revenue /granularity <day, week or month> /from <YYYY-MM-DD> /to <YYYY-MM-DD> "
+                    + "[/cat <categoryIndex>]";
+    private static final String COMMAND_REPORT_REVENUE_DESCRIPTION =
+            "Report transactions and money transacted by day, week or month";
+
+    private static final String COMMAND_REPORT_DISTINCT_BORROWERS = "report-distinct-borrowers /i <itemId>";
+    private static final String COMMAND_REPORT_DISTINCT_BORROWERS_DESCRIPTION =
+            "Estimate how many distinct users borrowed an item";
+
+    private static final String COMMAND_REPORT_BORROW_FREQUENCY =
+            "report-borrow-frequency /u <username> /cat <categoryIndex>";
+    private static final String COMMAND_REPORT_BORROW_FREQUENCY_DESCRIPTION =
+            "Estimate how many times a user borrowed in a category";
+
+    private static final String COMMAND_STATS = "stats [/dump <seconds>]";
+    private static final String COMMAND_STATS_DESCRIPTION =
+            "Show how long each type of command takes, and add it to a file every few seconds";
+
     // Other constants
     private static final String ADD_SPACE_REMINDER =
             "Please take note to add a space before and after delimiters! e.g ' /c '\n";
@@ -140,6 +185,7 @@ public class HelpCommand extends Command {
         this.commandToDetailMap.put(COMMAND_ADD_USER_DESCRIPTION, COMMAND_ADD_USER);
         this.commandToDetailMap.put(COMMAND_ADD_ITEM_DESCRIPTION, COMMAND_ADD_ITEM);
         this.commandToDetailMap.put(COMMAND_ADD_TX_DESCRIPTION, COMMAND_ADD_TX);
+        this.commandToDetailMap.put(COMMAND_IMPORT_DATA_DESCRIPTION, COMMAND_IMPORT_DATA);
         this.commandToDetailMap.put(System.lineSeparator() + REMOVE_COMMAND_HEADER, UNDERLINE);
         this.commandToDetailMap.put(COMMAND_REMOVE_USER_DESCRIPTION, COMMAND_REMOVE_USER);
         this.commandToDetailMap.put(COMMAND_REMOVE_ITEM_DESCRIPTION, COMMAND_REMOVE_ITEM);
@@ -171,6 +217,16 @@ public class HelpCommand extends Command {
         this.commandToDetailMap.put(COMMAND_FIND_USER_DESCRIPTION, COMMAND_FIND_USER);
         this.commandToDetailMap.put(COMMAND_FIND_ITEM_DESCRIPTION, COMMAND_FIND_ITEM);
         this.commandToDetailMap.put(COMMAND_SORT_ITEM_DESCRIPTION, COMMAND_SORT_ITEM);
+        this.commandToDetailMap.put(COMMAND_FIND_AVAILABLE_DESCRIPTION, COMMAND_FIND_AVAILABLE);
+        this.commandToDetailMap.put(System.lineSeparator() + REPORT_COMMAND_HEADER, UNDERLINE);
+        this.commandToDetailMap.put(COMMAND_REPORT_UTILIZATION_DESCRIPTION, COMMAND_REPORT_UTILIZATION);
+        this.commandToDetailMap.put(COMMAND_TOP_LENDERS_DESCRIPTION, COMMAND_TOP_LENDERS);
+        this.commandToDetailMap.put(COMMAND_TOP_BORROWERS_DESCRIPTION, COMMAND_TOP_BORROWERS);
+        this.commandToDetailMap.put(COMMAND_TOP_ITEMS_DESCRIPTION, COMMAND_TOP_ITEMS);
+        this.commandToDetailMap.put(COMMAND_REPORT_REVENUE_DESCRIPTION, COMMAND_REPORT_REVENUE);
+        this.commandToDetailMap.put(COMMAND_REPORT_DISTINCT_BORROWERS_DESCRIPTION, COMMAND_REPORT_DISTINCT_BORROWERS);
+        this.commandToDetailMap.put(COMMAND_REPORT_BORROW_FREQUENCY_DESCRIPTION, COMMAND_REPORT_BORROW_FREQUENCY);
+        this.commandToDetailMap.put(COMMAND_STATS_DESCRIPTION, COMMAND_STATS);
         this.commandToDetailMap.put(System.lineSeparator() + ADDITIONAL_DETAILS_HEADER, UNDERLINE);
         assert this.commandToDetailMap.size() == NUMBER_OF_COMMANDS
                 + NUMBER_OF_HEADERS : "Missing command";
@@ -0,0 +1,123 @@
+package seedu.duke.command.item;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DateFormatInvalidException;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.exception.InvalidPeriodException;
+import seedu.duke.exception.InvalidPriceException;
+import seedu.duke.item.Category;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.transaction.ItemSchedules;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to find the items that can be borrowed over a period.
+ */
+public class FindAvailableItemsCommand extends Command {
+    private static final int NO_CATEGORY = 0;
+    private static final ArgumentSpec<LocalDate> FROM = ArgumentSpec.required("from", DateParser::parseDate);
+    private static final ArgumentSpec<LocalDate> TO = ArgumentSpec.required("to", DateParser::parseDate);
+    private static final ArgumentSpec<Integer> CAT =
+            ArgumentSpec.optional("cat", ItemList::parseCategoryNumber, NO_CATEGORY);
+    private static final ArgumentSpec<Long> MAX =
+            ArgumentSpec.optional("max", ItemList::parsePrice, ItemList.MAX_PRICE_CENTS);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(FROM, TO, CAT, MAX);
+
+    private final Arguments args;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+
+    /**
+     * Constructor for FindAvailableItemsCommand.
+     *
+     * @param input The scanned user input
+     * @param itemList The list of items to work with
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
+     */
+    public FindAvailableItemsCommand(ParsedInput input, ItemList itemList, TransactionList transactionList)
+            throws DukeException {
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    /**
+     * Finds the items which a transaction created on from and returned on to would not overlap with.
+     *
+     * @param from The created date of the transaction
+     * @param to The return date of the transaction
+     * @param categoryNumber The category to keep, or 0 to keep all categories
+     * @param maxPrice The highest price per day in cents
+     * @return The items free over the period
+     * @throws InvalidCategoryException If category number is invalid
+     */
+    private List<Item> findAvailableItems(LocalDate from, LocalDate to, int categoryNumber, long maxPrice)
+            throws InvalidCategoryException {
+        Category.Categories category = categoryNumber == NO_CATEGORY ? null : Category.mapCategory(categoryNumber);
+        ItemSchedules schedules = transactionList.getItemSchedules();
+        long createdDay = from.toEpochDay();
+        long returnDay = to.toEpochDay();
+        List<Item> availableItems = new ArrayList<>();
+        for (Item item : itemList.getItemList()) {
+            boolean isWanted = (category == null || item.getCategory() == category)
+                    && item.getPricePerDay() <= maxPrice;
+            if (isWanted && schedules.isFree(item.getItemId(), createdDay, returnDay)) {
+                availableItems.add(item);
+            }
+        }
+        return availableItems;
+    }
+
+    /**
+     * Executes FindAvailableItemsCommand.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @throws DateFormatInvalidException If a date is in wrong format
+     * @throws InvalidPeriodException If the period is invalid
+     * @throws InvalidCategoryException If category number is invalid
+     * @throws InvalidPriceException If the maximum price is invalid
+     */
+    public boolean executeCommand() throws DukeException {
+        LocalDate from = args.get(FROM);
+        LocalDate to = args.get(TO);
+        DateParser.checkValidPeriod(from, to);
+        List<Item> availableItems = findAvailableItems(from, to, args.get(CAT), args.get(MAX));
+        String period = " from " + DateParser.formatDateToString(from) + " to " + DateParser.formatDateToString(to);
+        StringBuilder listString = new StringBuilder();
+        if (availableItems.isEmpty()) {
+            listString.append("There are no items free").append(period);
+        } else {
+            listString.append("Here are ").append(availableItems.size())
+                    .append(" item(s) free").append(period).append(':');
+        }
+        Set<String> itemIdsBeingBorrowed = transactionList.getItemIdsBeingBorrowed();
+        int index = 1;
+        for (Item item : availableItems) {
+            listString.append('\n').append(index++).append(". ");
+            item.appendTo(listString, !itemIdsBeingBorrowed.contains(item.getItemId()));
+        }
+        Ui.printResponse(listString.toString());
+        return false;
+    }
+}
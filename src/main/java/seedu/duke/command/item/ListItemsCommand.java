@@ -1,22 +1,62 @@
 package seedu.duke.command.item;
 
-import seedu.duke.command.Command;
-import seedu.duke.ui.Ui;
+import seedu.duke.command.PagedListCommand;
+import seedu.duke.exception.DukeException;
+import seedu.duke.item.Item;
 import seedu.duke.item.ItemList;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.transaction.TransactionList;
 
+import java.util.List;
+import java.util.Set;
+
 //@@author winston-lim
-public class ListItemsCommand extends Command {
+public class ListItemsCommand extends PagedListCommand<Item> {
     private final ItemList itemList;
     private final TransactionList transactionList;
+    private Set<String> itemIdsBeingBorrowed;
 
-    public ListItemsCommand(ItemList itemList, TransactionList transactionList) {
+    public ListItemsCommand(ParsedInput input, ItemList itemList, TransactionList transactionList)
+            throws DukeException {
+        super(input);
         this.itemList = itemList;
         this.transactionList = transactionList;
     }
 
-    public boolean executeCommand() {
-        Ui.printResponse(itemList.toString(transactionList));
-        return false;
+    //@@author bdthanh
+    @Override
+    protected List<Item> getRows() {
+        return itemList.getItemList();
+    }
+
+    @Override
+    protected String getId(Item item) {
+        return item.getItemId();
+    }
+
+    @Override
+    protected void appendRow(StringBuilder out, Item item) {
+        item.appendTo(out, !itemIdsBeingBorrowed.contains(item.getItemId()));
+    }
+
+    @Override
+    protected String getCommandWord() {
+        return "list-items";
+    }
+
+    @Override
+    protected String getEmptyMessage() {
+        return "There is no item in the list right now";
+    }
+
+    @Override
+    protected String getRowsDescription() {
+        return "item(s) in the list";
+    }
+
+    @Override
+    public boolean executeCommand() throws DukeException {
+        itemIdsBeingBorrowed = transactionList.getItemIdsBeingBorrowed();
+        return super.executeCommand();
     }
 }
@@ -1,52 +1,46 @@
 package seedu.duke.command.item;
 
 import seedu.duke.command.Command;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.ui.Ui;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
 import seedu.duke.exception.ItemNotFoundException;
 import seedu.duke.item.Item;
 import seedu.duke.item.ItemList;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
 import seedu.duke.transaction.TransactionList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
-
 // @@author jingwei55
 public class ViewItemCommand extends Command {
-    private final String[] parts;
+    private final Arguments args;
     private final ItemList itemList;
     private final TransactionList transactionList;
-    private static final String ITEM_ID_DELIM = "i";
+    private static final ArgumentSpec<String> ITEM_ID = ArgumentSpec.text("i");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(ITEM_ID);
 
     /**
      * Constructor for ViewItemCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param itemList The list of items to work with
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public ViewItemCommand(String[] parts, ItemList itemList, TransactionList transactionList)
-            throws InsufficientArgumentsException {
-        this.parts = parts;
+    public ViewItemCommand(ParsedInput input, ItemList itemList, TransactionList transactionList)
+            throws DukeException {
         this.itemList = itemList;
         this.transactionList = transactionList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
-    private String getArgsViewItemCmd() throws InvalidArgumentException {
-        String arg;
-        String delimiter = CommandParser.getArgsDelimiter(parts[0]);
-        if (delimiter.equals(ITEM_ID_DELIM)) {
-            arg = CommandParser.getArgValue(parts[0]);
-        } else {
-            throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-        }
-        return arg;
+    private String getArgsViewItemCmd() throws DukeException {
+        return args.get(ITEM_ID);
     }
 
     private boolean isValidItem(String itemId) throws ItemNotFoundException {
@@ -65,7 +59,7 @@ public class ViewItemCommand extends Command {
      * @throws InvalidArgumentException If any argument is invalid
      * @throws ItemNotFoundException If given item id is invalid
      */
-    public boolean executeCommand() throws ItemNotFoundException, InvalidArgumentException {
+    public boolean executeCommand() throws DukeException {
         String itemId = getArgsViewItemCmd();
         if (isValidItem(itemId)) {
             Item item = this.itemList.getItemById(itemId);
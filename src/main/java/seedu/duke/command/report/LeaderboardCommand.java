@@ -0,0 +1,143 @@
+package seedu.duke.command.report;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DateFormatInvalidException;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidPeriodException;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.report.Leaderboard;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionTotals;
+import seedu.duke.transaction.TransactionTotals.Total;
+import seedu.duke.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_LEADERBOARD_SIZE_INVALID;
+
+// @@author bdthanh
+
+/**
+ * An abstract class for commands that rank lenders, borrowers or items by their transactions.
+ * Without dates the totals kept up to date by {@link TransactionList} are ranked. With /from or /to
+ * only the transactions created in that period are added up, in one pass over the transactions.
+ */
+public abstract class LeaderboardCommand extends Command {
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 1000;
+    private static final ArgumentSpec<Integer> SIZE =
+            ArgumentSpec.optional("n", LeaderboardCommand::parseSize, DEFAULT_SIZE);
+    private static final ArgumentSpec<LocalDate> FROM = ArgumentSpec.optional("from", DateParser::parseDate, null);
+    private static final ArgumentSpec<LocalDate> TO = ArgumentSpec.optional("to", DateParser::parseDate, null);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(SIZE, FROM, TO);
+    private final Arguments args;
+    private final TransactionList transactionList;
+
+    /**
+     * Constructor for LeaderboardCommand.
+     *
+     * @param input The scanned user input
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
+     */
+    protected LeaderboardCommand(ParsedInput input, TransactionList transactionList)
+            throws DukeException {
+        this.transactionList = transactionList;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    /**
+     * Gets the totals to rank.
+     *
+     * @param totals The totals of each lender, borrower and item
+     * @return The totals by lender, borrower or item
+     */
+    protected abstract Map<String, Total> getTotals(TransactionTotals totals);
+
+    /**
+     * Gets what the entries are ranked by.
+     *
+     * @return The ranking
+     */
+    protected abstract Leaderboard.Ranking getRanking();
+
+    /**
+     * Gets what the entries are, e.g. "lender(s) by money earned".
+     *
+     * @return The description of the entries
+     */
+    protected abstract String getEntriesDescription();
+
+    /**
+     * Writes one entry.
+     *
+     * @param out The builder to append to
+     * @param key The lender, borrower or item id
+     * @param total The total of the entry
+     */
+    protected abstract void appendEntry(StringBuilder out, String key, Total total);
+
+    private static int parseSize(String value) throws InvalidArgumentException {
+        try {
+            int size = Integer.parseInt(value);
+            if (size <= 0 || size > MAX_SIZE) {
+                throw new InvalidArgumentException(MESSAGE_LEADERBOARD_SIZE_INVALID);
+            }
+            return size;
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException(MESSAGE_LEADERBOARD_SIZE_INVALID);
+        }
+    }
+
+    /**
+     * Executes the leaderboard command.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @throws DateFormatInvalidException If a date is in wrong format
+     * @throws InvalidPeriodException If the period is invalid
+     */
+    public boolean executeCommand() throws DukeException {
+        LocalDate from = args.get(FROM);
+        LocalDate to = args.get(TO);
+        String period = "";
+        TransactionTotals totals;
+        if (from == null && to == null) {
+            totals = transactionList.getTotals();
+        } else {
+            if (from != null && to != null) {
+                DateParser.checkValidPeriod(from, to);
+            }
+            period = (from == null ? "" : " from " + DateParser.formatDateToString(from))
+                    + (to == null ? "" : " to " + DateParser.formatDateToString(to));
+            totals = transactionList.getTotals(from == null ? Long.MIN_VALUE : from.toEpochDay(),
+                    to == null ? Long.MAX_VALUE : to.toEpochDay());
+        }
+        List<Map.Entry<String, Total>> entries =
+                Leaderboard.of(getTotals(totals), args.get(SIZE), getRanking()).getEntries();
+        StringBuilder out = new StringBuilder();
+        if (entries.isEmpty()) {
+            out.append("There are no transactions").append(period);
+        } else {
+            out.append("Here are the top ").append(entries.size()).append(' ')
+                    .append(getEntriesDescription()).append(period).append(':');
+        }
+        int index = 1;
+        for (Map.Entry<String, Total> entry : entries) {
+            out.append('\n').append(index++).append(". ");
+            appendEntry(out, entry.getKey(), entry.getValue());
+        }
+        Ui.printResponse(out.toString());
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.duke.command.report;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.exception.UserNotFoundException;
+import seedu.duke.item.Category;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.sketch.CountMinSketch;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionSketches;
+import seedu.duke.ui.Ui;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to estimate how many times a user has borrowed items of a category,
+ * from the sketches of the transactions rather than the transactions themselves.
+ */
+public class ReportBorrowFrequencyCommand extends Command {
+    private static final int PERCENT = 100;
+    private static final ArgumentSpec<String> USER_ID = ArgumentSpec.text("u");
+    private static final ArgumentSpec<Integer> CAT = ArgumentSpec.required("cat", ItemList::parseCategoryNumber);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(USER_ID, CAT);
+
+    private final Arguments args;
+    private final UserList userList;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+
+    /**
+     * Constructor for ReportBorrowFrequencyCommand.
+     *
+     * @param input The scanned user input
+     * @param userList The list of users to work with
+     * @param itemList The list of items to work with
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
+     */
+    public ReportBorrowFrequencyCommand(ParsedInput input, UserList userList, ItemList itemList,
+            TransactionList transactionList) throws DukeException {
+        this.userList = userList;
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    /**
+     * Gets the sketches of the transactions, making them the first time if they were not loaded.
+     *
+     * @return The sketches of all transactions
+     */
+    private TransactionSketches getSketches() {
+        if (transactionList.getSketches() == null) {
+            transactionList.setSketches(TransactionSketches.build(transactionList, itemList));
+        }
+        return transactionList.getSketches();
+    }
+
+    /**
+     * Executes ReportBorrowFrequencyCommand.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @throws UserNotFoundException If the user cannot be found in the list
+     * @throws InvalidCategoryException If category number is invalid
+     */
+    public boolean executeCommand() throws DukeException {
+        User user = userList.getUserById(args.get(USER_ID));
+        Category.Categories category = Category.mapCategory(args.get(CAT));
+        TransactionSketches sketches = getSketches();
+        long estimate = sketches.estimateBorrows(user.getName(), category);
+        long confidencePercent = Math.round(CountMinSketch.getConfidence() * PERCENT);
+        Ui.printResponse(user.getName() + " has borrowed items in " + category + " about " + estimate
+                + " time(s)\nThis is never too few, and too many by at most " + sketches.getBorrowsErrorBound()
+                + " with " + confidencePercent + "% confidence");
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.duke.command.report;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.ItemNotFoundException;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.sketch.HyperLogLog;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionSketches;
+import seedu.duke.ui.Ui;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to estimate how many distinct users have borrowed an item, from the
+ * sketches of the transactions rather than the transactions themselves.
+ */
+public class ReportDistinctBorrowersCommand extends Command {
+    private static final int PERMILLE = 1000;
+    private static final ArgumentSpec<String> ITEM_ID = ArgumentSpec.text("i");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(ITEM_ID);
+
+    private final Arguments args;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+
+    /**
+     * Constructor for ReportDistinctBorrowersCommand.
+     *
+     * @param input The scanned user input
+     * @param itemList The list of items to work with
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
+     */
+    public ReportDistinctBorrowersCommand(ParsedInput input, ItemList itemList, TransactionList transactionList)
+            throws DukeException {
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    /**
+     * Gets the sketches of the transactions, making them the first time if they were not loaded, and
+     * counting again the borrowers of items whose transactions were deleted.
+     *
+     * @return The sketches of all transactions
+     */
+    private TransactionSketches getSketches() {
+        if (transactionList.getSketches() == null) {
+            transactionList.setSketches(TransactionSketches.build(transactionList, itemList));
+        }
+        TransactionSketches sketches = transactionList.getSketches();
+        sketches.recountBorrowers(transactionList);
+        return sketches;
+    }
+
+    /**
+     * Executes ReportDistinctBorrowersCommand.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @throws ItemNotFoundException If the item cannot be found in the list
+     */
+    public boolean executeCommand() throws DukeException {
+        Item item = itemList.getItemById(args.get(ITEM_ID));
+        TransactionSketches sketches = getSketches();
+        long estimate = sketches.estimateDistinctBorrowers(item.getItemId());
+        if (sketches.isDistinctBorrowersExact(item.getItemId())) {
+            Ui.printResponse("Item " + item.getItemId() + " (" + item.getName() + ") has had " + estimate
+                    + " distinct borrower(s)");
+            return false;
+        }
+        long errorPermille = Math.round(HyperLogLog.getStandardError() * PERMILLE);
+        Ui.printResponse("Item " + item.getItemId() + " (" + item.getName() + ") has had about " + estimate
+                + " distinct borrower(s)\nStandard error: " + errorPermille / 10 + "." + errorPermille % 10 + "%");
+        return false;
+    }
+}
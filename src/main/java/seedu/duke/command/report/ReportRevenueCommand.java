@@ -0,0 +1,133 @@
+package seedu.duke.command.report;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DateFormatInvalidException;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.exception.InvalidPeriodException;
+import seedu.duke.item.Category;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionRollups;
+import seedu.duke.transaction.TransactionRollups.Granularity;
+import seedu.duke.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_GRANULARITY_INVALID;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to report the transactions and money transacted of each day, week
+ * or month in a period. It reads the rollups of the transactions, so it takes time in the number of
+ * days, weeks or months rather than the number of transactions.
+ */
+public class ReportRevenueCommand extends Command {
+    private static final int NO_CATEGORY = 0;
+    private static final ArgumentSpec<Granularity> GRANULARITY =
+            ArgumentSpec.required("granularity", ReportRevenueCommand::parseGranularity);
+    private static final ArgumentSpec<LocalDate> FROM = ArgumentSpec.required("from", DateParser::parseDate);
+    private static final ArgumentSpec<LocalDate> TO = ArgumentSpec.required("to", DateParser::parseDate);
+    private static final ArgumentSpec<Integer> CAT =
+            ArgumentSpec.optional("cat", ItemList::parseCategoryNumber, NO_CATEGORY);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(GRANULARITY, FROM, TO, CAT);
+
+    private final Arguments args;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+
+    /**
+     * Constructor for ReportRevenueCommand.
+     *
+     * @param input The scanned user input
+     * @param itemList The list of items to work with
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
+     */
+    public ReportRevenueCommand(ParsedInput input, ItemList itemList, TransactionList transactionList)
+            throws DukeException {
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    private static Granularity parseGranularity(String value) throws InvalidArgumentException {
+        for (Granularity granularity : Granularity.values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new InvalidArgumentException(MESSAGE_GRANULARITY_INVALID);
+    }
+
+    /**
+     * Gets the rollups of the transactions, making them the first time if they were not loaded.
+     *
+     * @return The rollups of all transactions
+     */
+    private TransactionRollups getRollups() {
+        if (transactionList.getRollups() == null) {
+            transactionList.setRollups(TransactionRollups.build(transactionList, itemList));
+        }
+        return transactionList.getRollups();
+    }
+
+    /**
+     * Executes ReportRevenueCommand.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @throws DateFormatInvalidException If a date is in wrong format
+     * @throws InvalidPeriodException If the period is invalid
+     * @throws InvalidCategoryException If category number is invalid
+     */
+    public boolean executeCommand() throws DukeException {
+        Granularity granularity = args.get(GRANULARITY);
+        LocalDate from = args.get(FROM);
+        LocalDate to = args.get(TO);
+        DateParser.checkValidPeriod(from, to);
+        int categoryNumber = args.get(CAT);
+        Category.Categories category = categoryNumber == NO_CATEGORY ? null : Category.mapCategory(categoryNumber);
+        Map<LocalDate, long[]> figures = getRollups().getFigures(granularity, from, to, category);
+        StringBuilder out = new StringBuilder();
+        out.append("Revenue ").append(category == null ? "" : "of " + category + " ")
+                .append("by ").append(granularity.name().toLowerCase())
+                .append(" from ").append(DateParser.formatDateToString(from))
+                .append(" to ").append(DateParser.formatDateToString(to)).append(':');
+        if (figures.isEmpty()) {
+            Ui.printResponse(out.append("\nThere are no transactions in this period").toString());
+            return false;
+        }
+        long[] total = new long[TransactionRollups.CENTS + 1];
+        int index = 1;
+        for (Map.Entry<LocalDate, long[]> entry : figures.entrySet()) {
+            out.append('\n').append(index++).append(". ").append(DateParser.formatDateToString(entry.getKey()))
+                    .append(": ");
+            appendFigures(out, entry.getValue());
+            for (int i = 0; i < total.length; i++) {
+                total[i] += entry.getValue()[i];
+            }
+        }
+        appendFigures(out.append("\nTotal: "), total);
+        Ui.printResponse(out.toString());
+        return false;
+    }
+
+    private static void appendFigures(StringBuilder out, long[] figures) {
+        out.append(figures[TransactionRollups.COUNT]).append(" transaction(s), ")
+                .append(figures[TransactionRollups.RENTED_DAYS]).append(" rented day(s), $");
+        MoneyParser.appendCents(out, figures[TransactionRollups.CENTS]);
+    }
+}
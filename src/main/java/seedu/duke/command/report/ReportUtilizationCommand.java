@@ -0,0 +1,93 @@
+package seedu.duke.command.report;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DateFormatInvalidException;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.exception.InvalidPeriodException;
+import seedu.duke.item.Category;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.report.UtilizationReport;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to report how much items were lent out over a period.
+ */
+public class ReportUtilizationCommand extends Command {
+    private static final int NO_CATEGORY = 0;
+    private static final ArgumentSpec<LocalDate> FROM = ArgumentSpec.required("from", DateParser::parseDate);
+    private static final ArgumentSpec<LocalDate> TO = ArgumentSpec.required("to", DateParser::parseDate);
+    private static final ArgumentSpec<Integer> CAT =
+            ArgumentSpec.optional("cat", ItemList::parseCategoryNumber, NO_CATEGORY);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(FROM, TO, CAT);
+
+    private final Arguments args;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+
+    /**
+     * Constructor for ReportUtilizationCommand.
+     *
+     * @param input The scanned user input
+     * @param itemList The list of items to work with
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
+     */
+    public ReportUtilizationCommand(ParsedInput input, ItemList itemList, TransactionList transactionList)
+            throws DukeException {
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    /**
+     * Gets the items to report on.
+     *
+     * @param categoryNumber The category to keep, or 0 to keep all categories
+     * @return The items in that category
+     * @throws InvalidCategoryException If category number is invalid
+     */
+    private List<Item> getItems(int categoryNumber) throws InvalidCategoryException {
+        if (categoryNumber == NO_CATEGORY) {
+            return itemList.getItemList();
+        }
+        Category.Categories category = Category.mapCategory(categoryNumber);
+        return itemList.getItemList().stream().filter(item -> item.getCategory() == category)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Executes ReportUtilizationCommand.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @throws DateFormatInvalidException If a date is in wrong format
+     * @throws InvalidPeriodException If the period is invalid
+     * @throws InvalidCategoryException If category number is invalid
+     */
+    public boolean executeCommand() throws DukeException {
+        LocalDate from = args.get(FROM);
+        LocalDate to = args.get(TO);
+        DateParser.checkValidPeriod(from, to);
+        List<Item> items = getItems(args.get(CAT));
+        Ui.printResponse(UtilizationReport.compute(from, to, items, transactionList).toString());
+        return false;
+    }
+}
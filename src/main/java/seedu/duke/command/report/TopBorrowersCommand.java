@@ -0,0 +1,53 @@
+package seedu.duke.command.report;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.report.Leaderboard;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionTotals;
+import seedu.duke.transaction.TransactionTotals.Total;
+
+import java.util.Map;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to rank the borrowers by the money they spent.
+ */
+public class TopBorrowersCommand extends LeaderboardCommand {
+    /**
+     * Constructor for TopBorrowersCommand.
+     *
+     * @param input The scanned user input
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     */
+    public TopBorrowersCommand(ParsedInput input, TransactionList transactionList)
+            throws DukeException {
+        super(input, transactionList);
+    }
+
+    @Override
+    protected Map<String, Total> getTotals(TransactionTotals totals) {
+        return totals.getBorrowerTotals();
+    }
+
+    @Override
+    protected Leaderboard.Ranking getRanking() {
+        return Leaderboard.Ranking.MONEY;
+    }
+
+    @Override
+    protected String getEntriesDescription() {
+        return "borrower(s) by money spent";
+    }
+
+    @Override
+    protected void appendEntry(StringBuilder out, String borrower, Total total) {
+        out.append(borrower).append(": $");
+        MoneyParser.appendCents(out, total.getCents()).append(" on ").append(total.getCount())
+                .append(" transaction(s)");
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.duke.command.report;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.ItemNotFoundException;
+import seedu.duke.item.ItemList;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.report.Leaderboard;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionTotals;
+import seedu.duke.transaction.TransactionTotals.Total;
+
+import java.util.Map;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to rank the items by the number of times they were rented.
+ */
+public class TopItemsCommand extends LeaderboardCommand {
+    private final ItemList itemList;
+
+    /**
+     * Constructor for TopItemsCommand.
+     *
+     * @param input The scanned user input
+     * @param itemList The list of items to work with
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     */
+    public TopItemsCommand(ParsedInput input, ItemList itemList, TransactionList transactionList)
+            throws DukeException {
+        super(input, transactionList);
+        this.itemList = itemList;
+    }
+
+    @Override
+    protected Map<String, Total> getTotals(TransactionTotals totals) {
+        return totals.getItemTotals();
+    }
+
+    @Override
+    protected Leaderboard.Ranking getRanking() {
+        return Leaderboard.Ranking.COUNT;
+    }
+
+    @Override
+    protected String getEntriesDescription() {
+        return "item(s) by times rented";
+    }
+
+    @Override
+    protected void appendEntry(StringBuilder out, String itemId, Total total) {
+        out.append(itemId);
+        try {
+            out.append(" (").append(itemList.getItemById(itemId).getName()).append(')');
+        } catch (ItemNotFoundException e) {
+            out.append(" (removed)");
+        }
+        out.append(": ").append(total.getCount()).append(" time(s), $");
+        MoneyParser.appendCents(out, total.getCents());
+    }
+}
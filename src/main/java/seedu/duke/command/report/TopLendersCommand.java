@@ -0,0 +1,52 @@
+package seedu.duke.command.report;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.report.Leaderboard;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionTotals;
+import seedu.duke.transaction.TransactionTotals.Total;
+
+import java.util.Map;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to rank the lenders by the money they earned.
+ */
+public class TopLendersCommand extends LeaderboardCommand {
+    /**
+     * Constructor for TopLendersCommand.
+     *
+     * @param input The scanned user input
+     * @param transactionList The list of transactions to work with
+     * @throws InsufficientArgumentsException If the number of args is incorrect
+     */
+    public TopLendersCommand(ParsedInput input, TransactionList transactionList) throws DukeException {
+        super(input, transactionList);
+    }
+
+    @Override
+    protected Map<String, Total> getTotals(TransactionTotals totals) {
+        return totals.getLenderTotals();
+    }
+
+    @Override
+    protected Leaderboard.Ranking getRanking() {
+        return Leaderboard.Ranking.MONEY;
+    }
+
+    @Override
+    protected String getEntriesDescription() {
+        return "lender(s) by money earned";
+    }
+
+    @Override
+    protected void appendEntry(StringBuilder out, String lender, Total total) {
+        out.append(lender).append(": $");
+        MoneyParser.appendCents(out, total.getCents()).append(" from ").append(total.getCount())
+                .append(" transaction(s)");
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.duke.command.stats;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.ui.Ui;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DUMP_PERIOD_INVALID;
+
+// @@author bdthanh
+
+/**
+ * A representation of a command to show how long each type of command has taken, and optionally
+ * to append the same statistics to a file every given number of seconds.
+ */
+public class StatsCommand extends Command {
+    private static final long NOT_GIVEN = -1;
+    private static final long MAX_DUMP_PERIOD_SECONDS = 86400;
+    private static final ArgumentSpec<Long> DUMP =
+            ArgumentSpec.optional("dump", StatsCommand::parseDumpPeriod, NOT_GIVEN);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(DUMP);
+
+    private final Arguments args;
+
+    /**
+     * Constructor for StatsCommand.
+     *
+     * @param input The scanned user input
+     * @throws InsufficientArgumentsException If there are more parts than arguments
+     * @throws DukeException If an argument is missing or invalid
+     */
+    public StatsCommand(ParsedInput input) throws DukeException {
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+    }
+
+    private static long parseDumpPeriod(String value) throws InvalidArgumentException {
+        try {
+            long seconds = Long.parseLong(value);
+            if (seconds < 0 || seconds > MAX_DUMP_PERIOD_SECONDS) {
+                throw new InvalidArgumentException(MESSAGE_DUMP_PERIOD_INVALID);
+            }
+            return seconds;
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException(MESSAGE_DUMP_PERIOD_INVALID);
+        }
+    }
+
+    /**
+     * Executes StatsCommand.
+     *
+     * @return false
+     * @throws InvalidArgumentException If the number of seconds between dumps is invalid
+     */
+    public boolean executeCommand() throws DukeException {
+        long dumpPeriod = args.get(DUMP);
+        String response = CommandMetrics.formatStats();
+        if (dumpPeriod > 0) {
+            CommandMetrics.scheduleDumps(CommandMetrics.DUMP_FILE_PATH, dumpPeriod);
+            response += "\nThese statistics will be added to " + CommandMetrics.DUMP_FILE_PATH + " every "
+                    + dumpPeriod + " second(s)";
+        } else if (dumpPeriod == 0) {
+            CommandMetrics.scheduleDumps(CommandMetrics.DUMP_FILE_PATH, 0);
+            response += "\nThese statistics will no longer be added to " + CommandMetrics.DUMP_FILE_PATH;
+        }
+        Ui.printResponse(response);
+        return false;
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.duke.command.transaction;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.duke.command.Command;
+import seedu.duke.event.TransactionAddedEvent;
 import seedu.duke.exception.DateFormatInvalidException;
-import seedu.duke.exception.DuplicateException;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.DurationInvalidException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
@@ -13,15 +16,21 @@ import seedu.duke.exception.InvalidTransactionException;
 import seedu.duke.exception.InvalidUserException;
 import seedu.duke.exception.ItemNotFoundException;
 import seedu.duke.exception.UserNotFoundException;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.ui.Ui;
+import seedu.duke.item.Item;
 import seedu.duke.item.ItemList;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.DateParser;
+import seedu.duke.transaction.ItemSchedules;
 import seedu.duke.transaction.Transaction;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.user.UserList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ALTERNATIVE_ITEMS;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NEXT_FREE_DATE;
 
 // @@author bdthanh
 
@@ -29,70 +38,68 @@ import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PAR
  * A representation of a command to add a new transaction.
  */
 public class AddTransactionCommand extends Command {
-    private final String[] parts;
+    private final Arguments args;
     private final TransactionList transactionList;
     private final ItemList itemList;
     private final UserList userList;
-    private static final String ITEM_ID_DELIMITER = "i";
-    private static final String BORROWER_DELIMITER = "b";
-    private static final String DURATION_DELIMITER = "d";
-    private static final String CREATED_DATE_DELIMITER = "c";
-    private static final int NUMBER_OF_ARGS = 4;
-    private static final int ITEM_ID_INDEX = 0;
-    private static final int BORROWER_INDEX = 1;
-    private static final int DURATION_INDEX = 2;
-    private static final int CREATED_DATE_INDEX = 3;
+    private static final ArgumentSpec<String> ITEM_ID = ArgumentSpec.text("i");
+    private static final ArgumentSpec<String> BORROWER = ArgumentSpec.text("b");
+    private static final ArgumentSpec<Integer> DURATION = ArgumentSpec.required("d", TransactionList::parseDuration);
+    private static final ArgumentSpec<LocalDate> CREATED_DATE =
+            ArgumentSpec.required("c", TransactionList::parseCreatedDate);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(ITEM_ID, BORROWER, DURATION, CREATED_DATE);
+    private static final int MAX_ALTERNATIVE_ITEMS = 3;
 
     /**
      * Constructor for AddTransactionCommand.
      *
-     * @param parts           The parts from user input
+     * @param input           The scanned user input
      * @param userList        The list of users to work with
      * @param itemList        The list of items to work with
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public AddTransactionCommand(String[] parts, UserList userList, ItemList itemList,
-                                 TransactionList transactionList) throws InsufficientArgumentsException {
-        this.parts = parts;
+    public AddTransactionCommand(ParsedInput input, UserList userList, ItemList itemList,
+                                 TransactionList transactionList) throws DukeException {
         this.transactionList = transactionList;
         this.itemList = itemList;
         this.userList = userList;
-        if (parts.length != NUMBER_OF_ARGS) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
     /**
-     * Gets arg values from the given part.
+     * Gets the suggestions for a transaction that overlaps: the earliest date from which the item is
+     * free for the same duration, and other items of the same category free during the same period.
      *
-     * @return An array of arg values
-     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     * @param item        The item of the transaction
+     * @param borrowId    The borrower of the transaction
+     * @param transaction The transaction that overlaps
+     * @return The suggestions to add to the error message
      */
-    private String[] getArgsAddTxCmd() throws InvalidArgumentException {
-        String[] args = new String[NUMBER_OF_ARGS];
-        for (String part : parts) {
-            String delimiter = CommandParser.getArgsDelimiter(part);
-            if (delimiter.equals(ITEM_ID_DELIMITER)) {
-                args[ITEM_ID_INDEX] = CommandParser.getArgValue(part);
-            } else if (delimiter.equals(BORROWER_DELIMITER)) {
-                args[BORROWER_INDEX] = CommandParser.getArgValue(part);
-            } else if (delimiter.equals(DURATION_DELIMITER)) {
-                args[DURATION_INDEX] = CommandParser.getArgValue(part);
-            } else if (delimiter.equals(CREATED_DATE_DELIMITER)) {
-                args[CREATED_DATE_INDEX] = CommandParser.getArgValue(part);
-            } else {
-                throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
+    private String getSuggestions(Item item, String borrowId, Transaction transaction) {
+        ItemSchedules schedules = transactionList.getItemSchedules();
+        long createdDay = transaction.getCreatedAt().toEpochDay();
+        long returnDay = transaction.getReturnDate().toEpochDay();
+        long freeDay = schedules.findEarliestFreeDay(item.getItemId(), createdDay, transaction.getDuration());
+        StringBuilder suggestions = new StringBuilder(MESSAGE_NEXT_FREE_DATE)
+                .append(DateParser.formatDateToString(LocalDate.ofEpochDay(freeDay)));
+        List<String> alternativeItems = new ArrayList<>();
+        for (Item otherItem : itemList.getItemList()) {
+            if (alternativeItems.size() == MAX_ALTERNATIVE_ITEMS) {
+                break;
+            }
+            boolean isAlternative = otherItem.getCategory() == item.getCategory() && otherItem != item
+                    && !otherItem.getOwnerId().equals(borrowId);
+            if (isAlternative && schedules.isFree(otherItem.getItemId(), createdDay, returnDay)) {
+                alternativeItems.add(otherItem.getItemId() + " (" + otherItem.getName() + ")");
             }
         }
-        return args;
-    }
-
-    private void checkValidInput(String[] args) throws ItemNotFoundException, InvalidUserException,
-            UserNotFoundException, DateFormatInvalidException, DurationInvalidException {
-        itemList.checkValidItem(args);
-        userList.checkValidBorrower(args, itemList);
-        transactionList.checkValidArgsForAdding(args);
+        if (!alternativeItems.isEmpty()) {
+            suggestions.append(MESSAGE_ALTERNATIVE_ITEMS).append(String.join(", ", alternativeItems));
+        }
+        return suggestions.toString();
     }
 
     /**
@@ -106,31 +113,24 @@ public class AddTransactionCommand extends Command {
      * @throws ItemNotFoundException      If the item cannot be found in the list
      * @throws UserNotFoundException      If the user cannot be found
      * @throws DurationInvalidException   If the number is less than 0
+     * @throws InvalidTransactionException If it overlaps with another transaction of the item
      */
-    public boolean executeCommand() throws InvalidArgumentException, DateFormatInvalidException,
-            InvalidUserException, InvalidItemException, ItemNotFoundException, DuplicateException,
-            UserNotFoundException, DurationInvalidException, InvalidTransactionException {
-        String[] args = getArgsAddTxCmd();
-        assert args.length == NUMBER_OF_ARGS : "Args length is invalid";
-        checkValidInput(args);
-        Transaction transaction = getTransactionFromArgs(args);
-        transactionList.checkOldTransactionsOverlapWithNew(transaction);
+    public boolean executeCommand() throws DukeException {
+        String itemId = args.get(ITEM_ID);
+        String borrowId = args.get(BORROWER);
+        Item item = itemList.getItemById(itemId);
+        userList.checkValidBorrower(itemId, borrowId, itemList);
+        int duration = args.get(DURATION);
+        Transaction transaction = new Transaction(item.getName(), itemId, borrowId, item.getOwnerId(),
+                duration, args.get(CREATED_DATE), item.getPricePerDay() * duration);
+        try {
+            transactionList.checkOldTransactionsOverlapWithNew(transaction);
+        } catch (InvalidTransactionException e) {
+            throw new InvalidTransactionException(e.getMessage() + getSuggestions(item, borrowId, transaction));
+        }
         this.transactionList.addTransaction(transaction);
+        addEvent(new TransactionAddedEvent(transaction));
         Ui.addTransactionMessage(transaction, transactionList.getSize());
         return false;
     }
-
-    private Transaction getTransactionFromArgs(String[] args) throws ItemNotFoundException {
-        assert args.length == NUMBER_OF_ARGS : "Args length is invalid";
-        String itemId = args[ITEM_ID_INDEX];
-        String itemName = itemList.getItemById(args[ITEM_ID_INDEX]).getName();
-        String borrowId = args[BORROWER_INDEX];
-        String lenderId = itemList.getItemById(itemId).getOwnerId();
-        int duration = Integer.parseInt(args[DURATION_INDEX]);
-        LocalDate createdAt = LocalDate.parse(args[CREATED_DATE_INDEX]);
-        double moneyTransacted =
-                itemList.getItemById(args[ITEM_ID_INDEX]).getPricePerDay() * (double) duration;
-        return new Transaction(itemName, itemId, borrowId, lenderId, duration, createdAt,
-                moneyTransacted);
-    }
 }
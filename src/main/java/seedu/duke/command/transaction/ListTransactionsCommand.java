@@ -1,19 +1,63 @@
 package seedu.duke.command.transaction;
 
-import seedu.duke.command.Command;
-import seedu.duke.ui.Ui;
+import seedu.duke.command.PagedListCommand;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.DukeException;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.transaction.Transaction;
 import seedu.duke.transaction.TransactionList;
 
+import java.time.LocalDate;
+import java.util.List;
+
 //@@author winston-lim
-public class ListTransactionsCommand extends Command {
+public class ListTransactionsCommand extends PagedListCommand<Transaction> {
+    //@@author bdthanh
+    private static final ArgumentSpec<LocalDate> AS_OF = ArgumentSpec.optional("asof", DateParser::parseDate, null);
+    //@@author winston-lim
     private final TransactionList txList;
 
-    public ListTransactionsCommand(TransactionList txList) {
+    public ListTransactionsCommand(ParsedInput input, TransactionList txList) throws DukeException {
+        super(input, AS_OF);
         this.txList = txList;
     }
 
-    public boolean executeCommand() {
-        Ui.printResponse(this.txList.toString());
-        return false;
+    //@@author bdthanh
+    @Override
+    protected List<Transaction> getRows() {
+        LocalDate asOf = getArgument(AS_OF);
+        if (asOf == null) {
+            return txList.getTransactionList();
+        }
+        return txList.getTransactionsAsOf(asOf);
+    }
+
+    @Override
+    protected String getId(Transaction transaction) {
+        return transaction.getTxId();
+    }
+
+    @Override
+    protected void appendRow(StringBuilder out, Transaction transaction) {
+        LocalDate asOf = getArgument(AS_OF);
+        transaction.appendTo(out, asOf == null ? BusinessClock.today() : asOf);
+    }
+
+    @Override
+    protected String getCommandWord() {
+        LocalDate asOf = getArgument(AS_OF);
+        return asOf == null ? "list-tx" : "list-tx /asof " + asOf;
+    }
+
+    @Override
+    protected String getEmptyMessage() {
+        return "Your requested transaction list is empty";
+    }
+
+    @Override
+    protected String getRowsDescription() {
+        return "transaction(s) you want to view";
     }
 }
@@ -1,20 +1,21 @@
 package seedu.duke.command.transaction;
 
 import seedu.duke.command.Command;
+import seedu.duke.event.TransactionUpdatedEvent;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.DurationInvalidException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
 import seedu.duke.exception.InvalidTransactionException;
 import seedu.duke.exception.TransactionNotFoundException;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.ui.Ui;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
 import seedu.duke.transaction.Transaction;
 import seedu.duke.transaction.TransactionList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DURATION_INVALID;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NUMBER_FORMAT_INVALID;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TX_NOT_FOUND;
 
 // @@author winston-lim
@@ -23,45 +24,25 @@ import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TX_NOT_FOUN
  * A representation of a command to add a new transaction.
  */
 public class UpdateTransactionCommand extends Command {
-    private final String[] parts;
+    private static final ArgumentSpec<String> TX_ID = ArgumentSpec.text("t");
+    private static final ArgumentSpec<Integer> DURATION = ArgumentSpec.required("d", TransactionList::parseDuration);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(TX_ID, DURATION);
+    private final Arguments args;
     private final TransactionList transactionList;
 
     /**
      * Constructor for AddTransactionCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public UpdateTransactionCommand(String[] parts, TransactionList transactionList)
-            throws InsufficientArgumentsException {
-        this.parts = parts;
+    public UpdateTransactionCommand(ParsedInput input, TransactionList transactionList)
+            throws DukeException {
         this.transactionList = transactionList;
-        if (parts.length != 2) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
-    }
-
-    /**
-     * Gets arg values from the given part.
-     *
-     * @return An array of arg values
-     * @throws InvalidArgumentException If there is a part that cannot be parsed
-     */
-    private String[] getArgsAddTxCmd() throws InvalidArgumentException {
-        String[] args = new String[this.parts.length];
-        for (String part : parts) {
-            String delimiter = CommandParser.getArgsDelimiter(part);
-            if (delimiter.equals("t")) {
-                args[0] = CommandParser.getArgValue(part);
-            } else if (delimiter.equals("d")) {
-                args[1] = CommandParser.getArgValue(part);
-            } else {
-                throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-            }
-
-        }
-        return args;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
     /**
@@ -81,26 +62,18 @@ public class UpdateTransactionCommand extends Command {
     }
 
     /**
-     * Checks if the duration is valid or not.
+     * Scales the money of a transaction to its new duration, rounding half up to the nearest cent.
      *
-     * @param duration The input duration
-     * @return true If that number can be parsed and greater than 0
-     * @throws DurationInvalidException If the number is less than 0
+     * @param oldMoneyTransacted The old money transacted in cents
+     * @param oldDuration        The old duration
+     * @param duration           The new duration
+     * @return The new money transacted in cents
      */
-    private boolean isValidDuration(String duration) throws DurationInvalidException {
-        try {
-            if (Integer.parseInt(duration) < 0 || Integer.parseInt(duration) > 1461) {
-                throw new DurationInvalidException(MESSAGE_DURATION_INVALID);
-            }
-            return true;
-        } catch (NumberFormatException e) {
-            throw new NumberFormatException(MESSAGE_NUMBER_FORMAT_INVALID);
+    private static long getNewMoneyTransacted(long oldMoneyTransacted, int oldDuration, int duration) {
+        if (oldDuration == 0) {
+            return oldMoneyTransacted;
         }
-    }
-
-    private boolean areValidArgs(String[] args)
-            throws TransactionNotFoundException, DurationInvalidException {
-        return isValidTxId(args[0]) && isValidDuration(args[1]);
+        return (2 * oldMoneyTransacted * duration + oldDuration) / (2L * oldDuration);
     }
 
     /**
@@ -110,20 +83,19 @@ public class UpdateTransactionCommand extends Command {
      * @throws InvalidArgumentException If there is a part that cannot be parsed
      * @throws TransactionNotFoundException If the transaction cannot be found
      * @throws DurationInvalidException If the number is less than 0
+     * @throws InvalidTransactionException If the new duration overlaps with another transaction
      */
-    public boolean executeCommand() throws InvalidArgumentException, TransactionNotFoundException,
-            DurationInvalidException, InvalidTransactionException {
-        String[] args = getArgsAddTxCmd();
-        if (areValidArgs(args)) {
-            String txId = args[0];
-            int duration = Integer.parseInt(args[1]);
+    public boolean executeCommand() throws DukeException {
+        String txId = args.get(TX_ID);
+        int duration = args.get(DURATION);
+        if (isValidTxId(txId)) {
             int oldDuration = transactionList.getTransactionById(txId).getDuration();
-            double oldMoneyTransacted =
+            long oldMoneyTransacted =
                     transactionList.getTransactionById(txId).getMoneyTransacted();
-            double newMoneyTransacted =
-                    (double) duration / (double) oldDuration * oldMoneyTransacted;
+            long newMoneyTransacted = getNewMoneyTransacted(oldMoneyTransacted, oldDuration, duration);
             Transaction updatedTx =
                     this.transactionList.updateTransaction(txId, duration, newMoneyTransacted);
+            addEvent(new TransactionUpdatedEvent(updatedTx));
             Ui.updateTransactionMessage(updatedTx);
         }
         return false;
@@ -1,48 +1,42 @@
 package seedu.duke.command.transaction;
 
 import seedu.duke.command.Command;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.ui.Ui;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
 import seedu.duke.exception.TransactionNotFoundException;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
 import seedu.duke.transaction.Transaction;
 import seedu.duke.transaction.TransactionList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
-
 // @@author jingwei55
 public class ViewTransactionCommand extends Command {
-    private final String[] parts;
+    private final Arguments args;
     private final TransactionList transactionList;
-    private static final String TX_ID_DELIM = "t";
+    private static final ArgumentSpec<String> TX_ID = ArgumentSpec.text("t");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(TX_ID);
 
     /**
      * Constructor for ViewTransactionCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public ViewTransactionCommand(String[] parts, TransactionList transactionList)
-            throws InsufficientArgumentsException {
-        this.parts = parts;
+    public ViewTransactionCommand(ParsedInput input, TransactionList transactionList)
+            throws DukeException {
         this.transactionList = transactionList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
-    private String getArgsViewTransactionCmd() throws InvalidArgumentException {
-        String arg;
-        String delimiter = CommandParser.getArgsDelimiter(parts[0]);
-        if (delimiter.equals(TX_ID_DELIM)) {
-            arg = CommandParser.getArgValue(parts[0]);
-        } else {
-            throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-        }
-        return arg;
+    private String getArgsViewTransactionCmd() throws DukeException {
+        return args.get(TX_ID);
     }
 
     private boolean isValidTransaction(String transactionId) throws TransactionNotFoundException {
@@ -61,7 +55,7 @@ public class ViewTransactionCommand extends Command {
      * @throws InvalidArgumentException If there is a part that cannot be parsed
      * @throws TransactionNotFoundException If given transaction is does not exist
      */
-    public boolean executeCommand() throws TransactionNotFoundException, InvalidArgumentException {
+    public boolean executeCommand() throws DukeException {
         String transactionName = getArgsViewTransactionCmd();
         if (isValidTransaction(transactionName)) {
             Transaction transaction = this.transactionList.getTransactionById(transactionName);
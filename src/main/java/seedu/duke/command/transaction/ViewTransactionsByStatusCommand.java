@@ -1,56 +1,53 @@
 package seedu.duke.command.transaction;
 
+import seedu.duke.clock.BusinessClock;
 import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.transaction.Transaction;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.ui.Ui;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STATUS_INVALID;
 
 // @@author jingwei55
 public class ViewTransactionsByStatusCommand extends Command {
 
-    private final String[] parts;
+    private final Arguments args;
     private final TransactionList transactionList;
-    private static final String STATUS_DELIM = "s";
+    private static final ArgumentSpec<String> STATUS =
+            ArgumentSpec.required("s", ViewTransactionsByStatusCommand::parseStatus);
+    private static final ArgumentSpec<LocalDate> AS_OF = ArgumentSpec.optional("asof", DateParser::parseDate, null);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(STATUS, AS_OF);
 
     /**
      * Constructor for ViewTransactionsByStatusCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public ViewTransactionsByStatusCommand(String[] parts, TransactionList transactionList)
-            throws InsufficientArgumentsException {
-        this.parts = parts;
+    public ViewTransactionsByStatusCommand(ParsedInput input, TransactionList transactionList)
+            throws DukeException {
         this.transactionList = transactionList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
-    }
-
-    private String getArgs() throws InvalidArgumentException {
-        String args;
-        String delimiter = CommandParser.getArgsDelimiter(parts[0]);
-        if (delimiter.equals(STATUS_DELIM)) {
-            args = CommandParser.getArgValue(parts[0]);
-        } else {
-            throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-        }
-        return args;
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
-    private boolean isValidArgument(String arg) throws InvalidArgumentException {
+    private static String parseStatus(String arg) throws InvalidArgumentException {
         if (arg.equals("finished") || arg.equals("unfinished")) {
-            return true;
+            return arg;
         }
         throw new InvalidArgumentException(MESSAGE_STATUS_INVALID);
     }
@@ -60,16 +57,17 @@ public class ViewTransactionsByStatusCommand extends Command {
      *
      * @param arg user input needed to return the appropriate list of transactions
      * @param transactions Overall list of transactions
+     * @param day the day to check the status on
      */
-    void getTransactionsByStatus(String arg, ArrayList<Transaction> transactions) {
+    void getTransactionsByStatus(String arg, List<Transaction> transactions, LocalDate day) {
         ArrayList<Transaction> transactionsToView;
         if (arg.equals("finished")) {
-            transactionsToView = getFinishedTransactions(transactions);
-            Ui.viewCompletedTransactionsMessage(transactionsToView);
+            transactionsToView = getFinishedTransactions(transactions, day);
+            Ui.viewCompletedTransactionsMessage(transactionsToView, day);
         } else {
             assert arg.equals("unfinished");
-            transactionsToView = getUnfinishedTransactions(transactions);
-            Ui.viewUncompletedTransactionsMessage(transactionsToView);
+            transactionsToView = getUnfinishedTransactions(transactions, day);
+            Ui.viewUncompletedTransactionsMessage(transactionsToView, day);
         }
     }
 
@@ -77,12 +75,13 @@ public class ViewTransactionsByStatusCommand extends Command {
      * Search entire transaction list for transactions that are completed.
      *
      * @param transactions list of transactions to search from
+     * @param day the day to check the status on
      * @return list of finished transactions
      */
-    private ArrayList<Transaction> getFinishedTransactions(ArrayList<Transaction> transactions) {
+    private ArrayList<Transaction> getFinishedTransactions(List<Transaction> transactions, LocalDate day) {
         ArrayList<Transaction> transactionsToView = new ArrayList<>();
         for (Transaction transaction : transactions) {
-            if (transaction.isFinished()) {
+            if (transaction.isFinished(day)) {
                 transactionsToView.add(transaction);
             }
         }
@@ -93,25 +92,33 @@ public class ViewTransactionsByStatusCommand extends Command {
      * Search entire transaction list for transactions that are still ongoing.
      *
      * @param transactions list of transactions to search from
+     * @param day the day to check the status on
      * @return list of unfinished transactions
      */
-    private ArrayList<Transaction> getUnfinishedTransactions(ArrayList<Transaction> transactions) {
+    private ArrayList<Transaction> getUnfinishedTransactions(List<Transaction> transactions, LocalDate day) {
         ArrayList<Transaction> transactionsToView = new ArrayList<>();
         for (Transaction transaction : transactions) {
-            if (!transaction.isFinished()) {
+            if (!transaction.isFinished(day)) {
                 transactionsToView.add(transaction);
             }
         }
         return transactionsToView;
     }
 
+    /**
+     * Executes ViewTransactionsByStatusCommand. With /asof, the transactions are shown as they were
+     * recorded at the end of that day, with their status on that day.
+     *
+     * @return false
+     * @throws InvalidArgumentException If there is a part that cannot be parsed
+     */
     @Override
-    public boolean executeCommand()
-            throws InsufficientArgumentsException, InvalidArgumentException {
-        String arg = getArgs();
-        ArrayList<Transaction> transactions = transactionList.getTransactionList();
-        if (isValidArgument(arg)) {
-            getTransactionsByStatus(arg, transactions);
+    public boolean executeCommand() throws DukeException {
+        LocalDate asOf = args.get(AS_OF);
+        if (asOf == null) {
+            getTransactionsByStatus(args.get(STATUS), transactionList.getTransactionList(), BusinessClock.today());
+        } else {
+            getTransactionsByStatus(args.get(STATUS), transactionList.getTransactionsAsOf(asOf), asOf);
         }
         return false;
     }
@@ -1,54 +1,44 @@
 package seedu.duke.command.user;
 
 import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
-import seedu.duke.exception.InvalidArgumentException;
-import seedu.duke.exception.UserNotFoundException;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.ui.Ui;
 import seedu.duke.user.UserList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
-
 // @@author jorellesee
 public class FindUserCommand extends Command {
-    private final String[] parts;
-    private static final String KEYWORD_DELIMITER = "k";
+    private final Arguments args;
+    private static final ArgumentSpec<String> KEYWORD = ArgumentSpec.text("k");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(KEYWORD);
 
     private final UserList userList;
 
     /**
      * Constructor for FindUserCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param userList The list of users to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public FindUserCommand(String[] parts, UserList userList)
-            throws InsufficientArgumentsException {
-        this.parts = parts;
+    public FindUserCommand(ParsedInput input, UserList userList)
+            throws DukeException {
         this.userList = userList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
-    private String getArgsFindUserCommand() throws InvalidArgumentException {
-        String arg = "";
-        for (String part : parts) {
-            String delimiter = CommandParser.getArgsDelimiter(part);
-            if (delimiter.equals(KEYWORD_DELIMITER)) {
-                arg = CommandParser.getArgValue(part);
-            } else {
-                throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-            }
-        }
-        return arg;
+    private String getArgsFindUserCommand() throws DukeException {
+        return args.get(KEYWORD);
     }
 
     @Override
-    public boolean executeCommand() throws InvalidArgumentException, UserNotFoundException {
+    public boolean executeCommand() throws DukeException {
         String arg = getArgsFindUserCommand();
         Ui.printResponse(userList.getUsersByKeyword(arg).toString());
         return false;
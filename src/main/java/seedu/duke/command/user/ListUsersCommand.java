@@ -1,19 +1,50 @@
 package seedu.duke.command.user;
 
-import seedu.duke.command.Command;
-import seedu.duke.ui.Ui;
+import seedu.duke.command.PagedListCommand;
+import seedu.duke.exception.DukeException;
+import seedu.duke.parser.ParsedInput;
+import seedu.duke.user.User;
 import seedu.duke.user.UserList;
 
+import java.util.List;
+
 //@@author winston-lim
-public class ListUsersCommand extends Command {
+public class ListUsersCommand extends PagedListCommand<User> {
     private final UserList userList;
 
-    public ListUsersCommand(UserList userList) {
+    public ListUsersCommand(ParsedInput input, UserList userList) throws DukeException {
+        super(input);
         this.userList = userList;
     }
 
-    public boolean executeCommand() {
-        Ui.printResponse(userList.toString());
-        return false;
+    //@@author bdthanh
+    @Override
+    protected List<User> getRows() {
+        return userList.getUserList();
+    }
+
+    @Override
+    protected String getId(User user) {
+        return user.getName();
+    }
+
+    @Override
+    protected void appendRow(StringBuilder out, User user) {
+        user.appendTo(out);
+    }
+
+    @Override
+    protected String getCommandWord() {
+        return "list-users";
+    }
+
+    @Override
+    protected String getEmptyMessage() {
+        return "There is no user in your list right now";
+    }
+
+    @Override
+    protected String getRowsDescription() {
+        return "user(s) in your list";
     }
 }
@@ -1,52 +1,46 @@
 package seedu.duke.command.user;
 
 import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
 import seedu.duke.exception.InvalidTransactionException;
 import seedu.duke.exception.UserNotFoundException;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.ui.Ui;
 import seedu.duke.user.UserList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
-
 // @@author jorellesee
 public class ViewLendTransactionsByUserCommand extends Command {
-    private final String[] parts;
-    private static final String USER_ID_DELIMITER = "u";
+    private final Arguments args;
+    private static final ArgumentSpec<String> USER_ID = ArgumentSpec.text("u");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(USER_ID);
     private final TransactionList transactionList;
     private final UserList userList;
 
     /**
      * Constructor for ViewLendTransactionsByUserCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param userList The list of users to work with
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public ViewLendTransactionsByUserCommand(String[] parts, TransactionList transactionList,
-            UserList userList) throws InsufficientArgumentsException {
-        this.parts = parts;
+    public ViewLendTransactionsByUserCommand(ParsedInput input, TransactionList transactionList,
+            UserList userList) throws DukeException {
         this.transactionList = transactionList;
         this.userList = userList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
-    private String getArgs() throws InvalidArgumentException {
-        String args;
-        String delimiter = CommandParser.getArgsDelimiter(parts[0]);
-        if (delimiter.equals(USER_ID_DELIMITER)) {
-            args = CommandParser.getArgValue(parts[0]);
-        } else {
-            throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-        }
-        return args;
+    private String getArgs() throws DukeException {
+        return args.get(USER_ID);
     }
 
     private boolean isValidUser(String arg) throws UserNotFoundException {
@@ -67,8 +61,7 @@ public class ViewLendTransactionsByUserCommand extends Command {
      * @throws InvalidArgumentException If there is a part that cannot be parsed
      * @throws InvalidTransactionException If given transaction is invalid
      */
-    public boolean executeCommand() throws InsufficientArgumentsException, UserNotFoundException,
-            InvalidArgumentException, InvalidTransactionException {
+    public boolean executeCommand() throws DukeException {
         String arg = getArgs();
         if (isValidUser(arg)) {
             TransactionList returnList = transactionList.getLendTransactionsByUser(arg);
@@ -2,55 +2,49 @@ package seedu.duke.command.user;
 
 import seedu.duke.command.Command;
 import seedu.duke.item.ItemList;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.ui.Ui;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
 import seedu.duke.exception.UserNotFoundException;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
 import seedu.duke.user.User;
 import seedu.duke.user.UserList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
-
 // @@author jingwei55
 public class ViewUserCommand extends Command {
-    private final String[] parts;
+    private final Arguments args;
     private final UserList userList;
     private final TransactionList transactionList;
-    private final ItemList itemList;
-    private static final String USER_ID_DELIM = "u";
+    private final ViewUserItemsCommand viewUserItemsCommand;
+    private static final ArgumentSpec<String> USER_ID = ArgumentSpec.text("u");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(USER_ID);
 
     /**
      * Constructor for ViewUserCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param userList The list of users to work with
      * @param itemList The list of items to work with
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public ViewUserCommand(String[] parts, UserList userList, ItemList itemList,
-            TransactionList transactionList) throws InsufficientArgumentsException {
-        this.parts = parts;
+    public ViewUserCommand(ParsedInput input, UserList userList, ItemList itemList,
+            TransactionList transactionList) throws DukeException {
         this.userList = userList;
-        this.itemList = itemList;
         this.transactionList = transactionList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
+        this.viewUserItemsCommand = new ViewUserItemsCommand(input, userList, itemList, transactionList);
     }
 
-    private String getArgsViewUserCmd() throws InvalidArgumentException {
-        String arg;
-        String delimiter = CommandParser.getArgsDelimiter(parts[0]);
-        if (delimiter.equals(USER_ID_DELIM)) {
-            arg = CommandParser.getArgValue(parts[0]);
-        } else {
-            throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-        }
-        return arg;
+    private String getArgsViewUserCmd() throws DukeException {
+        return args.get(USER_ID);
     }
 
     private boolean isValidUser(String userId) throws UserNotFoundException {
@@ -70,17 +64,14 @@ public class ViewUserCommand extends Command {
      * @throws InsufficientArgumentsException If insufficient parts are given
      * @throws UserNotFoundException If the user cannot be found in the list
      */
-    public boolean executeCommand()
-            throws UserNotFoundException, InvalidArgumentException, InsufficientArgumentsException {
+    public boolean executeCommand() throws DukeException {
         String userName = getArgsViewUserCmd();
         if (isValidUser(userName)) {
             User user = this.userList.getUserById(userName);
-            ItemList userItems =
-                    new ViewUserItemsCommand(parts, userList, itemList, transactionList)
-                            .getUserItems();
-            double totalLoss =
+            ItemList userItems = viewUserItemsCommand.getUserItems();
+            long totalLoss =
                     transactionList.getBorrowTransactionsByUser(userName).getTotalMoneyTransacted();
-            double totalGain =
+            long totalGain =
                     transactionList.getLendTransactionsByUser(userName).getTotalMoneyTransacted();
             Ui.viewUserMessage(user, userItems, transactionList, totalLoss, totalGain);
         }
@@ -1,23 +1,29 @@
 package seedu.duke.command.user;
 
 import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
 import seedu.duke.exception.InvalidTransactionException;
 import seedu.duke.exception.UserNotFoundException;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.ui.Ui;
 import seedu.duke.user.UserList;
 import seedu.duke.transaction.TransactionList;
 
-
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
+import java.time.LocalDate;
 
 // @@author jorellesee
 public class ViewUserGainCommand extends Command {
-    private final String[] parts;
-    private static final String USER_ID_DELIMITER = "u";
+    private final Arguments args;
+    private static final ArgumentSpec<String> USER_ID = ArgumentSpec.text("u");
+    private static final ArgumentSpec<LocalDate> AS_OF = ArgumentSpec.optional("asof", DateParser::parseDate, null);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(USER_ID, AS_OF);
 
     private final UserList userList;
     private final TransactionList transactionList;
@@ -26,30 +32,22 @@ public class ViewUserGainCommand extends Command {
     /**
      * Constructor for ViewUserGainCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param userList The list of users to work with
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException If the number of args is incorrect
+     * @throws DukeException If an argument is missing or invalid
      */
-    public ViewUserGainCommand(String[] parts, UserList userList, TransactionList transactionList)
-            throws InsufficientArgumentsException {
-        this.parts = parts;
+    public ViewUserGainCommand(ParsedInput input, UserList userList, TransactionList transactionList)
+            throws DukeException {
         this.userList = userList;
         this.transactionList = transactionList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
-    private String getArgsViewUserProfitCmd() throws InvalidArgumentException {
-        String arg;
-        String delimiter = CommandParser.getArgsDelimiter(parts[0]);
-        if (delimiter.equals(USER_ID_DELIMITER)) {
-            arg = CommandParser.getArgValue(parts[0]);
-        } else {
-            throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-        }
-        return arg;
+    private Arguments getArgsViewUserProfitCmd() throws DukeException {
+        return args;
     }
 
     private boolean isValidUser(String userId) throws UserNotFoundException {
@@ -69,14 +67,17 @@ public class ViewUserGainCommand extends Command {
      * @throws InvalidTransactionException If given transaction is invalid
      * @throws UserNotFoundException If the user cannot be found in the list
      */
-    public boolean executeCommand()
-            throws UserNotFoundException, InvalidArgumentException, InvalidTransactionException {
-        String userName = getArgsViewUserProfitCmd();
+    public boolean executeCommand() throws DukeException {
+        Arguments args = getArgsViewUserProfitCmd();
+        String userName = args.get(USER_ID);
         if (isValidUser(userName)) {
-            double totalProfit =
-                    transactionList.getLendTransactionsByUser(userName).getTotalMoneyTransacted();
+            // With /asof, only the transactions as they were recorded at the end of that day are counted
+            TransactionList transactions = args.get(AS_OF) == null ? transactionList
+                    : transactionList.getTransactionListAsOf(args.get(AS_OF));
+            long totalProfit =
+                    transactions.getLendTransactionsByUser(userName).getTotalMoneyTransacted();
             Ui.printResponse("The amount of money earned by "
-                    + userName + " is: $" + String.format("%.2f", totalProfit));
+                    + userName + " is: $" + MoneyParser.formatCents(totalProfit));
         }
         return false;
     }
@@ -1,50 +1,51 @@
 package seedu.duke.command.user;
 
 import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InsufficientArgumentsException;
 import seedu.duke.exception.InvalidArgumentException;
 import seedu.duke.exception.UserNotFoundException;
 import seedu.duke.item.Item;
 import seedu.duke.item.ItemList;
-import seedu.duke.parser.CommandParser;
+import seedu.duke.parser.ArgumentSchema;
+import seedu.duke.parser.ArgumentSpec;
+import seedu.duke.parser.Arguments;
+import seedu.duke.parser.ParsedInput;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.ui.Ui;
 import seedu.duke.user.UserList;
 
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
-
 // @@author chiewyx
 
 /**
  * A representation of a command to view a user's items.
  */
 public class ViewUserItemsCommand extends Command {
-    private final String[] parts;
+    private final Arguments args;
     private final ItemList itemList;
     private final TransactionList transactionList;
     private final UserList userList;
 
-    private static final String USER_ID_DELIM = "u";
+    private static final ArgumentSpec<String> USER_ID = ArgumentSpec.text("u");
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(USER_ID);
 
     /**
      * Constructor for ViewUserItemsCommand.
      *
-     * @param parts The parts from user input
+     * @param input The scanned user input
      * @param userList The list of users to work with
      * @param itemList The list of items to work with
      * @param transactionList The list of transactions to work with
      * @throws InsufficientArgumentsException if arguments is insufficient
+     * @throws DukeException If an argument is missing or invalid
      */
-    public ViewUserItemsCommand(String[] parts, UserList userList, ItemList itemList,
-            TransactionList transactionList) throws InsufficientArgumentsException {
-        this.parts = parts;
+    public ViewUserItemsCommand(ParsedInput input, UserList userList, ItemList itemList,
+            TransactionList transactionList) throws DukeException {
         this.userList = userList;
         this.itemList = itemList;
         this.transactionList = transactionList;
-        if (parts.length != 1) {
-            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
-        }
+        SCHEMA.checkNumberOfParts(input);
+        this.args = SCHEMA.parse(input);
     }
 
     /**
@@ -53,15 +54,8 @@ public class ViewUserItemsCommand extends Command {
      * @return A string of arg value
      * @throws InvalidArgumentException if the part does not fit the command
      */
-    private String getArgViewUserItemsCmd() throws InvalidArgumentException {
-        String args;
-        String delimiter = CommandParser.getArgsDelimiter(parts[0]);
-        if (delimiter.equals(USER_ID_DELIM)) {
-            args = CommandParser.getArgValue(parts[0]);
-        } else {
-            throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
-        }
-        return args;
+    private String getArgViewUserItemsCmd() throws DukeException {
+        return args.get(USER_ID);
     }
 
     /**
@@ -87,7 +81,7 @@ public class ViewUserItemsCommand extends Command {
      * @throws UserNotFoundException if user is not found in list of users
      * @throws InvalidArgumentException if arg is invalid
      */
-    protected ItemList getUserItems() throws UserNotFoundException, InvalidArgumentException {
+    protected ItemList getUserItems() throws DukeException {
         String args = getArgViewUserItemsCmd();
         ItemList userItems = new ItemList();
         if (isValidUser(args)) {
@@ -108,7 +102,7 @@ public class ViewUserItemsCommand extends Command {
      * @throws UserNotFoundException If the user is not found in list of users
      */
     @Override
-    public boolean executeCommand() throws InvalidArgumentException, UserNotFoundException {
+    public boolean executeCommand() throws DukeException {
         ItemList userItems = getUserItems();
         Ui.printResponse(userItems.toString(transactionList));
         return false;
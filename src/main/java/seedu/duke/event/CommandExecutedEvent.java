@@ -0,0 +1,28 @@
+package seedu.duke.event;
+
+// @@author bdthanh
+
+/**
+ * An event published after a command executes successfully.
+ */
+public class CommandExecutedEvent extends DukeEvent {
+    private final String input;
+
+    /**
+     * Constructor for CommandExecutedEvent.
+     *
+     * @param input The input of the user
+     */
+    public CommandExecutedEvent(String input) {
+        this.input = input;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Command executed: " + input;
+    }
+}
@@ -0,0 +1,9 @@
+package seedu.duke.event;
+
+// @@author bdthanh
+
+/**
+ * An abstract class for events after which the data files are out of date.
+ */
+public abstract class DataChangedEvent extends DukeEvent {
+}
@@ -0,0 +1,35 @@
+package seedu.duke.event;
+
+// @@author bdthanh
+
+/**
+ * An event published after many records are imported at once.
+ */
+public class DataImportedEvent extends DataChangedEvent {
+    private final String type;
+    private final int count;
+
+    /**
+     * Constructor for DataImportedEvent.
+     *
+     * @param type  The type of records imported (user, item or tx)
+     * @param count The number of records imported
+     */
+    public DataImportedEvent(String type, int count) {
+        this.type = type;
+        this.count = count;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Data imported: " + count + " " + type;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.duke.event;
+
+import java.time.LocalDate;
+
+// @@author bdthanh
+
+/**
+ * An event published when the first command of a new day runs, telling how many
+ * transactions have become finished since the day before.
+ */
+public class DayRolledOverEvent extends DukeEvent {
+    private final LocalDate previousDay;
+    private final LocalDate today;
+    private final int finishedCount;
+
+    /**
+     * Constructor for DayRolledOverEvent.
+     *
+     * @param previousDay   The day of the previous command
+     * @param today         The new day
+     * @param finishedCount The number of transactions that were unfinished on the previous day
+     *                      and are finished today
+     */
+    public DayRolledOverEvent(LocalDate previousDay, LocalDate today, int finishedCount) {
+        this.previousDay = previousDay;
+        this.today = today;
+        this.finishedCount = finishedCount;
+    }
+
+    public LocalDate getPreviousDay() {
+        return previousDay;
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    public int getFinishedCount() {
+        return finishedCount;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Day rolled over from " + previousDay + " to " + today + ", "
+                + finishedCount + " transaction(s) finished";
+    }
+}
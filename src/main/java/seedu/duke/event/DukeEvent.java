@@ -0,0 +1,15 @@
+package seedu.duke.event;
+
+// @@author bdthanh
+
+/**
+ * An abstract class for events published by Duke after something has happened.
+ */
+public abstract class DukeEvent {
+    /**
+     * Gets a short description of the event, used when logging it.
+     *
+     * @return The description of the event
+     */
+    public abstract String getDescription();
+}
@@ -0,0 +1,157 @@
+package seedu.duke.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// @@author bdthanh
+
+/**
+ * An in-process bus that hands events from commands to subscribers such as persistence and logging.
+ * Each subscriber has its own bounded queue and thread, so a slow subscriber does not slow down the
+ * others. When a queue is full the publisher waits, so no event is ever dropped. When a subscriber
+ * fails, its events are kept and handled again with the next ones, and the error is left for the
+ * thread reading the commands to show.
+ */
+public class EventBus {
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final DukeEvent STOP_EVENT = new DukeEvent() {
+        @Override
+        public String getDescription() {
+            return "Stop";
+        }
+    };
+    private static final List<SubscriberQueue> subscriberQueues = new CopyOnWriteArrayList<>();
+    private static final Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Registers a subscriber and starts its thread.
+     *
+     * @param subscriber The subscriber to register
+     */
+    public static void register(EventSubscriber subscriber) {
+        SubscriberQueue subscriberQueue = new SubscriberQueue(subscriber);
+        subscriberQueues.add(subscriberQueue);
+        subscriberQueue.start();
+    }
+
+    /**
+     * Publishes an event to every subscriber that accepts it. Waits if a queue is full.
+     *
+     * @param event The event to publish
+     */
+    public static void publish(DukeEvent event) {
+        for (SubscriberQueue subscriberQueue : subscriberQueues) {
+            if (subscriberQueue.subscriber.accepts(event)) {
+                subscriberQueue.put(event);
+            }
+        }
+    }
+
+    /**
+     * Lets every subscriber handle the events left in its queue, then stops all subscribers.
+     * Waits as long as it takes for the subscribers that must finish before exit, and a few seconds
+     * for the others. Safe to call more than once, for example on exit and again from a shutdown hook.
+     */
+    public static void shutdown() {
+        List<SubscriberQueue> stoppedQueues = new ArrayList<>(subscriberQueues);
+        subscriberQueues.removeAll(stoppedQueues);
+        for (SubscriberQueue subscriberQueue : stoppedQueues) {
+            subscriberQueue.put(STOP_EVENT);
+        }
+        for (SubscriberQueue subscriberQueue : stoppedQueues) {
+            subscriberQueue.awaitStop();
+        }
+    }
+
+    /**
+     * Takes the errors hit by the subscribers since the last call, so that they can be shown
+     * before the next command is read.
+     *
+     * @return The errors, oldest first
+     */
+    public static List<Exception> takeFailures() {
+        List<Exception> takenFailures = new ArrayList<>();
+        for (Exception failure = failures.poll(); failure != null; failure = failures.poll()) {
+            takenFailures.add(failure);
+        }
+        return takenFailures;
+    }
+
+    /**
+     * The queue and thread of one subscriber.
+     */
+    private static class SubscriberQueue extends Thread {
+        private final EventSubscriber subscriber;
+        private final BlockingQueue<DukeEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        private SubscriberQueue(EventSubscriber subscriber) {
+            super(subscriber.getClass().getSimpleName());
+            this.subscriber = subscriber;
+            setDaemon(true);
+        }
+
+        private void put(DukeEvent event) {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void awaitStop() {
+            try {
+                if (subscriber.isFinishRequiredOnExit()) {
+                    join();
+                } else {
+                    join(SHUTDOWN_TIMEOUT_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<DukeEvent> events = new ArrayList<>();
+            boolean isStopped = false;
+            while (!isStopped) {
+                try {
+                    events.add(queue.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.drainTo(events, MAX_BATCH_SIZE - 1);
+                isStopped = events.remove(STOP_EVENT);
+                if (events.isEmpty() || handle(events)) {
+                    events.clear();
+                } else if (isStopped) {
+                    // No later batch will carry these events again, so try once more before stopping
+                    handle(events);
+                }
+            }
+        }
+
+        /**
+         * Lets the subscriber handle a batch of events.
+         *
+         * @param events The events, including those of batches that failed before
+         * @return false If the subscriber failed, so the events must be handled again
+         */
+        private boolean handle(List<DukeEvent> events) {
+            try {
+                subscriber.handle(events);
+                return true;
+            } catch (Exception e) {
+                failures.add(e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.duke.event;
+
+import seedu.duke.exception.DukeException;
+
+import java.util.List;
+
+// @@author bdthanh
+
+/**
+ * A subscriber of the event bus. Its methods are called on its own thread, never on the thread
+ * reading the commands, so they must not change the lists without holding the data lock.
+ */
+public interface EventSubscriber {
+    /**
+     * Checks if the subscriber wants to receive the given event.
+     *
+     * @param event The published event
+     * @return true if the event should be queued for this subscriber
+     */
+    boolean accepts(DukeEvent event);
+
+    /**
+     * Handles the events that were waiting in the queue, in the order they were published.
+     *
+     * @param events The events, at least one
+     * @throws DukeException If the events cannot be handled
+     */
+    void handle(List<DukeEvent> events) throws DukeException;
+
+    /**
+     * Checks if the events left in the queue must all be handled before Duke exits, however long it
+     * takes. Other subscribers are given a few seconds and then left unfinished.
+     *
+     * @return true If Duke must wait for the subscriber on exit
+     */
+    default boolean isFinishRequiredOnExit() {
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.item.Item;
+
+// @@author bdthanh
+
+/**
+ * An event published after an item is added.
+ */
+public class ItemAddedEvent extends DataChangedEvent {
+    private final Item item;
+
+    /**
+     * Constructor for ItemAddedEvent.
+     *
+     * @param item The item that was added
+     */
+    public ItemAddedEvent(Item item) {
+        this.item = item;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Item added: " + item.getItemId();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.item.Item;
+
+// @@author bdthanh
+
+/**
+ * An event published after an item is removed.
+ */
+public class ItemRemovedEvent extends DataChangedEvent {
+    private final Item item;
+
+    /**
+     * Constructor for ItemRemovedEvent.
+     *
+     * @param item The item that was removed
+     */
+    public ItemRemovedEvent(Item item) {
+        this.item = item;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Item removed: " + item.getItemId();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.item.Item;
+
+// @@author bdthanh
+
+/**
+ * An event published after an item is updated.
+ */
+public class ItemUpdatedEvent extends DataChangedEvent {
+    private final Item item;
+
+    /**
+     * Constructor for ItemUpdatedEvent.
+     *
+     * @param item The item after the update
+     */
+    public ItemUpdatedEvent(Item item) {
+        this.item = item;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Item updated: " + item.getItemId();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.transaction.Transaction;
+
+// @@author bdthanh
+
+/**
+ * An event published after a transaction is added.
+ */
+public class TransactionAddedEvent extends DataChangedEvent {
+    private final Transaction transaction;
+
+    /**
+     * Constructor for TransactionAddedEvent.
+     *
+     * @param transaction The transaction that was added
+     */
+    public TransactionAddedEvent(Transaction transaction) {
+        this.transaction = transaction;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Transaction added: " + transaction.getTxId();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.transaction.Transaction;
+
+// @@author bdthanh
+
+/**
+ * An event published after a transaction is removed.
+ */
+public class TransactionRemovedEvent extends DataChangedEvent {
+    private final Transaction transaction;
+
+    /**
+     * Constructor for TransactionRemovedEvent.
+     *
+     * @param transaction The transaction that was removed
+     */
+    public TransactionRemovedEvent(Transaction transaction) {
+        this.transaction = transaction;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Transaction removed: " + transaction.getTxId();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.transaction.Transaction;
+
+// @@author bdthanh
+
+/**
+ * An event published after a transaction is updated.
+ */
+public class TransactionUpdatedEvent extends DataChangedEvent {
+    private final Transaction transaction;
+
+    /**
+     * Constructor for TransactionUpdatedEvent.
+     *
+     * @param transaction The transaction after the update
+     */
+    public TransactionUpdatedEvent(Transaction transaction) {
+        this.transaction = transaction;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Transaction updated: " + transaction.getTxId();
+    }
+}
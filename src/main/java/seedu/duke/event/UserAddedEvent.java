@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.user.User;
+
+// @@author bdthanh
+
+/**
+ * An event published after a user is added.
+ */
+public class UserAddedEvent extends DataChangedEvent {
+    private final User user;
+
+    /**
+     * Constructor for UserAddedEvent.
+     *
+     * @param user The user that was added
+     */
+    public UserAddedEvent(User user) {
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    public String getDescription() {
+        return "User added: " + user.getName();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.event;
+
+import seedu.duke.user.User;
+
+// @@author bdthanh
+
+/**
+ * An event published after a user and all of their items are removed.
+ */
+public class UserRemovedEvent extends DataChangedEvent {
+    private final User user;
+
+    /**
+     * Constructor for UserRemovedEvent.
+     *
+     * @param user The user that was removed
+     */
+    public UserRemovedEvent(User user) {
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    public String getDescription() {
+        return "User removed: " + user.getName();
+    }
+}
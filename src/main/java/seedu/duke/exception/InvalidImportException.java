@@ -0,0 +1,12 @@
+package seedu.duke.exception;
+
+public class InvalidImportException extends DukeException {
+    /**
+     * Constructor of InvalidImportException.
+     *
+     * @param message An exception message
+     */
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package seedu.duke.exception;
+
+public class InvalidPeriodException extends DukeException {
+    /**
+     * Constructor of InvalidPeriodException.
+     *
+     * @param message An exception message
+     */
+    public InvalidPeriodException(String message) {
+        super(message);
+    }
+}
@@ -59,6 +59,38 @@ public class ExceptionMessages {
             "Your item was/is unavailable during the input period (overlap with transaction: ";
     public static final String MESSAGE_ITEM_UPDATE_TRANSACTION_OVERLAP =
             "Your item was/is unavailable during the update period (overlap with transaction: ";
+    public static final String MESSAGE_NEXT_FREE_DATE = "\nThe item is free for the same duration from ";
+    public static final String MESSAGE_ALTERNATIVE_ITEMS =
+            "\nOther items in the same category free during the input period: ";
+
+    // Import-related messages
+    public static final String MESSAGE_IMPORT_TYPE_INVALID =
+            "The import type is invalid (only 3 types are accepted: user, item or tx)";
+    public static final String MESSAGE_IMPORT_FILE_NOT_FOUND =
+            "OOPS!!! I cannot find the file to import in the data folder";
+    public static final String MESSAGE_IMPORT_FILE_EMPTY = "The file to import has no rows";
+    public static final String MESSAGE_IMPORT_FAILED =
+            "Nothing was imported because some rows are invalid:";
+    public static final String MESSAGE_IMPORT_ROW = "Row ";
+
+    // Listing-related messages
+    public static final String MESSAGE_PAGE_INVALID = "Page and size must be positive integers";
+    public static final String MESSAGE_PAGE_OUT_OF_RANGE = "There are not that many pages in this list";
+    public static final String MESSAGE_PAGE_AND_CURSOR = "Please use either /page or /after, not both";
+    public static final String MESSAGE_CURSOR_NOT_FOUND =
+            "I cannot find the ID after which to continue the list. Please start again from the first page";
+
+    // Report-related messages
+    public static final String MESSAGE_PERIOD_INVALID =
+            "The start date must not be after the end date, and a report can cover at most 100 years";
+    public static final String MESSAGE_LEADERBOARD_SIZE_INVALID =
+            "The number of entries must be a positive integer of at most 1000";
+    public static final String MESSAGE_GRANULARITY_INVALID =
+            "The granularity must be day, week or month";
+
+    // Stats-related messages
+    public static final String MESSAGE_DUMP_PERIOD_INVALID =
+            "The number of seconds between dumps must be an integer from 0 to 86400";
 
     // Other messages
     public static final String MESSAGE_INVALID_PARTS =
@@ -81,12 +113,16 @@ public class ExceptionMessages {
     public static final String MESSAGE_STORE_INVALID =
             "Something went wrong when storing your tasks";
     public static final String MESSAGE_ARGUMENT_EMPTY = "The value cannot be empty";
+    public static final String MESSAGE_ARGUMENT_MISSING =
+            "The argument /%s is missing. Check the command format by using the 'help' command!";
     public static final String MESSAGE_CONTAIN_DATA_SEPARATOR =
             "Input cannot contain | character because it can cause errors when loading data";
     public static final String MESSAGE_USER_STORAGE_ILLEGALLY_MODIFIED = "The USER file has been corrupted at line ";
     public static final String MESSAGE_ITEM_STORAGE_ILLEGALLY_MODIFIED = "The ITEM file has been corrupted at line ";
     public static final String MESSAGE_TRANSACTION_STORAGE_ILLEGALLY_MODIFIED =
             "The TRANSACTION file has been corrupted at line ";
+    public static final String MESSAGE_HISTORY_STORAGE_ILLEGALLY_MODIFIED =
+            "The HISTORY file has been corrupted at line ";
     public static final String MESSAGE_FILES_ILLEGALLY_DELETED = "One or more files has been deleted\n";
     public static final String MESSAGE_TO_FIX_FILES =
             "Please try to fix your data in your files before running the app again\n"
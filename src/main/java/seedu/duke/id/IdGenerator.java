@@ -1,6 +1,11 @@
 package seedu.duke.id;
 
-import java.util.UUID;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
 
 //@@author jingwei55
 
@@ -8,16 +13,132 @@ import java.util.UUID;
  * A class of IdGenerator to generate unique id.
  */
 public class IdGenerator {
+    //@@author bdthanh
+    private static final int ID_LENGTH = 8;
+    private static final int RADIX = 36;
+    // Values start at "g0000000", so new ids always have a letter from g to z first
+    // and can never be equal to the old ids made of 8 hex characters
+    private static final long MIN_VALUE = 16L * pow(RADIX, ID_LENGTH - 1);
+    private static final long MAX_VALUE = pow(RADIX, ID_LENGTH) - 1;
+    private static final long EPOCH_SECOND = 1640995200L; // 2022-01-01T00:00:00Z
+    private static final int IDS_PER_SECOND = 1024;
+    private static final long IDS_TO_RESERVE = IDS_PER_SECOND * 3600L;
+    private static final AtomicLong lastValue = new AtomicLong(MIN_VALUE);
+    private static volatile long reservedUpTo = Long.MAX_VALUE;
+    private static String highWaterMarkFilePath = null;
+
     /**
-     * Generates unique id for transaction and item.
+     * Makes the generator continue after the ids given out in earlier runs, even if the clock
+     * has gone back since then. The largest value that may have been given out is kept in a file,
+     * which is only written about once an hour of ids and on exit, not once per id.
+     *
+     * @param filePath The file that stores the largest value that may have been given out
+     */
+    public static synchronized void initialize(String filePath) {
+        highWaterMarkFilePath = filePath;
+        try {
+            String mark = Files.readString(Paths.get(filePath), StandardCharsets.UTF_8).trim();
+            lastValue.accumulateAndGet(Long.parseLong(mark), Math::max);
+        } catch (IOException | NumberFormatException e) {
+            // No mark yet: the ids loaded from the data files are enough to continue after
+        }
+        reservedUpTo = lastValue.get();
+    }
+
+    /**
+     * Makes sure no id up to the given one is given out again. Old hex ids are ignored,
+     * since new ids can never be equal to them, and so are ids too far in the future to
+     * have been made by this generator.
+     *
+     * @param id An id loaded from the data files
+     */
+    public static void advancePast(String id) {
+        long value = decode(id);
+        if (value >= MIN_VALUE && value <= getValueOfNow() + IDS_TO_RESERVE) {
+            lastValue.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Generates unique id for transaction and item. Ids are 8 base-36 characters, ordered by
+     * the time they were made, and never repeat: each id is larger than the one before.
      *
      * @return A string of id
      */
     public static String generateId() {
-        UUID uuid = UUID.randomUUID();
-        String[] uid = uuid.toString().split("-");
-        return uid[0];
+        long value = lastValue.updateAndGet(last -> Math.max(last + 1, getValueOfNow()));
+        assert value <= MAX_VALUE : "Ran out of ids";
+        if (value > reservedUpTo) {
+            reserve(value);
+        }
+        return encode(value);
     }
 
+    private static long getValueOfNow() {
+        long seconds = System.currentTimeMillis() / 1000 - EPOCH_SECOND;
+        return MIN_VALUE + seconds * IDS_PER_SECOND;
+    }
 
+    private static synchronized void reserve(long value) {
+        if (value <= reservedUpTo) {
+            return;
+        }
+        writeHighWaterMark(value + IDS_TO_RESERVE);
+        reservedUpTo = value + IDS_TO_RESERVE;
+    }
+
+    /**
+     * Saves the exact last value given out, so that the next run does not skip the ids reserved
+     * for the rest of this one. Called when Duke exits normally.
+     */
+    public static synchronized void saveHighWaterMark() {
+        if (highWaterMarkFilePath != null) {
+            writeHighWaterMark(lastValue.get());
+            reservedUpTo = lastValue.get();
+        }
+    }
+
+    private static void writeHighWaterMark(long mark) {
+        try {
+            File file = new File(highWaterMarkFilePath);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            Files.writeString(file.toPath(), String.valueOf(mark), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // Ids stay unique within this run; later runs fall back to the clock and the data files
+        }
+    }
+
+    private static String encode(long value) {
+        char[] digits = new char[ID_LENGTH];
+        for (int i = ID_LENGTH - 1; i >= 0; i--) {
+            digits[i] = Character.forDigit((int) (value % RADIX), RADIX);
+            value /= RADIX;
+        }
+        return new String(digits);
+    }
+
+    private static long decode(String id) {
+        if (id.length() != ID_LENGTH) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < ID_LENGTH; i++) {
+            int digit = Character.digit(id.charAt(i), RADIX);
+            if (digit < 0 || Character.isUpperCase(id.charAt(i))) {
+                return -1;
+            }
+            value = value * RADIX + digit;
+        }
+        return value;
+    }
+
+    private static long pow(long base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
 }
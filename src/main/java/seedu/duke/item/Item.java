@@ -2,14 +2,19 @@ package seedu.duke.item;
 
 import seedu.duke.exception.InvalidCategoryException;
 import seedu.duke.id.IdGenerator;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.symbol.SymbolTable;
 import seedu.duke.transaction.TransactionList;
+import seedu.duke.ui.RenderedTextCache;
 
 // @@author jingwei55
 public class Item {
+    // Items never change, so a kept text stays right until the item is updated into a new object
+    private static final RenderedTextCache RENDERED_TEXTS = new RenderedTextCache(256);
     private final String itemId;
     private final String name;
     private final String ownerId;
-    private final double pricePerDay;
+    private final long pricePerDay;
     private final Category.Categories category;
 
     /**
@@ -17,16 +22,16 @@ public class Item {
      * 
      * @param name The name of item
      * @param categoryNumber The category number of an item
-     * @param price The price of an item
+     * @param price The price of an item, in cents
      * @param ownerId The ownerId of an item
      * @throws InvalidCategoryException If given category number is invalid
      */
-    public Item(String name, int categoryNumber, double price, String ownerId)
+    public Item(String name, int categoryNumber, long price, String ownerId)
             throws InvalidCategoryException {
-        this.itemId = IdGenerator.generateId();
-        this.name = name;
+        this.itemId = SymbolTable.intern(IdGenerator.generateId());
+        this.name = SymbolTable.intern(name);
         this.pricePerDay = price;
-        this.ownerId = ownerId;
+        this.ownerId = SymbolTable.intern(ownerId);
         this.category = Category.mapCategory(categoryNumber);
     }
 
@@ -36,16 +41,16 @@ public class Item {
      * @param itemId The id of item
      * @param name The name of item
      * @param categoryNumber The category number of an item
-     * @param price The price of an item
+     * @param price The price of an item, in cents
      * @param ownerId The ownerId of an item
      * @throws InvalidCategoryException If given category number is invalid
      */
-    public Item(String itemId, String name, int categoryNumber, double price, String ownerId)
+    public Item(String itemId, String name, int categoryNumber, long price, String ownerId)
             throws InvalidCategoryException {
-        this.itemId = itemId;
-        this.name = name;
+        this.itemId = SymbolTable.intern(itemId);
+        this.name = SymbolTable.intern(name);
         this.pricePerDay = price;
-        this.ownerId = ownerId;
+        this.ownerId = SymbolTable.intern(ownerId);
         this.category = Category.mapCategory(categoryNumber);
     }
 
@@ -61,7 +66,12 @@ public class Item {
         return name;
     }
 
-    public double getPricePerDay() {
+    /**
+     * Gets the price per day.
+     *
+     * @return The price per day in cents
+     */
+    public long getPricePerDay() {
         return pricePerDay;
     }
 
@@ -69,7 +79,7 @@ public class Item {
         return category;
     }
 
-    public Item updatePrice(double newPricePerDay) throws InvalidCategoryException {
+    public Item updatePrice(long newPricePerDay) throws InvalidCategoryException {
         return new Item(this.itemId, this.name, Category.setCategory(this.category), newPricePerDay,
                 this.ownerId);
     }
@@ -85,13 +95,39 @@ public class Item {
      * @return A string representation of an item
      */
     public String toString(TransactionList transactionList) {
-        String itemId = "ItemId: " + this.itemId + "\n";
-        String itemIcon = "[" + (isAvailable(transactionList) ? "Available" : "On loan") + "] ";
-        String itemName = "   Item name: " + name + "\n";
-        String itemCategory = "   Category: " + category.toString() + "\n";
-        String itemOwner = "   Owner: " + getOwnerId() + "\n";
-        String itemPrice = "   PricePerDay: $" + String.format("%.2f", pricePerDay);
-        return itemIcon + itemId + itemName + itemCategory + itemOwner + itemPrice;
+        return getText(isAvailable(transactionList));
+    }
+
+    /**
+     * Appends a readable representation of an item, reusing the text made the last time.
+     *
+     * @param out         The builder to append to
+     * @param isAvailable Whether the item is available right now
+     */
+    public void appendTo(StringBuilder out, boolean isAvailable) {
+        out.append(getText(isAvailable));
+    }
+
+    private String getText(boolean isAvailable) {
+        int variant = isAvailable ? 1 : 0;
+        String text = RENDERED_TEXTS.get(itemId, this, variant);
+        if (text == null) {
+            text = render(isAvailable);
+            RENDERED_TEXTS.put(itemId, this, variant, text);
+        }
+        return text;
+    }
+
+    private String render(boolean isAvailable) {
+        StringBuilder out = new StringBuilder();
+        out.append('[').append(isAvailable ? "Available" : "On loan").append("] ")
+                .append("ItemId: ").append(itemId).append('\n')
+                .append("   Item name: ").append(name).append('\n')
+                .append("   Category: ").append(category).append('\n')
+                .append("   Owner: ").append(ownerId).append('\n')
+                .append("   PricePerDay: $");
+        MoneyParser.appendCents(out, pricePerDay);
+        return out.toString();
     }
 
     /**
@@ -102,6 +138,6 @@ public class Item {
     public String convertItemToFileFormat() {
         String separator = " | ";
         return name + separator + Category.setCategory(category) + separator
-                + pricePerDay + separator + ownerId + separator + itemId;
+                + MoneyParser.formatCents(pricePerDay) + separator + ownerId + separator + itemId;
     }
 }
@@ -1,25 +1,24 @@
 package seedu.duke.item;
 
-import seedu.duke.exception.DuplicateException;
 import seedu.duke.exception.InvalidCategoryException;
 import seedu.duke.exception.InvalidItemException;
 import seedu.duke.exception.InvalidPriceException;
 import seedu.duke.exception.ItemNotFoundException;
 import seedu.duke.exception.UserNotFoundException;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.metrics.ListChangeEvent;
+import seedu.duke.parser.MoneyParser;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.user.UserList;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Set;
 
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_NOT_FOUND;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_UNAVAILABLE;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NAME_LENGTH_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_CATEGORY_INDEX_FORMAT_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_OUT_OF_RANGE;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_TOO_MANY_DECIMALS;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_FORMAT_INVALID;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DUPLICATE_ITEM_ID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_NOT_MATCHED;
 
 
@@ -32,6 +31,7 @@ public class ItemList {
     private static final int CATEGORY_INDEX = 1;
     private static final int PRICE_INDEX = 2;
     private static final int OWNER_INDEX = 3;
+    public static final long MAX_PRICE_CENTS = 10000L * MoneyParser.CENTS_PER_DOLLAR;
 
     public ItemList() { // store files from data.txt
         this.itemList = new ArrayList<>();
@@ -47,25 +47,31 @@ public class ItemList {
      * @param item is the new task the user has created
      */
     public void addItem(Item item) {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
         itemList.add(item);
+        listChangeEvent.commitChange(ListChangeEvent.ITEMS, ListChangeEvent.ADD, item.getItemId(), 1);
     }
 
     /**
      * Updates an item's price.
      *
      * @param itemId id of item to be updated
-     * @param price  price to update
+     * @param price  price to update, in cents
      * @return a new instance Item with updated fields
      * @throws ItemNotFoundException    If item id does not exist in item list
      * @throws InvalidCategoryException If category does not exist
      */
-    public Item updateItemPrice(String itemId, double price)
+    public Item updateItemPrice(String itemId, long price)
             throws ItemNotFoundException, InvalidCategoryException {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
         for (int i = 0; i < this.itemList.size(); ++i) {
             Item item = this.itemList.get(i);
             if (item.getItemId().equals(itemId)) {
                 Item updatedItem = item.updatePrice(price);
                 this.itemList.set(i, updatedItem);
+                listChangeEvent.commitChange(ListChangeEvent.ITEMS, ListChangeEvent.UPDATE, itemId, 1);
                 return updatedItem;
             }
         }
@@ -82,9 +88,12 @@ public class ItemList {
      */
     public void deleteItem(String itemId, TransactionList transactionList)
             throws ItemNotFoundException, InvalidItemException {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
         Item item = getItemById(itemId);
         if (item.isAvailable(transactionList)) {
             itemList.remove(item);
+            listChangeEvent.commitChange(ListChangeEvent.ITEMS, ListChangeEvent.DELETE, itemId, 1);
         } else {
             throw new InvalidItemException(MESSAGE_ITEM_UNAVAILABLE);
         }
@@ -98,11 +107,15 @@ public class ItemList {
      * @throws ItemNotFoundException If no such item exists in item list
      */
     public Item getItemById(String id) throws ItemNotFoundException {
+        int rows = 0;
         for (Item item : this.itemList) {
+            rows++;
             if (id.equals(item.getItemId())) {
+                CommandMetrics.addRowsScanned(rows);
                 return item;
             }
         }
+        CommandMetrics.addRowsScanned(rows);
         throw new ItemNotFoundException(MESSAGE_ITEM_NOT_FOUND);
     }
 
@@ -115,6 +128,7 @@ public class ItemList {
      */
     public ItemList getItemsByKeyword(String keyword) throws ItemNotFoundException {
         ItemList returnList = new ItemList();
+        CommandMetrics.addRowsScanned(itemList.size());
         for (Item item : this.itemList) {
             if ((item.getName()).toLowerCase().contains(keyword.toLowerCase())) {
                 returnList.addItem(item);
@@ -131,6 +145,7 @@ public class ItemList {
     }
 
     public ArrayList<Item> getItemList() {
+        CommandMetrics.addRowsScanned(itemList.size());
         return this.itemList;
     }
 
@@ -151,8 +166,13 @@ public class ItemList {
     }
 
     public void deleteAllItemOfAnUser(String username, TransactionList transactionList) {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
+        int sizeBefore = itemList.size();
         itemList.removeIf(
             item -> item.getOwnerId().equals(username) && item.isAvailable(transactionList));
+        listChangeEvent.commitChange(ListChangeEvent.ITEMS, ListChangeEvent.DELETE, username,
+                sizeBefore - itemList.size());
     }
 
     /**
@@ -168,10 +188,12 @@ public class ItemList {
         } else {
             listString.append("Here are ").append(itemList.size()).append(" item(s) in the list:");
         }
+        Set<String> itemIdsBeingBorrowed = transactionList.getItemIdsBeingBorrowed();
+        CommandMetrics.addRowsScanned(itemList.size());
         int index = 1;
         for (Item item : itemList) {
-            listString.append('\n').append(index++).append(". ")
-                    .append(item.toString(transactionList));
+            listString.append('\n').append(index++).append(". ");
+            item.appendTo(listString, !itemIdsBeingBorrowed.contains(item.getItemId()));
         }
         return String.valueOf(listString);
     }
@@ -197,10 +219,22 @@ public class ItemList {
      * @param itemName The input item name
      * @throws InvalidItemException If item name is longer than 20 chars
      */
-    private void checkValidName(String itemName) throws InvalidItemException {
+    private static void checkValidName(String itemName) throws InvalidItemException {
+        parseName(itemName);
+    }
+
+    /**
+     * Checks the name of an item and returns it.
+     *
+     * @param itemName The input item name
+     * @return The item name
+     * @throws InvalidItemException If item name is longer than 20 chars
+     */
+    public static String parseName(String itemName) throws InvalidItemException {
         if (itemName.length() > 20) {
             throw new InvalidItemException(MESSAGE_NAME_LENGTH_INVALID);
         }
+        return itemName;
     }
 
     /**
@@ -222,9 +256,19 @@ public class ItemList {
      *
      * @param categoryNumber The input category number
      */
-    private void checkValidCategoryNumber(String categoryNumber) {
+    private static void checkValidCategoryNumber(String categoryNumber) {
+        parseCategoryNumber(categoryNumber);
+    }
+
+    /**
+     * Parses a category number.
+     *
+     * @param categoryNumber The input category number
+     * @return The category number
+     */
+    public static int parseCategoryNumber(String categoryNumber) {
         try {
-            Integer.parseInt(categoryNumber);
+            return Integer.parseInt(categoryNumber);
         } catch (NumberFormatException e) {
             throw new NumberFormatException(MESSAGE_CATEGORY_INDEX_FORMAT_INVALID);
         }
@@ -236,31 +280,19 @@ public class ItemList {
      * @param price The input price
      * @throws InvalidPriceException If price value is out of range or if price has more than 2 decimal places
      */
-    public void checkValidPrice(String price) throws InvalidPriceException {
-        try {
-            if (Double.parseDouble(price) < 0 || Double.parseDouble(price) > 10000) {
-                throw new InvalidPriceException(MESSAGE_PRICE_OUT_OF_RANGE);
-            } else if (BigDecimal.valueOf(Double.parseDouble(price)).scale() > 2) {
-                throw new InvalidPriceException(MESSAGE_PRICE_TOO_MANY_DECIMALS);
-            }
-        } catch (NumberFormatException e) {
-            throw new NumberFormatException(MESSAGE_PRICE_FORMAT_INVALID);
-        }
+    public static void checkValidPrice(String price) throws InvalidPriceException {
+        parsePrice(price);
     }
 
     /**
-     * Check if there is any item with the same ID.
+     * Parses a price per day into cents after checking it is valid.
      *
-     * @param itemId The item ID to be checked
-     * @throws DuplicateException If there is at least one item with the same ID
+     * @param price The input price
+     * @return The price in cents
+     * @throws InvalidPriceException If price value is out of range or if price has more than 2 decimal places
      */
-    public void checkValidId(String itemId) throws DuplicateException {
-        try {
-            this.getItemById(itemId);
-            throw new DuplicateException(MESSAGE_DUPLICATE_ITEM_ID);
-        } catch (ItemNotFoundException e) {
-            return;
-        }
+    public static long parsePrice(String price) throws InvalidPriceException {
+        return MoneyParser.parseCents(price, MAX_PRICE_CENTS, MESSAGE_PRICE_OUT_OF_RANGE);
     }
 
     /**
@@ -317,9 +349,22 @@ public class ItemList {
      */
     public void checkValidArgsForItem(UserList userList, String[] args)
             throws UserNotFoundException, InvalidPriceException, InvalidItemException {
+        checkValidFieldsForItem(args);
+        checkValidOwner(userList, args[OWNER_INDEX]);
+    }
+
+    /**
+     * Checks the fields of an item without looking at users or other items.
+     * Safe to call from several threads at once.
+     *
+     * @param args The array of input args
+     * @throws InvalidItemException  If item name is longer than 20 chars
+     * @throws InvalidPriceException If price value is out of range or has too many decimals
+     */
+    public static void checkValidFieldsForItem(String[] args)
+            throws InvalidPriceException, InvalidItemException {
         checkValidName(args[NAME_INDEX]);
         checkValidCategoryNumber(args[CATEGORY_INDEX]);
         checkValidPrice(args[PRICE_INDEX]);
-        checkValidOwner(userList, args[OWNER_INDEX]);
     }
 }
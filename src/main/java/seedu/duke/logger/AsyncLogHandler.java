@@ -0,0 +1,175 @@
+package seedu.duke.logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+// @@author bdthanh
+
+/**
+ * A log handler that never makes the logging thread wait for the disk. Records are put in a
+ * lock-free ring buffer, and a background thread formats and writes them in batches. When the
+ * buffer is full, new records are dropped and counted. The log file is rotated once it grows
+ * past a size limit, keeping a few old files as Duke.log.1, Duke.log.2 and so on.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final int BUFFER_CAPACITY = 1024;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    private static final String DROPPED_MESSAGE = " log record(s) were dropped because logging fell behind"
+            + System.lineSeparator();
+
+    private final LogRingBuffer<LogRecord> buffer = new LogRingBuffer<>(BUFFER_CAPACITY);
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final String logFilePath;
+    private final long maxFileBytes;
+    private final int maxBackupFiles;
+    private final Thread drainer;
+    private OutputStream outputStream;
+    private long fileBytes;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructor for AsyncLogHandler. Appends to the log file if it already exists.
+     *
+     * @param logFilePath    The path of the log file
+     * @param maxFileBytes   The size after which the log file is rotated
+     * @param maxBackupFiles The number of rotated files to keep
+     * @throws IOException If the log file cannot be opened
+     */
+    public AsyncLogHandler(String logFilePath, long maxFileBytes, int maxBackupFiles) throws IOException {
+        this.logFilePath = logFilePath;
+        this.maxFileBytes = maxFileBytes;
+        this.maxBackupFiles = maxBackupFiles;
+        setFormatter(new SimpleFormatter());
+        openLogFile();
+        drainer = new Thread(this::drain, "AsyncLogHandler");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    private void openLogFile() throws IOException {
+        File logFile = new File(logFilePath);
+        outputStream = new FileOutputStream(logFile, true);
+        fileBytes = logFile.length();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void drain() {
+        List<LogRecord> records = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            boolean isLastDrain = isClosed;
+            while (buffer.drainTo(records, MAX_BATCH_SIZE) > 0) {
+                writeBatch(records);
+                records.clear();
+            }
+            if (isLastDrain) {
+                return;
+            }
+            LockSupport.parkNanos(IDLE_WAIT_NANOS);
+        }
+    }
+
+    private void writeBatch(List<LogRecord> records) {
+        List<String> lines = new ArrayList<>(records.size() + 1);
+        for (LogRecord record : records) {
+            try {
+                lines.add(getFormatter().format(record));
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            }
+        }
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            lines.add(dropped + DROPPED_MESSAGE);
+        }
+        try {
+            ByteArrayOutputStream batch = new ByteArrayOutputStream();
+            for (String line : lines) {
+                byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                if (fileBytes + batch.size() > 0 && fileBytes + batch.size() + bytes.length > maxFileBytes) {
+                    batch.writeTo(outputStream);
+                    batch.reset();
+                    rotate();
+                }
+                batch.write(bytes);
+            }
+            batch.writeTo(outputStream);
+            outputStream.flush();
+            fileBytes += batch.size();
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Renames Duke.log to Duke.log.1, Duke.log.1 to Duke.log.2 and so on, deleting the oldest file,
+     * then starts a new empty log file.
+     */
+    private void rotate() throws IOException {
+        outputStream.close();
+        new File(logFilePath + "." + maxBackupFiles).delete();
+        for (int i = maxBackupFiles - 1; i >= 1; i--) {
+            new File(logFilePath + "." + i).renameTo(new File(logFilePath + "." + (i + 1)));
+        }
+        if (maxBackupFiles > 0) {
+            new File(logFilePath).renameTo(new File(logFilePath + ".1"));
+        } else {
+            new File(logFilePath).delete();
+        }
+        openLogFile();
+    }
+
+    /**
+     * Does nothing, since records are written by the background thread as soon as it wakes up.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Writes every record still in the buffer, then closes the log file.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(CLOSE_TIMEOUT_MILLIS);
+            outputStream.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+}
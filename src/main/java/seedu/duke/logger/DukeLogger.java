@@ -5,13 +5,17 @@ import seedu.duke.ui.Ui;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.logging.FileHandler;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 public class DukeLogger {
     private Logger logger;
+    private AsyncLogHandler logHandler;
     private static final String LOGS_FILE_PATH = "./log/Duke.log";
+    private static final long MAX_LOG_FILE_BYTES = 1024 * 1024;
+    private static final int MAX_BACKUP_LOG_FILES = 3;
+    // Given explicitly, as working out the caller from the stack would slow down the logging thread
+    private static final String SOURCE_CLASS_NAME = DukeLogger.class.getName();
 
     private void createLogFile() throws IOException {
         File file = new File(LOGS_FILE_PATH);
@@ -26,10 +30,9 @@ public class DukeLogger {
     public DukeLogger() {
         try {
             createLogFile();
-            FileHandler fileHandler = new FileHandler(LOGS_FILE_PATH, true);
-            fileHandler.setFormatter(new SimpleFormatter());
+            logHandler = new AsyncLogHandler(LOGS_FILE_PATH, MAX_LOG_FILE_BYTES, MAX_BACKUP_LOG_FILES);
             logger = Logger.getLogger("DukeLogger");
-            logger.addHandler(fileHandler);
+            logger.addHandler(logHandler);
             logger.setUseParentHandlers(false);
         } catch (IOException e) {
             Ui.printResponse("Creating logs file...");
@@ -42,7 +45,7 @@ public class DukeLogger {
      * @param message Message of Logger
      */
     public void info(String message) {
-        logger.info(message);
+        logger.logp(Level.INFO, SOURCE_CLASS_NAME, "info", message);
     }
 
     /**
@@ -51,7 +54,7 @@ public class DukeLogger {
      * @param message Message of Logger
      */
     public void warning(String message) {
-        logger.warning(message);
+        logger.logp(Level.WARNING, SOURCE_CLASS_NAME, "warning", message);
     }
 
     /**
@@ -62,4 +65,14 @@ public class DukeLogger {
             warning(e.getMessage());
         }
     }
+
+    /**
+     * Writes the records that are still waiting and closes the log file.
+     */
+    public void close() {
+        if (logHandler != null) {
+            logger.removeHandler(logHandler);
+            logHandler.close();
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package seedu.duke.logger;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// @@author bdthanh
+
+/**
+ * A bounded lock-free ring buffer that many threads can add to and one thread takes from.
+ * Each slot carries a sequence number telling whether it is free for the next writer or
+ * ready for the reader, so neither side ever waits for a lock.
+ */
+class LogRingBuffer<T> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0;
+
+    /**
+     * Constructor for LogRingBuffer.
+     *
+     * @param capacity The number of slots, which must be a power of two
+     */
+    LogRingBuffer(int capacity) {
+        assert capacity > 0 && Integer.bitCount(capacity) == 1 : "Capacity must be a power of two";
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element without waiting. Can be called from any thread.
+     *
+     * @param element The element to add
+     * @return false if the buffer is full and the element was not added
+     */
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to maxElements elements to the given list. Must only be called from one thread.
+     *
+     * @param elements    The list to add to
+     * @param maxElements The maximum number of elements to move
+     * @return The number of elements moved
+     */
+    int drainTo(List<T> elements, int maxElements) {
+        int count = 0;
+        while (count < maxElements) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            elements.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, head + capacity);
+            head++;
+            count++;
+        }
+        return count;
+    }
+}
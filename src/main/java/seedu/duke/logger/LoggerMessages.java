@@ -4,4 +4,6 @@ public class LoggerMessages {
     public static final String LOG_RUN_DUKE = "Run Duke";
     public static final String LOG_EXIT_DUKE = "Exit Duke";
     public static final String LOG_EXECUTE_SUCCESSFULLY = "Command executes successfully: ";
+    public static final String LOG_DATA_CHANGED = "Data changed: ";
+    public static final String LOG_EVENT = "Event: ";
 }
@@ -0,0 +1,48 @@
+package seedu.duke.logger;
+
+import seedu.duke.event.CommandExecutedEvent;
+import seedu.duke.event.DataChangedEvent;
+import seedu.duke.event.DukeEvent;
+import seedu.duke.event.EventSubscriber;
+
+import java.util.List;
+
+import static seedu.duke.logger.LoggerMessages.LOG_DATA_CHANGED;
+import static seedu.duke.logger.LoggerMessages.LOG_EVENT;
+import static seedu.duke.logger.LoggerMessages.LOG_EXECUTE_SUCCESSFULLY;
+
+// @@author bdthanh
+
+/**
+ * A subscriber that writes the published events to the log file.
+ */
+public class LoggingSubscriber implements EventSubscriber {
+    private final DukeLogger dukeLogger;
+
+    /**
+     * Constructor for LoggingSubscriber.
+     *
+     * @param dukeLogger The logger to write to
+     */
+    public LoggingSubscriber(DukeLogger dukeLogger) {
+        this.dukeLogger = dukeLogger;
+    }
+
+    @Override
+    public boolean accepts(DukeEvent event) {
+        return true;
+    }
+
+    @Override
+    public void handle(List<DukeEvent> events) {
+        for (DukeEvent event : events) {
+            if (event instanceof CommandExecutedEvent) {
+                dukeLogger.info(LOG_EXECUTE_SUCCESSFULLY + ((CommandExecutedEvent) event).getInput());
+            } else if (event instanceof DataChangedEvent) {
+                dukeLogger.info(LOG_DATA_CHANGED + event.getDescription());
+            } else {
+                dukeLogger.info(LOG_EVENT + event.getDescription());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// @@author bdthanh
+
+/**
+ * A Flight Recorder event for one command, from parsing it until its events are published. When no
+ * recording is running, the event methods do nothing and the JIT removes them with the event itself.
+ */
+@Name("seedu.duke.Command")
+@Label("Command")
+@Category({"Duke", "Commands"})
+@Description("A command parsed and executed by Duke")
+public class CommandEvent extends Event {
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Rows Scanned")
+    long rowsScanned;
+
+    @Label("Successful")
+    boolean isSuccessful;
+
+    /**
+     * Ends the event and commits it if a recording wants it. The fields are only filled in then.
+     *
+     * @param input        The input the user typed
+     * @param rowsScanned  The rows scanned by the command
+     * @param isSuccessful If the command finished without an error
+     */
+    public void commitCommand(String input, long rowsScanned, boolean isSuccessful) {
+        end();
+        if (shouldCommit()) {
+            this.commandWord = input.trim().split("\\s+", 2)[0];
+            this.rowsScanned = rowsScanned;
+            this.isSuccessful = isSuccessful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.duke.metrics;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// @@author bdthanh
+
+/**
+ * The latencies of parsing and executing each type of command and of writing the data files, and
+ * the number of rows each type of command has scanned. Recording only adds to counters, so it takes
+ * no lock and costs tens of nanoseconds.
+ *
+ * <p>Rows are counted by the lists when a scan hands out their rows. Commands are executed one at a
+ * time, and nothing else scans while one is executing, so the rows counted during a command are the
+ * rows it scanned.
+ */
+public class CommandMetrics {
+    public static final String DUMP_FILE_PATH = "./log/stats.txt";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final DateTimeFormatter DUMP_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Map<String, CommandStats> commandStats = new ConcurrentHashMap<>();
+    private static final LongAdder rowsScanned = new LongAdder();
+    private static volatile LatencyHistogram writeLatencies = new LatencyHistogram();
+    private static volatile long startNanos = System.nanoTime();
+    private static ScheduledExecutorService dumpExecutor = null;
+    private static ScheduledFuture<?> dumpTask = null;
+
+    /**
+     * The latencies and rows scanned of one type of command.
+     */
+    private static class CommandStats {
+        private final LatencyHistogram parseLatencies = new LatencyHistogram();
+        private final LatencyHistogram executeLatencies = new LatencyHistogram();
+        private final LongAdder rowsScanned = new LongAdder();
+    }
+
+    private static CommandStats getStats(String commandWord) {
+        return commandStats.computeIfAbsent(commandWord, k -> new CommandStats());
+    }
+
+    /**
+     * Records the time taken to parse a command.
+     *
+     * @param commandWord The command word, e.g. list-tx
+     * @param nanos       The time in nanoseconds
+     */
+    public static void recordParse(String commandWord, long nanos) {
+        getStats(commandWord).parseLatencies.record(nanos);
+    }
+
+    /**
+     * Records the time taken to execute a command and the rows it scanned.
+     *
+     * @param commandWord The command word, e.g. list-tx
+     * @param nanos       The time in nanoseconds
+     * @param rows        The rows scanned, from {@link #getRowsScanned()} after minus before the command
+     */
+    public static void recordExecute(String commandWord, long nanos, long rows) {
+        CommandStats stats = getStats(commandWord);
+        stats.executeLatencies.record(nanos);
+        stats.rowsScanned.add(rows);
+    }
+
+    /**
+     * Records the time taken to write the data files.
+     *
+     * @param nanos The time in nanoseconds
+     */
+    public static void recordWrite(long nanos) {
+        writeLatencies.record(nanos);
+    }
+
+    /**
+     * Counts rows handed out by a scan of a list.
+     *
+     * @param rows The number of rows
+     */
+    public static void addRowsScanned(long rows) {
+        rowsScanned.add(rows);
+    }
+
+    public static long getRowsScanned() {
+        return rowsScanned.sum();
+    }
+
+    /**
+     * Gets the number of times a type of command has been executed.
+     *
+     * @param commandWord The command word, e.g. list-tx
+     * @return The number of executions
+     */
+    public static long getExecuteCount(String commandWord) {
+        CommandStats stats = commandStats.get(commandWord);
+        return stats == null ? 0 : stats.executeLatencies.getCount();
+    }
+
+    /**
+     * Forgets everything recorded so far and starts measuring the throughput again from now.
+     */
+    public static void reset() {
+        commandStats.clear();
+        writeLatencies = new LatencyHistogram();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Formats the p50, p99 and max latencies and the throughput of each type of command executed so far,
+     * and of writing the data files.
+     *
+     * @return The formatted statistics
+     */
+    public static String formatStats() {
+        double seconds = (System.nanoTime() - startNanos) / NANOS_PER_SECOND;
+        StringBuilder out = new StringBuilder();
+        long totalCount = 0;
+        for (Map.Entry<String, CommandStats> entry : new TreeMap<>(commandStats).entrySet()) {
+            CommandStats stats = entry.getValue();
+            long count = stats.executeLatencies.getCount();
+            if (count == 0) {
+                // Only parsed so far, such as the stats command that is running now
+                continue;
+            }
+            totalCount += count;
+            out.append(entry.getKey()).append(": ").append(count).append(" run(s), ")
+                    .append(formatRate(count, seconds)).append(", ")
+                    .append(stats.rowsScanned.sum()).append(" row(s) scanned\n");
+            out.append("   Parse:   ").append(formatLatencies(stats.parseLatencies)).append('\n');
+            out.append("   Execute: ").append(formatLatencies(stats.executeLatencies)).append('\n');
+        }
+        out.append("Writing data files: ").append(writeLatencies.getCount()).append(" write(s)\n");
+        out.append("   Write:   ").append(formatLatencies(writeLatencies)).append('\n');
+        out.append("Total: ").append(totalCount).append(" command(s) in ")
+                .append(String.format("%.1f", seconds)).append(" s, ").append(formatRate(totalCount, seconds));
+        return out.toString();
+    }
+
+    private static String formatLatencies(LatencyHistogram latencies) {
+        return "p50 " + formatMillis(latencies.getValueAtPercentile(50))
+                + ", p99 " + formatMillis(latencies.getValueAtPercentile(99))
+                + ", max " + formatMillis(latencies.getMax());
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f ms", nanos / NANOS_PER_MILLI);
+    }
+
+    private static String formatRate(long count, double seconds) {
+        return String.format("%.2f/s", seconds == 0 ? 0 : count / seconds);
+    }
+
+    /**
+     * Appends the statistics to a file every given number of seconds, in place of any earlier schedule.
+     *
+     * @param filePath      The file to append to
+     * @param periodSeconds The number of seconds between dumps, or 0 to stop dumping
+     */
+    public static synchronized void scheduleDumps(String filePath, long periodSeconds) {
+        if (dumpTask != null) {
+            dumpTask.cancel(false);
+            dumpTask = null;
+        }
+        if (periodSeconds <= 0) {
+            return;
+        }
+        if (dumpExecutor == null) {
+            dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CommandMetricsDump");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        dumpTask = dumpExecutor.scheduleAtFixedRate(() -> dump(filePath), periodSeconds, periodSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Appends the statistics to a file, with the time they were taken.
+     *
+     * @param filePath The file to append to
+     */
+    static void dump(String filePath) {
+        File file = new File(filePath);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (FileWriter fileWriter = new FileWriter(file, true)) {
+            fileWriter.write("=== " + LocalDateTime.now().format(DUMP_TIME_FORMAT) + " ===\n" + formatStats() + "\n");
+        } catch (IOException e) {
+            // The statistics are dumped again at the next period
+        }
+    }
+}
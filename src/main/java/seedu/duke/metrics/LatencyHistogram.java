@@ -0,0 +1,94 @@
+package seedu.duke.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// @@author bdthanh
+
+/**
+ * A histogram of latencies in nanoseconds that many threads can record into without locking.
+ * Like an HDR histogram, each power of two is split into 32 buckets of equal width, so any value
+ * is kept to within about 3% using a fixed 10 KB, however many values are recorded. Values from
+ * 0 to 63 are kept exactly, and values above about 2.4 hours are counted as 2.4 hours.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 37;
+    private static final long MAX_TRACKABLE_VALUE = (2L * SUB_BUCKET_COUNT << MAX_SHIFT) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_SHIFT + 2) * SUB_BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds, which is taken as 0 if negative
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(getIndex(value));
+        totalCount.increment();
+        totalValue.add(value);
+        if (value > maxValue.get()) {
+            maxValue.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    // Values below 64 have their own bucket. Larger values keep their top 6 bits.
+    private static int getIndex(long value) {
+        int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        return (int) (value >>> shift) + shift * SUB_BUCKET_COUNT;
+    }
+
+    private static long getHighestValueOf(int index) {
+        int shift = Math.max(0, index / SUB_BUCKET_COUNT - 1);
+        long lowestValue = (long) (index - shift * SUB_BUCKET_COUNT) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Gets the mean of the recorded latencies.
+     *
+     * @return The mean in nanoseconds, or 0 if nothing has been recorded
+     */
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+    /**
+     * Gets the latency that the given percentage of the recorded latencies are at or below.
+     *
+     * @param percentile The percentage, from 0 to 100
+     * @return The latency in nanoseconds, which is at most 3% too high, or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getHighestValueOf(i), getMax());
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+// @@author bdthanh
+
+/**
+ * A Flight Recorder event for a change to the users, items or transactions, including keeping the
+ * indexes of the transactions up to date. Loading the data files adds every row, so by default only
+ * changes that take at least 1 ms are recorded, and a recording can lower the threshold to see all.
+ */
+@Name("seedu.duke.ListChange")
+@Label("List Change")
+@Category({"Duke", "Lists"})
+@Description("A change to the users, items or transactions and their indexes")
+@Threshold("1 ms")
+public class ListChangeEvent extends Event {
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+    public static final String TRANSACTIONS = "transactions";
+    public static final String ADD = "add";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+    public static final String ARCHIVE = "archive";
+
+    @Label("List")
+    String list;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Id")
+    String id;
+
+    @Label("Rows Touched")
+    long rowsTouched;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param list        The list changed, e.g. {@link #ITEMS}
+     * @param operation   The change, e.g. {@link #ADD}
+     * @param id          The id of the row changed, or the owner of the rows changed
+     * @param rowsTouched The number of rows changed
+     */
+    public void commitChange(String list, String operation, String id, long rowsTouched) {
+        end();
+        if (shouldCommit()) {
+            this.list = list;
+            this.operation = operation;
+            this.id = id;
+            this.rowsTouched = rowsTouched;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.nio.charset.Charset;
+
+// @@author bdthanh
+
+/**
+ * A Flight Recorder event for loading or writing one data file. Loads that fail are not committed,
+ * as Duke then asks the user to fix the file before it does anything else.
+ */
+@Name("seedu.duke.Storage")
+@Label("Storage I/O")
+@Category({"Duke", "Storage"})
+@Description("A data file loaded or written by Duke")
+public class StorageEvent extends Event {
+    public static final String LOAD = "load";
+    public static final String WRITE = "write";
+    public static final String APPEND = "append";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("File Path")
+    String filePath;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    /**
+     * Ends the event for a load and commits it if a recording wants it.
+     *
+     * @param filePath The file loaded
+     * @param rows     The number of lines loaded
+     */
+    public void commitLoad(String filePath, long rows) {
+        end();
+        if (shouldCommit()) {
+            this.operation = LOAD;
+            this.filePath = filePath;
+            this.rows = rows;
+            commit();
+        }
+    }
+
+    /**
+     * Ends the event for a write and commits it if a recording wants it. The lines and bytes of the
+     * data are only counted then.
+     *
+     * @param operation Either {@link #WRITE} or {@link #APPEND}
+     * @param filePath  The file written
+     * @param data      The data written
+     */
+    public void commitWrite(String operation, String filePath, String data) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.filePath = filePath;
+            this.rows = data.lines().count();
+            this.bytesWritten = data.getBytes(Charset.defaultCharset()).length;
+            commit();
+        }
+    }
+}
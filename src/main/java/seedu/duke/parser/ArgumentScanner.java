@@ -0,0 +1,92 @@
+package seedu.duke.parser;
+
+import java.util.Arrays;
+
+// @@author bdthanh
+
+/**
+ * Scans a line of user input once, splitting it into the command word and its parts
+ * and finding the delimiter and value of each part on the way.
+ */
+public class ArgumentScanner {
+    private static final char ARGS_DELIMITER = '/';
+    private static final char VALUE_DELIMITER = ' ';
+    private static final char DATA_SEPARATOR = '|';
+    private static final int INITIAL_PARTS = 8;
+
+    /**
+     * Scans a line of user input. The parts are the same as splitting the input by "/",
+     * and the delimiter and value of each part are the same as the ones
+     * {@link CommandParser#getArgsDelimiter(String)} and {@link CommandParser#getArgValue(String)} give.
+     *
+     * @param input A single line of user input
+     * @return The scanned input
+     */
+    public static ParsedInput scan(String input) {
+        String command = null;
+        String[] parts = new String[INITIAL_PARTS];
+        String[] delimiters = new String[INITIAL_PARTS];
+        String[] values = new String[INITIAL_PARTS];
+        int numberOfParts = 0;
+        int numberOfNonEmptyParts = 0;
+        boolean hasDataSeparator = false;
+
+        int start = 0;
+        int firstNonSpace = -1;
+        int lastNonSpace = -1;
+        int firstSpace = -1;
+        for (int i = 0; i <= input.length(); i++) {
+            char c = i < input.length() ? input.charAt(i) : ARGS_DELIMITER;
+            if (c != ARGS_DELIMITER) {
+                if (c == DATA_SEPARATOR) {
+                    hasDataSeparator = true;
+                }
+                if (c > ' ') {
+                    firstNonSpace = firstNonSpace < 0 ? i : firstNonSpace;
+                    lastNonSpace = i;
+                } else if (c == VALUE_DELIMITER && firstNonSpace >= 0 && firstSpace < 0) {
+                    firstSpace = i;
+                }
+                continue;
+            }
+            if (command == null) {
+                command = firstNonSpace < 0 ? "" : input.substring(firstNonSpace, lastNonSpace + 1);
+            } else {
+                if (numberOfParts == parts.length) {
+                    parts = Arrays.copyOf(parts, numberOfParts * 2);
+                    delimiters = Arrays.copyOf(delimiters, numberOfParts * 2);
+                    values = Arrays.copyOf(values, numberOfParts * 2);
+                }
+                parts[numberOfParts] = input.substring(start, i);
+                if (firstSpace > lastNonSpace) {
+                    firstSpace = -1;
+                }
+                delimiters[numberOfParts] = getDelimiter(input, firstNonSpace, lastNonSpace, firstSpace);
+                values[numberOfParts] = firstSpace < 0 ? null
+                        : input.substring(firstSpace + 1, lastNonSpace + 1).trim();
+                numberOfParts++;
+                if (i > start) {
+                    numberOfNonEmptyParts = numberOfParts;
+                }
+            }
+            start = i + 1;
+            firstNonSpace = -1;
+            lastNonSpace = -1;
+            firstSpace = -1;
+        }
+        // Like String.split, empty parts at the end are dropped
+        return new ParsedInput(command, Arrays.copyOf(parts, numberOfNonEmptyParts),
+                Arrays.copyOf(delimiters, numberOfNonEmptyParts), Arrays.copyOf(values, numberOfNonEmptyParts),
+                hasDataSeparator);
+    }
+
+    private static String getDelimiter(String input, int firstNonSpace, int lastNonSpace, int firstSpace) {
+        if (firstNonSpace < 0) {
+            return "";
+        }
+        if (firstSpace < 0) {
+            return input.substring(firstNonSpace, lastNonSpace + 1);
+        }
+        return input.substring(firstNonSpace, firstSpace).trim();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.duke.parser;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ARGUMENT_EMPTY;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ARGUMENT_MISSING;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_NUMBER_OF_ARGS;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
+
+// @@author bdthanh
+
+/**
+ * The arguments a command accepts. The parts of the user input are matched with the declared
+ * arguments, and each value is parsed and checked once, in the order the arguments are declared.
+ */
+public class ArgumentSchema {
+    private final ArgumentSpec<?>[] specs;
+    private final int minNumberOfParts;
+    private final int maxNumberOfParts;
+
+    private ArgumentSchema(ArgumentSpec<?>[] specs, int minNumberOfParts, int maxNumberOfParts) {
+        this.specs = specs;
+        this.minNumberOfParts = minNumberOfParts;
+        this.maxNumberOfParts = maxNumberOfParts;
+    }
+
+    /**
+     * Declares the arguments of a command. The command takes every required argument
+     * and at most every declared argument.
+     *
+     * @param specs The declarations of the arguments
+     * @return The schema
+     */
+    public static ArgumentSchema of(ArgumentSpec<?>... specs) {
+        int numberOfRequired = 0;
+        for (ArgumentSpec<?> spec : specs) {
+            numberOfRequired += spec.isRequired() ? 1 : 0;
+        }
+        return new ArgumentSchema(specs, numberOfRequired, specs.length);
+    }
+
+    /**
+     * Gets a schema with the same arguments which takes at most the given number of parts.
+     *
+     * @param maxNumberOfParts The largest number of parts
+     * @return The schema
+     */
+    public ArgumentSchema withMaxNumberOfParts(int maxNumberOfParts) {
+        assert maxNumberOfParts >= minNumberOfParts : "The schema cannot take any input";
+        return new ArgumentSchema(specs, minNumberOfParts, maxNumberOfParts);
+    }
+
+    /**
+     * Checks the number of parts, which is done when the command is created.
+     *
+     * @param input The scanned user input
+     * @throws InsufficientArgumentsException If the number of parts is incorrect
+     */
+    public void checkNumberOfParts(ParsedInput input) throws InsufficientArgumentsException {
+        int numberOfParts = input.getNumberOfParts();
+        if (numberOfParts < minNumberOfParts || numberOfParts > maxNumberOfParts) {
+            throw new InsufficientArgumentsException(MESSAGE_INVALID_NUMBER_OF_ARGS);
+        }
+    }
+
+    /**
+     * Parses and checks every argument, using the delimiter and value of each part found when the
+     * input was scanned. If an argument is given more than once, the last one is used.
+     *
+     * @param input The scanned user input
+     * @return The values of the arguments
+     * @throws InvalidArgumentException If a part has an unknown delimiter, no value, or a required
+     *                                  argument is missing
+     * @throws DukeException            If a value is in the wrong format or out of range
+     */
+    public Arguments parse(ParsedInput input) throws DukeException {
+        String[] texts = new String[specs.length];
+        for (int i = 0; i < input.getNumberOfParts(); i++) {
+            int index = indexOf(input.getDelimiter(i));
+            if (index < 0) {
+                throw new InvalidArgumentException(MESSAGE_INVALID_PARTS);
+            }
+            if (input.getValue(i) == null) {
+                throw new InvalidArgumentException(MESSAGE_ARGUMENT_EMPTY);
+            }
+            texts[index] = input.getValue(i);
+        }
+        Object[] values = new Object[specs.length];
+        boolean[] isGiven = new boolean[specs.length];
+        for (int i = 0; i < specs.length; i++) {
+            if (texts[i] != null) {
+                values[i] = specs[i].parse(texts[i]);
+                isGiven[i] = true;
+            } else if (specs[i].isRequired()) {
+                throw new InvalidArgumentException(String.format(MESSAGE_ARGUMENT_MISSING, specs[i].getDelimiter()));
+            } else {
+                values[i] = specs[i].getDefaultValue();
+            }
+        }
+        return new Arguments(this, values, isGiven);
+    }
+
+    private int indexOf(String delimiter) {
+        for (int i = 0; i < specs.length; i++) {
+            if (specs[i].getDelimiter().equals(delimiter)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int indexOf(ArgumentSpec<?> spec) {
+        for (int i = 0; i < specs.length; i++) {
+            if (specs[i] == spec) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("The argument /" + spec.getDelimiter() + " is not in this schema");
+    }
+}
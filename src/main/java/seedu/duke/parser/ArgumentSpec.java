@@ -0,0 +1,84 @@
+package seedu.duke.parser;
+
+import seedu.duke.exception.DukeException;
+
+// @@author bdthanh
+
+/**
+ * The declaration of one argument of a command: its delimiter, how its value is parsed and
+ * checked, and the value to use when it is left out.
+ *
+ * @param <T> The type of the parsed value
+ */
+public class ArgumentSpec<T> {
+    private final String delimiter;
+    private final ValueParser<T> valueParser;
+    private final boolean isRequired;
+    private final T defaultValue;
+
+    private ArgumentSpec(String delimiter, ValueParser<T> valueParser, boolean isRequired, T defaultValue) {
+        this.delimiter = delimiter;
+        this.valueParser = valueParser;
+        this.isRequired = isRequired;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Declares an argument that must be given.
+     *
+     * @param delimiter   The delimiter of the argument, without "/"
+     * @param valueParser Parses the value and checks its range
+     * @return The declaration
+     */
+    public static <T> ArgumentSpec<T> required(String delimiter, ValueParser<T> valueParser) {
+        return new ArgumentSpec<>(delimiter, valueParser, true, null);
+    }
+
+    /**
+     * Declares an argument that can be left out.
+     *
+     * @param delimiter    The delimiter of the argument, without "/"
+     * @param valueParser  Parses the value and checks its range
+     * @param defaultValue The value to use when the argument is left out, which can be null
+     * @return The declaration
+     */
+    public static <T> ArgumentSpec<T> optional(String delimiter, ValueParser<T> valueParser, T defaultValue) {
+        return new ArgumentSpec<>(delimiter, valueParser, false, defaultValue);
+    }
+
+    /**
+     * Declares a text argument that must be given.
+     *
+     * @param delimiter The delimiter of the argument, without "/"
+     * @return The declaration
+     */
+    public static ArgumentSpec<String> text(String delimiter) {
+        return required(delimiter, value -> value);
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public boolean isRequired() {
+        return isRequired;
+    }
+
+    public T getDefaultValue() {
+        return defaultValue;
+    }
+
+    T parse(String value) throws DukeException {
+        return valueParser.parse(value);
+    }
+
+    /**
+     * Turns the text of an argument into its value, throwing the exception the command
+     * reports when the value is in the wrong format or out of range.
+     *
+     * @param <T> The type of the parsed value
+     */
+    public interface ValueParser<T> {
+        T parse(String value) throws DukeException;
+    }
+}
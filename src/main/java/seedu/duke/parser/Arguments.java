@@ -0,0 +1,39 @@
+package seedu.duke.parser;
+
+// @@author bdthanh
+
+/**
+ * The parsed and checked values of the arguments of a command, found by their {@link ArgumentSpec}.
+ */
+public class Arguments {
+    private final ArgumentSchema schema;
+    private final Object[] values;
+    private final boolean[] isGiven;
+
+    Arguments(ArgumentSchema schema, Object[] values, boolean[] isGiven) {
+        this.schema = schema;
+        this.values = values;
+        this.isGiven = isGiven;
+    }
+
+    /**
+     * Gets the value of an argument, or its default value if it was left out.
+     *
+     * @param spec The declaration of the argument
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ArgumentSpec<T> spec) {
+        return (T) values[schema.indexOf(spec)];
+    }
+
+    /**
+     * Checks if an argument was given by the user.
+     *
+     * @param spec The declaration of the argument
+     * @return true If the argument was given
+     */
+    public boolean isGiven(ArgumentSpec<?> spec) {
+        return isGiven[schema.indexOf(spec)];
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.duke.parser;
+
+import seedu.duke.command.bulk.ImportDataCommand;
+import seedu.duke.command.item.AddItemCommand;
+import seedu.duke.command.item.FindAvailableItemsCommand;
+import seedu.duke.command.item.FindItemCommand;
+import seedu.duke.command.item.ListCategoriesCommand;
+import seedu.duke.command.item.ListItemsCommand;
+import seedu.duke.command.item.RemoveItemCommand;
+import seedu.duke.command.item.SortItemCommand;
+import seedu.duke.command.item.UpdateItemCommand;
+import seedu.duke.command.item.ViewItemCommand;
+import seedu.duke.command.report.ReportBorrowFrequencyCommand;
+import seedu.duke.command.report.ReportDistinctBorrowersCommand;
+import seedu.duke.command.report.ReportRevenueCommand;
+import seedu.duke.command.report.ReportUtilizationCommand;
+import seedu.duke.command.report.TopBorrowersCommand;
+import seedu.duke.command.report.TopItemsCommand;
+import seedu.duke.command.report.TopLendersCommand;
+import seedu.duke.command.stats.StatsCommand;
+import seedu.duke.command.transaction.AddTransactionCommand;
+import seedu.duke.command.transaction.ListTransactionsCommand;
+import seedu.duke.command.transaction.RemoveTransactionCommand;
+import seedu.duke.command.transaction.UpdateTransactionCommand;
+import seedu.duke.command.transaction.ViewTransactionCommand;
+import seedu.duke.command.transaction.ViewTransactionsByStatusCommand;
+import seedu.duke.command.user.ViewBorrowTransactionsByUserCommand;
+import seedu.duke.command.user.ViewLendTransactionsByUserCommand;
+import seedu.duke.command.Command;
+import seedu.duke.command.exit.ExitCommand;
+import seedu.duke.command.help.HelpCommand;
+import seedu.duke.command.user.ViewUserCommand;
+import seedu.duke.command.user.ViewUserLossCommand;
+import seedu.duke.command.user.ViewUserGainCommand;
+import seedu.duke.command.user.FindUserCommand;
+import seedu.duke.command.user.AddUserCommand;
+import seedu.duke.command.user.ListUsersCommand;
+import seedu.duke.command.user.RemoveUserCommand;
+import seedu.duke.command.user.ViewUserItemsCommand;
+import seedu.duke.exception.DukeException;
+import seedu.duke.item.ItemList;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.user.UserList;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// @@author bdthanh
+
+/**
+ * The table from each command word to the factory that creates its command. The table is built once,
+ * so finding a command is a single hash lookup instead of comparing the word with every command.
+ */
+public class CommandRegistry {
+    public static final String COMMAND_EXIT = "bye";
+    public static final String COMMAND_HELP = "help";
+    public static final String COMMAND_LIST_USERS = "list-users";
+    public static final String COMMAND_LIST_ITEMS = "list-items";
+    public static final String COMMAND_LIST_TX = "list-tx";
+    public static final String COMMAND_VIEW_USER = "view-user";
+    public static final String COMMAND_FIND_USER = "find-user";
+    public static final String COMMAND_VIEW_ITEM = "view-item";
+    public static final String COMMAND_VIEW_TX = "view-tx";
+    public static final String COMMAND_ADD_USER = "add-user";
+    public static final String COMMAND_ADD_ITEM = "add-item";
+    public static final String COMMAND_FIND_ITEM = "find-item";
+    public static final String COMMAND_ADD_TX = "add-tx";
+    public static final String COMMAND_REMOVE_USER = "remove-user";
+    public static final String COMMAND_REMOVE_ITEM = "remove-item";
+    public static final String COMMAND_REMOVE_TX = "remove-tx";
+    public static final String COMMAND_FIND_TX = "find-tx";
+    public static final String COMMAND_VIEW_BORROW_TX_BY_USER = "view-borrow-tx-by-user";
+    public static final String COMMAND_VIEW_LEND_TX_BY_USER = "view-lend-tx-by-user";
+    public static final String COMMAND_VIEW_USER_LOSS = "view-user-loss";
+    public static final String COMMAND_VIEW_USER_GAIN = "view-user-gain";
+    public static final String COMMAND_VIEW_USER_ITEMS = "view-user-items";
+    public static final String COMMAND_SORT_ITEMS = "sort-items";
+    public static final String COMMAND_LIST_CATEGORIES = "list-categories";
+    public static final String COMMAND_UPDATE_ITEM = "update-item";
+    public static final String COMMAND_UPDATE_TRANSACTION = "update-tx";
+    public static final String COMMAND_IMPORT_DATA = "import-data";
+    public static final String COMMAND_REPORT_UTILIZATION = "report-utilization";
+    public static final String COMMAND_FIND_AVAILABLE = "find-available";
+    public static final String COMMAND_TOP_LENDERS = "top-lenders";
+    public static final String COMMAND_TOP_BORROWERS = "top-borrowers";
+    public static final String COMMAND_TOP_ITEMS = "top-items";
+    public static final String COMMAND_REPORT_REVENUE = "report-revenue";
+    public static final String COMMAND_REPORT_DISTINCT_BORROWERS = "report-distinct-borrowers";
+    public static final String COMMAND_REPORT_BORROW_FREQUENCY = "report-borrow-frequency";
+    public static final String COMMAND_STATS = "stats";
+
+    private static final Map<String, CommandFactory> FACTORIES = createFactories();
+
+    private static Map<String, CommandFactory> createFactories() {
+        Map<String, CommandFactory> factories = new HashMap<>();
+        factories.put(COMMAND_EXIT, (input, userList, itemList, transactionList)
+            -> new ExitCommand());
+        factories.put(COMMAND_HELP, (input, userList, itemList, transactionList)
+            -> new HelpCommand());
+        factories.put(COMMAND_LIST_USERS, (input, userList, itemList, transactionList)
+            -> new ListUsersCommand(input, userList));
+        factories.put(COMMAND_LIST_ITEMS, (input, userList, itemList, transactionList)
+            -> new ListItemsCommand(input, itemList, transactionList));
+        factories.put(COMMAND_LIST_TX, (input, userList, itemList, transactionList)
+            -> new ListTransactionsCommand(input, transactionList));
+        factories.put(COMMAND_VIEW_USER, (input, userList, itemList, transactionList)
+            -> new ViewUserCommand(input, userList, itemList, transactionList));
+        factories.put(COMMAND_VIEW_ITEM, (input, userList, itemList, transactionList)
+            -> new ViewItemCommand(input, itemList, transactionList));
+        factories.put(COMMAND_VIEW_TX, (input, userList, itemList, transactionList)
+            -> new ViewTransactionCommand(input, transactionList));
+        factories.put(COMMAND_ADD_USER, (input, userList, itemList, transactionList)
+            -> new AddUserCommand(input, userList));
+        factories.put(COMMAND_ADD_ITEM, (input, userList, itemList, transactionList)
+            -> new AddItemCommand(input, userList, itemList, transactionList));
+        factories.put(COMMAND_ADD_TX, (input, userList, itemList, transactionList)
+            -> new AddTransactionCommand(input, userList, itemList, transactionList));
+        factories.put(COMMAND_REMOVE_USER, (input, userList, itemList, transactionList)
+            -> new RemoveUserCommand(input, userList, itemList, transactionList));
+        factories.put(COMMAND_VIEW_USER_LOSS, (input, userList, itemList, transactionList)
+            -> new ViewUserLossCommand(input, userList, transactionList));
+        factories.put(COMMAND_VIEW_USER_GAIN, (input, userList, itemList, transactionList)
+            -> new ViewUserGainCommand(input, userList, transactionList));
+        factories.put(COMMAND_VIEW_USER_ITEMS, (input, userList, itemList, transactionList)
+            -> new ViewUserItemsCommand(input, userList, itemList, transactionList));
+        factories.put(COMMAND_REMOVE_ITEM, (input, userList, itemList, transactionList)
+            -> new RemoveItemCommand(input, itemList, transactionList));
+        factories.put(COMMAND_REMOVE_TX, (input, userList, itemList, transactionList)
+            -> new RemoveTransactionCommand(input, transactionList));
+        factories.put(COMMAND_FIND_TX, (input, userList, itemList, transactionList)
+            -> new ViewTransactionsByStatusCommand(input, transactionList));
+        factories.put(COMMAND_VIEW_BORROW_TX_BY_USER, (input, userList, itemList, transactionList)
+            -> new ViewBorrowTransactionsByUserCommand(input, transactionList, userList));
+        factories.put(COMMAND_VIEW_LEND_TX_BY_USER, (input, userList, itemList, transactionList)
+            -> new ViewLendTransactionsByUserCommand(input, transactionList, userList));
+        factories.put(COMMAND_SORT_ITEMS, (input, userList, itemList, transactionList)
+            -> new SortItemCommand(input, itemList, transactionList));
+        factories.put(COMMAND_LIST_CATEGORIES, (input, userList, itemList, transactionList)
+            -> new ListCategoriesCommand());
+        factories.put(COMMAND_FIND_ITEM, (input, userList, itemList, transactionList)
+            -> new FindItemCommand(input, itemList, transactionList));
+        factories.put(COMMAND_FIND_USER, (input, userList, itemList, transactionList)
+            -> new FindUserCommand(input, userList));
+        factories.put(COMMAND_UPDATE_ITEM, (input, userList, itemList, transactionList)
+            -> new UpdateItemCommand(input, itemList, transactionList));
+        factories.put(COMMAND_UPDATE_TRANSACTION, (input, userList, itemList, transactionList)
+            -> new UpdateTransactionCommand(input, transactionList));
+        factories.put(COMMAND_IMPORT_DATA, (input, userList, itemList, transactionList)
+            -> new ImportDataCommand(input, userList, itemList, transactionList));
+        factories.put(COMMAND_REPORT_UTILIZATION, (input, userList, itemList, transactionList)
+            -> new ReportUtilizationCommand(input, itemList, transactionList));
+        factories.put(COMMAND_FIND_AVAILABLE, (input, userList, itemList, transactionList)
+            -> new FindAvailableItemsCommand(input, itemList, transactionList));
+        factories.put(COMMAND_TOP_LENDERS, (input, userList, itemList, transactionList)
+            -> new TopLendersCommand(input, transactionList));
+        factories.put(COMMAND_TOP_BORROWERS, (input, userList, itemList, transactionList)
+            -> new TopBorrowersCommand(input, transactionList));
+        factories.put(COMMAND_TOP_ITEMS, (input, userList, itemList, transactionList)
+            -> new TopItemsCommand(input, itemList, transactionList));
+        factories.put(COMMAND_REPORT_REVENUE, (input, userList, itemList, transactionList)
+            -> new ReportRevenueCommand(input, itemList, transactionList));
+        factories.put(COMMAND_REPORT_DISTINCT_BORROWERS, (input, userList, itemList, transactionList)
+            -> new ReportDistinctBorrowersCommand(input, itemList, transactionList));
+        factories.put(COMMAND_REPORT_BORROW_FREQUENCY, (input, userList, itemList, transactionList)
+            -> new ReportBorrowFrequencyCommand(input, userList, itemList, transactionList));
+        factories.put(COMMAND_STATS, (input, userList, itemList, transactionList)
+            -> new StatsCommand(input));
+        return factories;
+    }
+
+    /**
+     * Gets the factory of a command.
+     *
+     * @param command The command word
+     * @return The factory, or null if there is no such command
+     */
+    public static CommandFactory getFactory(String command) {
+        return FACTORIES.get(command);
+    }
+
+    /**
+     * Creates a command from the scanned user input and the lists it works with. The arguments are
+     * parsed here, so a missing or invalid argument is reported before the command runs.
+     */
+    public interface CommandFactory {
+        Command create(ParsedInput input, UserList userList, ItemList itemList, TransactionList transactionList)
+                throws DukeException;
+    }
+}
@@ -1,10 +1,22 @@
 package seedu.duke.parser;
 
+import seedu.duke.exception.DateFormatInvalidException;
+import seedu.duke.exception.InvalidPeriodException;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DATE_FORMAT_INVALID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PERIOD_INVALID;
 
 //@@author bdthanh
 public class DateParser {
+    public static final int MAX_PERIOD_DAYS = 36525;
+    // Formatters are immutable and thread-safe, so the pattern is compiled only once
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("E, MMM dd yyyy");
+
     /**
      * Formats the input date to a different format.
      *
@@ -12,7 +24,34 @@ public class DateParser {
      * @return A formatted string date "E, MMM dd yyyy".
      */
     public static String formatDateToString(LocalDate date) {
-        return date.format(DateTimeFormatter.ofPattern("E, MMM dd yyyy"));
+        return date.format(DISPLAY_FORMATTER);
+    }
+
+    /**
+     * Parses a date in the format "YYYY-MM-DD".
+     *
+     * @param date The input string date
+     * @return The date
+     * @throws DateFormatInvalidException If the date is in wrong format
+     */
+    public static LocalDate parseDate(String date) throws DateFormatInvalidException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new DateFormatInvalidException(MESSAGE_DATE_FORMAT_INVALID);
+        }
     }
-}
 
+    /**
+     * Checks if a period of days, including both ends, is valid.
+     *
+     * @param from The first day of the period
+     * @param to   The last day of the period
+     * @throws InvalidPeriodException If from is after to or the period is longer than 100 years
+     */
+    public static void checkValidPeriod(LocalDate from, LocalDate to) throws InvalidPeriodException {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new InvalidPeriodException(MESSAGE_PERIOD_INVALID);
+        }
+    }
+}
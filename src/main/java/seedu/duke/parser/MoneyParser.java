@@ -0,0 +1,105 @@
+package seedu.duke.parser;
+
+import seedu.duke.exception.InvalidPriceException;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_FORMAT_INVALID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_TOO_MANY_DECIMALS;
+
+//@@author bdthanh
+
+/**
+ * Parses and formats amounts of money, which are kept as a long number of cents.
+ */
+public class MoneyParser {
+    public static final int CENTS_PER_DOLLAR = 100;
+    // Larger amounts are out of every range, so more digits are only checked, not added
+    private static final long MAX_PARSED_DOLLARS = 1_000_000_000_000_000L;
+
+    /**
+     * Parses an amount such as "12", "12.5" or "12.50" into cents, in one pass without making any objects.
+     * Checks the same things in the same order as the old checks with Double.parseDouble and BigDecimal:
+     * the format, then the range, then the number of decimal places.
+     *
+     * @param amount       The amount typed by the user or read from a file
+     * @param maxCents     The largest amount allowed, in cents
+     * @param rangeMessage The message when the amount is negative or larger than maxCents
+     * @return The amount in cents
+     * @throws NumberFormatException If the amount is not a plain decimal number
+     * @throws InvalidPriceException If the amount is out of range or has more than 2 non-zero decimal places
+     */
+    public static long parseCents(String amount, long maxCents, String rangeMessage) throws InvalidPriceException {
+        int length = amount.length();
+        int index = 0;
+        boolean isNegative = false;
+        if (index < length && (amount.charAt(index) == '-' || amount.charAt(index) == '+')) {
+            isNegative = amount.charAt(index) == '-';
+            index++;
+        }
+        long dollars = 0;
+        int numberOfDigits = 0;
+        for (; index < length && isDigit(amount.charAt(index)); index++, numberOfDigits++) {
+            dollars = Math.min(dollars * 10 + (amount.charAt(index) - '0'), MAX_PARSED_DOLLARS);
+        }
+        long cents = dollars * CENTS_PER_DOLLAR;
+        boolean hasExtraDecimals = false;
+        if (index < length && amount.charAt(index) == '.') {
+            index++;
+            for (int decimals = 0; index < length && isDigit(amount.charAt(index)); index++, decimals++) {
+                int digit = amount.charAt(index) - '0';
+                numberOfDigits++;
+                if (decimals == 0) {
+                    cents += digit * 10L;
+                } else if (decimals == 1) {
+                    cents += digit;
+                } else {
+                    hasExtraDecimals |= digit != 0;
+                }
+            }
+        }
+        if (index != length || numberOfDigits == 0) {
+            throw new NumberFormatException(MESSAGE_PRICE_FORMAT_INVALID);
+        }
+        boolean isNonZero = cents != 0 || hasExtraDecimals;
+        if ((isNegative && isNonZero) || cents > maxCents || (cents == maxCents && hasExtraDecimals)) {
+            throw new InvalidPriceException(rangeMessage);
+        }
+        if (hasExtraDecimals) {
+            throw new InvalidPriceException(MESSAGE_PRICE_TOO_MANY_DECIMALS);
+        }
+        return cents;
+    }
+
+    /**
+     * Formats cents as an amount with exactly 2 decimal places, e.g. 1250 as "12.50".
+     *
+     * @param cents The amount in cents
+     * @return The formatted amount
+     */
+    public static String formatCents(long cents) {
+        return appendCents(new StringBuilder(), cents).toString();
+    }
+
+    /**
+     * Appends cents as an amount with exactly 2 decimal places, without String.format.
+     *
+     * @param out   The builder to append to
+     * @param cents The amount in cents
+     * @return The same builder
+     */
+    public static StringBuilder appendCents(StringBuilder out, long cents) {
+        if (cents < 0) {
+            out.append('-');
+        }
+        long dollars = Math.abs(cents / CENTS_PER_DOLLAR);
+        int remainder = (int) Math.abs(cents % CENTS_PER_DOLLAR);
+        out.append(dollars).append('.');
+        if (remainder < 10) {
+            out.append('0');
+        }
+        return out.append(remainder);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.duke.parser;
+
+// @@author bdthanh
+
+/**
+ * A line of user input after one scan: the command word, the raw parts after it,
+ * and the delimiter and value of each part.
+ */
+public class ParsedInput {
+    private final String command;
+    private final String[] parts;
+    private final String[] delimiters;
+    private final String[] values;
+    private final boolean hasDataSeparator;
+
+    /**
+     * Constructor for ParsedInput.
+     *
+     * @param command          The command word
+     * @param parts            The raw parts after the command word
+     * @param delimiters       The delimiter of each part
+     * @param values           The value of each part, or null if the part has no value
+     * @param hasDataSeparator Whether the input contains the separator used in the data files
+     */
+    ParsedInput(String command, String[] parts, String[] delimiters, String[] values, boolean hasDataSeparator) {
+        assert parts.length == delimiters.length && parts.length == values.length : "Parts are not aligned";
+        this.command = command;
+        this.parts = parts;
+        this.delimiters = delimiters;
+        this.values = values;
+        this.hasDataSeparator = hasDataSeparator;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Gets the raw parts after the command word, the same as splitting the input by "/".
+     *
+     * @return The parts
+     */
+    public String[] getParts() {
+        return parts;
+    }
+
+    public int getNumberOfParts() {
+        return parts.length;
+    }
+
+    public String getDelimiter(int index) {
+        return delimiters[index];
+    }
+
+    /**
+     * Gets the value of a part.
+     *
+     * @param index The index of the part
+     * @return The value, or null if the part only has a delimiter
+     */
+    public String getValue(int index) {
+        return values[index];
+    }
+
+    public boolean hasDataSeparator() {
+        return hasDataSeparator;
+    }
+}
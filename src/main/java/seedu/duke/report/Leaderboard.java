@@ -0,0 +1,85 @@
+package seedu.duke.report;
+
+import seedu.duke.transaction.TransactionTotals.Total;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// @@author bdthanh
+
+/**
+ * The best few lenders, borrowers or items by their totals. The totals are ranked through a min-heap
+ * that never holds more than the size of the leaderboard, whose head is the worst entry kept so far,
+ * so ranking n totals takes O(n log k) time and O(k) space for the best k.
+ */
+public class Leaderboard {
+    /**
+     * What the entries are ranked by. Ties are broken by the other figure, then by the key.
+     */
+    public enum Ranking {
+        MONEY,
+        COUNT
+    }
+
+    private final List<Map.Entry<String, Total>> entries;
+
+    private Leaderboard(List<Map.Entry<String, Total>> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Ranks the totals and keeps the best ones.
+     *
+     * @param totals  The totals by lender, borrower or item
+     * @param size    The largest number of entries to keep
+     * @param ranking What the entries are ranked by
+     * @return The leaderboard
+     */
+    public static Leaderboard of(Map<String, Total> totals, int size, Ranking ranking) {
+        assert size > 0 : "A leaderboard must have room for an entry";
+        Comparator<Map.Entry<String, Total>> worstFirst = getWorstFirst(ranking);
+        PriorityQueue<Map.Entry<String, Total>> heap = new PriorityQueue<>(size, worstFirst);
+        for (Map.Entry<String, Total> entry : totals.entrySet()) {
+            if (heap.size() < size) {
+                heap.add(entry);
+            } else if (worstFirst.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        List<Map.Entry<String, Total>> entries = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            entries.add(heap.poll());
+        }
+        Collections.reverse(entries);
+        return new Leaderboard(entries);
+    }
+
+    private static Comparator<Map.Entry<String, Total>> getWorstFirst(Ranking ranking) {
+        Comparator<Map.Entry<String, Total>> byMoney = Comparator.comparingLong(entry -> entry.getValue().getCents());
+        Comparator<Map.Entry<String, Total>> byCount = Comparator.comparingInt(entry -> entry.getValue().getCount());
+        Comparator<Map.Entry<String, Total>> byFigures;
+        switch (ranking) {
+        case COUNT:
+            byFigures = byCount.thenComparing(byMoney);
+            break;
+        default:
+            byFigures = byMoney.thenComparing(byCount);
+            break;
+        }
+        return byFigures.thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+    }
+
+    /**
+     * Gets the entries, best first.
+     *
+     * @return The keys and totals of the entries
+     */
+    public List<Map.Entry<String, Total>> getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.duke.report;
+
+import seedu.duke.item.Category;
+import seedu.duke.item.Item;
+import seedu.duke.parser.DateParser;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionVisitor;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// @@author bdthanh
+
+/**
+ * The utilization of items over a period: for each item and each category, the share of days
+ * it was lent out, the days it was idle and the money it made in the period.
+ *
+ * <p>A transaction occupies its item from its created date up to, but not including, its return date.
+ * Each transaction is clipped to the period and packed into one long as item index, start and end,
+ * so the intervals of all items are ordered by a single sort and merged in one sweep. The money
+ * of a transaction is shared out by the number of its days inside the period.
+ */
+public class UtilizationReport {
+    private static final int OFFSET_BITS = 16;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final int INITIAL_INTERVALS = 64;
+    private static final int PERMILLE = 1000;
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<Item> items;
+    private final int periodDays;
+    private final int[] occupiedDays;
+    private final long[] revenueCents;
+
+    private UtilizationReport(LocalDate from, LocalDate to, List<Item> items, int periodDays,
+            int[] occupiedDays, long[] revenueCents) {
+        this.from = from;
+        this.to = to;
+        this.items = items;
+        this.periodDays = periodDays;
+        this.occupiedDays = occupiedDays;
+        this.revenueCents = revenueCents;
+    }
+
+    /**
+     * Computes the utilization of items in one pass over the transactions. Archived transactions
+     * are read in place, and transactions of other items are skipped.
+     *
+     * @param from            The first day of the period
+     * @param to              The last day of the period
+     * @param items           The items to report on
+     * @param transactionList The transactions of the items
+     * @return The report
+     */
+    public static UtilizationReport compute(LocalDate from, LocalDate to, List<Item> items,
+            TransactionList transactionList) {
+        long periodStart = from.toEpochDay();
+        long periodEnd = to.toEpochDay() + 1;
+        assert periodStart < periodEnd && periodEnd - periodStart <= DateParser.MAX_PERIOD_DAYS : "Invalid period";
+        IntervalCollector collector = new IntervalCollector(periodStart, periodEnd, items);
+        transactionList.visitAll(collector);
+        int[] occupiedDays = sweep(collector.intervals, collector.numberOfIntervals, items.size());
+        return new UtilizationReport(from, to, items, (int) (periodEnd - periodStart),
+                occupiedDays, collector.revenueCents);
+    }
+
+    /**
+     * Merges the sorted intervals of each item and counts the days they cover.
+     */
+    private static int[] sweep(long[] intervals, int numberOfIntervals, int numberOfItems) {
+        Arrays.sort(intervals, 0, numberOfIntervals);
+        int[] occupiedDays = new int[numberOfItems];
+        int currentItem = -1;
+        long currentStart = 0;
+        long currentEnd = 0;
+        for (int i = 0; i < numberOfIntervals; i++) {
+            int item = (int) (intervals[i] >>> (2 * OFFSET_BITS));
+            long start = (intervals[i] >>> OFFSET_BITS) & OFFSET_MASK;
+            long end = intervals[i] & OFFSET_MASK;
+            if (item == currentItem && start <= currentEnd) {
+                currentEnd = Math.max(currentEnd, end);
+                continue;
+            }
+            if (currentItem >= 0) {
+                occupiedDays[currentItem] += (int) (currentEnd - currentStart);
+            }
+            currentItem = item;
+            currentStart = start;
+            currentEnd = end;
+        }
+        if (currentItem >= 0) {
+            occupiedDays[currentItem] += (int) (currentEnd - currentStart);
+        }
+        return occupiedDays;
+    }
+
+    public int getPeriodDays() {
+        return periodDays;
+    }
+
+    /**
+     * Gets the number of days an item was lent out in the period.
+     *
+     * @param index The index of the item in the reported items
+     * @return The number of days
+     */
+    public int getOccupiedDays(int index) {
+        return occupiedDays[index];
+    }
+
+    /**
+     * Gets the number of days an item was not lent out in the period.
+     *
+     * @param index The index of the item in the reported items
+     * @return The number of days
+     */
+    public int getIdleDays(int index) {
+        return periodDays - occupiedDays[index];
+    }
+
+    /**
+     * Gets the money an item made in the period.
+     *
+     * @param index The index of the item in the reported items
+     * @return The money in cents
+     */
+    public long getRevenueCents(int index) {
+        return revenueCents[index];
+    }
+
+    /**
+     * Overrides toString method of Object to get string representation of UtilizationReport.
+     *
+     * @return A string representation of UtilizationReport
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append("Utilization from ").append(DateParser.formatDateToString(from))
+                .append(" to ").append(DateParser.formatDateToString(to))
+                .append(" (").append(periodDays).append(" day(s)):");
+        if (items.isEmpty()) {
+            return out.append("\nThere are no items to report on").toString();
+        }
+        appendCategories(out);
+        out.append("\nItems:");
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            out.append('\n').append(i + 1).append(". ItemId: ").append(item.getItemId())
+                    .append("\n   Item name: ").append(item.getName())
+                    .append("\n   ");
+            appendFigures(out, occupiedDays[i], periodDays, revenueCents[i]);
+        }
+        return out.toString();
+    }
+
+    private void appendCategories(StringBuilder out) {
+        Category.Categories[] categories = Category.Categories.values();
+        int[] numberOfItems = new int[categories.length];
+        long[] categoryOccupiedDays = new long[categories.length];
+        long[] categoryRevenueCents = new long[categories.length];
+        for (int i = 0; i < items.size(); i++) {
+            int category = items.get(i).getCategory().ordinal();
+            numberOfItems[category]++;
+            categoryOccupiedDays[category] += occupiedDays[i];
+            categoryRevenueCents[category] += revenueCents[i];
+        }
+        out.append("\nCategories:");
+        int index = 1;
+        for (Category.Categories category : categories) {
+            int c = category.ordinal();
+            if (numberOfItems[c] == 0) {
+                continue;
+            }
+            out.append('\n').append(index++).append(". ").append(category)
+                    .append(" (").append(numberOfItems[c]).append(" item(s))\n   ");
+            appendFigures(out, categoryOccupiedDays[c], (long) numberOfItems[c] * periodDays,
+                    categoryRevenueCents[c]);
+        }
+    }
+
+    private static void appendFigures(StringBuilder out, long occupiedDays, long totalDays, long revenueCents) {
+        long permille = (occupiedDays * PERMILLE + totalDays / 2) / totalDays;
+        out.append("Occupancy: ").append(permille / 10).append('.').append(permille % 10).append('%')
+                .append(", idle days: ").append(totalDays - occupiedDays)
+                .append(", revenue: $");
+        MoneyParser.appendCents(out, revenueCents);
+    }
+
+    /**
+     * Clips each transaction of a reported item to the period, adds up its money and
+     * packs its interval for the sweep.
+     */
+    private static class IntervalCollector implements TransactionVisitor {
+        private final long periodStart;
+        private final long periodEnd;
+        private final Map<String, Integer> indexOfItem;
+        private final long[] revenueCents;
+        private long[] intervals = new long[INITIAL_INTERVALS];
+        private int numberOfIntervals = 0;
+
+        IntervalCollector(long periodStart, long periodEnd, List<Item> items) {
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+            this.indexOfItem = new HashMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                indexOfItem.put(items.get(i).getItemId(), i);
+            }
+            this.revenueCents = new long[items.size()];
+        }
+
+        @Override
+        public void visit(String itemId, String borrower, String lender, long createdDay, int duration,
+                long cents) {
+            Integer index = indexOfItem.get(itemId);
+            if (index == null) {
+                return;
+            }
+            if (duration == 0) {
+                if (createdDay >= periodStart && createdDay < periodEnd) {
+                    revenueCents[index] += cents;
+                }
+                return;
+            }
+            long start = Math.max(createdDay, periodStart);
+            long end = Math.min(createdDay + duration, periodEnd);
+            if (start >= end) {
+                return;
+            }
+            // The share of the money for the days in the period, rounded half up
+            revenueCents[index] += (cents * (end - start) * 2 + duration) / (2L * duration);
+            if (numberOfIntervals == intervals.length) {
+                intervals = Arrays.copyOf(intervals, numberOfIntervals * 2);
+            }
+            intervals[numberOfIntervals++] = (long) index << (2 * OFFSET_BITS)
+                    | (start - periodStart) << OFFSET_BITS | (end - periodStart);
+        }
+    }
+}
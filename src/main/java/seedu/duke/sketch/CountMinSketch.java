@@ -0,0 +1,134 @@
+package seedu.duke.sketch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// @@author bdthanh
+
+/**
+ * An estimate of how many times each value was added, in a fixed 32 KB however many values there are.
+ * Each of the 4 rows hashes a value to one of 2048 counters, and the estimate is the smallest of its
+ * counters. Other values hashed to the same counters can only add to it, so the estimate is never too
+ * low, and it is too high by at most e / 2048 of the total count with a probability of 1 - e^-4, about 98%.
+ *
+ * <p>Values can be taken out again as long as they were added first, so no counter goes below zero.
+ */
+public class CountMinSketch {
+    private static final int WIDTH = 2048;
+    private static final int DEPTH = 4;
+
+    private final int[] counters;
+    private long totalCount = 0;
+
+    /**
+     * Constructor for an empty CountMinSketch.
+     */
+    public CountMinSketch() {
+        this.counters = new int[DEPTH * WIDTH];
+    }
+
+    /**
+     * Adds to the count of a value, or takes from it if the count is negative.
+     *
+     * @param hash  The 64-bit hash of the value, from {@link Hashing#hash(String)}
+     * @param count The number of times to add the value
+     */
+    public void add(long hash, int count) {
+        for (int row = 0; row < DEPTH; row++) {
+            counters[row * WIDTH + getColumn(hash, row)] += count;
+        }
+        totalCount += count;
+    }
+
+    /**
+     * Estimates how many times a value was added.
+     *
+     * @param hash The 64-bit hash of the value
+     * @return The estimate, which is never below the actual count
+     */
+    public long estimate(long hash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters[row * WIDTH + getColumn(hash, row)]);
+        }
+        return estimate;
+    }
+
+    // Each row uses a different combination of the two halves of the hash
+    private static int getColumn(long hash, int row) {
+        int firstHalf = (int) hash;
+        int secondHalf = (int) (hash >>> Integer.SIZE);
+        return Math.floorMod(firstHalf + row * secondHalf, WIDTH);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets how much an estimate may be too high with the probability from {@link #getConfidence()}.
+     *
+     * @return The most that an estimate is too high by
+     */
+    public long getErrorBound() {
+        return (long) Math.ceil(Math.E / WIDTH * totalCount);
+    }
+
+    /**
+     * Gets the probability that an estimate is within {@link #getErrorBound()} of the actual count.
+     *
+     * @return The probability, e.g. 0.98 for 98%
+     */
+    public static double getConfidence() {
+        return 1 - Math.exp(-DEPTH);
+    }
+
+    /**
+     * Formats the sketch to store in hard-drive. Most counters stay small or zero, so they are
+     * deflated before being written in Base64.
+     *
+     * @return The total count and the deflated counters in Base64
+     */
+    public String toFileFormat() {
+        ByteBuffer buffer = ByteBuffer.allocate(counters.length * Integer.BYTES);
+        buffer.asIntBuffer().put(counters);
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(deflated)) {
+            out.write(buffer.array());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return totalCount + " | " + Base64.getEncoder().encodeToString(deflated.toByteArray());
+    }
+
+    /**
+     * Reads a sketch stored in hard-drive.
+     *
+     * @param totalCount        The total count
+     * @param formattedCounters The deflated counters in Base64
+     * @return The sketch
+     * @throws IllegalArgumentException If the sketch is in the wrong format
+     */
+    public static CountMinSketch parse(String totalCount, String formattedCounters) {
+        byte[] bytes;
+        try (InflaterInputStream in = new InflaterInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(formattedCounters)))) {
+            bytes = in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid counters: " + e.getMessage());
+        }
+        CountMinSketch sketch = new CountMinSketch();
+        if (bytes.length != sketch.counters.length * Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid number of counters: " + bytes.length / Integer.BYTES);
+        }
+        ByteBuffer.wrap(bytes).asIntBuffer().get(sketch.counters);
+        sketch.totalCount = Long.parseLong(totalCount);
+        return sketch;
+    }
+}
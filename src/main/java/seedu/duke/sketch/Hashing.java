@@ -0,0 +1,33 @@
+package seedu.duke.sketch;
+
+// @@author bdthanh
+
+/**
+ * A 64-bit hash for the sketches. {@link String#hashCode()} only has 32 bits and keeps similar
+ * strings close together, so the characters are hashed with FNV-1a and the result is mixed with
+ * the MurmurHash3 finalizer to spread every input bit over every output bit.
+ */
+public class Hashing {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Hashes a string to 64 bits.
+     *
+     * @param value The string to hash
+     * @return The hash
+     */
+    public static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
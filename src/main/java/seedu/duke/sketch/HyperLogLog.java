@@ -0,0 +1,212 @@
+package seedu.duke.sketch;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+// @@author bdthanh
+
+/**
+ * An estimate of the number of distinct values added, in at most 256 bytes however many values there
+ * are. Up to 16 distinct values are kept exactly, as their hashes and how many times each was added,
+ * which takes less space than the registers. After that each value is hashed into registers: the
+ * first bits of the hash pick a register, and the register keeps the longest run of leading zeros seen
+ * in the rest. The standard error is then 1.04 / sqrt(256), about 6.5%, and small counts are
+ * estimated by linear counting, which is much more accurate.
+ *
+ * <p>Values can be taken out while they are kept exactly. Once they are in the registers they cannot,
+ * so the sketch must be made again after a value is removed.
+ */
+public class HyperLogLog {
+    private static final int PRECISION = 8;
+    private static final int NUMBER_OF_REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / NUMBER_OF_REGISTERS);
+    private static final double LINEAR_COUNTING_LIMIT = 2.5 * NUMBER_OF_REGISTERS;
+    private static final int MAX_EXACT_VALUES = 16;
+    private static final int EXACT_VALUE_BYTES = Long.BYTES + Integer.BYTES;
+
+    // Null while the values are kept exactly
+    private byte[] registers = null;
+    private long[] exactHashes = new long[2];
+    private int[] exactCounts = new int[2];
+    private int numberOfExactValues = 0;
+
+    /**
+     * Constructor for an empty HyperLogLog.
+     */
+    public HyperLogLog() {
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param hash The 64-bit hash of the value, from {@link Hashing#hash(String)}
+     */
+    public void add(long hash) {
+        if (registers != null) {
+            addToRegisters(hash);
+            return;
+        }
+        int index = findExactValue(hash);
+        if (index >= 0) {
+            exactCounts[index]++;
+        } else if (numberOfExactValues < MAX_EXACT_VALUES) {
+            addExactValue(hash, 1);
+        } else {
+            registers = new byte[NUMBER_OF_REGISTERS];
+            for (int i = 0; i < numberOfExactValues; i++) {
+                addToRegisters(exactHashes[i]);
+            }
+            addToRegisters(hash);
+            exactHashes = null;
+            exactCounts = null;
+            numberOfExactValues = 0;
+        }
+    }
+
+    private void addToRegisters(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // The guard bit caps the rank when the rest of the hash is all zeros
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    private int findExactValue(long hash) {
+        for (int i = 0; i < numberOfExactValues; i++) {
+            if (exactHashes[i] == hash) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void addExactValue(long hash, int count) {
+        if (numberOfExactValues == exactHashes.length) {
+            exactHashes = Arrays.copyOf(exactHashes, Math.min(2 * exactHashes.length, MAX_EXACT_VALUES));
+            exactCounts = Arrays.copyOf(exactCounts, exactHashes.length);
+        }
+        exactHashes[numberOfExactValues] = hash;
+        exactCounts[numberOfExactValues] = count;
+        numberOfExactValues++;
+    }
+
+    /**
+     * Takes out a value added before, if the values are still kept exactly.
+     *
+     * @param hash The 64-bit hash of the value
+     * @return false If the values are in the registers, so the sketch must be made again
+     */
+    public boolean remove(long hash) {
+        if (registers != null) {
+            return false;
+        }
+        int index = findExactValue(hash);
+        if (index >= 0 && --exactCounts[index] == 0) {
+            numberOfExactValues--;
+            exactHashes[index] = exactHashes[numberOfExactValues];
+            exactCounts[index] = exactCounts[numberOfExactValues];
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the sketch keeps its values exactly, so its estimate is the exact count.
+     *
+     * @return true If the values are kept exactly
+     */
+    public boolean isExact() {
+        return registers == null;
+    }
+
+    /**
+     * Checks if the sketch has no values.
+     *
+     * @return true If no values are kept
+     */
+    public boolean isEmpty() {
+        return registers == null && numberOfExactValues == 0;
+    }
+
+    /**
+     * Estimates the number of distinct values added.
+     *
+     * @return The estimate
+     */
+    public long estimate() {
+        if (registers == null) {
+            return numberOfExactValues;
+        }
+        double sum = 0;
+        int emptyRegisters = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                emptyRegisters++;
+            }
+        }
+        double estimate = ALPHA * NUMBER_OF_REGISTERS * NUMBER_OF_REGISTERS / sum;
+        if (estimate <= LINEAR_COUNTING_LIMIT && emptyRegisters > 0) {
+            estimate = NUMBER_OF_REGISTERS * Math.log((double) NUMBER_OF_REGISTERS / emptyRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Gets the relative standard error of the estimates, once the values are in the registers.
+     *
+     * @return The standard error, e.g. 0.065 for 6.5%
+     */
+    public static double getStandardError() {
+        return 1.04 / Math.sqrt(NUMBER_OF_REGISTERS);
+    }
+
+    /**
+     * Formats the sketch to store in hard-drive. Values kept exactly are written as their hashes and
+     * counts, which are shorter than the registers, so the two are told apart by their length.
+     *
+     * @return The registers, or the hashes and counts, in Base64
+     */
+    public String toFileFormat() {
+        if (registers != null) {
+            return Base64.getEncoder().encodeToString(registers);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(numberOfExactValues * EXACT_VALUE_BYTES);
+        for (int i = 0; i < numberOfExactValues; i++) {
+            buffer.putLong(exactHashes[i]).putInt(exactCounts[i]);
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    /**
+     * Reads a sketch stored in hard-drive.
+     *
+     * @param formattedSketch The registers, or the hashes and counts, in Base64
+     * @return The sketch
+     * @throws IllegalArgumentException If the sketch is in the wrong format
+     */
+    public static HyperLogLog parse(String formattedSketch) {
+        byte[] bytes = Base64.getDecoder().decode(formattedSketch);
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes.length == NUMBER_OF_REGISTERS) {
+            sketch.registers = bytes;
+            sketch.exactHashes = null;
+            sketch.exactCounts = null;
+            return sketch;
+        }
+        if (bytes.length % EXACT_VALUE_BYTES != 0 || bytes.length / EXACT_VALUE_BYTES > MAX_EXACT_VALUES) {
+            throw new IllegalArgumentException("Invalid sketch length: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            long hash = buffer.getLong();
+            int count = buffer.getInt();
+            if (count <= 0 || sketch.findExactValue(hash) >= 0) {
+                throw new IllegalArgumentException("Invalid exact value: " + hash);
+            }
+            sketch.addExactValue(hash, count);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,318 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.ContactNumberInvalidException;
+import seedu.duke.exception.DuplicateException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidImportException;
+import seedu.duke.exception.InvalidItemException;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.UserNotFoundException;
+import seedu.duke.id.IdGenerator;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.transaction.Transaction;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_CONTACT_DUPLICATE;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_CONTAIN_DATA_SEPARATOR;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DUPLICATE_ITEM_ID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DUPLICATE_TRANSACTION_ID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_IMPORT_FAILED;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_IMPORT_FILE_EMPTY;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_IMPORT_FILE_NOT_FOUND;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_IMPORT_ROW;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_IMPORT_TYPE_INVALID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_NOT_MATCHED;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_TRANSACTION_OVERLAP;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NUM_OF_ARGS_INVALID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_UNFINISHED_ITEM_NOT_FOUND;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_UNFINISHED_USER_NOT_FOUND;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_USERNAME_TAKEN;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_USER_NOT_FOUND;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_VALUE_OF_ARGS_INVALID;
+
+// @@author bdthanh
+
+/**
+ * A class to import many users, items or transactions at once from a CSV or pipe-separated file.
+ * Rows use the same columns as the data files, except that item and transaction ids may be left out.
+ */
+public class BulkImporter extends Storage {
+    public static final String TYPE_USER = "user";
+    public static final String TYPE_ITEM = "item";
+    public static final String TYPE_TRANSACTION = "tx";
+    private static final String PIPE_SEPARATOR = "\\|";
+    private static final String DATA_SEPARATOR = "|";
+    private static final String CSV_EXTENSION = ".csv";
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final int USER_NUM_OF_ARGS = 3;
+    private static final int USERNAME_INDEX = 0;
+    private static final int CONTACT_INDEX = 2;
+    private static final int ITEM_NUM_OF_ARGS = 5;
+    private static final int ITEM_OWNER_INDEX = 3;
+    private static final int ITEM_ID_INDEX = 4;
+    private static final int TX_NUM_OF_ARGS = 8;
+    private static final int TX_ITEM_ID_INDEX = 0;
+    private static final int TX_BORROWER_INDEX = 1;
+    private static final int TX_LENDER_INDEX = 4;
+    private static final int TX_ITEM_NAME_INDEX = 5;
+    private static final int TX_MONEY_INDEX = 6;
+    private static final int TX_ID_INDEX = 7;
+
+    private final UserList userList;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+
+    /**
+     * Constructor for BulkImporter.
+     *
+     * @param userList        The list of users to import into
+     * @param itemList        The list of items to import into
+     * @param transactionList The list of transactions to import into
+     */
+    public BulkImporter(UserList userList, ItemList itemList, TransactionList transactionList) {
+        this.userList = userList;
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+    }
+
+    /**
+     * Imports all rows of a file in the data folder. Files ending with .csv are read as CSV,
+     * other files are read in the pipe-separated format of the data files.
+     *
+     * @param type     The type of records in the file (user, item or tx)
+     * @param fileName The name of the file in the data folder
+     * @return The number of records imported
+     * @throws InvalidImportException If the file cannot be read or any row is invalid
+     */
+    public int importFile(String type, String fileName) throws InvalidImportException {
+        checkValidType(type);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(FilePath.DATA_DIRECTORY, fileName));
+        } catch (IOException e) {
+            throw new InvalidImportException(MESSAGE_IMPORT_FILE_NOT_FOUND);
+        }
+        return importLines(type, lines, fileName.toLowerCase().endsWith(CSV_EXTENSION));
+    }
+
+    /**
+     * Imports the given rows. Rows are validated in parallel, conflicts between rows of the same
+     * batch are resolved in file order, and the records are added only if every row is valid.
+     *
+     * @param type  The type of records in the rows (user, item or tx)
+     * @param lines The raw rows
+     * @param isCsv true if the rows are comma-separated instead of pipe-separated
+     * @return The number of records imported
+     * @throws InvalidImportException If any row is invalid
+     */
+    public int importLines(String type, List<String> lines, boolean isCsv) throws InvalidImportException {
+        checkValidType(type);
+        if (lines.stream().allMatch(String::isBlank)) {
+            throw new InvalidImportException(MESSAGE_IMPORT_FILE_EMPTY);
+        }
+        switch (type) {
+        case TYPE_USER:
+            return importUsers(lines, isCsv);
+        case TYPE_ITEM:
+            return importItems(lines, isCsv);
+        default:
+            return importTransactions(lines, isCsv);
+        }
+    }
+
+    private void checkValidType(String type) throws InvalidImportException {
+        if (!type.equals(TYPE_USER) && !type.equals(TYPE_ITEM) && !type.equals(TYPE_TRANSACTION)) {
+            throw new InvalidImportException(MESSAGE_IMPORT_TYPE_INVALID);
+        }
+    }
+
+    private int importUsers(List<String> lines, boolean isCsv) throws InvalidImportException {
+        Set<String> userNames = getUserNames(userList);
+        Set<String> contacts = userList.getUserList().stream()
+                .map(User::getContactNumber).collect(Collectors.toSet());
+        List<ParsedLine<User>> rows = parseRowsInParallel(lines, isCsv, args -> {
+            checkIfArgsEmpty(args, USER_NUM_OF_ARGS, MESSAGE_NUM_OF_ARGS_INVALID, MESSAGE_VALUE_OF_ARGS_INVALID);
+            UserList.checkValidFieldsForUser(args);
+            if (userNames.contains(args[USERNAME_INDEX])) {
+                throw new DuplicateException(MESSAGE_USERNAME_TAKEN);
+            }
+            if (contacts.contains(args[CONTACT_INDEX])) {
+                throw new ContactNumberInvalidException(MESSAGE_CONTACT_DUPLICATE);
+            }
+            return UserStorage.getUserFromUserLine(args);
+        });
+        checkUniqueInParallel(rows, User::getName, MESSAGE_USERNAME_TAKEN);
+        checkUniqueInParallel(rows, User::getContactNumber, MESSAGE_CONTACT_DUPLICATE);
+        List<User> users = getRecordsIfAllValid(rows);
+        users.forEach(userList::addUser);
+        return users.size();
+    }
+
+    private int importItems(List<String> lines, boolean isCsv) throws InvalidImportException {
+        Set<String> userNames = getUserNames(userList);
+        Set<String> itemIds = getItemsById(itemList).keySet();
+        List<ParsedLine<Item>> rows = parseRowsInParallel(lines, isCsv, splitLine -> {
+            String[] args = splitLine.length == ITEM_NUM_OF_ARGS - 1 ? addGeneratedId(splitLine) : splitLine;
+            checkIfArgsEmpty(args, ITEM_NUM_OF_ARGS, MESSAGE_NUM_OF_ARGS_INVALID, MESSAGE_VALUE_OF_ARGS_INVALID);
+            ItemList.checkValidFieldsForItem(args);
+            if (!userNames.contains(args[ITEM_OWNER_INDEX])) {
+                throw new UserNotFoundException(MESSAGE_USER_NOT_FOUND);
+            }
+            if (itemIds.contains(args[ITEM_ID_INDEX])) {
+                throw new DuplicateException(MESSAGE_DUPLICATE_ITEM_ID);
+            }
+            return ItemStorage.getItemFromItemLine(args);
+        });
+        checkUniqueInParallel(rows, Item::getItemId, MESSAGE_DUPLICATE_ITEM_ID);
+        List<Item> items = getRecordsIfAllValid(rows);
+        items.forEach(itemList::addItem);
+        return items.size();
+    }
+
+    private int importTransactions(List<String> lines, boolean isCsv) throws InvalidImportException {
+        Set<String> userNames = getUserNames(userList);
+        Map<String, Item> itemsById = getItemsById(itemList);
+        Set<String> transactionIds = transactionList.getTransactionList().stream()
+                .map(Transaction::getTxId).collect(Collectors.toSet());
+        Map<String, List<Transaction>> transactionsByItem = transactionList.getTransactionList().stream()
+                .collect(Collectors.groupingBy(Transaction::getItemId));
+        List<ParsedLine<Transaction>> rows = parseRowsInParallel(lines, isCsv, splitLine -> {
+            String[] args = splitLine.length == TX_NUM_OF_ARGS - 1 ? addGeneratedId(splitLine) : splitLine;
+            checkIfArgsEmpty(args, TX_NUM_OF_ARGS, MESSAGE_NUM_OF_ARGS_INVALID, MESSAGE_VALUE_OF_ARGS_INVALID);
+            TransactionList.checkValidArgsForAdding(args);
+            if (transactionIds.contains(args[TX_ID_INDEX])) {
+                throw new DuplicateException(MESSAGE_DUPLICATE_TRANSACTION_ID);
+            }
+            Item item = itemsById.get(args[TX_ITEM_ID_INDEX]);
+            if (item != null && !(item.getName().equals(args[TX_ITEM_NAME_INDEX])
+                    && item.getOwnerId().equals(args[TX_LENDER_INDEX]))) {
+                throw new InvalidItemException(MESSAGE_ITEM_NOT_MATCHED);
+            }
+            Transaction transaction = TransactionStorage.getTransactionFromTransactionLine(args);
+            for (Transaction oldTransaction : transactionsByItem.getOrDefault(args[TX_ITEM_ID_INDEX], List.of())) {
+                if (oldTransaction.checkOverlapToAddTx(transaction)) {
+                    throw new InvalidTransactionException(
+                            MESSAGE_ITEM_TRANSACTION_OVERLAP + oldTransaction.getTxId() + ")");
+                }
+            }
+            if (!transaction.isFinished()) {
+                if (!userNames.contains(args[TX_BORROWER_INDEX]) || !userNames.contains(args[TX_LENDER_INDEX])) {
+                    throw new InvalidTransactionException(MESSAGE_UNFINISHED_USER_NOT_FOUND);
+                }
+                if (item == null) {
+                    throw new InvalidTransactionException(MESSAGE_UNFINISHED_ITEM_NOT_FOUND);
+                }
+            }
+            return transaction;
+        });
+        checkUniqueInParallel(rows, Transaction::getTxId, MESSAGE_DUPLICATE_TRANSACTION_ID);
+        checkGroupsInParallel(rows, Transaction::getItemId, TransactionStorage::checkOverlapsOfItem);
+        List<Transaction> transactions = getRecordsIfAllValid(rows);
+        transactions.forEach(transactionList::addTransaction);
+        return transactions.size();
+    }
+
+    /**
+     * Splits and validates every row on the common fork-join pool. Blank rows are skipped.
+     * The validator must only read the lists, never change them.
+     *
+     * @param lines     The raw rows
+     * @param isCsv     true if the rows are comma-separated
+     * @param validator The row-local checks which also build the record
+     * @return The result of each row in file order
+     */
+    private <T> List<ParsedLine<T>> parseRowsInParallel(List<String> lines, boolean isCsv,
+            RowValidator<T> validator) {
+        return parseLinesInParallel(lines, line -> {
+            if (line.isBlank()) {
+                return null;
+            }
+            String[] splitLine = isCsv ? splitCsvLine(line) : line.split(PIPE_SEPARATOR);
+            trimArrayValues(splitLine);
+            return validator.validate(splitLine);
+        });
+    }
+
+    /**
+     * Gets the records of all non-blank rows, or reports every invalid row.
+     *
+     * @param rows The parsed rows
+     * @return The records in file order
+     * @throws InvalidImportException If any row is invalid
+     */
+    private static <T> List<T> getRecordsIfAllValid(List<ParsedLine<T>> rows) throws InvalidImportException {
+        StringBuilder report = new StringBuilder();
+        List<T> records = new ArrayList<>();
+        for (ParsedLine<T> row : rows) {
+            if (row.getError() != null) {
+                report.append('\n').append(MESSAGE_IMPORT_ROW).append(row.getLineNo())
+                        .append(": ").append(row.getError());
+            } else if (row.getRecord() != null) {
+                records.add(row.getRecord());
+            }
+        }
+        if (report.length() > 0) {
+            throw new InvalidImportException(MESSAGE_IMPORT_FAILED + report);
+        }
+        return records;
+    }
+
+    private static String[] addGeneratedId(String[] splitLine) {
+        String[] args = Arrays.copyOf(splitLine, splitLine.length + 1);
+        args[splitLine.length] = IdGenerator.generateId();
+        return args;
+    }
+
+    /**
+     * Splits a CSV row, allowing values to be wrapped in double quotes.
+     *
+     * @param line The raw CSV row
+     * @return The values of the row
+     * @throws InvalidArgumentException If a value contains the data separator
+     */
+    static String[] splitCsvLine(String line) throws InvalidArgumentException {
+        if (line.contains(DATA_SEPARATOR)) {
+            throw new InvalidArgumentException(MESSAGE_CONTAIN_DATA_SEPARATOR);
+        }
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == CSV_QUOTE && isQuoted && i + 1 < line.length() && line.charAt(i + 1) == CSV_QUOTE) {
+                value.append(CSV_QUOTE);
+                i++;
+            } else if (c == CSV_QUOTE) {
+                isQuoted = !isQuoted;
+            } else if (c == CSV_SEPARATOR && !isQuoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values.toArray(new String[0]);
+    }
+
+    /**
+     * Row-local checks that turn the values of one row into a record.
+     */
+    private interface RowValidator<T> {
+        T validate(String[] splitLine) throws Exception;
+    }
+}
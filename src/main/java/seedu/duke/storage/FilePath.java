@@ -6,7 +6,12 @@ package seedu.duke.storage;
  * A class to store file path.
  */
 public class FilePath {
+    public static final String DATA_DIRECTORY = "./data/";
     public static final String USER_FILE_PATH = "./data/user.txt";
     public static final String ITEM_FILE_PATH = "./data/item.txt";
     public static final String TRANSACTION_FILE_PATH = "./data/transaction.txt";
+    public static final String ID_FILE_PATH = "./data/id.txt";
+    public static final String ROLLUP_FILE_PATH = "./data/rollup.txt";
+    public static final String SKETCH_FILE_PATH = "./data/sketch.txt";
+    public static final String HISTORY_FILE_PATH = "./data/history.txt";
 }
@@ -0,0 +1,218 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.StoreFailureException;
+import seedu.duke.metrics.StorageEvent;
+import seedu.duke.transaction.Transaction;
+import seedu.duke.transaction.TransactionHistory;
+import seedu.duke.transaction.TransactionHistory.ChangeType;
+import seedu.duke.transaction.TransactionList;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_HISTORY_STORAGE_ILLEGALLY_MODIFIED;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORAGE_REASON;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORE_INVALID;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TO_FIX_FILES;
+
+// @@author bdthanh
+
+/**
+ * Storage of the history of the transactions. The file is only appended to, unless its last line was
+ * cut off and must be dropped. The first line is the
+ * day the history was started. Each other line is the day of a change, the kind of change, and the
+ * transaction in the same format as the transaction file, followed for an update by the duration and
+ * money before it.
+ */
+public class HistoryStorage extends Storage {
+    private static final String SEPARATOR = "\\|";
+    private static final String START = "START";
+    private static final int DAY_INDEX = 0;
+    private static final int TYPE_INDEX = 1;
+    private static final int NUM_OF_START_ARGS = 2;
+    private static final int NUM_OF_ARGS = 10;
+    private static final int NUM_OF_UPDATE_ARGS = 12;
+    private final String historyFilePath;
+
+    /**
+     * Constructor for Storage of the history.
+     */
+    public HistoryStorage(String historyFilePath) {
+        this.historyFilePath = historyFilePath;
+    }
+
+    /**
+     * Reads the history from a given file and records the changes that lead to the given transactions.
+     * Without a file, the history is started from the transactions as they are now. A last line that
+     * cannot be read, e.g. one cut off while it was appended, is dropped and the lines before it are
+     * kept. The history cannot be made again from the transactions, so any other line that cannot be
+     * read must be fixed by hand.
+     *
+     * @param transactionList The transactions as they are now
+     * @return The history of the transactions
+     * @throws StoreFailureException If a line other than the last cannot be read, or the history cannot be stored
+     */
+    public TransactionHistory loadData(TransactionList transactionList) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        List<String> lines = new ArrayList<>();
+        try {
+            lines = readLines(historyFilePath);
+        } catch (FileNotFoundException e) {
+            // Started below
+        } catch (IOException e) {
+            throw new StoreFailureException(MESSAGE_STORE_INVALID);
+        }
+        TransactionHistory history = getHistory(lines);
+        int numberOfValidLines = history == null ? 0 : history.getNumberOfChanges() + 1;
+        if (history == null) {
+            history = new TransactionHistory();
+        }
+        history.reconcile(transactionList.getTransactionList());
+        storageEvent.commitLoad(historyFilePath, history.getNumberOfChanges());
+        int numberOfChangesToSave = history.getNumberOfChanges();
+        String formattedChanges = history.getUnsavedChangesInFileFormat();
+        if (numberOfValidLines < lines.size()) {
+            StringBuilder formattedHistory = new StringBuilder();
+            for (String line : lines.subList(0, numberOfValidLines)) {
+                formattedHistory.append(line).append('\n');
+            }
+            replaceFormattedData(formattedHistory.append(formattedChanges).toString());
+        } else if (!formattedChanges.isEmpty()) {
+            appendFormattedData(formattedChanges);
+        }
+        history.markSavedUpTo(numberOfChangesToSave);
+        return history;
+    }
+
+    /**
+     * Reads the history from the lines of the file, stopping before the last line if it cannot be read.
+     *
+     * @param lines The lines of the file
+     * @return The history, or null if there is no line that can be read
+     * @throws StoreFailureException If a line other than the last cannot be read
+     */
+    private static TransactionHistory getHistory(List<String> lines) throws StoreFailureException {
+        TransactionHistory history = null;
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                if (i == 0) {
+                    history = getStart(lines.get(i));
+                } else {
+                    appendChange(history, lines.get(i));
+                }
+            } catch (Exception e) {
+                if (i < lines.size() - 1) {
+                    throw getStoreFailure(i + 1, e.getMessage());
+                }
+                break;
+            }
+        }
+        if (history != null) {
+            history.markSavedUpTo(history.getNumberOfChanges());
+        }
+        return history;
+    }
+
+    private static TransactionHistory getStart(String line) {
+        String[] startLine = splitLine(line);
+        if (startLine.length != NUM_OF_START_ARGS || !startLine[TYPE_INDEX].equals(START)) {
+            throw new IllegalArgumentException("The start of the history is missing");
+        }
+        return new TransactionHistory(LocalDate.parse(startLine[DAY_INDEX]));
+    }
+
+    private static void appendChange(TransactionHistory history, String line) throws Exception {
+        String[] splitLine = splitLine(line);
+        ChangeType type = ChangeType.valueOf(splitLine[TYPE_INDEX]);
+        int numberOfArgs = type == ChangeType.UPDATE ? NUM_OF_UPDATE_ARGS : NUM_OF_ARGS;
+        if (splitLine.length != numberOfArgs) {
+            throw new IllegalArgumentException("Invalid number of values: " + splitLine.length);
+        }
+        long day = LocalDate.parse(splitLine[DAY_INDEX]).toEpochDay();
+        String[] transactionLine = Arrays.copyOfRange(splitLine, TYPE_INDEX + 1, NUM_OF_ARGS);
+        Transaction transaction = TransactionStorage.getTransactionFromTransactionLine(transactionLine);
+        int oldDuration = 0;
+        long oldCents = 0;
+        if (type == ChangeType.UPDATE) {
+            oldDuration = Integer.parseInt(splitLine[NUM_OF_ARGS]);
+            oldCents = TransactionList.parseMoneyTransacted(splitLine[NUM_OF_ARGS + 1]);
+        }
+        history.append(day, type, transaction, oldDuration, oldCents);
+    }
+
+    private static StoreFailureException getStoreFailure(int lineNo, String reason) {
+        String line = "____________________________________________________________\n";
+        return new StoreFailureException(
+                MESSAGE_HISTORY_STORAGE_ILLEGALLY_MODIFIED + lineNo + MESSAGE_STORAGE_REASON
+                        + reason + "\n" + line + MESSAGE_TO_FIX_FILES);
+    }
+
+    private static String[] splitLine(String line) {
+        String[] splitLine = line.split(SEPARATOR);
+        for (int i = 0; i < splitLine.length; i++) {
+            splitLine[i] = splitLine[i].trim();
+        }
+        return splitLine;
+    }
+
+    /**
+     * Appends changes already converted to the file format.
+     *
+     * @param formattedChanges The changes in the file format.
+     * @throws StoreFailureException If there is an exception occurs.
+     */
+    public void appendFormattedData(String formattedChanges) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        try {
+            FileWriter fileWriter = new FileWriter(historyFilePath, true);
+            fileWriter.write(formattedChanges);
+            fileWriter.close();
+            storageEvent.commitWrite(StorageEvent.APPEND, historyFilePath, formattedChanges);
+        } catch (IOException e) {
+            makeHistoryDir(formattedChanges);
+        }
+    }
+
+    /**
+     * Replaces the whole history with one already converted to the file format. It is written to
+     * another file first and then moved over the old one, so the old history is never left half-replaced.
+     *
+     * @param formattedHistory The history in the file format.
+     * @throws StoreFailureException If there is an exception occurs.
+     */
+    public void replaceFormattedData(String formattedHistory) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        Path historyPath = Paths.get(historyFilePath);
+        Path tempPath = historyPath.resolveSibling(historyPath.getFileName() + ".tmp");
+        try {
+            Files.writeString(tempPath, formattedHistory, Charset.defaultCharset());
+            Files.move(tempPath, historyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            storageEvent.commitWrite(StorageEvent.WRITE, historyFilePath, formattedHistory);
+        } catch (IOException e) {
+            throw new StoreFailureException(MESSAGE_STORE_INVALID);
+        }
+    }
+
+    private void makeHistoryDir(String formattedChanges) throws StoreFailureException {
+        File file = new File(historyFilePath).getParentFile();
+        if (file != null && file.mkdir()) {
+            appendFormattedData(formattedChanges);
+        } else {
+            throw new StoreFailureException(MESSAGE_STORE_INVALID);
+        }
+    }
+}
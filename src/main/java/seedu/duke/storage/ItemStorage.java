@@ -2,22 +2,28 @@ package seedu.duke.storage;
 
 import seedu.duke.exception.ItemFileNotFoundException;
 import seedu.duke.exception.StoreFailureException;
+import seedu.duke.exception.UserNotFoundException;
+import seedu.duke.id.IdGenerator;
 import seedu.duke.item.Item;
 import seedu.duke.item.ItemList;
+import seedu.duke.metrics.StorageEvent;
 import seedu.duke.user.UserList;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Scanner;
+import java.util.List;
+import java.util.Set;
 
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DUPLICATE_ITEM_ID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_FILE_NOT_FOUND;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_STORAGE_ILLEGALLY_MODIFIED;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NUM_OF_ARGS_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORAGE_REASON;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORE_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TO_FIX_FILES;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_USER_NOT_FOUND;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_VALUE_OF_ARGS_INVALID;
 
 // @@author bdthanh
@@ -50,26 +56,36 @@ public class ItemStorage extends Storage {
      * @throws StoreFailureException     If there is a failure loading
      */
     public ItemList loadData() throws ItemFileNotFoundException, StoreFailureException {
-        int lineNo = 0;
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        List<String> itemLines;
         try {
-            File itemFile = new File(itemFilePath);
-            Scanner scanner = new Scanner(itemFile);
-            while (scanner.hasNext()) {
-                lineNo++;
-                String itemLine = scanner.nextLine();
-                String[] splitItemLine = itemLine.split(SEPARATOR);
-                trimArrayValues(splitItemLine);
-                Item item = handleItemLine(splitItemLine);
-                itemList.addItem(item);
-            }
-            return itemList;
+            itemLines = readLines(itemFilePath);
         } catch (FileNotFoundException e) {
             throw new ItemFileNotFoundException(MESSAGE_FILE_NOT_FOUND);
-        } catch (Exception e) {
-            String line = "____________________________________________________________\n";
-            throw new StoreFailureException(MESSAGE_ITEM_STORAGE_ILLEGALLY_MODIFIED + lineNo
-                    + MESSAGE_STORAGE_REASON + e.getMessage() + "\n" + line + MESSAGE_TO_FIX_FILES);
+        } catch (IOException e) {
+            throw getStoreFailure(0, e.getMessage());
+        }
+        Set<String> userNames = getUserNames(userList);
+        List<ParsedLine<Item>> parsedLines = parseLinesInParallel(itemLines,
+            itemLine -> handleItemLine(itemLine, userNames));
+        checkUniqueInParallel(parsedLines, Item::getItemId, MESSAGE_DUPLICATE_ITEM_ID);
+        ParsedLine<Item> invalidLine = getFirstInvalidLine(parsedLines);
+        if (invalidLine != null) {
+            throw getStoreFailure(invalidLine.getLineNo(), invalidLine.getError());
+        }
+        for (ParsedLine<Item> parsedLine : parsedLines) {
+            itemList.addItem(parsedLine.getRecord());
+            IdGenerator.advancePast(parsedLine.getRecord().getItemId());
         }
+        storageEvent.commitLoad(itemFilePath, itemLines.size());
+        return itemList;
+    }
+
+    private static StoreFailureException getStoreFailure(int lineNo, String reason) {
+        String line = "____________________________________________________________\n";
+        return new StoreFailureException(MESSAGE_ITEM_STORAGE_ILLEGALLY_MODIFIED + lineNo
+                + MESSAGE_STORAGE_REASON + reason + "\n" + line + MESSAGE_TO_FIX_FILES);
     }
 
     /**
@@ -79,45 +95,62 @@ public class ItemStorage extends Storage {
      * @throws StoreFailureException If there is an exception occurs.
      */
     public void writeData(ItemList itemList) throws StoreFailureException {
+        writeFormattedData(itemList.convertItemListToFileFormat());
+    }
+
+    /**
+     * Writes the items already converted to the file format.
+     *
+     * @param formattedItemList The items in the file format.
+     * @throws StoreFailureException If there is an exception occurs.
+     */
+    public void writeFormattedData(String formattedItemList) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
         try {
             FileWriter fileWriter = new FileWriter(itemFilePath);
-            String formattedItemList = itemList.convertItemListToFileFormat();
             fileWriter.write(formattedItemList);
             fileWriter.close();
+            storageEvent.commitWrite(StorageEvent.WRITE, itemFilePath, formattedItemList);
         } catch (IOException e) {
-            makeItemDir(itemList);
+            makeItemDir(formattedItemList);
         }
     }
 
-    private void makeItemDir(ItemList itemList) throws StoreFailureException {
+    private void makeItemDir(String formattedItemList) throws StoreFailureException {
         int startIndex = itemFilePath.lastIndexOf("/");
         String fileDirectory = itemFilePath.replace(itemFilePath.substring(startIndex), "");
         File file = new File(fileDirectory);
         if (file.mkdir()) {
-            writeData(itemList);
+            writeFormattedData(formattedItemList);
         } else {
             throw new StoreFailureException(MESSAGE_STORE_INVALID);
         }
     }
 
     /**
-     * Analyses the information the items stored in the file
-     * and checks if valid or not.
+     * Analyses the information of an item stored in one line of the file
+     * and checks if it is valid or not, without comparing it to other lines.
      *
-     * @param splitItemLine The raw item information.
+     * @param itemLine  The raw item information.
+     * @param userNames The names of all users, used to check the owner.
      * @return An Item with full information.
      */
-    public Item handleItemLine(String[] splitItemLine) throws Exception {
+    public Item handleItemLine(String itemLine, Set<String> userNames) throws Exception {
+        String[] splitItemLine = itemLine.split(SEPARATOR);
+        trimArrayValues(splitItemLine);
         checkIfArgsEmpty(splitItemLine, NUM_OF_ARGS, MESSAGE_NUM_OF_ARGS_INVALID, MESSAGE_VALUE_OF_ARGS_INVALID);
-        itemList.checkValidArgsForItem(userList, splitItemLine);
-        itemList.checkValidId(splitItemLine[ITEM_ID_INDEX]);
+        ItemList.checkValidFieldsForItem(splitItemLine);
+        if (!userNames.contains(splitItemLine[OWNER_INDEX])) {
+            throw new UserNotFoundException(MESSAGE_USER_NOT_FOUND);
+        }
         return getItemFromItemLine(splitItemLine);
     }
 
-    private Item getItemFromItemLine(String[] splitItemLine) throws Exception {
+    static Item getItemFromItemLine(String[] splitItemLine) throws Exception {
         String itemId = splitItemLine[ITEM_ID_INDEX];
         String itemName = splitItemLine[ITEM_NAME_INDEX];
-        double price = Double.parseDouble(splitItemLine[PRICE_INDEX]);
+        long price = ItemList.parsePrice(splitItemLine[PRICE_INDEX]);
         String ownerId = splitItemLine[OWNER_INDEX];
         int categoryNumber = Integer.parseInt(splitItemLine[CATEGORY_INDEX]);
         return new Item(itemId, itemName, categoryNumber, price, ownerId);
@@ -0,0 +1,52 @@
+package seedu.duke.storage;
+
+//@@author bdthanh
+
+/**
+ * The outcome of parsing and validating one line of a data or import file.
+ */
+class ParsedLine<T> {
+    private final int lineNo;
+    private T record;
+    private String error;
+
+    /**
+     * Constructor for ParsedLine.
+     *
+     * @param lineNo The line number in the file, starting from 1
+     */
+    ParsedLine(int lineNo) {
+        this.lineNo = lineNo;
+    }
+
+    int getLineNo() {
+        return lineNo;
+    }
+
+    T getRecord() {
+        return record;
+    }
+
+    void setRecord(T record) {
+        this.record = record;
+    }
+
+    String getError() {
+        return error;
+    }
+
+    /**
+     * Marks the line as invalid, keeping the first error if there is already one.
+     *
+     * @param error The reason why the line is invalid
+     */
+    void setError(String error) {
+        if (this.error == null) {
+            this.error = error;
+        }
+    }
+
+    boolean isValid() {
+        return error == null && record != null;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.duke.storage;
+
+import seedu.duke.event.DataChangedEvent;
+import seedu.duke.event.DukeEvent;
+import seedu.duke.event.EventSubscriber;
+import seedu.duke.exception.StoreFailureException;
+import seedu.duke.item.ItemList;
+import seedu.duke.transaction.TransactionHistory;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionRollups;
+import seedu.duke.transaction.TransactionSketches;
+import seedu.duke.user.UserList;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+
+// @@author bdthanh
+
+/**
+ * A subscriber that writes the three lists, the rollups and the sketches to the data files after they
+ * change, and appends the new changes to the history. All changes waiting in the queue are saved
+ * with one write. Changes to the history are only marked as saved once they are appended, so a failed
+ * save appends them again the next time. The lists are converted to the
+ * file format while holding the read lock, and the files are written after releasing it, so commands
+ * only wait for the former.
+ */
+public class PersistenceSubscriber implements EventSubscriber {
+    private final StorageManager storageManager;
+    private final UserList userList;
+    private final ItemList itemList;
+    private final TransactionList transactionList;
+    private final ReadWriteLock dataLock;
+
+    /**
+     * Constructor for PersistenceSubscriber.
+     *
+     * @param storageManager  The storage manager to write with
+     * @param userList        The list of users to store
+     * @param itemList        The list of items to store
+     * @param transactionList The list of transactions to store
+     * @param dataLock        The lock that commands hold while changing the lists
+     */
+    public PersistenceSubscriber(StorageManager storageManager, UserList userList, ItemList itemList,
+            TransactionList transactionList, ReadWriteLock dataLock) {
+        this.storageManager = storageManager;
+        this.userList = userList;
+        this.itemList = itemList;
+        this.transactionList = transactionList;
+        this.dataLock = dataLock;
+    }
+
+    @Override
+    public boolean accepts(DukeEvent event) {
+        return event instanceof DataChangedEvent;
+    }
+
+    // Data files left half-written cannot be loaded again, so Duke always waits for them on exit
+    @Override
+    public boolean isFinishRequiredOnExit() {
+        return true;
+    }
+
+    @Override
+    public void handle(List<DukeEvent> events) throws StoreFailureException {
+        String formattedUserList;
+        String formattedItemList;
+        String formattedTransactionList;
+        String formattedRollups = null;
+        String formattedSketches = null;
+        String formattedChanges;
+        TransactionHistory history;
+        int numberOfChangesToSave;
+        dataLock.readLock().lock();
+        try {
+            formattedUserList = userList.convertUserListToFileFormat();
+            formattedItemList = itemList.convertItemListToFileFormat();
+            formattedTransactionList = transactionList.convertTransactionListToFileFormat();
+            TransactionRollups rollups = transactionList.getRollups();
+            if (rollups != null) {
+                formattedRollups = rollups.convertRollupsToFileFormat();
+            }
+            TransactionSketches sketches = transactionList.getSketches();
+            if (sketches != null) {
+                formattedSketches = sketches.convertSketchesToFileFormat();
+            }
+            history = transactionList.getHistory();
+            numberOfChangesToSave = history.getNumberOfChanges();
+            formattedChanges = history.getUnsavedChangesInFileFormat();
+        } finally {
+            dataLock.readLock().unlock();
+        }
+        storageManager.writeFormattedDataToFiles(formattedUserList, formattedItemList, formattedTransactionList);
+        if (formattedRollups != null) {
+            storageManager.writeFormattedRollups(formattedRollups);
+        }
+        if (formattedSketches != null) {
+            storageManager.writeFormattedSketches(formattedSketches);
+        }
+        storageManager.appendFormattedHistory(formattedChanges);
+        history.markSavedUpTo(numberOfChangesToSave);
+    }
+}
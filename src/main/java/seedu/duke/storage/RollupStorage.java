@@ -0,0 +1,87 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.StoreFailureException;
+import seedu.duke.item.ItemList;
+import seedu.duke.metrics.StorageEvent;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionRollups;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORE_INVALID;
+
+// @@author bdthanh
+
+/**
+ * Storage of the transaction rollups. The rollups can always be made again from the transactions,
+ * so a missing, corrupted or outdated file is not an error: the rollups are rebuilt instead.
+ */
+public class RollupStorage extends Storage {
+    private final String rollupFilePath;
+
+    /**
+     * Constructor for Storage of rollups.
+     */
+    public RollupStorage(String rollupFilePath) {
+        this.rollupFilePath = rollupFilePath;
+    }
+
+    /**
+     * Reads the rollups from a given file, or rebuilds them if the file does not count exactly the
+     * given transactions.
+     *
+     * @param transactionList The transactions the rollups must count
+     * @param itemList        The list of items to find the categories in
+     * @return The rollups of all transactions
+     */
+    public TransactionRollups loadData(TransactionList transactionList, ItemList itemList) {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        List<String> lines = new ArrayList<>();
+        try {
+            lines = readLines(rollupFilePath);
+            TransactionRollups rollups = TransactionRollups.parse(lines, itemList);
+            if (rollups.isConsistentWith(transactionList)) {
+                storageEvent.commitLoad(rollupFilePath, lines.size());
+                return rollups;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Rebuilt below
+        }
+        TransactionRollups rollups = TransactionRollups.build(transactionList, itemList);
+        storageEvent.commitLoad(rollupFilePath, lines.size());
+        return rollups;
+    }
+
+    /**
+     * Writes the rollups already converted to the file format.
+     *
+     * @param formattedRollups The rollups in the file format.
+     * @throws StoreFailureException If there is an exception occurs.
+     */
+    public void writeFormattedData(String formattedRollups) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        try {
+            FileWriter fileWriter = new FileWriter(rollupFilePath);
+            fileWriter.write(formattedRollups);
+            fileWriter.close();
+            storageEvent.commitWrite(StorageEvent.WRITE, rollupFilePath, formattedRollups);
+        } catch (IOException e) {
+            makeRollupDir(formattedRollups);
+        }
+    }
+
+    private void makeRollupDir(String formattedRollups) throws StoreFailureException {
+        File file = new File(rollupFilePath).getParentFile();
+        if (file != null && file.mkdir()) {
+            writeFormattedData(formattedRollups);
+        } else {
+            throw new StoreFailureException(MESSAGE_STORE_INVALID);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.StoreFailureException;
+import seedu.duke.item.ItemList;
+import seedu.duke.metrics.StorageEvent;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionSketches;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORE_INVALID;
+
+// @@author bdthanh
+
+/**
+ * Storage of the transaction sketches. Like the rollups, they can always be made again from the
+ * transactions, so a missing, corrupted or outdated file is rebuilt instead of reported.
+ */
+public class SketchStorage extends Storage {
+    private final String sketchFilePath;
+
+    /**
+     * Constructor for Storage of sketches.
+     */
+    public SketchStorage(String sketchFilePath) {
+        this.sketchFilePath = sketchFilePath;
+    }
+
+    /**
+     * Reads the sketches from a given file, or rebuilds them if the file does not count as many
+     * transactions as given.
+     *
+     * @param transactionList The transactions the sketches must count
+     * @param itemList        The list of items to find the categories in
+     * @return The sketches of all transactions
+     */
+    public TransactionSketches loadData(TransactionList transactionList, ItemList itemList) {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        List<String> lines = new ArrayList<>();
+        try {
+            lines = readLines(sketchFilePath);
+            TransactionSketches sketches = TransactionSketches.parse(lines, itemList);
+            if (sketches.isConsistentWith(transactionList)) {
+                storageEvent.commitLoad(sketchFilePath, lines.size());
+                return sketches;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Rebuilt below
+        }
+        TransactionSketches sketches = TransactionSketches.build(transactionList, itemList);
+        storageEvent.commitLoad(sketchFilePath, lines.size());
+        return sketches;
+    }
+
+    /**
+     * Writes the sketches already converted to the file format.
+     *
+     * @param formattedSketches The sketches in the file format.
+     * @throws StoreFailureException If there is an exception occurs.
+     */
+    public void writeFormattedData(String formattedSketches) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        try {
+            FileWriter fileWriter = new FileWriter(sketchFilePath);
+            fileWriter.write(formattedSketches);
+            fileWriter.close();
+            storageEvent.commitWrite(StorageEvent.WRITE, sketchFilePath, formattedSketches);
+        } catch (IOException e) {
+            makeSketchDir(formattedSketches);
+        }
+    }
+
+    private void makeSketchDir(String formattedSketches) throws StoreFailureException {
+        File file = new File(sketchFilePath).getParentFile();
+        if (file != null && file.mkdir()) {
+            writeFormattedData(formattedSketches);
+        } else {
+            throw new StoreFailureException(MESSAGE_STORE_INVALID);
+        }
+    }
+}
@@ -3,6 +3,25 @@ package seedu.duke.storage;
 //@@author bdthanh
 
 import seedu.duke.exception.InvalidUserException;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * An abstract class for Storage.
@@ -39,4 +58,121 @@ public abstract class Storage {
             arrayToTrim[i] = arrayToTrim[i].trim();
         }
     }
+
+    /**
+     * Reads all lines of a data file, ignoring blank lines at the end of the file.
+     *
+     * @param filePath The path of the file
+     * @return The lines of the file
+     * @throws FileNotFoundException If the file cannot be found
+     * @throws IOException           If the file cannot be read
+     */
+    protected static List<String> readLines(String filePath) throws IOException {
+        List<String> lines;
+        try {
+            lines = new ArrayList<>(Files.readAllLines(Paths.get(filePath), Charset.defaultCharset()));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(filePath);
+        }
+        while (!lines.isEmpty() && lines.get(lines.size() - 1).isBlank()) {
+            lines.remove(lines.size() - 1);
+        }
+        return lines;
+    }
+
+    /**
+     * Parses every line on the common fork-join pool. The parser runs the checks that only
+     * need the line itself, so it must not change any list.
+     *
+     * @param lines      The raw lines
+     * @param lineParser The row-local checks which also build the record
+     * @return The result of each line in file order
+     */
+    protected static <T> List<ParsedLine<T>> parseLinesInParallel(List<String> lines, LineParser<T> lineParser) {
+        return IntStream.range(0, lines.size()).parallel()
+                .mapToObj(index -> parseLine(index + 1, lines.get(index), lineParser))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> ParsedLine<T> parseLine(int lineNo, String line, LineParser<T> lineParser) {
+        ParsedLine<T> parsedLine = new ParsedLine<>(lineNo);
+        try {
+            parsedLine.setRecord(lineParser.parse(line));
+        } catch (Exception e) {
+            parsedLine.setError(e.getMessage());
+        }
+        return parsedLine;
+    }
+
+    /**
+     * Groups the valid lines by a key and checks each group in parallel. Groups keep the
+     * file order, so each line is only compared with the lines above it.
+     *
+     * @param parsedLines The parsed lines
+     * @param keyOf       The key to group the records by
+     * @param groupCheck  The check to run on each group
+     */
+    protected static <T> void checkGroupsInParallel(List<ParsedLine<T>> parsedLines, Function<T, String> keyOf,
+            GroupCheck<T> groupCheck) {
+        parsedLines.parallelStream().filter(ParsedLine::isValid)
+                .collect(Collectors.groupingBy(parsedLine -> keyOf.apply(parsedLine.getRecord())))
+                .values().parallelStream().forEach(groupCheck::check);
+    }
+
+    /**
+     * Marks every valid line whose key already appears in a line above it.
+     *
+     * @param parsedLines The parsed lines
+     * @param keyOf       The key that must be unique
+     * @param message     The error for duplicated lines
+     */
+    protected static <T> void checkUniqueInParallel(List<ParsedLine<T>> parsedLines, Function<T, String> keyOf,
+            String message) {
+        checkGroupsInParallel(parsedLines, keyOf, group -> {
+            for (int i = 1; i < group.size(); i++) {
+                group.get(i).setError(message);
+            }
+        });
+    }
+
+    /**
+     * Gets the first invalid line, which is the line that a sequential load would stop at.
+     *
+     * @param parsedLines The parsed lines
+     * @return The first invalid line, or null if every line is valid
+     */
+    protected static <T> ParsedLine<T> getFirstInvalidLine(List<ParsedLine<T>> parsedLines) {
+        for (ParsedLine<T> parsedLine : parsedLines) {
+            if (parsedLine.getError() != null) {
+                return parsedLine;
+            }
+        }
+        return null;
+    }
+
+    protected static Set<String> getUserNames(UserList userList) {
+        return userList.getUserList().stream().map(User::getName).collect(Collectors.toSet());
+    }
+
+    protected static Map<String, Item> getItemsById(ItemList itemList) {
+        Map<String, Item> itemsById = new HashMap<>();
+        for (Item item : itemList.getItemList()) {
+            itemsById.put(item.getItemId(), item);
+        }
+        return itemsById;
+    }
+
+    /**
+     * Row-local checks that turn one line into a record.
+     */
+    protected interface LineParser<T> {
+        T parse(String line) throws Exception;
+    }
+
+    /**
+     * Cross-row checks on a group of lines sharing the same key.
+     */
+    protected interface GroupCheck<T> {
+        void check(List<ParsedLine<T>> group);
+    }
 }
@@ -6,7 +6,11 @@ import seedu.duke.exception.StoreFailureException;
 import seedu.duke.exception.TransactionFileNotFoundException;
 import seedu.duke.exception.UserFileNotFoundException;
 import seedu.duke.item.ItemList;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.transaction.TransactionHistory;
 import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionRollups;
+import seedu.duke.transaction.TransactionSketches;
 import seedu.duke.ui.Ui;
 import seedu.duke.user.UserList;
 
@@ -22,6 +26,9 @@ public class StorageManager {
     private TransactionStorage transactionStorage;
     private ItemStorage itemStorage;
     private UserStorage userStorage;
+    private RollupStorage rollupStorage;
+    private SketchStorage sketchStorage;
+    private HistoryStorage historyStorage;
 
     /**
      * Constructor for StoreManager.
@@ -108,6 +115,49 @@ public class StorageManager {
         return transactionList;
     }
 
+    /**
+     * Initialize the rollups of the transactions, rebuilding them if the stored ones are outdated.
+     *
+     * @param rollupFilePath  The file path for rollup.txt
+     * @param transactionList The list of transaction
+     * @param itemList        The list of item
+     * @return The rollups of the transactions
+     */
+    public TransactionRollups initializeRollups(String rollupFilePath, TransactionList transactionList,
+            ItemList itemList) {
+        rollupStorage = new RollupStorage(rollupFilePath);
+        return rollupStorage.loadData(transactionList, itemList);
+    }
+
+    /**
+     * Initialize the sketches of the transactions, rebuilding them if the stored ones are outdated.
+     *
+     * @param sketchFilePath  The file path for sketch.txt
+     * @param transactionList The list of transaction
+     * @param itemList        The list of item
+     * @return The sketches of the transactions
+     */
+    public TransactionSketches initializeSketches(String sketchFilePath, TransactionList transactionList,
+            ItemList itemList) {
+        sketchStorage = new SketchStorage(sketchFilePath);
+        return sketchStorage.loadData(transactionList, itemList);
+    }
+
+    /**
+     * Initialize the history of the transactions, recording the changes made to the transaction file
+     * since the history was last stored.
+     *
+     * @param historyFilePath The file path for history.txt
+     * @param transactionList The list of transaction
+     * @return The history of the transactions
+     * @throws StoreFailureException If the history cannot be stored
+     */
+    public TransactionHistory initializeHistory(String historyFilePath, TransactionList transactionList)
+            throws StoreFailureException {
+        historyStorage = new HistoryStorage(historyFilePath);
+        return historyStorage.loadData(transactionList);
+    }
+
     /**
      * Handles when there is any data corruption.
      *
@@ -133,6 +183,10 @@ public class StorageManager {
         ItemList itemList = new ItemList();
         TransactionList transactionList = new TransactionList();
         writeDataToFiles(userList, itemList, transactionList);
+        if (historyStorage != null) {
+            // The history is only loaded after the three lists, so it is the file that could not be read
+            historyStorage.replaceFormattedData(new TransactionHistory().getUnsavedChangesInFileFormat());
+        }
     }
 
     /**
@@ -142,9 +196,64 @@ public class StorageManager {
      */
     public void writeDataToFiles(UserList userList, ItemList itemList, TransactionList transactionList)
             throws StoreFailureException {
+        long startTime = System.nanoTime();
         userStorage.writeData(userList);
         itemStorage.writeData(itemList);
         transactionStorage.writeData(transactionList);
+        CommandMetrics.recordWrite(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Writes data already converted to the file format to files.
+     *
+     * @param formattedUserList        The users in the file format
+     * @param formattedItemList        The items in the file format
+     * @param formattedTransactionList The transactions in the file format
+     * @throws StoreFailureException If something went wrong when storing the data
+     */
+    public void writeFormattedDataToFiles(String formattedUserList, String formattedItemList,
+            String formattedTransactionList) throws StoreFailureException {
+        long startTime = System.nanoTime();
+        userStorage.writeFormattedData(formattedUserList);
+        itemStorage.writeFormattedData(formattedItemList);
+        transactionStorage.writeFormattedData(formattedTransactionList);
+        CommandMetrics.recordWrite(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Writes the rollups already converted to the file format to their file.
+     *
+     * @param formattedRollups The rollups in the file format
+     * @throws StoreFailureException If something went wrong when storing the data
+     */
+    public void writeFormattedRollups(String formattedRollups) throws StoreFailureException {
+        if (rollupStorage != null) {
+            rollupStorage.writeFormattedData(formattedRollups);
+        }
+    }
+
+    /**
+     * Writes the sketches already converted to the file format to their file.
+     *
+     * @param formattedSketches The sketches in the file format
+     * @throws StoreFailureException If something went wrong when storing the data
+     */
+    public void writeFormattedSketches(String formattedSketches) throws StoreFailureException {
+        if (sketchStorage != null) {
+            sketchStorage.writeFormattedData(formattedSketches);
+        }
+    }
+
+    /**
+     * Appends changes already converted to the file format to the history file.
+     *
+     * @param formattedChanges The new changes in the file format
+     * @throws StoreFailureException If something went wrong when storing the data
+     */
+    public void appendFormattedHistory(String formattedChanges) throws StoreFailureException {
+        if (historyStorage != null && !formattedChanges.isEmpty()) {
+            historyStorage.appendFormattedData(formattedChanges);
+        }
     }
 
     /**
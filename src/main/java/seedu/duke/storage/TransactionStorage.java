@@ -1,9 +1,17 @@
 package seedu.duke.storage;
 
+import seedu.duke.exception.InvalidItemException;
+import seedu.duke.exception.InvalidPriceException;
+import seedu.duke.exception.InvalidTransactionException;
 import seedu.duke.exception.StoreFailureException;
 import seedu.duke.exception.TransactionFileNotFoundException;
+import seedu.duke.id.IdGenerator;
+import seedu.duke.item.Item;
 import seedu.duke.item.ItemList;
+import seedu.duke.metrics.StorageEvent;
+import seedu.duke.transaction.TieredTransactions;
 import seedu.duke.transaction.Transaction;
+import seedu.duke.transaction.TransactionColumns;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.user.UserList;
 
@@ -12,14 +20,23 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
-import java.util.Scanner;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DUPLICATE_TRANSACTION_ID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_FILE_NOT_FOUND;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_NOT_MATCHED;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_TRANSACTION_OVERLAP;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NUM_OF_ARGS_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORAGE_REASON;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORE_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TO_FIX_FILES;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TRANSACTION_STORAGE_ILLEGALLY_MODIFIED;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_UNFINISHED_ITEM_NOT_FOUND;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_UNFINISHED_USER_NOT_FOUND;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_VALUE_OF_ARGS_INVALID;
 
 // @@author bdthanh
@@ -34,11 +51,13 @@ public class TransactionStorage extends Storage {
     private static final int MONEY_INDEX = 6;
     private static final int TX_ID_INDEX = 7;
     private static final int NUM_OF_ARGS = 8;
+    // From this many transactions on, finished ones are archived off the heap
+    // and the others are kept in primitive columns instead of objects
+    private static final int TIERED_THRESHOLD = 100000;
 
     private final String transactionFilePath;
     private final UserList userList;
     private final ItemList itemList;
-    private final TransactionList transactionList;
 
     /**
      * Constructor for Storage of Transactions.
@@ -47,7 +66,6 @@ public class TransactionStorage extends Storage {
         this.transactionFilePath = transactionFilePath;
         this.userList = userList;
         this.itemList = itemList;
-        this.transactionList = new TransactionList();
     }
 
     /**
@@ -59,26 +77,90 @@ public class TransactionStorage extends Storage {
      */
     public TransactionList loadData()
             throws TransactionFileNotFoundException, StoreFailureException {
-        int lineNo = 0;
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        List<String> transactionLines;
         try {
-            File transactionFile = new File(transactionFilePath);
-            Scanner scanner = new Scanner(transactionFile);
-            while (scanner.hasNext()) {
-                lineNo++;
-                String transactionLine = scanner.nextLine();
-                String[] splitTransactionLine = transactionLine.split(SEPARATOR);
-                trimArrayValues(splitTransactionLine);
-                Transaction transaction = handleTransactionLine(splitTransactionLine);
-                transactionList.addTransaction(transaction);
-            }
-            return transactionList;
+            transactionLines = readLines(transactionFilePath);
         } catch (FileNotFoundException e) {
             throw new TransactionFileNotFoundException(MESSAGE_FILE_NOT_FOUND);
-        } catch (Exception e) {
-            String line = "____________________________________________________________\n";
-            throw new StoreFailureException(
-                    MESSAGE_TRANSACTION_STORAGE_ILLEGALLY_MODIFIED + lineNo + MESSAGE_STORAGE_REASON
-                            + e.getMessage() + "\n" + line + MESSAGE_TO_FIX_FILES);
+        } catch (IOException e) {
+            throw getStoreFailure(0, e.getMessage());
+        }
+        Set<String> userNames = getUserNames(userList);
+        Map<String, Item> itemsById = getItemsById(itemList);
+        List<ParsedLine<Transaction>> parsedLines = parseLinesInParallel(transactionLines,
+            transactionLine -> handleTransactionLine(transactionLine, userNames, itemsById));
+        checkUniqueInParallel(parsedLines, Transaction::getTxId, MESSAGE_DUPLICATE_TRANSACTION_ID);
+        checkGroupsInParallel(parsedLines, Transaction::getItemId, TransactionStorage::checkOverlapsOfItem);
+        ParsedLine<Transaction> invalidLine = getFirstInvalidLine(parsedLines);
+        if (invalidLine != null) {
+            throw getStoreFailure(invalidLine.getLineNo(), invalidLine.getError());
+        }
+        for (ParsedLine<Transaction> parsedLine : parsedLines) {
+            IdGenerator.advancePast(parsedLine.getRecord().getTxId());
+        }
+        TransactionList transactionList;
+        if (parsedLines.size() >= TIERED_THRESHOLD) {
+            transactionList = getTieredTransactionList(parsedLines);
+        } else {
+            transactionList = new TransactionList();
+            for (ParsedLine<Transaction> parsedLine : parsedLines) {
+                transactionList.addTransaction(parsedLine.getRecord());
+            }
+        }
+        storageEvent.commitLoad(transactionFilePath, transactionLines.size());
+        return transactionList;
+    }
+
+    private static TransactionList getTieredTransactionList(List<ParsedLine<Transaction>> parsedLines) {
+        TieredTransactions tiers = new TieredTransactions(new TransactionColumns());
+        for (ParsedLine<Transaction> parsedLine : parsedLines) {
+            Transaction transaction = parsedLine.getRecord();
+            if (transaction.isFinished()) {
+                tiers.getArchive().add(transaction);
+            } else {
+                tiers.getActive().add(transaction);
+            }
+        }
+        return new TransactionList(tiers);
+    }
+
+    private static StoreFailureException getStoreFailure(int lineNo, String reason) {
+        String line = "____________________________________________________________\n";
+        return new StoreFailureException(
+                MESSAGE_TRANSACTION_STORAGE_ILLEGALLY_MODIFIED + lineNo + MESSAGE_STORAGE_REASON
+                        + reason + "\n" + line + MESSAGE_TO_FIX_FILES);
+    }
+
+    /**
+     * Marks every transaction that overlaps with a transaction of the same item above it.
+     * Sorting by created date and comparing neighbours is enough to tell if the group is clean,
+     * so the pairwise check only runs on groups that really have an overlap.
+     *
+     * @param group The transactions of one item in file order
+     */
+    static void checkOverlapsOfItem(List<ParsedLine<Transaction>> group) {
+        List<Transaction> sortedTransactions = group.stream().map(ParsedLine::getRecord)
+                .sorted(Comparator.comparing(Transaction::getCreatedAt)
+                        .thenComparing(Transaction::getReturnDate))
+                .collect(Collectors.toList());
+        boolean hasOverlap = false;
+        for (int i = 1; i < sortedTransactions.size() && !hasOverlap; i++) {
+            hasOverlap = sortedTransactions.get(i - 1).checkOverlapToAddTx(sortedTransactions.get(i));
+        }
+        if (!hasOverlap) {
+            return;
+        }
+        for (int i = 1; i < group.size(); i++) {
+            Transaction transaction = group.get(i).getRecord();
+            for (int j = 0; j < i; j++) {
+                Transaction oldTransaction = group.get(j).getRecord();
+                if (oldTransaction.checkOverlapToAddTx(transaction)) {
+                    group.get(i).setError(MESSAGE_ITEM_TRANSACTION_OVERLAP + oldTransaction.getTxId() + ")");
+                    break;
+                }
+            }
         }
     }
 
@@ -89,49 +171,75 @@ public class TransactionStorage extends Storage {
      * @throws StoreFailureException If there is an exception occurs.
      */
     public void writeData(TransactionList transactionList) throws StoreFailureException {
+        writeFormattedData(transactionList.convertTransactionListToFileFormat());
+    }
+
+    /**
+     * Writes the transactions already converted to the file format.
+     *
+     * @param formattedTransactionList The transactions in the file format.
+     * @throws StoreFailureException If there is an exception occurs.
+     */
+    public void writeFormattedData(String formattedTransactionList) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
         try {
             FileWriter fileWriter = new FileWriter(transactionFilePath);
-            String formattedTransactionList = transactionList.convertTransactionListToFileFormat();
             fileWriter.write(formattedTransactionList);
             fileWriter.close();
+            storageEvent.commitWrite(StorageEvent.WRITE, transactionFilePath, formattedTransactionList);
         } catch (IOException e) {
-            makeTransactionDir(transactionList);
+            makeTransactionDir(formattedTransactionList);
         }
     }
 
-    private void makeTransactionDir(TransactionList transactionList) throws StoreFailureException {
+    private void makeTransactionDir(String formattedTransactionList) throws StoreFailureException {
         int startIndex = transactionFilePath.lastIndexOf("/");
         String fileDirectory =
                 transactionFilePath.replace(transactionFilePath.substring(startIndex), "");
         File file = new File(fileDirectory);
         if (file.mkdir()) {
-            writeData(transactionList);
+            writeFormattedData(formattedTransactionList);
         } else {
             throw new StoreFailureException(MESSAGE_STORE_INVALID);
         }
     }
 
     /**
-     * Analyses the information the transactions stored in the file
-     * and checks if valid or not.
+     * Analyses the information of a transaction stored in one line of the file
+     * and checks if it is valid or not, without comparing it to other lines.
      *
-     * @param splitTransactionLine The raw transaction information.
+     * @param transactionLine The raw transaction information.
+     * @param userNames       The names of all users.
+     * @param itemsById       All items, keyed by their ID.
      * @return A Transaction with full information.
      */
-    public Transaction handleTransactionLine(String[] splitTransactionLine) throws Exception {
+    public Transaction handleTransactionLine(String transactionLine, Set<String> userNames,
+            Map<String, Item> itemsById) throws Exception {
+        String[] splitTransactionLine = transactionLine.split(SEPARATOR);
+        trimArrayValues(splitTransactionLine);
         checkIfArgsEmpty(splitTransactionLine, NUM_OF_ARGS,
                 MESSAGE_NUM_OF_ARGS_INVALID, MESSAGE_VALUE_OF_ARGS_INVALID);
-        transactionList.checkValidArgsForStorage(splitTransactionLine);
-        itemList.checkNameOwnerOfItemMatching(splitTransactionLine[ITEM_ID_INDEX],
-                splitTransactionLine[ITEM_NAME_INDEX], splitTransactionLine[LENDER_INDEX]);
-        transactionList.checkValidMoneyTransacted(splitTransactionLine[MONEY_INDEX]);
+        TransactionList.checkValidArgsForAdding(splitTransactionLine);
+        Item item = itemsById.get(splitTransactionLine[ITEM_ID_INDEX]);
+        if (item != null && !(item.getOwnerId().equals(splitTransactionLine[LENDER_INDEX])
+                && item.getName().equals(splitTransactionLine[ITEM_NAME_INDEX]))) {
+            throw new InvalidItemException(MESSAGE_ITEM_NOT_MATCHED);
+        }
         Transaction transaction = getTransactionFromTransactionLine(splitTransactionLine);
-        transactionList.checkOldTransactionsOverlapWithNew(transaction);
-        transactionList.checkLenderAndBorrowerUnfinishedTx(transaction, userList, itemList);
+        if (!transaction.isFinished()) {
+            if (!userNames.contains(transaction.getBorrower()) || !userNames.contains(transaction.getLender())) {
+                throw new InvalidTransactionException(MESSAGE_UNFINISHED_USER_NOT_FOUND);
+            }
+            if (item == null) {
+                throw new InvalidTransactionException(MESSAGE_UNFINISHED_ITEM_NOT_FOUND);
+            }
+        }
         return transaction;
     }
 
-    private static Transaction getTransactionFromTransactionLine(String[] splitTransactionLine) {
+    static Transaction getTransactionFromTransactionLine(String[] splitTransactionLine)
+            throws InvalidPriceException {
         String transactionId = splitTransactionLine[TX_ID_INDEX];
         String itemName = splitTransactionLine[ITEM_NAME_INDEX];
         String itemId = splitTransactionLine[ITEM_ID_INDEX];
@@ -139,7 +247,7 @@ public class TransactionStorage extends Storage {
         String borrowerId = splitTransactionLine[BORROWER_INDEX];
         int duration = Integer.parseInt(splitTransactionLine[DURATION_INDEX]);
         LocalDate createdAt = LocalDate.parse(splitTransactionLine[DATE_INDEX]);
-        double moneyTransacted = Double.parseDouble(splitTransactionLine[MONEY_INDEX]);
+        long moneyTransacted = TransactionList.parseMoneyTransacted(splitTransactionLine[MONEY_INDEX]);
         return new Transaction(transactionId, itemName, itemId, borrowerId,
                 lenderId, duration, createdAt, moneyTransacted);
     }
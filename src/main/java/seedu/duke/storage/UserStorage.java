@@ -2,6 +2,7 @@ package seedu.duke.storage;
 
 import seedu.duke.exception.UserFileNotFoundException;
 import seedu.duke.exception.StoreFailureException;
+import seedu.duke.metrics.StorageEvent;
 import seedu.duke.user.User;
 import seedu.duke.user.UserList;
 
@@ -9,13 +10,15 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Scanner;
+import java.util.List;
 
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_CONTACT_DUPLICATE;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_FILE_NOT_FOUND;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NUM_OF_ARGS_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORAGE_REASON;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_STORE_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TO_FIX_FILES;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_USERNAME_TAKEN;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_USER_STORAGE_ILLEGALLY_MODIFIED;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_VALUE_OF_ARGS_INVALID;
 
@@ -45,26 +48,34 @@ public class UserStorage extends Storage {
      * @throws StoreFailureException     If there is a failure loading
      */
     public UserList loadData() throws UserFileNotFoundException, StoreFailureException {
-        int lineNo = 0;
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
+        List<String> userLines;
         try {
-            File userFile = new File(userFilePath);
-            Scanner scanner = new Scanner(userFile);
-            while (scanner.hasNext()) {
-                lineNo++;
-                String userLine = scanner.nextLine();
-                String[] splitUserLine = userLine.split(SEPARATOR);
-                trimArrayValues(splitUserLine);
-                User user = handleUserLine(splitUserLine);
-                userList.addUser(user);
-            }
-            return userList;
+            userLines = readLines(userFilePath);
         } catch (FileNotFoundException e) {
             throw new UserFileNotFoundException(MESSAGE_FILE_NOT_FOUND);
-        } catch (Exception e) {
-            String line = "____________________________________________________________\n";
-            throw new StoreFailureException(MESSAGE_USER_STORAGE_ILLEGALLY_MODIFIED + lineNo
-                    + MESSAGE_STORAGE_REASON + e.getMessage() + "\n" + line + MESSAGE_TO_FIX_FILES);
+        } catch (IOException e) {
+            throw getStoreFailure(0, e.getMessage());
+        }
+        List<ParsedLine<User>> parsedLines = parseLinesInParallel(userLines, this::handleUserLine);
+        checkUniqueInParallel(parsedLines, User::getName, MESSAGE_USERNAME_TAKEN);
+        checkUniqueInParallel(parsedLines, User::getContactNumber, MESSAGE_CONTACT_DUPLICATE);
+        ParsedLine<User> invalidLine = getFirstInvalidLine(parsedLines);
+        if (invalidLine != null) {
+            throw getStoreFailure(invalidLine.getLineNo(), invalidLine.getError());
+        }
+        for (ParsedLine<User> parsedLine : parsedLines) {
+            userList.addUser(parsedLine.getRecord());
         }
+        storageEvent.commitLoad(userFilePath, userLines.size());
+        return userList;
+    }
+
+    private static StoreFailureException getStoreFailure(int lineNo, String reason) {
+        String line = "____________________________________________________________\n";
+        return new StoreFailureException(MESSAGE_USER_STORAGE_ILLEGALLY_MODIFIED + lineNo
+                + MESSAGE_STORAGE_REASON + reason + "\n" + line + MESSAGE_TO_FIX_FILES);
     }
 
     /**
@@ -74,42 +85,56 @@ public class UserStorage extends Storage {
      * @throws StoreFailureException If there is an exception occurs.
      */
     public void writeData(UserList userList) throws StoreFailureException {
+        writeFormattedData(userList.convertUserListToFileFormat());
+    }
+
+    /**
+     * Writes the users already converted to the file format.
+     *
+     * @param formattedUserList The users in the file format.
+     * @throws StoreFailureException If there is an exception occurs.
+     */
+    public void writeFormattedData(String formattedUserList) throws StoreFailureException {
+        StorageEvent storageEvent = new StorageEvent();
+        storageEvent.begin();
         try {
             FileWriter fileWriter = new FileWriter(userFilePath);
-            String formattedUserList = userList.convertUserListToFileFormat();
             fileWriter.write(formattedUserList);
             fileWriter.close();
+            storageEvent.commitWrite(StorageEvent.WRITE, userFilePath, formattedUserList);
         } catch (IOException e) {
-            makeUserDir(userList);
+            makeUserDir(formattedUserList);
         }
     }
 
-    private void makeUserDir(UserList userList) throws StoreFailureException {
+    private void makeUserDir(String formattedUserList) throws StoreFailureException {
         int startIndex = userFilePath.lastIndexOf("/");
         String fileDirectory = userFilePath.replace(userFilePath.substring(startIndex), "");
         File file = new File(fileDirectory);
         if (file.mkdir()) {
-            writeData(userList);
+            writeFormattedData(formattedUserList);
         } else {
             throw new StoreFailureException(MESSAGE_STORE_INVALID);
         }
     }
 
     /**
-     * Analyses the information the users stored in the file
-     * and checks if valid or not.
+     * Analyses the information of a user stored in one line of the file
+     * and checks if it is valid or not, without comparing it to other lines.
      *
-     * @param splitUserLine The raw user information.
+     * @param userLine The raw user information.
      * @return A User with full information.
      */
-    public User handleUserLine(String[] splitUserLine) throws Exception {
+    public User handleUserLine(String userLine) throws Exception {
+        String[] splitUserLine = userLine.split(SEPARATOR);
+        trimArrayValues(splitUserLine);
         checkIfArgsEmpty(splitUserLine, NUM_OF_ARGS,
                 MESSAGE_NUM_OF_ARGS_INVALID, MESSAGE_VALUE_OF_ARGS_INVALID);
-        this.userList.checkValidArgsForUser(splitUserLine);
-        return this.getUserFromUserLine(splitUserLine);
+        UserList.checkValidFieldsForUser(splitUserLine);
+        return getUserFromUserLine(splitUserLine);
     }
 
-    private User getUserFromUserLine(String[] splitUserLine) {
+    static User getUserFromUserLine(String[] splitUserLine) {
         String username = splitUserLine[USERNAME_INDEX];
         int age = Integer.parseInt(splitUserLine[AGE_INDEX]);
         String contactNumber = splitUserLine[CONTACT_INDEX];
@@ -0,0 +1,105 @@
+package seedu.duke.symbol;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+//@@author bdthanh
+
+/**
+ * A shared table of the names and ids that appear again and again in users, items and transactions.
+ * Each distinct string is kept once and given a small int id, so records that refer to the same name
+ * share one String, and the lists can compare names by reference or by id instead of by content.
+ */
+public class SymbolTable {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ConcurrentHashMap<String, Symbol> symbols = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+    private static volatile String[] values = new String[INITIAL_CAPACITY];
+    private static int size = 0;
+
+    /**
+     * Gets the shared copy of a string, adding it to the table if it is not there yet.
+     *
+     * @param value The string to share
+     * @return The shared copy, which is the same object for every equal string
+     */
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        return getOrAddSymbol(value).value;
+    }
+
+    /**
+     * Gets the id of a string, adding it to the table if it is not there yet.
+     *
+     * @param value The string
+     * @return The id, which is the same for every equal string
+     */
+    public static int idOf(String value) {
+        return getOrAddSymbol(value).id;
+    }
+
+    /**
+     * Gets the shared copy of a string without adding it, for strings typed by the user
+     * that may not belong to any record.
+     *
+     * @param value The string to look up
+     * @return The shared copy, or null if no record has used this string
+     */
+    public static String lookup(String value) {
+        if (value == null) {
+            return null;
+        }
+        Symbol symbol = symbols.get(value);
+        return symbol == null ? null : symbol.value;
+    }
+
+    /**
+     * Gets the string with the given id.
+     *
+     * @param id The id given by {@link #idOf(String)}
+     * @return The shared copy of the string
+     */
+    public static String valueOf(int id) {
+        String[] currentValues = values;
+        assert id >= 0 && id < currentValues.length && currentValues[id] != null : "Unknown symbol id";
+        return currentValues[id];
+    }
+
+    /**
+     * Gets the number of distinct strings in the table.
+     *
+     * @return The number of strings
+     */
+    public static synchronized int getSize() {
+        return size;
+    }
+
+    private static Symbol getOrAddSymbol(String value) {
+        Symbol symbol = symbols.get(value);
+        if (symbol == null) {
+            symbol = symbols.computeIfAbsent(value, SymbolTable::addSymbol);
+        }
+        return symbol;
+    }
+
+    // The value is stored before the symbol is put in the map, so any thread that gets an id
+    // from the map also sees its value
+    private static synchronized Symbol addSymbol(String value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        return new Symbol(value, size++);
+    }
+
+    private static class Symbol {
+        private final String value;
+        private final int id;
+
+        private Symbol(String value, int id) {
+            this.value = value;
+            this.id = id;
+        }
+    }
+}
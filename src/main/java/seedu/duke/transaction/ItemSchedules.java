@@ -0,0 +1,123 @@
+package seedu.duke.transaction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// @@author bdthanh
+
+/**
+ * The bookings of each item, ordered by created day, so that whether an item is free for a period
+ * is found by a range lookup instead of a scan over all transactions.
+ *
+ * <p>A booking of an item can only overlap with a period if it is created at most its duration
+ * before the period starts, so only the bookings created from the longest duration of the item
+ * before the period up to the end of the period are checked. Those are then checked with the same
+ * rules as {@link Transaction#checkOverlapToAddTx(Transaction)}.
+ */
+public class ItemSchedules {
+    private static final int DURATION_BITS = 16;
+    private static final long DURATION_MASK = (1L << DURATION_BITS) - 1;
+    private static final long NO_OVERLAP = Long.MIN_VALUE;
+    private final Map<String, Schedule> schedules = new HashMap<>();
+
+    /**
+     * Adds a booking of an item.
+     *
+     * @param itemId     The id of the item
+     * @param createdDay The created date as an epoch day
+     * @param duration   The duration in days
+     */
+    void add(String itemId, long createdDay, int duration) {
+        schedules.computeIfAbsent(itemId, id -> new Schedule()).add(createdDay, duration);
+    }
+
+    /**
+     * Removes a booking of an item.
+     *
+     * @param itemId     The id of the item
+     * @param createdDay The created date as an epoch day
+     * @param duration   The duration in days
+     */
+    void remove(String itemId, long createdDay, int duration) {
+        Schedule schedule = schedules.get(itemId);
+        if (schedule != null) {
+            schedule.remove(createdDay, duration);
+        }
+    }
+
+    /**
+     * Checks if a new transaction of an item could be added without overlapping.
+     *
+     * @param itemId     The id of the item
+     * @param createdDay The created date of the new transaction as an epoch day
+     * @param returnDay  The return date of the new transaction as an epoch day
+     * @return true If no booking of the item overlaps
+     */
+    public boolean isFree(String itemId, long createdDay, long returnDay) {
+        Schedule schedule = schedules.get(itemId);
+        return schedule == null || schedule.findOverlap(createdDay, returnDay) == NO_OVERLAP;
+    }
+
+    /**
+     * Finds the earliest created day, on or after a given day, of a new transaction of an item
+     * that would not overlap. When a booking overlaps, every created day before its return day
+     * overlaps it too, so the search jumps over whole bookings.
+     *
+     * @param itemId   The id of the item
+     * @param fromDay  The earliest created day to consider as an epoch day
+     * @param duration The duration of the new transaction in days
+     * @return The earliest created day as an epoch day
+     */
+    public long findEarliestFreeDay(String itemId, long fromDay, int duration) {
+        Schedule schedule = schedules.get(itemId);
+        long createdDay = fromDay;
+        if (schedule == null) {
+            return createdDay;
+        }
+        long key = schedule.findOverlap(createdDay, createdDay + duration);
+        while (key != NO_OVERLAP) {
+            long bookedReturnDay = (key >> DURATION_BITS) + (key & DURATION_MASK);
+            createdDay = Math.max(createdDay + 1, bookedReturnDay);
+            key = schedule.findOverlap(createdDay, createdDay + duration);
+        }
+        return createdDay;
+    }
+
+    private static long toKey(long createdDay, int duration) {
+        return createdDay << DURATION_BITS | duration;
+    }
+
+    /**
+     * The bookings of one item. A key packs the created day and the duration, and its value
+     * counts the bookings with that key.
+     */
+    private static class Schedule {
+        private final TreeMap<Long, Integer> bookings = new TreeMap<>();
+        // Never lowered when a booking is removed, which only makes the lookups check a few more bookings
+        private int maxDuration = 0;
+
+        void add(long createdDay, int duration) {
+            bookings.merge(toKey(createdDay, duration), 1, Integer::sum);
+            maxDuration = Math.max(maxDuration, duration);
+        }
+
+        void remove(long createdDay, int duration) {
+            bookings.computeIfPresent(toKey(createdDay, duration), (key, count) -> count > 1 ? count - 1 : null);
+        }
+
+        long findOverlap(long createdDay, long returnDay) {
+            NavigableMap<Long, Integer> candidates = bookings.subMap(toKey(createdDay - maxDuration, 0), true,
+                    toKey(returnDay, (int) DURATION_MASK), true);
+            for (long key : candidates.keySet()) {
+                long bookedCreatedDay = key >> DURATION_BITS;
+                long bookedReturnDay = bookedCreatedDay + (key & DURATION_MASK);
+                if (Transaction.isOverlapToAdd(bookedCreatedDay, bookedReturnDay, createdDay, returnDay)) {
+                    return key;
+                }
+            }
+            return NO_OVERLAP;
+        }
+    }
+}
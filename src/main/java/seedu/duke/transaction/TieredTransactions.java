@@ -0,0 +1,141 @@
+package seedu.duke.transaction;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+//@@author bdthanh
+
+/**
+ * A list of transactions in two tiers: finished transactions in an off-heap {@link TransactionArchive},
+ * followed by the other transactions in an ordinary list on the heap. Finished transactions stay
+ * finished as days go by, so they are moved to the archive once and heap usage then depends only
+ * on the active loans. Callers see one list, archived transactions first.
+ *
+ * <p>Transactions are only added at the end, and {@link #set(int, Transaction)} keeps each transaction
+ * in its tier. An archived transaction that is no longer finished is moved with
+ * {@link #replace(int, Transaction)} instead.
+ */
+public class TieredTransactions extends AbstractList<Transaction> implements RandomAccess {
+    private final TransactionArchive archive = new TransactionArchive();
+    private final List<Transaction> active;
+
+    /**
+     * Constructor for TieredTransactions.
+     *
+     * @param active The list to keep the active transactions in
+     */
+    public TieredTransactions(List<Transaction> active) {
+        this.active = active;
+    }
+
+    @Override
+    public int size() {
+        return archive.size() + active.size();
+    }
+
+    @Override
+    public Transaction get(int index) {
+        return index < archive.size() ? archive.get(index) : active.get(index - archive.size());
+    }
+
+    /**
+     * Replaces a transaction in place.
+     *
+     * @throws IllegalArgumentException If an archived transaction is replaced by an unfinished one,
+     *                                  which has to be moved with {@link #replace(int, Transaction)}
+     */
+    @Override
+    public Transaction set(int index, Transaction transaction) {
+        if (index >= archive.size()) {
+            return active.set(index - archive.size(), transaction);
+        }
+        if (!transaction.isFinished()) {
+            throw new IllegalArgumentException("Only finished transactions can be archived");
+        }
+        return archive.set(index, transaction);
+    }
+
+    /**
+     * Replaces a transaction. An archived transaction that is no longer finished, e.g. after its
+     * duration is extended, is moved to the end of the active transactions, so it is no longer
+     * at the given index.
+     *
+     * @param index       The index of the transaction to replace
+     * @param transaction The new transaction
+     * @return The transaction replaced
+     */
+    public Transaction replace(int index, Transaction transaction) {
+        if (index >= archive.size() || transaction.isFinished()) {
+            return set(index, transaction);
+        }
+        Transaction oldTransaction = archive.remove(index);
+        active.add(transaction);
+        modCount++;
+        return oldTransaction;
+    }
+
+    /**
+     * Adds a transaction at the end, which is among the active transactions.
+     *
+     * @param transaction The transaction to add
+     * @return true
+     */
+    @Override
+    public boolean add(Transaction transaction) {
+        active.add(transaction);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Transaction remove(int index) {
+        modCount++;
+        return index < archive.size() ? archive.remove(index) : active.remove(index - archive.size());
+    }
+
+    /**
+     * Moves the transactions that are finished by the given day into the archive.
+     *
+     * @param today The current day
+     * @return The number of transactions moved
+     */
+    public int archiveFinished(LocalDate today) {
+        List<Transaction> stillActive = new ArrayList<>();
+        int count = 0;
+        for (Transaction transaction : active) {
+            if (transaction.getReturnDate().isBefore(today)) {
+                archive.add(transaction);
+                count++;
+            } else {
+                stillActive.add(transaction);
+            }
+        }
+        if (count > 0) {
+            active.clear();
+            active.addAll(stillActive);
+            modCount++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the transactions that are not archived, which are the only ones that may be unfinished.
+     *
+     * @return The active transactions
+     */
+    public List<Transaction> getActive() {
+        return active;
+    }
+
+    /**
+     * Gets the archived transactions.
+     *
+     * @return The archive
+     */
+    public TransactionArchive getArchive() {
+        return archive;
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.duke.transaction;
 
 import seedu.duke.id.IdGenerator;
+import seedu.duke.clock.BusinessClock;
 import seedu.duke.parser.DateParser;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.symbol.SymbolTable;
+import seedu.duke.ui.RenderedTextCache;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 
 // @@author bdthanh
 
@@ -12,6 +17,8 @@ import java.time.temporal.ChronoUnit;
  * A representation of transaction.
  */
 public class Transaction {
+    // Transactions never change, so a kept text only has to be made again when the day changes
+    private static final RenderedTextCache RENDERED_TEXTS = new RenderedTextCache(256);
     private final String transactionId;
     private final String itemName;
     private final String itemId;
@@ -20,7 +27,7 @@ public class Transaction {
     private final int duration;
     private final LocalDate createdAt;
     private final LocalDate returnedAt;
-    private final double moneyTransacted;
+    private final long moneyTransacted;
 
     /**
      * Constructor method for transaction.
@@ -32,15 +39,15 @@ public class Transaction {
      * @param createdAt  The day when transaction created.
      */
     public Transaction(String itemName, String itemId, String borrowerId, String lenderId,
-                       int duration, LocalDate createdAt, double moneyTransacted) {
+                       int duration, LocalDate createdAt, long moneyTransacted) {
         this.transactionId = IdGenerator.generateId();
-        this.itemName = itemName;
-        this.borrower = borrowerId;
-        this.lender = lenderId;
+        this.itemName = SymbolTable.intern(itemName);
+        this.borrower = SymbolTable.intern(borrowerId);
+        this.lender = SymbolTable.intern(lenderId);
         this.duration = duration;
         this.createdAt = createdAt;
         this.returnedAt = createdAt.plusDays(duration);
-        this.itemId = itemId;
+        this.itemId = SymbolTable.intern(itemId);
         this.moneyTransacted = moneyTransacted;
     }
 
@@ -55,15 +62,15 @@ public class Transaction {
      * @param createdAt     The day when transaction created.
      */
     public Transaction(String transactionId, String itemName, String itemId, String borrowerId,
-                       String lenderId, int duration, LocalDate createdAt, double moneyTransacted) {
+                       String lenderId, int duration, LocalDate createdAt, long moneyTransacted) {
         this.transactionId = transactionId;
-        this.itemName = itemName;
-        this.borrower = borrowerId;
-        this.lender = lenderId;
+        this.itemName = SymbolTable.intern(itemName);
+        this.borrower = SymbolTable.intern(borrowerId);
+        this.lender = SymbolTable.intern(lenderId);
         this.duration = duration;
         this.createdAt = createdAt;
         this.returnedAt = createdAt.plusDays(duration);
-        this.itemId = itemId;
+        this.itemId = SymbolTable.intern(itemId);
         this.moneyTransacted = moneyTransacted;
     }
 
@@ -85,6 +92,15 @@ public class Transaction {
         return itemId;
     }
 
+    /**
+     * Gets the name of the item involved.
+     *
+     * @return The item name
+     */
+    public String getItemName() {
+        return itemName;
+    }
+
     /**
      * Gets the borrower id.
      *
@@ -98,6 +114,15 @@ public class Transaction {
         return lender;
     }
 
+    /**
+     * Gets the Created Date.
+     *
+     * @return The date when the transaction was created
+     */
+    public LocalDate getCreatedAt() {
+        return createdAt;
+    }
+
     /**
      * Gets the Return Date.
      *
@@ -119,9 +144,9 @@ public class Transaction {
     /**
      * Gets the moneyTransacted.
      *
-     * @return The Duration of transaction
+     * @return The money of transaction in cents
      */
-    public double getMoneyTransacted() {
+    public long getMoneyTransacted() {
         return moneyTransacted;
     }
 
@@ -131,7 +156,17 @@ public class Transaction {
      * @return true If the return date is before today
      */
     public boolean isFinished() {
-        return returnedAt.isBefore(LocalDate.now());
+        return isFinished(BusinessClock.today());
+    }
+
+    /**
+     * Checks if the transaction was finished on a day.
+     *
+     * @param day The day to check on
+     * @return true If the return date is before that day
+     */
+    public boolean isFinished(LocalDate day) {
+        return returnedAt.isBefore(day);
     }
 
     /**
@@ -143,7 +178,7 @@ public class Transaction {
         String separator = " | ";
         return itemId + separator + borrower + separator + duration + separator
                 + createdAt + separator + lender + separator + itemName + separator
-                + String.format("%.2f", moneyTransacted) + separator + transactionId;
+                + MoneyParser.formatCents(moneyTransacted) + separator + transactionId;
     }
 
     // @@author winston-lim
@@ -154,7 +189,7 @@ public class Transaction {
      * @param newDuration The new duration
      * @return The updated transaction
      */
-    public Transaction update(int newDuration, double newMoneyTransacted) {
+    public Transaction update(int newDuration, long newMoneyTransacted) {
         return new Transaction(this.transactionId, this.itemName, this.itemId, this.borrower,
                 this.lender, newDuration, this.createdAt, newMoneyTransacted);
     }
@@ -172,6 +207,21 @@ public class Transaction {
                 || transactionToCheck.createdAt.isEqual(this.createdAt);
     }
 
+    /**
+     * Checks if a new transaction would overlap with an old one of the same item, given
+     * their days as epoch days. This is the same check as {@link #checkOverlapToAddTx(Transaction)}.
+     *
+     * @param createdDay        The created day of the old transaction
+     * @param returnDay         The return day of the old transaction
+     * @param createdDayToCheck The created day of the new transaction
+     * @param returnDayToCheck  The return day of the new transaction
+     * @return true if they overlap
+     */
+    static boolean isOverlapToAdd(long createdDay, long returnDay, long createdDayToCheck, long returnDayToCheck) {
+        return isOverlap(createdDay, returnDay, createdDayToCheck, returnDayToCheck)
+                || createdDayToCheck == createdDay;
+    }
+
     /**
      * Checks if there is an overlap with a given transaction.
      *
@@ -182,15 +232,44 @@ public class Transaction {
         if (transactionToCheck.getTxId().equals(this.transactionId)) {
             return false;
         }
-        return (transactionToCheck.createdAt.isAfter(this.createdAt)
-                && transactionToCheck.getReturnDate().isBefore(this.getReturnDate()))
-                || (transactionToCheck.getReturnDate().isAfter(this.createdAt)
-                && transactionToCheck.getReturnDate().isBefore(this.getReturnDate()))
-                || (transactionToCheck.createdAt.isBefore(this.createdAt)
-                && transactionToCheck.getReturnDate().isAfter(this.getReturnDate()))
-                || (transactionToCheck.createdAt.isAfter(this.createdAt)
-                && transactionToCheck.createdAt.isBefore(this.getReturnDate())
-                || transactionToCheck.getReturnDate().isEqual(this.getReturnDate()));
+        return isOverlap(createdAt.toEpochDay(), returnedAt.toEpochDay(),
+                transactionToCheck.createdAt.toEpochDay(), transactionToCheck.returnedAt.toEpochDay());
+    }
+
+    private static boolean isOverlap(long createdDay, long returnDay, long createdDayToCheck, long returnDayToCheck) {
+        return (createdDayToCheck > createdDay && returnDayToCheck < returnDay)
+                || (returnDayToCheck > createdDay && returnDayToCheck < returnDay)
+                || (createdDayToCheck < createdDay && returnDayToCheck > returnDay)
+                || (createdDayToCheck > createdDay && createdDayToCheck < returnDay)
+                || returnDayToCheck == returnDay;
+    }
+
+    /**
+     * Checks if two transactions have the same fields. Transactions read from
+     * {@link TransactionColumns} are new objects each time, so they are compared by value.
+     *
+     * @param other The object to compare with
+     * @return true If all fields are equal
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Transaction)) {
+            return false;
+        }
+        Transaction transaction = (Transaction) other;
+        return transactionId.equals(transaction.transactionId) && itemName.equals(transaction.itemName)
+                && itemId.equals(transaction.itemId) && borrower.equals(transaction.borrower)
+                && lender.equals(transaction.lender) && duration == transaction.duration
+                && createdAt.equals(transaction.createdAt)
+                && moneyTransacted == transaction.moneyTransacted;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transactionId, itemId, createdAt, duration);
     }
 
     /**
@@ -200,28 +279,54 @@ public class Transaction {
      */
     @Override
     public String toString() {
-        String itemId = "ItemID: " + this.itemId + "\n";
-        String transactionIcon = "[" + (isFinished() ? "Finished" : "Unfinished") + "] ";
-        String transactionId = "TxID: " + this.transactionId + "\n";
-        String itemName = "   ItemName: " + this.itemName + " ";
-        String borrowerId = "   Borrower: " + this.borrower + "\n";
-        String lenderId = "   Lender: " + this.lender + "\n";
-        String duration = "   Duration: " + this.duration + " Days\n";
-        String moneyTransactedString =
-                "   MoneyTransacted: $" + String.format("%.2f", this.moneyTransacted) + " ";
-
-        if (!isFinished()) {
-            String remainDays = " (" + ChronoUnit.DAYS.between(LocalDate.now(), getReturnDate())
-                    + " day(s) left)";
-            String returnDate = "   ReturnDate: " + DateParser.formatDateToString(returnedAt)
-                    + remainDays + "\n";
-            return transactionIcon + transactionId + itemName + itemId + lenderId + borrowerId
-                    + duration + returnDate + moneyTransactedString;
+        LocalDate today = BusinessClock.today();
+        String text = RENDERED_TEXTS.get(transactionId, this, today.toEpochDay());
+        if (text == null) {
+            text = render(today);
+            RENDERED_TEXTS.put(transactionId, this, today.toEpochDay(), text);
         }
+        return text;
+    }
+
+    /**
+     * Appends a readable representation of the transaction. The text is made once per day
+     * and reused, since only the status and the days left depend on the current day.
+     *
+     * @param out The builder to append to
+     */
+    public void appendTo(StringBuilder out) {
+        out.append(toString());
+    }
 
-        String returnedDate =
-                "   ReturnedDate: " + DateParser.formatDateToString(returnedAt) + "\n";
-        return transactionIcon + transactionId + itemName + itemId + lenderId + borrowerId
-                + duration + returnedDate + moneyTransactedString;
+    /**
+     * Appends a readable representation of the transaction as it would have been shown on a day.
+     *
+     * @param out The builder to append to
+     * @param day The day to show the status and the days left on
+     */
+    public void appendTo(StringBuilder out, LocalDate day) {
+        out.append(day.equals(BusinessClock.today()) ? toString() : render(day));
+    }
+
+    private String render(LocalDate today) {
+        boolean isFinished = returnedAt.isBefore(today);
+        StringBuilder out = new StringBuilder();
+        out.append('[').append(isFinished ? "Finished" : "Unfinished").append("] ")
+                .append("TxID: ").append(transactionId).append('\n')
+                .append("   ItemName: ").append(itemName).append(' ')
+                .append("ItemID: ").append(itemId).append('\n')
+                .append("   Lender: ").append(lender).append('\n')
+                .append("   Borrower: ").append(borrower).append('\n')
+                .append("   Duration: ").append(duration).append(" Days\n");
+        if (isFinished) {
+            out.append("   ReturnedDate: ").append(DateParser.formatDateToString(returnedAt)).append('\n');
+        } else {
+            out.append("   ReturnDate: ").append(DateParser.formatDateToString(returnedAt))
+                    .append(" (").append(ChronoUnit.DAYS.between(today, returnedAt))
+                    .append(" day(s) left)\n");
+        }
+        out.append("   MoneyTransacted: $");
+        MoneyParser.appendCents(out, moneyTransacted).append(' ');
+        return out.toString();
     }
 }
@@ -0,0 +1,216 @@
+package seedu.duke.transaction;
+
+import seedu.duke.symbol.SymbolTable;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+//@@author bdthanh
+
+/**
+ * A list of finished transactions kept outside the Java heap, in a direct {@link ByteBuffer}
+ * of fixed-width records. The garbage collector never has to scan them, and a
+ * {@link Transaction} is only made when a record is read.
+ *
+ * <p>Each record is 40 bytes: the transaction id packed into a long, the {@link SymbolTable} ids
+ * of the item id, item name, borrower and lender, the created date as an epoch day,
+ * the duration, and the money in cents.
+ */
+public class TransactionArchive extends AbstractList<Transaction> implements RandomAccess {
+    static final int RECORD_SIZE = 40;
+    private static final int TX_ID_OFFSET = 0;
+    private static final int ITEM_ID_OFFSET = 8;
+    private static final int ITEM_NAME_OFFSET = 12;
+    private static final int BORROWER_OFFSET = 16;
+    private static final int LENDER_OFFSET = 20;
+    private static final int CREATED_DAY_OFFSET = 24;
+    private static final int DURATION_OFFSET = 28;
+    private static final int CENTS_OFFSET = 32;
+    private static final int DEFAULT_CAPACITY = 64;
+    private ByteBuffer records;
+    private int size = 0;
+
+    /**
+     * Constructor for TransactionArchive.
+     */
+    public TransactionArchive() {
+        records = ByteBuffer.allocateDirect(DEFAULT_CAPACITY * RECORD_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Transaction get(int index) {
+        checkIndex(index);
+        return readRecord(records, index * RECORD_SIZE);
+    }
+
+    @Override
+    public Transaction set(int index, Transaction transaction) {
+        Transaction oldTransaction = get(index);
+        store(index, transaction);
+        return oldTransaction;
+    }
+
+    /**
+     * Adds a transaction at the end of the archive. Records are only appended,
+     * since the archive only grows by moving transactions into it.
+     *
+     * @param transaction The transaction to add
+     * @return true
+     */
+    @Override
+    public boolean add(Transaction transaction) {
+        if ((size + 1) * RECORD_SIZE > records.capacity()) {
+            grow();
+        }
+        store(size, transaction);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes a record, moving the records after it down with one bulk copy.
+     */
+    @Override
+    public Transaction remove(int index) {
+        Transaction oldTransaction = get(index);
+        ByteBuffer laterRecords = records.duplicate();
+        laterRecords.position((index + 1) * RECORD_SIZE).limit(size * RECORD_SIZE);
+        ByteBuffer target = records.duplicate();
+        target.position(index * RECORD_SIZE);
+        target.put(laterRecords);
+        size--;
+        modCount++;
+        return oldTransaction;
+    }
+
+    /**
+     * Gets the transactions of an item, comparing the symbol id in each record
+     * before making any {@link Transaction}.
+     *
+     * @param itemId The id of the item
+     * @return The archived transactions of the item
+     */
+    public List<Transaction> getTransactionsOfItem(String itemId) {
+        List<Transaction> transactions = new ArrayList<>();
+        String symbol = SymbolTable.lookup(itemId);
+        if (symbol == null) {
+            return transactions;
+        }
+        int symbolId = SymbolTable.idOf(symbol);
+        for (int i = 0; i < size; i++) {
+            if (records.getInt(i * RECORD_SIZE + ITEM_ID_OFFSET) == symbolId) {
+                transactions.add(get(i));
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Gets the total money of all records in cents.
+     *
+     * @return The total in cents
+     */
+    public long getTotalCents() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += records.getLong(i * RECORD_SIZE + CENTS_OFFSET);
+        }
+        return total;
+    }
+
+    /**
+     * Gives the fields of every record to a visitor, reading them straight from the buffer.
+     *
+     * @param visitor The visitor of the records
+     */
+    public void visitAll(TransactionVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            int offset = i * RECORD_SIZE;
+            visitor.visit(SymbolTable.valueOf(records.getInt(offset + ITEM_ID_OFFSET)),
+                    SymbolTable.valueOf(records.getInt(offset + BORROWER_OFFSET)),
+                    SymbolTable.valueOf(records.getInt(offset + LENDER_OFFSET)),
+                    records.getInt(offset + CREATED_DAY_OFFSET), records.getInt(offset + DURATION_OFFSET),
+                    records.getLong(offset + CENTS_OFFSET));
+        }
+    }
+
+    private void store(int index, Transaction transaction) {
+        writeRecord(records, index * RECORD_SIZE, transaction);
+    }
+
+    /**
+     * Writes a transaction as a record in the layout of the archive, so other packed stores of
+     * transactions can share it.
+     *
+     * @param buffer      The buffer to write to
+     * @param offset      The offset of the record in the buffer
+     * @param transaction The transaction
+     */
+    static void writeRecord(ByteBuffer buffer, int offset, Transaction transaction) {
+        buffer.putLong(offset + TX_ID_OFFSET, TransactionColumns.encodeTxId(transaction.getTxId()));
+        buffer.putInt(offset + ITEM_ID_OFFSET, SymbolTable.idOf(transaction.getItemId()));
+        buffer.putInt(offset + ITEM_NAME_OFFSET, SymbolTable.idOf(transaction.getItemName()));
+        buffer.putInt(offset + BORROWER_OFFSET, SymbolTable.idOf(transaction.getBorrower()));
+        buffer.putInt(offset + LENDER_OFFSET, SymbolTable.idOf(transaction.getLender()));
+        buffer.putInt(offset + CREATED_DAY_OFFSET, Math.toIntExact(transaction.getCreatedAt().toEpochDay()));
+        buffer.putInt(offset + DURATION_OFFSET, transaction.getDuration());
+        buffer.putLong(offset + CENTS_OFFSET, transaction.getMoneyTransacted());
+    }
+
+    /**
+     * Reads a record written by {@link #writeRecord(ByteBuffer, int, Transaction)}.
+     *
+     * @param buffer The buffer to read from
+     * @param offset The offset of the record in the buffer
+     * @return The transaction
+     */
+    static Transaction readRecord(ByteBuffer buffer, int offset) {
+        return new Transaction(TransactionColumns.decodeTxId(buffer.getLong(offset + TX_ID_OFFSET)),
+                SymbolTable.valueOf(buffer.getInt(offset + ITEM_NAME_OFFSET)),
+                SymbolTable.valueOf(buffer.getInt(offset + ITEM_ID_OFFSET)),
+                SymbolTable.valueOf(buffer.getInt(offset + BORROWER_OFFSET)),
+                SymbolTable.valueOf(buffer.getInt(offset + LENDER_OFFSET)),
+                buffer.getInt(offset + DURATION_OFFSET),
+                LocalDate.ofEpochDay(buffer.getInt(offset + CREATED_DAY_OFFSET)),
+                buffer.getLong(offset + CENTS_OFFSET));
+    }
+
+    /**
+     * Reads the packed transaction id of a record, without making a {@link Transaction}.
+     *
+     * @param buffer The buffer to read from
+     * @param offset The offset of the record in the buffer
+     * @return The transaction id packed by {@link TransactionColumns}
+     */
+    static long readPackedTxId(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + TX_ID_OFFSET);
+    }
+
+    private void grow() {
+        long newCapacity = Math.min((long) records.capacity() * 2, Integer.MAX_VALUE / RECORD_SIZE * RECORD_SIZE);
+        if (newCapacity <= records.capacity()) {
+            throw new IllegalStateException("The transaction archive is full");
+        }
+        ByteBuffer newRecords = ByteBuffer.allocateDirect((int) newCapacity);
+        ByteBuffer oldRecords = records.duplicate();
+        oldRecords.position(0).limit(size * RECORD_SIZE);
+        newRecords.put(oldRecords);
+        records = newRecords;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.duke.transaction;
+
+import seedu.duke.symbol.SymbolTable;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+//@@author bdthanh
+
+/**
+ * A list of transactions stored as one primitive array per field instead of one object per row.
+ * Names and item ids are kept as {@link SymbolTable} ids, dates as epoch days and money as cents,
+ * which takes about 40 bytes per row. {@link Transaction} objects are only made when a row is read,
+ * and scans over a single field, such as summing the money, never make them at all.
+ */
+public class TransactionColumns extends AbstractList<Transaction> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int TX_ID_LENGTH = 8;
+    private static final int RADIX = 36;
+    private long[] txIds;
+    private int[] itemIds;
+    private int[] itemNames;
+    private int[] borrowers;
+    private int[] lenders;
+    private int[] createdDays;
+    private int[] durations;
+    private long[] cents;
+    private int size = 0;
+
+    /**
+     * Constructor for TransactionColumns.
+     */
+    public TransactionColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for TransactionColumns with room for a known number of rows, so that loading
+     * a large file does not copy the arrays while they grow.
+     *
+     * @param capacity The number of rows to make room for
+     */
+    public TransactionColumns(int capacity) {
+        capacity = Math.max(capacity, 1);
+        txIds = new long[capacity];
+        itemIds = new int[capacity];
+        itemNames = new int[capacity];
+        borrowers = new int[capacity];
+        lenders = new int[capacity];
+        createdDays = new int[capacity];
+        durations = new int[capacity];
+        cents = new long[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Transaction get(int index) {
+        checkIndex(index);
+        return new Transaction(decodeTxId(txIds[index]), SymbolTable.valueOf(itemNames[index]),
+                SymbolTable.valueOf(itemIds[index]), SymbolTable.valueOf(borrowers[index]),
+                SymbolTable.valueOf(lenders[index]), durations[index], LocalDate.ofEpochDay(createdDays[index]),
+                cents[index]);
+    }
+
+    @Override
+    public Transaction set(int index, Transaction transaction) {
+        Transaction oldTransaction = get(index);
+        store(index, transaction);
+        return oldTransaction;
+    }
+
+    @Override
+    public void add(int index, Transaction transaction) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == txIds.length) {
+            grow();
+        }
+        shift(index, index + 1, size - index);
+        size++;
+        store(index, transaction);
+        modCount++;
+    }
+
+    @Override
+    public Transaction remove(int index) {
+        Transaction oldTransaction = get(index);
+        shift(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+        return oldTransaction;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        shift(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Gets the total money of all rows in cents, reading only the money column.
+     *
+     * @return The total in cents
+     */
+    public long getTotalCents() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += cents[i];
+        }
+        return total;
+    }
+
+    /**
+     * Checks if a borrower has a transaction that is not finished, reading only two columns.
+     *
+     * @param borrower The username of the borrower
+     * @param today    The current day
+     * @return true If there is such a transaction
+     */
+    public boolean hasUnfinishedOfBorrower(String borrower, LocalDate today) {
+        return hasUnfinished(borrowers, borrower, today);
+    }
+
+    /**
+     * Checks if an item has a transaction that is not finished, reading only two columns.
+     *
+     * @param itemId The id of the item
+     * @param today  The current day
+     * @return true If there is such a transaction
+     */
+    public boolean hasUnfinishedOfItem(String itemId, LocalDate today) {
+        return hasUnfinished(itemIds, itemId, today);
+    }
+
+    private boolean hasUnfinished(int[] column, String value, LocalDate today) {
+        String symbol = SymbolTable.lookup(value);
+        if (symbol == null) {
+            return false;
+        }
+        int symbolId = SymbolTable.idOf(symbol);
+        long todayEpochDay = today.toEpochDay();
+        for (int i = 0; i < size; i++) {
+            if (column[i] == symbolId && (long) createdDays[i] + durations[i] >= todayEpochDay) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gives the fields of every row to a visitor, reading them straight from the columns.
+     *
+     * @param visitor The visitor of the rows
+     */
+    public void visitAll(TransactionVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visitor.visit(SymbolTable.valueOf(itemIds[i]), SymbolTable.valueOf(borrowers[i]),
+                    SymbolTable.valueOf(lenders[i]), createdDays[i], durations[i], cents[i]);
+        }
+    }
+
+    private void store(int index, Transaction transaction) {
+        txIds[index] = encodeTxId(transaction.getTxId());
+        itemIds[index] = SymbolTable.idOf(transaction.getItemId());
+        itemNames[index] = SymbolTable.idOf(transaction.getItemName());
+        borrowers[index] = SymbolTable.idOf(transaction.getBorrower());
+        lenders[index] = SymbolTable.idOf(transaction.getLender());
+        createdDays[index] = Math.toIntExact(transaction.getCreatedAt().toEpochDay());
+        durations[index] = transaction.getDuration();
+        cents[index] = transaction.getMoneyTransacted();
+    }
+
+    private void shift(int from, int to, int length) {
+        System.arraycopy(txIds, from, txIds, to, length);
+        System.arraycopy(itemIds, from, itemIds, to, length);
+        System.arraycopy(itemNames, from, itemNames, to, length);
+        System.arraycopy(borrowers, from, borrowers, to, length);
+        System.arraycopy(lenders, from, lenders, to, length);
+        System.arraycopy(createdDays, from, createdDays, to, length);
+        System.arraycopy(durations, from, durations, to, length);
+        System.arraycopy(cents, from, cents, to, length);
+    }
+
+    private void grow() {
+        int capacity = txIds.length + (txIds.length >> 1) + 1;
+        txIds = Arrays.copyOf(txIds, capacity);
+        itemIds = Arrays.copyOf(itemIds, capacity);
+        itemNames = Arrays.copyOf(itemNames, capacity);
+        borrowers = Arrays.copyOf(borrowers, capacity);
+        lenders = Arrays.copyOf(lenders, capacity);
+        createdDays = Arrays.copyOf(createdDays, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        cents = Arrays.copyOf(cents, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // Ids of 8 lowercase base-36 characters, which covers both generated and old hex ids, are packed
+    // into the long itself. Any other id is kept in the symbol table and stored as a negative number.
+    static long encodeTxId(String txId) {
+        if (txId.length() == TX_ID_LENGTH) {
+            long value = 0;
+            for (int i = 0; i < TX_ID_LENGTH; i++) {
+                char c = txId.charAt(i);
+                boolean isBase36Digit = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z');
+                if (!isBase36Digit) {
+                    return -1L - SymbolTable.idOf(txId);
+                }
+                value = value * RADIX + Character.digit(c, RADIX);
+            }
+            return value;
+        }
+        return -1L - SymbolTable.idOf(txId);
+    }
+
+    static String decodeTxId(long code) {
+        if (code < 0) {
+            return SymbolTable.valueOf((int) (-1L - code));
+        }
+        char[] digits = new char[TX_ID_LENGTH];
+        for (int i = TX_ID_LENGTH - 1; i >= 0; i--) {
+            digits[i] = Character.forDigit((int) (code % RADIX), RADIX);
+            code /= RADIX;
+        }
+        return new String(digits);
+    }
+}
@@ -0,0 +1,350 @@
+package seedu.duke.transaction;
+
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.parser.MoneyParser;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// @@author bdthanh
+
+/**
+ * The changes made to the transactions since the history was started, in the order they were made, so
+ * the transactions can be seen as they were at the end of any day. Changes are only ever appended, and
+ * each is stamped with the day it was made. The transactions in the file when the history was started
+ * are its base, and are not recorded as changes: before that day, a transaction of the base is seen from
+ * its created day.
+ *
+ * <p>Changes are kept outside the Java heap in a direct {@link ByteBuffer} of fixed-width records: the
+ * day, the kind of change, the duration and money before an update, and the transaction in the record
+ * layout of {@link TransactionArchive}. To see the transactions as of a day, the last change of that day
+ * is found by binary search, and the later changes are undone from the closest later checkpoint, or from
+ * the transactions as they are now. Checkpoints are packed the same way. When a history is attached to
+ * the transactions it ends with, they are built in one pass back through the changes, and after that one
+ * is left whenever enough changes have been recorded. They are as many changes apart as they hold
+ * transactions, and at least 64, so at most one interval is undone for a day, and all checkpoints
+ * together hold no more records than the changes themselves.
+ */
+public class TransactionHistory {
+    private static final int MIN_CHECKPOINT_INTERVAL = 64;
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int DAY_OFFSET = 0;
+    private static final int TYPE_OFFSET = 4;
+    private static final int OLD_DURATION_OFFSET = 8;
+    private static final int OLD_CENTS_OFFSET = 12;
+    private static final int TRANSACTION_OFFSET = 20;
+    static final int CHANGE_SIZE = TRANSACTION_OFFSET + TransactionArchive.RECORD_SIZE;
+    private static final ChangeType[] CHANGE_TYPES = ChangeType.values();
+
+    private final long startDay;
+    private ByteBuffer changes = ByteBuffer.allocateDirect(DEFAULT_CAPACITY * CHANGE_SIZE);
+    private int numberOfChanges = 0;
+    private int numberOfSavedChanges = 0;
+    private boolean isStartSaved = false;
+    // The transactions as they were after a number of changes, by that number
+    private final TreeMap<Integer, TransactionArchive> checkpoints = new TreeMap<>();
+
+    /**
+     * The kind of change made to a transaction.
+     */
+    public enum ChangeType {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+
+    /**
+     * Constructor for a TransactionHistory started today.
+     */
+    public TransactionHistory() {
+        this(BusinessClock.today());
+    }
+
+    /**
+     * Constructor for a TransactionHistory started on a day, e.g. as stored in hard-drive.
+     *
+     * @param startDate The day the history was started
+     */
+    public TransactionHistory(LocalDate startDate) {
+        this.startDay = startDate.toEpochDay();
+    }
+
+    /**
+     * Records a change made today.
+     *
+     * @param type           The kind of change
+     * @param transaction    The transaction after the change, or the removed transaction
+     * @param oldTransaction The transaction before an update, or null for other changes
+     */
+    void record(ChangeType type, Transaction transaction, Transaction oldTransaction) {
+        long day = Math.max(BusinessClock.todayEpochDay(), startDay);
+        if (numberOfChanges > 0) {
+            // The clock may have been set back, but the days of the changes must never go back
+            day = Math.max(day, getDay(numberOfChanges - 1));
+        }
+        int oldDuration = oldTransaction == null ? 0 : oldTransaction.getDuration();
+        long oldCents = oldTransaction == null ? 0 : oldTransaction.getMoneyTransacted();
+        append(day, type, transaction, oldDuration, oldCents);
+    }
+
+    /**
+     * Appends a change, e.g. one stored in hard-drive.
+     *
+     * @param day         The day the change was made as an epoch day
+     * @param type        The kind of change
+     * @param transaction The transaction after the change, or the removed transaction
+     * @param oldDuration The duration before an update
+     * @param oldCents    The money in cents before an update
+     * @throws IllegalArgumentException If the change is stamped with an earlier day than the change before it
+     */
+    public void append(long day, ChangeType type, Transaction transaction, int oldDuration, long oldCents) {
+        if (day < startDay || numberOfChanges > 0 && day < getDay(numberOfChanges - 1)) {
+            throw new IllegalArgumentException("Changes must be in the order of their days");
+        }
+        if ((numberOfChanges + 1) * CHANGE_SIZE > changes.capacity()) {
+            grow();
+        }
+        int offset = numberOfChanges * CHANGE_SIZE;
+        changes.putInt(offset + DAY_OFFSET, Math.toIntExact(day));
+        changes.putInt(offset + TYPE_OFFSET, type.ordinal());
+        changes.putInt(offset + OLD_DURATION_OFFSET, oldDuration);
+        changes.putLong(offset + OLD_CENTS_OFFSET, oldCents);
+        TransactionArchive.writeRecord(changes, offset + TRANSACTION_OFFSET, transaction);
+        numberOfChanges++;
+    }
+
+    private void grow() {
+        long newCapacity = Math.min((long) changes.capacity() * 2, Integer.MAX_VALUE / CHANGE_SIZE * CHANGE_SIZE);
+        if (newCapacity <= changes.capacity()) {
+            throw new IllegalStateException("The transaction history is full");
+        }
+        ByteBuffer newChanges = ByteBuffer.allocateDirect((int) newCapacity);
+        ByteBuffer oldChanges = changes.duplicate();
+        oldChanges.position(0).limit(numberOfChanges * CHANGE_SIZE);
+        newChanges.put(oldChanges);
+        changes = newChanges;
+    }
+
+    private long getDay(int index) {
+        return changes.getInt(index * CHANGE_SIZE + DAY_OFFSET);
+    }
+
+    private ChangeType getType(int index) {
+        return CHANGE_TYPES[changes.getInt(index * CHANGE_SIZE + TYPE_OFFSET)];
+    }
+
+    private long getPackedTxId(int index) {
+        return TransactionArchive.readPackedTxId(changes, index * CHANGE_SIZE + TRANSACTION_OFFSET);
+    }
+
+    private Transaction getTransaction(int index) {
+        return TransactionArchive.readRecord(changes, index * CHANGE_SIZE + TRANSACTION_OFFSET);
+    }
+
+    private Transaction getOldTransaction(int index) {
+        int offset = index * CHANGE_SIZE;
+        return getTransaction(index).update(changes.getInt(offset + OLD_DURATION_OFFSET),
+                changes.getLong(offset + OLD_CENTS_OFFSET));
+    }
+
+    /**
+     * Records the changes that turn the transactions as recorded into the given ones, e.g. after the data
+     * file was changed by hand. Only transactions with recorded changes are compared, as the others are
+     * taken as they are in the base.
+     *
+     * @param transactions The transactions as they are now
+     */
+    public void reconcile(List<Transaction> transactions) {
+        Map<Long, Integer> lastChanges = new HashMap<>();
+        for (int i = 0; i < numberOfChanges; i++) {
+            lastChanges.put(getPackedTxId(i), i);
+        }
+        if (lastChanges.isEmpty()) {
+            return;
+        }
+        List<Transaction> addedTransactions = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            Integer lastChange = lastChanges.remove(TransactionColumns.encodeTxId(transaction.getTxId()));
+            if (lastChange == null) {
+                continue;
+            }
+            if (getType(lastChange) == ChangeType.REMOVE) {
+                addedTransactions.add(transaction);
+                continue;
+            }
+            Transaction recordedTransaction = getTransaction(lastChange);
+            if (recordedTransaction.equals(transaction)) {
+                continue;
+            }
+            if (recordedTransaction.update(transaction.getDuration(), transaction.getMoneyTransacted())
+                    .equals(transaction)) {
+                record(ChangeType.UPDATE, transaction, recordedTransaction);
+            } else {
+                record(ChangeType.REMOVE, recordedTransaction, null);
+                addedTransactions.add(transaction);
+            }
+        }
+        lastChanges.values().stream().sorted()
+                .filter(lastChange -> getType(lastChange) != ChangeType.REMOVE)
+                .forEach(lastChange -> record(ChangeType.REMOVE, getTransaction(lastChange), null));
+        for (Transaction transaction : addedTransactions) {
+            record(ChangeType.ADD, transaction, null);
+        }
+    }
+
+    /**
+     * Gets the transactions as they were at the end of a day.
+     *
+     * @param day          The day
+     * @param transactions The transactions as they are now, after all recorded changes
+     * @return The transactions as of the day, in the order of their created days
+     */
+    public List<Transaction> getTransactionsAsOf(LocalDate day, List<Transaction> transactions) {
+        long epochDay = day.toEpochDay();
+        int numberOfChangesUntilDay = countChangesUntil(epochDay);
+        Map.Entry<Integer, TransactionArchive> checkpoint = checkpoints.ceilingEntry(numberOfChangesUntilDay);
+        int position = checkpoint == null ? numberOfChanges : checkpoint.getKey();
+        Map<Long, Transaction> transactionsById = getTransactionsById(checkpoint == null
+                ? transactions : checkpoint.getValue());
+        while (position > numberOfChangesUntilDay) {
+            position--;
+            undo(transactionsById, position);
+        }
+        List<Transaction> transactionsAsOf = new ArrayList<>(transactionsById.size());
+        for (Transaction transaction : transactionsById.values()) {
+            // Before the history was started, only the base is left, and it is seen from its created days
+            if (epochDay >= startDay || transaction.getCreatedAt().toEpochDay() <= epochDay) {
+                transactionsAsOf.add(transaction);
+            }
+        }
+        transactionsAsOf.sort(Comparator.comparing(Transaction::getCreatedAt));
+        return transactionsAsOf;
+    }
+
+    private static Map<Long, Transaction> getTransactionsById(Collection<Transaction> transactions) {
+        Map<Long, Transaction> transactionsById = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            transactionsById.put(TransactionColumns.encodeTxId(transaction.getTxId()), transaction);
+        }
+        return transactionsById;
+    }
+
+    private void undo(Map<Long, Transaction> transactionsById, int index) {
+        switch (getType(index)) {
+        case ADD:
+            transactionsById.remove(getPackedTxId(index));
+            break;
+        case UPDATE:
+            transactionsById.put(getPackedTxId(index), getOldTransaction(index));
+            break;
+        default:
+            transactionsById.put(getPackedTxId(index), getTransaction(index));
+            break;
+        }
+    }
+
+    /**
+     * Builds the checkpoints again by undoing every change once, from the last to the first.
+     *
+     * @param transactions The transactions as they are now, after all recorded changes
+     */
+    void buildCheckpoints(List<Transaction> transactions) {
+        checkpoints.clear();
+        Map<Long, Transaction> transactionsById = getTransactionsById(transactions);
+        int laterPosition = numberOfChanges;
+        for (int position = numberOfChanges - 1; position >= 0; position--) {
+            undo(transactionsById, position);
+            if (laterPosition - position >= getCheckpointInterval(transactionsById.size())) {
+                leaveCheckpoint(position, transactionsById.values());
+                laterPosition = position;
+            }
+        }
+    }
+
+    /**
+     * Leaves a checkpoint of the transactions as they are now, if enough changes have been recorded
+     * since the last one.
+     *
+     * @param transactions The transactions as they are now, after all recorded changes
+     */
+    void leaveCheckpointIfDue(List<Transaction> transactions) {
+        int lastPosition = checkpoints.isEmpty() ? 0 : checkpoints.lastKey();
+        if (numberOfChanges - lastPosition >= getCheckpointInterval(transactions.size())) {
+            leaveCheckpoint(numberOfChanges, transactions);
+        }
+    }
+
+    private static int getCheckpointInterval(int numberOfTransactions) {
+        return Math.max(MIN_CHECKPOINT_INTERVAL, numberOfTransactions);
+    }
+
+    private void leaveCheckpoint(int position, Collection<Transaction> transactions) {
+        TransactionArchive checkpoint = new TransactionArchive();
+        checkpoint.addAll(transactions);
+        checkpoints.put(position, checkpoint);
+    }
+
+    private int countChangesUntil(long day) {
+        int low = 0;
+        int high = numberOfChanges;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getDay(mid) <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int getNumberOfChanges() {
+        return numberOfChanges;
+    }
+
+    /**
+     * Formats the changes not stored in hard-drive yet, to append them to the file. While the day the
+     * history was started is not stored, it comes first. Nothing is marked as stored until
+     * {@link #markSavedUpTo(int)} is called after the changes are written, so changes that fail to be
+     * written are formatted again the next time.
+     *
+     * @return A formatted string of the unsaved changes
+     */
+    public String getUnsavedChangesInFileFormat() {
+        String separator = " | ";
+        StringBuilder out = new StringBuilder();
+        if (!isStartSaved) {
+            out.append(LocalDate.ofEpochDay(startDay)).append(separator).append("START").append('\n');
+        }
+        for (int i = numberOfSavedChanges; i < numberOfChanges; i++) {
+            ChangeType type = getType(i);
+            out.append(LocalDate.ofEpochDay(getDay(i))).append(separator).append(type).append(separator)
+                    .append(getTransaction(i).convertTransactionToFileFormat());
+            if (type == ChangeType.UPDATE) {
+                int offset = i * CHANGE_SIZE;
+                out.append(separator).append(changes.getInt(offset + OLD_DURATION_OFFSET)).append(separator);
+                MoneyParser.appendCents(out, changes.getLong(offset + OLD_CENTS_OFFSET));
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Marks the start of the history and its first changes as stored in hard-drive.
+     *
+     * @param numberOfChangesSaved The number of changes when the stored changes were formatted
+     */
+    public void markSavedUpTo(int numberOfChangesSaved) {
+        isStartSaved = true;
+        numberOfSavedChanges = Math.max(numberOfSavedChanges, numberOfChangesSaved);
+    }
+}
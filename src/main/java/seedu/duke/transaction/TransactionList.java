@@ -1,7 +1,7 @@
 package seedu.duke.transaction;
 
+import seedu.duke.clock.BusinessClock;
 import seedu.duke.exception.DateFormatInvalidException;
-import seedu.duke.exception.DuplicateException;
 import seedu.duke.exception.DurationInvalidException;
 import seedu.duke.exception.InvalidPriceException;
 import seedu.duke.exception.InvalidTransactionException;
@@ -9,35 +9,50 @@ import seedu.duke.exception.ItemNotFoundException;
 import seedu.duke.exception.TransactionNotFoundException;
 import seedu.duke.exception.UserNotFoundException;
 import seedu.duke.item.ItemList;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.metrics.ListChangeEvent;
+import seedu.duke.parser.MoneyParser;
+import seedu.duke.symbol.SymbolTable;
 import seedu.duke.user.UserList;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_CREATED_DATE_RANGE_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DATE_FORMAT_INVALID;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DUPLICATE_TRANSACTION_ID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_DURATION_INVALID;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_TRANSACTION_OVERLAP;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ITEM_UPDATE_TRANSACTION_OVERLAP;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_MONEY_TRANSACTED_OUT_OF_RANGE;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_NUMBER_FORMAT_INVALID;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_FORMAT_INVALID;
-import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_TOO_MANY_DECIMALS;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_TX_NOT_FOUND;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_UNFINISHED_ITEM_NOT_FOUND;
 import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_UNFINISHED_USER_NOT_FOUND;
 
 // @@author bdthanh
+
+/**
+ * The list of transactions. Names and item ids in transactions are shared through
+ * {@link SymbolTable}, so they are compared by reference here.
+ */
 public class TransactionList {
-    private final ArrayList<Transaction> transactionList;
+    private final List<Transaction> transactionList;
     private static final int DURATION_INDEX = 2;
     private static final int CREATED_DATE_INDEX = 3;
-    private static final int TX_ID_INDEX = 7;
+    private static final LocalDate VALID_BEGINNING_DATE = LocalDate.of(2016, 1, 1);
+    private static final long MAX_MONEY_TRANSACTED_CENTS = 15000000L * MoneyParser.CENTS_PER_DOLLAR;
+    // Built on first use, then kept up to date as transactions are added, updated and deleted
+    private ItemSchedules itemSchedules = null;
+    private TransactionTotals totals = null;
+    // Loaded with the stored data, then kept up to date the same way
+    private TransactionRollups rollups = null;
+    private TransactionSketches sketches = null;
+    private TransactionHistory history = null;
 
     /**
      * Constructor for TransactionList.
@@ -47,11 +62,12 @@ public class TransactionList {
     }
 
     /**
-     * Constructor for TransactionList.
+     * Constructor for TransactionList. The list may be a {@link TransactionColumns}, which keeps
+     * large numbers of transactions in a small heap.
      *
      * @param transactionList The list of transactions from the stored file
      */
-    public TransactionList(ArrayList<Transaction> transactionList) {
+    public TransactionList(List<Transaction> transactionList) {
         this.transactionList = transactionList;
     }
 
@@ -65,11 +81,12 @@ public class TransactionList {
     }
 
     /**
-     * Gets the ArrayList of transaction.
+     * Gets the list of transaction.
      *
-     * @return The ArrayList of transaction
+     * @return The list of transaction
      */
-    public ArrayList<Transaction> getTransactionList() {
+    public List<Transaction> getTransactionList() {
+        CommandMetrics.addRowsScanned(transactionList.size());
         return this.transactionList;
     }
 
@@ -79,7 +96,12 @@ public class TransactionList {
      * @param transaction The transaction to be added
      */
     public void addTransaction(Transaction transaction) {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
         transactionList.add(transaction);
+        addToIndexes(transaction);
+        recordChange(TransactionHistory.ChangeType.ADD, transaction, null);
+        listChangeEvent.commitChange(ListChangeEvent.TRANSACTIONS, ListChangeEvent.ADD, transaction.getTxId(), 1);
     }
 
     /**
@@ -87,19 +109,31 @@ public class TransactionList {
      *
      * @param transactionId The id of the transaction to be deleted
      * @param duration The new duration
+     * @param moneyTransacted The new money transacted in cents
      * @throws TransactionNotFoundException If the transaction cannot be found in the list
      * @throws InvalidTransactionException If there is transaction overlapped
      */
 
     // @@author jorellesee
-    public Transaction updateTransaction(String transactionId, int duration, double moneyTransacted)
+    public Transaction updateTransaction(String transactionId, int duration, long moneyTransacted)
             throws TransactionNotFoundException, InvalidTransactionException {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
         for (int i = 0; i < this.transactionList.size(); ++i) {
             Transaction tx = this.transactionList.get(i);
             if (tx.getTxId().equals(transactionId)) {
                 Transaction updatedTx = tx.update(duration, moneyTransacted);
                 checkOldTransactionsOverlapWithUpdated(updatedTx);
-                this.transactionList.set(i, updatedTx);
+                if (transactionList instanceof TieredTransactions) {
+                    // An archived transaction that is extended moves to the end of the active ones
+                    ((TieredTransactions) transactionList).replace(i, updatedTx);
+                } else {
+                    this.transactionList.set(i, updatedTx);
+                }
+                removeFromIndexes(tx);
+                addToIndexes(updatedTx);
+                recordChange(TransactionHistory.ChangeType.UPDATE, updatedTx, tx);
+                listChangeEvent.commitChange(ListChangeEvent.TRANSACTIONS, ListChangeEvent.UPDATE, transactionId, 1);
                 return updatedTx;
             }
         }
@@ -115,8 +149,21 @@ public class TransactionList {
      * @throws TransactionNotFoundException If the transaction cannot be found in the list
      */
     public void deleteTransaction(String transactionId) throws TransactionNotFoundException {
-        Transaction transaction = getTransactionById(transactionId);
-        transactionList.remove(transaction);
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
+        for (int i = 0; i < transactionList.size(); i++) {
+            if (transactionList.get(i).getTxId().equals(transactionId)) {
+                Transaction deletedTx = transactionList.remove(i);
+                removeFromIndexes(deletedTx);
+                recordChange(TransactionHistory.ChangeType.REMOVE, deletedTx, null);
+                if (sketches != null) {
+                    sketches.removeBorrower(deletedTx.getItemId(), deletedTx.getBorrower());
+                }
+                listChangeEvent.commitChange(ListChangeEvent.TRANSACTIONS, ListChangeEvent.DELETE, transactionId, 1);
+                return;
+            }
+        }
+        throw new TransactionNotFoundException(MESSAGE_TX_NOT_FOUND);
     }
 
     /**
@@ -128,11 +175,15 @@ public class TransactionList {
      */
     public Transaction getTransactionById(String transactionId)
             throws TransactionNotFoundException {
+        int rows = 0;
         for (Transaction transaction : transactionList) {
+            rows++;
             if (transaction.getTxId().equals(transactionId)) {
+                CommandMetrics.addRowsScanned(rows);
                 return transaction;
             }
         }
+        CommandMetrics.addRowsScanned(rows);
         throw new TransactionNotFoundException(MESSAGE_TX_NOT_FOUND);
     }
 
@@ -144,13 +195,15 @@ public class TransactionList {
      * @return A list of all matched transactions
      */
     public TransactionList getBorrowTransactionsByUser(String userName) {
-        TransactionList returnList = new TransactionList();
+        List<Transaction> matches = new ArrayList<>();
+        String borrower = SymbolTable.lookup(userName);
+        CommandMetrics.addRowsScanned(transactionList.size());
         for (Transaction transaction : this.transactionList) {
-            if (transaction.getBorrower().equals(userName)) {
-                returnList.addTransaction(transaction);
+            if (transaction.getBorrower() == borrower) {
+                matches.add(transaction);
             }
         }
-        return returnList;
+        return new TransactionList(matches);
     }
 
     /**
@@ -160,28 +213,295 @@ public class TransactionList {
      * @return A list of all matched transactions
      */
     public TransactionList getLendTransactionsByUser(String userName) {
-        TransactionList returnList = new TransactionList();
+        List<Transaction> matches = new ArrayList<>();
+        String lender = SymbolTable.lookup(userName);
+        CommandMetrics.addRowsScanned(transactionList.size());
         for (Transaction transaction : this.transactionList) {
-            if (transaction.getLender().equals(userName)) {
-                returnList.addTransaction(transaction);
+            if (transaction.getLender() == lender) {
+                matches.add(transaction);
             }
         }
-        return returnList;
+        return new TransactionList(matches);
     }
 
     /**
-     * Computes total transacted sum.
+     * Computes total transacted sum. The sum is exact, since the money is kept in cents.
      * 
-     * @return Total sum
+     * @return Total sum in cents
      */
-    public double getTotalMoneyTransacted() {
-        double totalMoneyTransacted = 0;
-        for (Transaction transaction : transactionList) {
+    public long getTotalMoneyTransacted() {
+        if (transactionList instanceof TieredTransactions) {
+            TieredTransactions tiers = (TieredTransactions) transactionList;
+            return tiers.getArchive().getTotalCents() + getTotalMoneyTransacted(tiers.getActive());
+        }
+        return getTotalMoneyTransacted(transactionList);
+    }
+
+    private static long getTotalMoneyTransacted(List<Transaction> transactions) {
+        if (transactions instanceof TransactionColumns) {
+            return ((TransactionColumns) transactions).getTotalCents();
+        }
+        long totalMoneyTransacted = 0;
+        for (Transaction transaction : transactions) {
             totalMoneyTransacted += transaction.getMoneyTransacted();
         }
         return totalMoneyTransacted;
     }
 
+    /**
+     * Gives the fields of every transaction to a visitor. Archived records and columns are read
+     * in place, so a scan over all transactions never copies them into a new list.
+     *
+     * @param visitor The visitor of the transactions
+     */
+    public void visitAll(TransactionVisitor visitor) {
+        CommandMetrics.addRowsScanned(transactionList.size());
+        List<Transaction> activeTransactions = transactionList;
+        if (transactionList instanceof TieredTransactions) {
+            TieredTransactions tiers = (TieredTransactions) transactionList;
+            tiers.getArchive().visitAll(visitor);
+            activeTransactions = tiers.getActive();
+        }
+        if (activeTransactions instanceof TransactionColumns) {
+            ((TransactionColumns) activeTransactions).visitAll(visitor);
+            return;
+        }
+        for (Transaction transaction : activeTransactions) {
+            visitor.visit(transaction.getItemId(), transaction.getBorrower(), transaction.getLender(),
+                    transaction.getCreatedAt().toEpochDay(), transaction.getDuration(),
+                    transaction.getMoneyTransacted());
+        }
+    }
+
+    /**
+     * Gets the bookings of each item, building them from all transactions the first time.
+     *
+     * @return The bookings of each item
+     */
+    public ItemSchedules getItemSchedules() {
+        if (itemSchedules == null) {
+            ItemSchedules schedules = new ItemSchedules();
+            visitAll((itemId, borrower, lender, createdDay, duration, cents)
+                -> schedules.add(itemId, createdDay, duration));
+            itemSchedules = schedules;
+        }
+        return itemSchedules;
+    }
+
+    /**
+     * Gets the totals of each lender, borrower and item over all transactions, adding up all
+     * transactions the first time.
+     *
+     * @return The totals of all transactions
+     */
+    public TransactionTotals getTotals() {
+        if (totals == null) {
+            TransactionTotals allTotals = new TransactionTotals();
+            visitAll(allTotals);
+            totals = allTotals;
+        }
+        return totals;
+    }
+
+    /**
+     * Adds up the totals of each lender, borrower and item over the transactions created in a period,
+     * in one pass over the transactions.
+     *
+     * @param fromDay The first created day to count as an epoch day
+     * @param toDay   The last created day to count as an epoch day
+     * @return The totals of the transactions created in the period
+     */
+    public TransactionTotals getTotals(long fromDay, long toDay) {
+        TransactionTotals periodTotals = new TransactionTotals();
+        visitAll((itemId, borrower, lender, createdDay, duration, cents) -> {
+            if (createdDay >= fromDay && createdDay <= toDay) {
+                periodTotals.add(itemId, borrower, lender, cents);
+            }
+        });
+        return periodTotals;
+    }
+
+    /**
+     * Gets the rollups of all transactions, or null if none have been attached.
+     *
+     * @return The rollups of all transactions
+     */
+    public TransactionRollups getRollups() {
+        return rollups;
+    }
+
+    /**
+     * Attaches rollups that count exactly the transactions in this list, to keep them up to date
+     * as transactions are added, updated and deleted.
+     *
+     * @param rollups The rollups of all transactions
+     */
+    public void setRollups(TransactionRollups rollups) {
+        assert rollups.isConsistentWith(this) : "Rollups must count the transactions in the list";
+        this.rollups = rollups;
+    }
+
+    /**
+     * Gets the sketches of all transactions, or null if none have been attached.
+     *
+     * @return The sketches of all transactions
+     */
+    public TransactionSketches getSketches() {
+        return sketches;
+    }
+
+    /**
+     * Attaches sketches that count exactly the transactions in this list, to keep them up to date
+     * as transactions are added, updated and deleted.
+     *
+     * @param sketches The sketches of all transactions
+     */
+    public void setSketches(TransactionSketches sketches) {
+        assert sketches.isConsistentWith(this) : "Sketches must count the transactions in the list";
+        this.sketches = sketches;
+    }
+
+    /**
+     * Gets the history of changes to the transactions, starting it today from the transactions as they
+     * are now the first time if none has been attached.
+     *
+     * @return The history of the transactions
+     */
+    public TransactionHistory getHistory() {
+        if (history == null) {
+            history = new TransactionHistory();
+        }
+        return history;
+    }
+
+    /**
+     * Gets the transactions as they were recorded at the end of a day.
+     *
+     * @param day The day
+     * @return The transactions as of the day, in the order of their created days
+     */
+    public List<Transaction> getTransactionsAsOf(LocalDate day) {
+        CommandMetrics.addRowsScanned(transactionList.size());
+        return getHistory().getTransactionsAsOf(day, transactionList);
+    }
+
+    /**
+     * Gets the transactions as they were recorded at the end of a day.
+     *
+     * @param day The day
+     * @return A new list of the transactions as of the day
+     */
+    public TransactionList getTransactionListAsOf(LocalDate day) {
+        return new TransactionList(getTransactionsAsOf(day));
+    }
+
+    /**
+     * Attaches a history that ends with the transactions in this list, to record every later change,
+     * and builds its checkpoints from the transactions.
+     *
+     * @param history The history of the transactions
+     */
+    public void setHistory(TransactionHistory history) {
+        this.history = history;
+        history.buildCheckpoints(transactionList);
+    }
+
+    private void recordChange(TransactionHistory.ChangeType type, Transaction transaction,
+            Transaction oldTransaction) {
+        if (history != null) {
+            history.record(type, transaction, oldTransaction);
+            history.leaveCheckpointIfDue(transactionList);
+        }
+    }
+
+    private void addToIndexes(Transaction transaction) {
+        if (itemSchedules != null) {
+            itemSchedules.add(transaction.getItemId(), transaction.getCreatedAt().toEpochDay(),
+                    transaction.getDuration());
+        }
+        if (totals != null) {
+            totals.add(transaction.getItemId(), transaction.getBorrower(), transaction.getLender(),
+                    transaction.getMoneyTransacted());
+        }
+        if (rollups != null) {
+            rollups.add(transaction.getItemId(), transaction.getCreatedAt().toEpochDay(),
+                    transaction.getDuration(), transaction.getMoneyTransacted());
+        }
+        if (sketches != null) {
+            sketches.add(transaction.getItemId(), transaction.getBorrower());
+        }
+    }
+
+    private void removeFromIndexes(Transaction transaction) {
+        if (itemSchedules != null) {
+            itemSchedules.remove(transaction.getItemId(), transaction.getCreatedAt().toEpochDay(),
+                    transaction.getDuration());
+        }
+        if (totals != null) {
+            totals.remove(transaction.getItemId(), transaction.getBorrower(), transaction.getLender(),
+                    transaction.getMoneyTransacted());
+        }
+        if (rollups != null) {
+            rollups.remove(transaction.getItemId(), transaction.getCreatedAt().toEpochDay(),
+                    transaction.getDuration(), transaction.getMoneyTransacted());
+        }
+        if (sketches != null) {
+            sketches.remove(transaction.getItemId(), transaction.getBorrower());
+        }
+    }
+
+    /**
+     * Gets the transactions that may be unfinished. Archived transactions are all finished,
+     * so they are left out and never have to be read back into the heap.
+     *
+     * @return The transactions that may be unfinished
+     */
+    private List<Transaction> getTransactionsThatMayBeUnfinished() {
+        if (transactionList instanceof TieredTransactions) {
+            return ((TieredTransactions) transactionList).getActive();
+        }
+        return transactionList;
+    }
+
+    /**
+     * Gets the transactions of an item, reading only the matching records from the archive.
+     *
+     * @param itemId The shared id of the item
+     * @return The transactions of the item
+     */
+    private List<Transaction> getTransactionsOfItem(String itemId) {
+        List<Transaction> transactions = new ArrayList<>();
+        List<Transaction> activeTransactions = transactionList;
+        if (transactionList instanceof TieredTransactions) {
+            TieredTransactions tiers = (TieredTransactions) transactionList;
+            transactions.addAll(tiers.getArchive().getTransactionsOfItem(itemId));
+            activeTransactions = tiers.getActive();
+        }
+        for (Transaction transaction : activeTransactions) {
+            if (transaction.getItemId() == itemId) {
+                transactions.add(transaction);
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Moves the finished transactions into the off-heap archive, if this list has one.
+     *
+     * @param today The current day
+     * @return The number of transactions archived
+     */
+    public int archiveFinished(LocalDate today) {
+        if (transactionList instanceof TieredTransactions) {
+            ListChangeEvent listChangeEvent = new ListChangeEvent();
+            listChangeEvent.begin();
+            int archivedCount = ((TieredTransactions) transactionList).archiveFinished(today);
+            listChangeEvent.commitChange(ListChangeEvent.TRANSACTIONS, ListChangeEvent.ARCHIVE, null, archivedCount);
+            return archivedCount;
+        }
+        return 0;
+    }
+
     // @@author bdthanh
 
     /**
@@ -191,9 +511,14 @@ public class TransactionList {
      * @return true If the list contains that person
      */
     public boolean hasThisBorrower(String username) {
-        int count = (int) transactionList.stream().filter(t -> !t.isFinished())
-                .filter(t -> t.getBorrower().equals(username)).count();
-        return count > 0;
+        List<Transaction> transactions = getTransactionsThatMayBeUnfinished();
+        if (transactions instanceof TransactionColumns) {
+            return ((TransactionColumns) transactions).hasUnfinishedOfBorrower(username, BusinessClock.today());
+        }
+        String borrower = SymbolTable.lookup(username);
+        LocalDate today = BusinessClock.today();
+        return borrower != null && transactions.stream()
+                .anyMatch(t -> t.getBorrower() == borrower && !t.getReturnDate().isBefore(today));
     }
 
     /**
@@ -204,8 +529,12 @@ public class TransactionList {
      */
     public void checkOldTransactionsOverlapWithNew(Transaction transactionToCheck)
             throws InvalidTransactionException {
-        List<Transaction> transactions = transactionList.stream()
-                .filter(t -> t.getItemId().equals(transactionToCheck.getItemId()))
+        // The schedules answer most checks, so the transactions are only read to name the overlap
+        if (getItemSchedules().isFree(transactionToCheck.getItemId(), transactionToCheck.getCreatedAt().toEpochDay(),
+                transactionToCheck.getReturnDate().toEpochDay())) {
+            return;
+        }
+        List<Transaction> transactions = getTransactionsOfItem(transactionToCheck.getItemId()).stream()
                 .filter(t -> t.checkOverlapToAddTx(transactionToCheck))
                 .collect(Collectors.toList());
         int count = transactions.size();
@@ -238,8 +567,7 @@ public class TransactionList {
      */
     public void checkOldTransactionsOverlapWithUpdated(Transaction transactionToCheck)
             throws InvalidTransactionException {
-        List<Transaction> transactions = transactionList.stream()
-                .filter(t -> t.getItemId().equals(transactionToCheck.getItemId()))
+        List<Transaction> transactions = getTransactionsOfItem(transactionToCheck.getItemId()).stream()
                 .filter(t -> t.checkOverlapToUpdateTx(transactionToCheck))
                 .collect(Collectors.toList());
         int count = transactions.size();
@@ -256,9 +584,49 @@ public class TransactionList {
      * @return true If the list contains that item
      */
     public boolean hasThisItemBeingBorrowed(String itemId) {
-        int count = (int) transactionList.stream().filter(t -> !t.isFinished())
-                .filter(t -> t.getItemId().equals(itemId)).count();
-        return count > 0;
+        List<Transaction> transactions = getTransactionsThatMayBeUnfinished();
+        if (transactions instanceof TransactionColumns) {
+            return ((TransactionColumns) transactions).hasUnfinishedOfItem(itemId, BusinessClock.today());
+        }
+        String sharedItemId = SymbolTable.lookup(itemId);
+        LocalDate today = BusinessClock.today();
+        return sharedItemId != null && transactions.stream()
+                .anyMatch(t -> t.getItemId() == sharedItemId && !t.getReturnDate().isBefore(today));
+    }
+
+    /**
+     * Gets the IDs of all items being borrowed right now, so that listing many items
+     * does not scan the transactions once per item.
+     *
+     * @return The set of item IDs with an unfinished transaction
+     */
+    public Set<String> getItemIdsBeingBorrowed() {
+        Set<String> itemIds = new HashSet<>();
+        LocalDate today = BusinessClock.today();
+        for (Transaction transaction : getTransactionsThatMayBeUnfinished()) {
+            if (!transaction.getReturnDate().isBefore(today)) {
+                itemIds.add(transaction.getItemId());
+            }
+        }
+        return itemIds;
+    }
+
+    /**
+     * Counts the transactions that were unfinished on a previous day and are finished today.
+     *
+     * @param previousDay The previous day
+     * @param today       The current day
+     * @return The number of transactions whose return date is from previousDay to the day before today
+     */
+    public int countFinishedSince(LocalDate previousDay, LocalDate today) {
+        int count = 0;
+        for (Transaction transaction : getTransactionsThatMayBeUnfinished()) {
+            LocalDate returnDate = transaction.getReturnDate();
+            if (!returnDate.isBefore(previousDay) && returnDate.isBefore(today)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -274,30 +642,34 @@ public class TransactionList {
         return formattedString.toString();
     }
 
-    private void checkValidId(String transactionId) throws DuplicateException {
-        try {
-            this.getTransactionById(transactionId);
-            throw new DuplicateException(MESSAGE_DUPLICATE_TRANSACTION_ID);
-        } catch (TransactionNotFoundException e) {
-            return;
-        }
-    }
-
-
     /**
      * Checks if the duration is valid or not.
      *
      * @param duration The input duration
      * @throws DurationInvalidException If the number is less than 0
      */
-    private void checkValidDuration(String duration) throws DurationInvalidException {
+    private static void checkValidDuration(String duration) throws DurationInvalidException {
+        parseDuration(duration);
+    }
+
+    /**
+     * Parses a duration after checking it is valid.
+     *
+     * @param duration The input duration
+     * @return The duration in days
+     * @throws DurationInvalidException If the number is less than 0 or more than 1461
+     */
+    public static int parseDuration(String duration) throws DurationInvalidException {
+        int days;
         try {
-            if (Integer.parseInt(duration) < 0 || Integer.parseInt(duration) > 1461) {
-                throw new DurationInvalidException(MESSAGE_DURATION_INVALID);
-            }
+            days = Integer.parseInt(duration);
         } catch (NumberFormatException e) {
             throw new NumberFormatException(MESSAGE_NUMBER_FORMAT_INVALID);
         }
+        if (days < 0 || days > 1461) {
+            throw new DurationInvalidException(MESSAGE_DURATION_INVALID);
+        }
+        return days;
     }
 
     /**
@@ -306,62 +678,63 @@ public class TransactionList {
      * @param createdAt The input created date of transaction
      * @throws DateFormatInvalidException If the date is in wrong format or after the current day
      */
-    private void checkValidCreatedDate(String createdAt) throws DateFormatInvalidException {
-        LocalDate validBeginningDate = LocalDate.parse("2016-01-01");
+    private static void checkValidCreatedDate(String createdAt) throws DateFormatInvalidException {
+        parseCreatedDate(createdAt);
+    }
+
+    /**
+     * Parses the created date of a transaction after checking it is valid.
+     *
+     * @param createdAt The input created date of transaction
+     * @return The created date
+     * @throws DateFormatInvalidException If the date is in wrong format or after the current day
+     */
+    public static LocalDate parseCreatedDate(String createdAt) throws DateFormatInvalidException {
+        LocalDate createdDate;
         try {
-            if (LocalDate.parse(createdAt).isAfter(LocalDate.now())
-                    || LocalDate.parse(createdAt).isBefore(validBeginningDate)) {
-                throw new DateFormatInvalidException(MESSAGE_CREATED_DATE_RANGE_INVALID);
-            }
+            createdDate = LocalDate.parse(createdAt);
         } catch (DateTimeParseException e) {
             throw new DateFormatInvalidException(MESSAGE_DATE_FORMAT_INVALID);
         }
+        if (createdDate.isAfter(BusinessClock.today()) || createdDate.isBefore(VALID_BEGINNING_DATE)) {
+            throw new DateFormatInvalidException(MESSAGE_CREATED_DATE_RANGE_INVALID);
+        }
+        return createdDate;
     }
 
     /**
-     * Checks if storage duration created date and transaction ID is valid or not.
+     * Checks if input duration and created date is valid or not.
      *
      * @param args The array of input arguments
      * @throws DateFormatInvalidException If date of wrong format
      * @throws DurationInvalidException If duration is out of range or wrong format
-     * @throws DuplicateException If there is at least one transaction with the same ID
      */
-    public void checkValidArgsForStorage(String[] args)
-            throws DateFormatInvalidException, DurationInvalidException, DuplicateException {
+    public static void checkValidArgsForAdding(String[] args)
+            throws DateFormatInvalidException, DurationInvalidException {
         checkValidDuration(args[DURATION_INDEX]);
         checkValidCreatedDate(args[CREATED_DATE_INDEX]);
-        checkValidId(args[TX_ID_INDEX]);
     }
 
     /**
-     * Checks if input duration and created date is valid or not.
+     * Checks if moneyTransacted of transaction from storage is valid or not (max 2 dp).
      *
-     * @param args The array of input arguments
-     * @throws DateFormatInvalidException If date of wrong format
-     * @throws DurationInvalidException If duration is out of range or wrong format
+     * @param moneyTransacted The price from storage
+     * @throws InvalidPriceException If moneyTransacted is invalid
      */
-    public void checkValidArgsForAdding(String[] args)
-            throws DateFormatInvalidException, DurationInvalidException {
-        checkValidDuration(args[DURATION_INDEX]);
-        checkValidCreatedDate(args[CREATED_DATE_INDEX]);
+    public static void checkValidMoneyTransacted(String moneyTransacted) throws InvalidPriceException {
+        parseMoneyTransacted(moneyTransacted);
     }
 
     /**
-     * Checks if moneyTransacted of transaction from storage is valid or not (max 2 dp).
+     * Parses moneyTransacted of transaction from storage into cents after checking it is valid.
      *
      * @param moneyTransacted The price from storage
+     * @return The money transacted in cents
      * @throws InvalidPriceException If moneyTransacted is invalid
      */
-    public void checkValidMoneyTransacted(String moneyTransacted) throws InvalidPriceException {
-        try {
-            if (Double.parseDouble(moneyTransacted) < 0 || Double.parseDouble(moneyTransacted) > 15000000) {
-                throw new InvalidPriceException(MESSAGE_MONEY_TRANSACTED_OUT_OF_RANGE);
-            } else if (BigDecimal.valueOf(Double.parseDouble(moneyTransacted)).scale() > 2) {
-                throw new InvalidPriceException(MESSAGE_PRICE_TOO_MANY_DECIMALS);
-            }
-        } catch (NumberFormatException e) {
-            throw new NumberFormatException(MESSAGE_PRICE_FORMAT_INVALID);
-        }
+    public static long parseMoneyTransacted(String moneyTransacted) throws InvalidPriceException {
+        return MoneyParser.parseCents(moneyTransacted, MAX_MONEY_TRANSACTED_CENTS,
+                MESSAGE_MONEY_TRANSACTED_OUT_OF_RANGE);
     }
 
     /**
@@ -378,9 +751,11 @@ public class TransactionList {
             listString.append("Here are ").append(transactionList.size())
                     .append(" transaction(s) you want to view:");
         }
+        CommandMetrics.addRowsScanned(transactionList.size());
         int index = 1;
         for (Transaction transaction : transactionList) {
-            listString.append('\n').append(index++).append(". ").append(transaction);
+            listString.append('\n').append(index++).append(". ");
+            transaction.appendTo(listString);
         }
         return String.valueOf(listString);
     }
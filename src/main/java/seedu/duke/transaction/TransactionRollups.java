@@ -0,0 +1,307 @@
+package seedu.duke.transaction;
+
+import seedu.duke.exception.ItemNotFoundException;
+import seedu.duke.item.Category;
+import seedu.duke.item.ItemList;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// @@author bdthanh
+
+/**
+ * The number of transactions, rented days and money transacted of each day, week and month, overall
+ * and for each category. A transaction is counted in the day, week and month it is created. The rollups
+ * are kept up to date by {@link TransactionList} as transactions change, so a report over a period
+ * reads one bucket per day, week or month instead of going over the transactions.
+ *
+ * <p>The category of an item is found the first time one of its transactions is counted and then kept,
+ * so a transaction is always taken out of the same category it was counted in, even after its item is
+ * removed. Transactions of items that cannot be found are only counted overall.
+ *
+ * <p>A checksum of the item, created day, duration and money of every counted transaction is kept
+ * with the rollups, so stored rollups that count other transactions with the same number and total
+ * money are still found to be outdated.
+ */
+public class TransactionRollups {
+    public static final int COUNT = 0;
+    public static final int RENTED_DAYS = 1;
+    public static final int CENTS = 2;
+    static final int NUMBER_OF_FIGURES = 3;
+    static final int NUMBER_OF_SLOTS = 1 + Category.Categories.values().length;
+    private static final int OVERALL_SLOT = 0;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int DAYS_PER_WEEK = 7;
+    // 1970-01-01, epoch day 0, is a Thursday, which is 3 days after a Monday
+    private static final int EPOCH_DAY_OF_WEEK = 3;
+
+    private final ItemList itemList;
+    private final Map<Granularity, TreeMap<Long, long[]>> buckets = new EnumMap<>(Granularity.class);
+    private final Map<String, Integer> itemSlots = new HashMap<>();
+    private long numberOfTransactions = 0;
+    private long totalCents = 0;
+    private long checksum = 0;
+
+    /**
+     * The length of the buckets.
+     */
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH;
+
+        /**
+         * Gets the bucket a day is in. Days are kept by epoch day, weeks by the epoch day of their
+         * Monday and months by the number of months since year 0.
+         *
+         * @param epochDay The day as an epoch day
+         * @return The bucket
+         */
+        long getBucket(long epochDay) {
+            switch (this) {
+            case WEEK:
+                return epochDay - Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, DAYS_PER_WEEK);
+            case MONTH:
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                return (long) date.getYear() * MONTHS_PER_YEAR + date.getMonthValue() - 1;
+            default:
+                return epochDay;
+            }
+        }
+
+        /**
+         * Gets the first day of a bucket.
+         *
+         * @param bucket The bucket
+         * @return The first day
+         */
+        LocalDate getStartDate(long bucket) {
+            switch (this) {
+            case MONTH:
+                return YearMonth.of((int) Math.floorDiv(bucket, MONTHS_PER_YEAR),
+                        Math.floorMod(bucket, MONTHS_PER_YEAR) + 1).atDay(1);
+            default:
+                return LocalDate.ofEpochDay(bucket);
+            }
+        }
+    }
+
+    /**
+     * Constructor for TransactionRollups.
+     *
+     * @param itemList The list of items to find the categories in
+     */
+    public TransactionRollups(ItemList itemList) {
+        this.itemList = itemList;
+        for (Granularity granularity : Granularity.values()) {
+            buckets.put(granularity, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Makes the rollups of all transactions in one pass over them.
+     *
+     * @param transactionList The transactions
+     * @param itemList        The list of items to find the categories in
+     * @return The rollups
+     */
+    public static TransactionRollups build(TransactionList transactionList, ItemList itemList) {
+        TransactionRollups rollups = new TransactionRollups(itemList);
+        transactionList.visitAll((itemId, borrower, lender, createdDay, duration, cents)
+            -> rollups.add(itemId, createdDay, duration, cents));
+        return rollups;
+    }
+
+    void add(String itemId, long createdDay, int duration, long cents) {
+        addTo(getSlot(itemId), createdDay, 1, duration, cents);
+        checksum += getChecksum(itemId, createdDay, duration, cents);
+    }
+
+    void remove(String itemId, long createdDay, int duration, long cents) {
+        addTo(getSlot(itemId), createdDay, -1, -duration, -cents);
+        checksum -= getChecksum(itemId, createdDay, duration, cents);
+    }
+
+    /**
+     * Gets the checksum of one transaction. The checksums of all transactions are added up, so the
+     * sum does not depend on their order and a removed transaction is taken out by subtracting.
+     */
+    private static long getChecksum(String itemId, long createdDay, int duration, long cents) {
+        long hash = itemId.hashCode();
+        hash = hash * 31 + createdDay;
+        hash = hash * 31 + duration;
+        hash = hash * 31 + cents;
+        // Mixes the bits, as in SplitMix64, so that close transactions have unrelated checksums
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private void addTo(int slot, long createdDay, int count, int rentedDays, long cents) {
+        numberOfTransactions += count;
+        totalCents += cents;
+        for (Map.Entry<Granularity, TreeMap<Long, long[]>> entry : buckets.entrySet()) {
+            long[] values = entry.getValue().computeIfAbsent(entry.getKey().getBucket(createdDay),
+                bucket -> new long[NUMBER_OF_SLOTS * NUMBER_OF_FIGURES]);
+            addFigures(values, OVERALL_SLOT, count, rentedDays, cents);
+            if (slot != OVERALL_SLOT) {
+                addFigures(values, slot, count, rentedDays, cents);
+            }
+            if (values[OVERALL_SLOT * NUMBER_OF_FIGURES + COUNT] == 0) {
+                entry.getValue().remove(entry.getKey().getBucket(createdDay));
+            }
+        }
+    }
+
+    private static void addFigures(long[] values, int slot, int count, int rentedDays, long cents) {
+        values[slot * NUMBER_OF_FIGURES + COUNT] += count;
+        values[slot * NUMBER_OF_FIGURES + RENTED_DAYS] += rentedDays;
+        values[slot * NUMBER_OF_FIGURES + CENTS] += cents;
+    }
+
+    private int getSlot(String itemId) {
+        Integer slot = itemSlots.get(itemId);
+        if (slot == null) {
+            try {
+                slot = getSlot(itemList.getItemById(itemId).getCategory());
+            } catch (ItemNotFoundException e) {
+                slot = OVERALL_SLOT;
+            }
+            itemSlots.put(itemId, slot);
+        }
+        return slot;
+    }
+
+    private static int getSlot(Category.Categories category) {
+        return category == null ? OVERALL_SLOT : 1 + category.ordinal();
+    }
+
+    /**
+     * Gets the figures of the buckets from the one containing from to the one containing to.
+     * Only the buckets with transactions are read, so this takes time in the number of buckets.
+     *
+     * @param granularity The length of the buckets
+     * @param from        A day in the first bucket
+     * @param to          A day in the last bucket
+     * @param category    The category to get the figures of, or null for all categories
+     * @return The first day of each bucket with transactions, mapped to its count, rented days and money
+     */
+    public Map<LocalDate, long[]> getFigures(Granularity granularity, LocalDate from, LocalDate to,
+            Category.Categories category) {
+        int slot = getSlot(category);
+        Map<LocalDate, long[]> figures = new LinkedHashMap<>();
+        for (Map.Entry<Long, long[]> entry : buckets.get(granularity).subMap(granularity.getBucket(from.toEpochDay()),
+                true, granularity.getBucket(to.toEpochDay()), true).entrySet()) {
+            long[] values = Arrays.copyOfRange(entry.getValue(), slot * NUMBER_OF_FIGURES,
+                    (slot + 1) * NUMBER_OF_FIGURES);
+            if (values[COUNT] > 0) {
+                figures.put(granularity.getStartDate(entry.getKey()), values);
+            }
+        }
+        return figures;
+    }
+
+    /**
+     * Checks if the rollups count the same transactions as a list, by their number, total money and
+     * checksum. The checksum of the list is added up in one pass over its transactions, which is much
+     * less work than rebuilding the buckets.
+     *
+     * @param transactionList The transactions
+     * @return true If the rollups match the list
+     */
+    public boolean isConsistentWith(TransactionList transactionList) {
+        if (numberOfTransactions != transactionList.getSize()
+                || totalCents != transactionList.getTotalMoneyTransacted()) {
+            return false;
+        }
+        long[] listChecksum = new long[1];
+        transactionList.visitAll((itemId, borrower, lender, createdDay, duration, cents)
+            -> listChecksum[0] += getChecksum(itemId, createdDay, duration, cents));
+        return checksum == listChecksum[0];
+    }
+
+    /**
+     * Formats the rollups to store in hard-drive.
+     *
+     * @return A formatted string of the rollups
+     */
+    public String convertRollupsToFileFormat() {
+        String separator = " | ";
+        StringBuilder out = new StringBuilder();
+        out.append('T').append(separator).append(numberOfTransactions).append(separator).append(totalCents)
+                .append(separator).append(checksum).append('\n');
+        for (Map.Entry<String, Integer> entry : itemSlots.entrySet()) {
+            out.append('I').append(separator).append(entry.getKey()).append(separator).append(entry.getValue())
+                    .append('\n');
+        }
+        for (Map.Entry<Granularity, TreeMap<Long, long[]>> granularityBuckets : buckets.entrySet()) {
+            for (Map.Entry<Long, long[]> entry : granularityBuckets.getValue().entrySet()) {
+                out.append('B').append(separator).append(granularityBuckets.getKey()).append(separator)
+                        .append(entry.getKey());
+                for (long value : entry.getValue()) {
+                    out.append(separator).append(value);
+                }
+                out.append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reads the rollups stored in hard-drive.
+     *
+     * @param lines    The lines of the stored rollups
+     * @param itemList The list of items to find the categories of new items in
+     * @return The rollups
+     * @throws IllegalArgumentException If a line is in the wrong format
+     */
+    public static TransactionRollups parse(List<String> lines, ItemList itemList) {
+        TransactionRollups rollups = new TransactionRollups(itemList);
+        for (String line : lines) {
+            String[] args = line.split("\\|");
+            for (int i = 0; i < args.length; i++) {
+                args[i] = args[i].trim();
+            }
+            switch (args[0]) {
+            case "T":
+                checkNumberOfArgs(args, 4);
+                rollups.numberOfTransactions = Long.parseLong(args[1]);
+                rollups.totalCents = Long.parseLong(args[2]);
+                rollups.checksum = Long.parseLong(args[3]);
+                break;
+            case "I":
+                checkNumberOfArgs(args, 3);
+                int slot = Integer.parseInt(args[2]);
+                if (slot < 0 || slot >= NUMBER_OF_SLOTS) {
+                    throw new IllegalArgumentException("Invalid category slot: " + slot);
+                }
+                rollups.itemSlots.put(args[1], slot);
+                break;
+            case "B":
+                checkNumberOfArgs(args, 3 + NUMBER_OF_SLOTS * NUMBER_OF_FIGURES);
+                long[] values = new long[NUMBER_OF_SLOTS * NUMBER_OF_FIGURES];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = Long.parseLong(args[3 + i]);
+                }
+                rollups.buckets.get(Granularity.valueOf(args[1])).put(Long.parseLong(args[2]), values);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid rollup line: " + line);
+            }
+        }
+        return rollups;
+    }
+
+    private static void checkNumberOfArgs(String[] args, int numberOfArgs) {
+        if (args.length != numberOfArgs) {
+            throw new IllegalArgumentException("Invalid number of values: " + args.length);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package seedu.duke.transaction;
+
+import seedu.duke.exception.ItemNotFoundException;
+import seedu.duke.item.Category;
+import seedu.duke.item.ItemList;
+import seedu.duke.sketch.CountMinSketch;
+import seedu.duke.sketch.Hashing;
+import seedu.duke.sketch.HyperLogLog;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// @@author bdthanh
+
+/**
+ * Approximate answers about the transactions in a small, fixed space: a {@link HyperLogLog} of the
+ * borrowers of each item, and one {@link CountMinSketch} of how many times each user borrowed in each
+ * category. They are kept up to date by {@link TransactionList} as transactions change.
+ *
+ * <p>The category of an item is found the first time one of its transactions is counted and then kept,
+ * so a transaction is always taken out of the same category it was counted in, even after its item is
+ * removed.
+ *
+ * <p>The borrowers of an item with few borrowers are kept exactly, so a deleted transaction is taken
+ * out of them at once. Otherwise the item is only marked, and the borrowers of all marked items are
+ * made again in one pass over the transactions when they are next estimated, however many
+ * transactions were deleted in between.
+ */
+public class TransactionSketches {
+    private static final int NO_CATEGORY = 0;
+
+    private final ItemList itemList;
+    private final Map<String, HyperLogLog> itemBorrowers = new HashMap<>();
+    private final Map<String, Integer> itemCategories = new HashMap<>();
+    private final Set<String> itemsToRecount = new HashSet<>();
+    private CountMinSketch borrowsByCategory = new CountMinSketch();
+
+    /**
+     * Constructor for TransactionSketches.
+     *
+     * @param itemList The list of items to find the categories in
+     */
+    public TransactionSketches(ItemList itemList) {
+        this.itemList = itemList;
+    }
+
+    /**
+     * Makes the sketches of all transactions in one pass over them.
+     *
+     * @param transactionList The transactions
+     * @param itemList        The list of items to find the categories in
+     * @return The sketches
+     */
+    public static TransactionSketches build(TransactionList transactionList, ItemList itemList) {
+        TransactionSketches sketches = new TransactionSketches(itemList);
+        transactionList.visitAll((itemId, borrower, lender, createdDay, duration, cents)
+            -> sketches.add(itemId, borrower));
+        return sketches;
+    }
+
+    void add(String itemId, String borrower) {
+        itemBorrowers.computeIfAbsent(itemId, id -> new HyperLogLog()).add(Hashing.hash(borrower));
+        borrowsByCategory.add(getBorrowHash(borrower, getCategoryNumber(itemId)), 1);
+    }
+
+    /**
+     * Takes a transaction out of the count of borrows. Its borrower stays in the borrowers of the item,
+     * as an update does not change the borrower and only a deletion calls {@link #removeBorrower}.
+     *
+     * @param itemId   The id of the item
+     * @param borrower The name of the borrower
+     */
+    void remove(String itemId, String borrower) {
+        borrowsByCategory.add(getBorrowHash(borrower, getCategoryNumber(itemId)), -1);
+    }
+
+    /**
+     * Takes the borrower of a deleted transaction out of the borrowers of its item. If they are not
+     * kept exactly, the item is marked to be counted again instead.
+     *
+     * @param itemId   The id of the item
+     * @param borrower The name of the borrower
+     */
+    void removeBorrower(String itemId, String borrower) {
+        HyperLogLog borrowers = itemBorrowers.get(itemId);
+        if (borrowers == null) {
+            return;
+        }
+        if (!borrowers.remove(Hashing.hash(borrower))) {
+            itemsToRecount.add(itemId);
+        } else if (borrowers.isEmpty()) {
+            itemBorrowers.remove(itemId);
+        }
+    }
+
+    /**
+     * Makes the borrowers of the marked items again, in one pass over the transactions. Nothing is
+     * read if no item is marked.
+     *
+     * @param transactionList The transactions
+     */
+    public void recountBorrowers(TransactionList transactionList) {
+        if (itemsToRecount.isEmpty()) {
+            return;
+        }
+        Map<String, HyperLogLog> recounted = new HashMap<>();
+        transactionList.visitAll((itemId, borrower, lender, createdDay, duration, cents) -> {
+            if (itemsToRecount.contains(itemId)) {
+                recounted.computeIfAbsent(itemId, id -> new HyperLogLog()).add(Hashing.hash(borrower));
+            }
+        });
+        for (String itemId : itemsToRecount) {
+            itemBorrowers.remove(itemId);
+        }
+        itemBorrowers.putAll(recounted);
+        itemsToRecount.clear();
+    }
+
+    private int getCategoryNumber(String itemId) {
+        Integer categoryNumber = itemCategories.get(itemId);
+        if (categoryNumber == null) {
+            try {
+                categoryNumber = Category.setCategory(itemList.getItemById(itemId).getCategory());
+            } catch (ItemNotFoundException e) {
+                categoryNumber = NO_CATEGORY;
+            }
+            itemCategories.put(itemId, categoryNumber);
+        }
+        return categoryNumber;
+    }
+
+    private static long getBorrowHash(String borrower, int categoryNumber) {
+        return Hashing.hash(borrower + '|' + categoryNumber);
+    }
+
+    /**
+     * Estimates the number of distinct users who have borrowed an item, once
+     * {@link #recountBorrowers(TransactionList)} has been called after deletions.
+     *
+     * @param itemId The id of the item
+     * @return The estimate, which is exact if {@link #isDistinctBorrowersExact(String)}, and otherwise has
+     *         a relative standard error of {@link HyperLogLog#getStandardError()}
+     */
+    public long estimateDistinctBorrowers(String itemId) {
+        assert !itemsToRecount.contains(itemId) : "Borrowers of the item must be counted again first";
+        HyperLogLog borrowers = itemBorrowers.get(itemId);
+        return borrowers == null ? 0 : borrowers.estimate();
+    }
+
+    /**
+     * Checks if the borrowers of an item are kept exactly.
+     *
+     * @param itemId The id of the item
+     * @return true If the estimate of its distinct borrowers is exact
+     */
+    public boolean isDistinctBorrowersExact(String itemId) {
+        HyperLogLog borrowers = itemBorrowers.get(itemId);
+        return borrowers == null || borrowers.isExact();
+    }
+
+    /**
+     * Estimates how many times a user has borrowed items of a category.
+     *
+     * @param borrower The name of the borrower
+     * @param category The category
+     * @return The estimate, which is never too low and is too high by at most {@link #getBorrowsErrorBound()}
+     *         with a probability of {@link CountMinSketch#getConfidence()}
+     */
+    public long estimateBorrows(String borrower, Category.Categories category) {
+        return borrowsByCategory.estimate(getBorrowHash(borrower, Category.setCategory(category)));
+    }
+
+    public long getBorrowsErrorBound() {
+        return borrowsByCategory.getErrorBound();
+    }
+
+    /**
+     * Checks if the sketches count as many transactions as a list.
+     *
+     * @param transactionList The transactions
+     * @return true If the sketches match the list
+     */
+    public boolean isConsistentWith(TransactionList transactionList) {
+        return borrowsByCategory.getTotalCount() == transactionList.getSize();
+    }
+
+    /**
+     * Formats the sketches to store in hard-drive.
+     *
+     * @return A formatted string of the sketches
+     */
+    public String convertSketchesToFileFormat() {
+        String separator = " | ";
+        StringBuilder out = new StringBuilder();
+        out.append('C').append(separator).append(borrowsByCategory.toFileFormat()).append('\n');
+        for (Map.Entry<String, Integer> entry : itemCategories.entrySet()) {
+            out.append('I').append(separator).append(entry.getKey()).append(separator).append(entry.getValue())
+                    .append('\n');
+        }
+        for (Map.Entry<String, HyperLogLog> entry : itemBorrowers.entrySet()) {
+            out.append('H').append(separator).append(entry.getKey()).append(separator)
+                    .append(entry.getValue().toFileFormat()).append('\n');
+        }
+        for (String itemId : itemsToRecount) {
+            out.append('R').append(separator).append(itemId).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reads the sketches stored in hard-drive.
+     *
+     * @param lines    The lines of the stored sketches
+     * @param itemList The list of items to find the categories of new items in
+     * @return The sketches
+     * @throws IllegalArgumentException If a line is in the wrong format
+     */
+    public static TransactionSketches parse(List<String> lines, ItemList itemList) {
+        TransactionSketches sketches = new TransactionSketches(itemList);
+        for (String line : lines) {
+            String[] args = line.split("\\|");
+            for (int i = 0; i < args.length; i++) {
+                args[i] = args[i].trim();
+            }
+            switch (args[0]) {
+            case "C":
+                checkNumberOfArgs(args, 3);
+                sketches.borrowsByCategory = CountMinSketch.parse(args[1], args[2]);
+                break;
+            case "I":
+                checkNumberOfArgs(args, 3);
+                sketches.itemCategories.put(args[1], Integer.parseInt(args[2]));
+                break;
+            case "H":
+                checkNumberOfArgs(args, 3);
+                sketches.itemBorrowers.put(args[1], HyperLogLog.parse(args[2]));
+                break;
+            case "R":
+                checkNumberOfArgs(args, 2);
+                sketches.itemsToRecount.add(args[1]);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid sketch line: " + line);
+            }
+        }
+        return sketches;
+    }
+
+    private static void checkNumberOfArgs(String[] args, int numberOfArgs) {
+        if (args.length != numberOfArgs) {
+            throw new IllegalArgumentException("Invalid number of values: " + args.length);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.duke.transaction;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+// @@author bdthanh
+
+/**
+ * The number of transactions and the money transacted of each lender, each borrower and each item.
+ * The totals of all transactions are kept up to date by {@link TransactionList} as transactions
+ * change, so they can be read without going over the transactions again.
+ */
+public class TransactionTotals implements TransactionVisitor {
+    private final Map<String, Total> lenderTotals = new HashMap<>();
+    private final Map<String, Total> borrowerTotals = new HashMap<>();
+    private final Map<String, Total> itemTotals = new HashMap<>();
+
+    @Override
+    public void visit(String itemId, String borrower, String lender, long createdDay, int duration, long cents) {
+        add(itemId, borrower, lender, cents);
+    }
+
+    /**
+     * Adds a transaction to the totals.
+     *
+     * @param itemId   The id of the item
+     * @param borrower The name of the borrower
+     * @param lender   The name of the lender
+     * @param cents    The money transacted in cents
+     */
+    void add(String itemId, String borrower, String lender, long cents) {
+        addTo(lenderTotals, lender, cents, 1);
+        addTo(borrowerTotals, borrower, cents, 1);
+        addTo(itemTotals, itemId, cents, 1);
+    }
+
+    /**
+     * Removes a transaction from the totals.
+     *
+     * @param itemId   The id of the item
+     * @param borrower The name of the borrower
+     * @param lender   The name of the lender
+     * @param cents    The money transacted in cents
+     */
+    void remove(String itemId, String borrower, String lender, long cents) {
+        addTo(lenderTotals, lender, -cents, -1);
+        addTo(borrowerTotals, borrower, -cents, -1);
+        addTo(itemTotals, itemId, -cents, -1);
+    }
+
+    private static void addTo(Map<String, Total> totals, String key, long cents, int count) {
+        Total total = totals.computeIfAbsent(key, k -> new Total());
+        total.cents += cents;
+        total.count += count;
+        if (total.count == 0) {
+            totals.remove(key);
+        }
+    }
+
+    public Map<String, Total> getLenderTotals() {
+        return Collections.unmodifiableMap(lenderTotals);
+    }
+
+    public Map<String, Total> getBorrowerTotals() {
+        return Collections.unmodifiableMap(borrowerTotals);
+    }
+
+    public Map<String, Total> getItemTotals() {
+        return Collections.unmodifiableMap(itemTotals);
+    }
+
+    /**
+     * The number of transactions and the money transacted of one lender, borrower or item.
+     */
+    public static class Total {
+        private long cents = 0;
+        private int count = 0;
+
+        public long getCents() {
+            return cents;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.duke.transaction;
+
+// @@author bdthanh
+
+/**
+ * Receives the fields of each transaction in a scan over a {@link TransactionList}. The fields are
+ * given as they are stored, so scanning the archive or the columns never makes a {@link Transaction}.
+ */
+public interface TransactionVisitor {
+    /**
+     * Receives one transaction.
+     *
+     * @param itemId     The shared id of the item
+     * @param borrower   The shared name of the borrower
+     * @param lender     The shared name of the lender
+     * @param createdDay The created date as an epoch day
+     * @param duration   The duration in days
+     * @param cents      The money transacted in cents
+     */
+    void visit(String itemId, String borrower, String lender, long createdDay, int duration, long cents);
+}
@@ -0,0 +1,73 @@
+package seedu.duke.ui;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// @@author bdthanh
+
+/**
+ * The texts rendered most recently for the rows shown to the user, so showing the same rows again
+ * does not render them again. At most a fixed number of texts are kept, and the least recently used
+ * one is dropped first, so the memory used stays the same however many rows there are.
+ *
+ * <p>A text is keyed by the id of its row and by a variant, such as the day it was rendered for. An
+ * update makes a new row with the same id, so the text is only reused for a row equal to the one it
+ * was rendered from.
+ */
+public class RenderedTextCache {
+    private final Map<String, CachedText> entries;
+
+    /**
+     * Constructor for an empty RenderedTextCache.
+     *
+     * @param capacity The most texts to keep
+     */
+    public RenderedTextCache(int capacity) {
+        this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedText> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the text rendered for a row.
+     *
+     * @param id      The id of the row
+     * @param row     The row
+     * @param variant The variant of the text, e.g. the day it is rendered for
+     * @return The text, or null if it has to be rendered
+     */
+    public synchronized String get(String id, Object row, long variant) {
+        CachedText entry = entries.get(id);
+        if (entry == null || entry.variant != variant || !entry.row.equals(row)) {
+            return null;
+        }
+        return entry.text;
+    }
+
+    /**
+     * Keeps the text rendered for a row, in place of any text kept for the same id.
+     *
+     * @param id      The id of the row
+     * @param row     The row
+     * @param variant The variant of the text
+     * @param text    The text
+     */
+    public synchronized void put(String id, Object row, long variant, String text) {
+        entries.put(id, new CachedText(row, variant, text));
+    }
+
+    private static class CachedText {
+        private final Object row;
+        private final long variant;
+        private final String text;
+
+        private CachedText(Object row, long variant, String text) {
+            this.row = row;
+            this.variant = variant;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package seedu.duke.ui;
+
+// @@author bdthanh
+
+/**
+ * Writes one row of a list into a reused builder.
+ */
+public interface RowFormatter<T> {
+    void appendRow(StringBuilder out, T row);
+}
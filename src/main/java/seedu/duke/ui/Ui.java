@@ -2,16 +2,23 @@ package seedu.duke.ui;
 
 import seedu.duke.item.Item;
 import seedu.duke.item.ItemList;
+import seedu.duke.parser.MoneyParser;
 import seedu.duke.transaction.Transaction;
 import seedu.duke.transaction.TransactionList;
 import seedu.duke.user.User;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 // @@author jorellesee
 public class Ui {
     private static final Scanner input = new Scanner(System.in);
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
 
     public static final String logo =
             "                             _      \n" + " /\\ /\\ _ __   ___ _   _  ___| | ___ \n"
@@ -158,14 +165,18 @@ public class Ui {
      * Prints a message when viewing completed transactions.
      * 
      * @param transactions list containing all transactions
+     * @param day the day to show the transactions as of
      */
-    public static void viewCompletedTransactionsMessage(ArrayList<Transaction> transactions) {
+    public static void viewCompletedTransactionsMessage(ArrayList<Transaction> transactions, LocalDate day) {
         showLine();
         System.out.print(transactions.size() == 0 ? "There is no completed transaction\n"
                 : "Here are the completed transactions: \n");
+        StringBuilder out = new StringBuilder();
         for (Transaction transaction : transactions) {
-            System.out.print(transaction + "\n");
+            transaction.appendTo(out, day);
+            out.append('\n');
         }
+        System.out.print(out);
         showLine();
     }
 
@@ -173,14 +184,18 @@ public class Ui {
      * Prints a message when viewing uncompleted transactions.
      * 
      * @param transactions list containing all transactions
+     * @param day the day to show the transactions as of
      */
-    public static void viewUncompletedTransactionsMessage(ArrayList<Transaction> transactions) {
+    public static void viewUncompletedTransactionsMessage(ArrayList<Transaction> transactions, LocalDate day) {
         showLine();
         System.out.print(transactions.size() == 0 ? "There is no uncompleted transaction\n"
                 : "Here are the uncompleted transactions: \n");
+        StringBuilder out = new StringBuilder();
         for (Transaction transaction : transactions) {
-            System.out.print(transaction + "\n");
+            transaction.appendTo(out, day);
+            out.append('\n');
         }
+        System.out.print(out);
         showLine();
     }
 
@@ -231,15 +246,15 @@ public class Ui {
      * @param user user being viewed
      * @param userItems list of all items of user
      * @param transactionList list of all transactions
-     * @param loss total loss of a user
-     * @param gain total gain of a user
+     * @param loss total loss of a user in cents
+     * @param gain total gain of a user in cents
      */
     public static void viewUserMessage(User user, ItemList userItems,
-            TransactionList transactionList, Double loss, Double gain) {
+            TransactionList transactionList, long loss, long gain) {
         showLine();
         System.out.print("Here is the user you have requested to view: " + '\n' + user + "\n");
-        System.out.print("The user's gain is $" + String.format("%.2f", gain) + '\n');
-        System.out.print("The user's loss is $" + String.format("%.2f", loss) + '\n');
+        System.out.print("The user's gain is $" + MoneyParser.formatCents(gain) + '\n');
+        System.out.print("The user's loss is $" + MoneyParser.formatCents(loss) + '\n');
         System.out.print(userItems.toString(transactionList) + '\n');
         showLine();
     }
@@ -283,6 +298,43 @@ public class Ui {
         showLine();
     }
 
+    //@@author bdthanh
+
+    /**
+     * Prints some rows of a list through one buffered writer, so that a long list is never
+     * built into a single string. Rows are numbered by their position in the whole list.
+     *
+     * @param header       The line before the rows
+     * @param rows         The whole list
+     * @param startIndex   The index of the first row to print
+     * @param endIndex     The index after the last row to print
+     * @param rowFormatter The way to write one row
+     * @param footer       The line after the rows, or null if there is none
+     */
+    public static <T> void printRows(String header, List<T> rows, int startIndex, int endIndex,
+            RowFormatter<T> rowFormatter, String footer) {
+        showLine();
+        PrintWriter writer =
+                new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), OUTPUT_BUFFER_SIZE));
+        StringBuilder row = new StringBuilder();
+        writer.print(header);
+        for (int i = startIndex; i < endIndex; i++) {
+            row.setLength(0);
+            row.append('\n').append(i + 1).append(". ");
+            rowFormatter.appendRow(row, rows.get(i));
+            writer.append(row);
+        }
+        if (footer != null) {
+            writer.print('\n');
+            writer.print(footer);
+        }
+        writer.println();
+        writer.flush();
+        showLine();
+    }
+
+    //@@author jorellesee
+
     /**
      * Prints a generic error response.
      * 
@@ -1,5 +1,7 @@
 package seedu.duke.user;
 
+import seedu.duke.symbol.SymbolTable;
+
 //@@author chiewyx
 
 /**
@@ -18,7 +20,7 @@ public class User {
      * @param contactNumber The contact number of the user
      */
     public User(String name, int age, String contactNumber) {
-        this.name = name;
+        this.name = SymbolTable.intern(name);
         this.age = age;
         this.contactNumber = contactNumber;
     }
@@ -42,10 +44,20 @@ public class User {
      * @return A string representation of User
      */
     public String toString() {
-        String username = "Username: " + name + " ";
-        String age = "Age: " + this.age + " ";
-        String contactNumber = "Contact: " + this.contactNumber + " ";
-        return username + age + contactNumber;
+        StringBuilder userString = new StringBuilder();
+        appendTo(userString);
+        return userString.toString();
+    }
+
+    /**
+     * Appends a readable representation of the user, without building a string per field.
+     *
+     * @param out The builder to append to
+     */
+    public void appendTo(StringBuilder out) {
+        out.append("Username: ").append(name).append(' ')
+                .append("Age: ").append(age).append(' ')
+                .append("Contact: ").append(contactNumber).append(' ');
     }
 
     /**
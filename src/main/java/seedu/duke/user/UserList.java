@@ -6,6 +6,8 @@ import seedu.duke.exception.InvalidUserException;
 import seedu.duke.exception.ItemNotFoundException;
 import seedu.duke.exception.UserNotFoundException;
 import seedu.duke.item.ItemList;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.metrics.ListChangeEvent;
 
 import java.util.ArrayList;
 
@@ -57,7 +59,10 @@ public class UserList {
      * @param toAdd the user to be added
      */
     public void addUser(User toAdd) {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
         userList.add(toAdd);
+        listChangeEvent.commitChange(ListChangeEvent.USERS, ListChangeEvent.ADD, toAdd.getName(), 1);
     }
 
     /**
@@ -67,8 +72,11 @@ public class UserList {
      * @throws UserNotFoundException if user is not found
      */
     public void deleteUser(String userName) throws UserNotFoundException {
+        ListChangeEvent listChangeEvent = new ListChangeEvent();
+        listChangeEvent.begin();
         User user = getUserById(userName);
         userList.remove(user);
+        listChangeEvent.commitChange(ListChangeEvent.USERS, ListChangeEvent.DELETE, userName, 1);
     }
 
     /**
@@ -81,6 +89,7 @@ public class UserList {
     }
 
     public ArrayList<User> getUserList() {
+        CommandMetrics.addRowsScanned(userList.size());
         return this.userList;
     }
 
@@ -102,12 +111,16 @@ public class UserList {
      * @throws UserNotFoundException if user is not found
      */
     public User getUserById(String userName) throws UserNotFoundException {
+        int rows = 0;
         for (User user : userList) {
+            rows++;
             if (user.getName().equals(userName)) {
                 assert userName.equals(user.getName()) : "equals function not working";
+                CommandMetrics.addRowsScanned(rows);
                 return user;
             }
         }
+        CommandMetrics.addRowsScanned(rows);
         throw new UserNotFoundException(MESSAGE_USER_NOT_FOUND);
     }
 
@@ -120,6 +133,7 @@ public class UserList {
      */
     public UserList getUsersByKeyword(String keyword) throws UserNotFoundException {
         UserList returnList = new UserList();
+        CommandMetrics.addRowsScanned(userList.size());
         for (User user : userList) {
             if (user.getName().toLowerCase().contains(keyword.toLowerCase())) {
                 assert user.getName().toLowerCase()
@@ -146,9 +160,11 @@ public class UserList {
         } else {
             listString.append("Here are ").append(userList.size()).append(" user(s) in your list:");
         }
+        CommandMetrics.addRowsScanned(userList.size());
         int index = 1;
         for (User user : userList) {
-            listString.append('\n').append(index++).append(". ").append(user);
+            listString.append('\n').append(index++).append(". ");
+            user.appendTo(listString);
         }
         return String.valueOf(listString);
     }
@@ -156,6 +172,16 @@ public class UserList {
     //@@author bdthanh
     private void checkValidContactNumber(String contactNumber)
             throws ContactNumberInvalidException {
+        checkValidContactFormat(contactNumber);
+        for (User user : this.userList) {
+            if (contactNumber.equals(user.getContactNumber())) {
+                throw new ContactNumberInvalidException(MESSAGE_CONTACT_DUPLICATE);
+            }
+        }
+    }
+
+    private static void checkValidContactFormat(String contactNumber)
+            throws ContactNumberInvalidException {
         if (contactNumber.length() != CONTACT_LENGTH) {
             throw new ContactNumberInvalidException(MESSAGE_CONTACT_LENGTH_INVALID);
         }
@@ -166,33 +192,104 @@ public class UserList {
         } catch (NumberFormatException e) {
             throw new NumberFormatException(MESSAGE_CONTACT_FORMAT_INVALID);
         }
-        for (User user : this.userList) {
-            if (contactNumber.equals(user.getContactNumber())) {
-                throw new ContactNumberInvalidException(MESSAGE_CONTACT_DUPLICATE);
-            }
+    }
+
+    private static void checkValidAge(String age) throws InvalidUserException {
+        parseAge(age);
+    }
+
+    private void checkValidName(String userName) throws DuplicateException, InvalidUserException {
+        checkValidNameLength(userName);
+        checkNameNotTaken(userName);
+    }
+
+    private void checkNameNotTaken(String userName) throws DuplicateException {
+        try {
+            this.getUserById(userName);
+            throw new DuplicateException(MESSAGE_USERNAME_TAKEN);
+        } catch (UserNotFoundException e) {
+            return;
         }
     }
 
-    private void checkValidAge(String age) throws InvalidUserException {
+    /**
+     * Checks that no user has the given name or contact number yet.
+     *
+     * @param userName      The name of the new user
+     * @param contactNumber The contact number of the new user
+     * @throws DuplicateException            If the name is taken
+     * @throws ContactNumberInvalidException If the contact number is taken
+     */
+    public void checkNotTaken(String userName, String contactNumber)
+            throws DuplicateException, ContactNumberInvalidException {
+        checkNameNotTaken(userName);
+        checkValidContactNumber(contactNumber);
+    }
+
+    /**
+     * Checks the name of a user and returns it.
+     *
+     * @param userName The input name
+     * @return The name
+     * @throws InvalidUserException If the name is too long
+     */
+    public static String parseName(String userName) throws InvalidUserException {
+        checkValidNameLength(userName);
+        return userName;
+    }
+
+    /**
+     * Parses the age of a user after checking it is valid.
+     *
+     * @param age The input age
+     * @return The age
+     * @throws InvalidUserException If the age is out of range
+     */
+    public static int parseAge(String age) throws InvalidUserException {
+        int years;
         try {
-            if (Integer.parseInt(age) < AGE_LOWER_LIMIT || Integer.parseInt(age) > AGE_UPPER_LIMIT) {
-                throw new InvalidUserException(MESSAGE_USER_AGE_OUT_OF_RANGE);
-            }
+            years = Integer.parseInt(age);
         } catch (NumberFormatException e) {
             throw new NumberFormatException(MESSAGE_USER_AGE_INVALID);
         }
+        if (years < AGE_LOWER_LIMIT || years > AGE_UPPER_LIMIT) {
+            throw new InvalidUserException(MESSAGE_USER_AGE_OUT_OF_RANGE);
+        }
+        return years;
     }
 
-    private void checkValidName(String userName) throws DuplicateException, InvalidUserException {
+    /**
+     * Checks the format of a contact number and returns it.
+     *
+     * @param contactNumber The input contact number
+     * @return The contact number
+     * @throws ContactNumberInvalidException If the contact number has the wrong length or format
+     */
+    public static String parseContactNumber(String contactNumber) throws ContactNumberInvalidException {
+        checkValidContactFormat(contactNumber);
+        return contactNumber;
+    }
+
+    private static void checkValidNameLength(String userName) throws InvalidUserException {
         if (userName.length() > NAME_LIMIT) {
             throw new InvalidUserException(MESSAGE_NAME_LENGTH_INVALID);
         }
-        try {
-            this.getUserById(userName);
-            throw new DuplicateException(MESSAGE_USERNAME_TAKEN);
-        } catch (UserNotFoundException e) {
-            return;
-        }
+    }
+
+    /**
+     * Checks the fields of a new user without looking at other users in the list.
+     * Safe to call from several threads at once.
+     *
+     * @param args The array containing arguments.
+     * @throws ContactNumberInvalidException If contact is in wrong format
+     * @throws InvalidUserException          If name or age is invalid
+     */
+    public static void checkValidFieldsForUser(String[] args)
+            throws ContactNumberInvalidException, InvalidUserException {
+        assert args.length == NUMBER_OF_ARGS : "Args length is invalid";
+        checkValidNameLength(args[NAME_INDEX].trim());
+        checkValidAge(args[AGE_INDEX].trim());
+        checkValidContactFormat(args[CONTACT_INDEX].trim());
     }
 
     /**
@@ -214,16 +311,17 @@ public class UserList {
     /**
      * Checks if a borrower is valid or not.
      *
-     * @param args     The array of input args
-     * @param itemList The main item list
+     * @param itemId     The id of the item to borrow
+     * @param borrowerId The name of the borrower
+     * @param itemList   The main item list
      * @throws InvalidUserException  If the user borrows him/herself
      * @throws ItemNotFoundException If the item cannot be found
      * @throws UserNotFoundException If the user cannot be found
      */
-    public void checkValidBorrower(String[] args, ItemList itemList)
+    public void checkValidBorrower(String itemId, String borrowerId, ItemList itemList)
             throws InvalidUserException, ItemNotFoundException, UserNotFoundException {
-        String itemOwnerName = itemList.getItemById(args[0]).getOwnerId();
-        if (getUserById(args[1]).getName().equals(itemOwnerName)) {
+        String itemOwnerName = itemList.getItemById(itemId).getOwnerId();
+        if (getUserById(borrowerId).getName().equals(itemOwnerName)) {
             throw new InvalidUserException(MESSAGE_SELF_BORROWER);
         }
     }
@@ -0,0 +1,61 @@
+package seedu.duke.clock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// @@author bdthanh
+class BusinessClockTest {
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
+    }
+
+    @Test
+    void today_clockPassesMidnight_dayRollsOver() {
+        MovableClock clock = new MovableClock(Instant.parse("2022-10-10T23:59:59Z"));
+        BusinessClock.setClock(clock);
+        assertEquals(LocalDate.parse("2022-10-10"), BusinessClock.today());
+        clock.instant = Instant.parse("2022-10-11T00:00:00Z");
+        assertEquals(LocalDate.parse("2022-10-11"), BusinessClock.today());
+        clock.instant = Instant.parse("2022-10-09T12:00:00Z");
+        assertEquals(LocalDate.parse("2022-10-09"), BusinessClock.today());
+    }
+
+    @Test
+    void today_otherTimeZone_dayOfThatZone() {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-10-10T20:00:00Z"), ZoneId.of("Asia/Singapore")));
+        assertEquals(LocalDate.parse("2022-10-11"), BusinessClock.today());
+    }
+
+    private static class MovableClock extends Clock {
+        private Instant instant;
+
+        private MovableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
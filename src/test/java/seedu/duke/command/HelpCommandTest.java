@@ -10,8 +10,8 @@ public class HelpCommandTest {
 
     @Test
     void testCommandsDisplayed() {
-        int numCommands = 30;
-        int numHeaders = 7;
+        int numCommands = 40;
+        int numHeaders = 8;
         int linesPerHeader = 3;
         assertEquals(numCommands + numHeaders * linesPerHeader, command.toString().lines().count());
     }
@@ -0,0 +1,73 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.user.ListUsersCommand;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.parser.ArgumentScanner;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+public class PagedListCommandTest {
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final UserList userList = new UserList();
+
+    @BeforeEach
+    void initializeTest() {
+        for (int i = 0; i < 25; i++) {
+            userList.addUser(new User("user" + i, 20, String.valueOf(10000000 + i)));
+        }
+        System.setOut(new PrintStream(output));
+    }
+
+    @AfterEach
+    void restoreOutput() {
+        System.setOut(standardOut);
+    }
+
+    private String executeList(String input) throws DukeException {
+        new ListUsersCommand(ArgumentScanner.scan(input), userList).executeCommand();
+        return output.toString();
+    }
+
+    @Test
+    void executeCommand_secondPage_onlyRowsOfPagePrinted() throws DukeException {
+        String listing = executeList("list-users /page 2 /size 10");
+        assertTrue(listing.contains("showing 11 to 20"));
+        assertTrue(listing.contains("11. Username: user10 "));
+        assertFalse(listing.contains("21. "));
+        assertTrue(listing.contains("list-users /after user19 /size 10"));
+    }
+
+    @Test
+    void executeCommand_afterCursor_continuesToEnd() throws DukeException {
+        String listing = executeList("list-users /after user19");
+        assertTrue(listing.contains("21. Username: user20 "));
+        assertTrue(listing.contains("25. Username: user24 "));
+        assertFalse(listing.contains("To see more"));
+    }
+
+    @Test
+    void constructor_pageAndCursor_exceptionThrown() {
+        assertThrows(InvalidArgumentException.class,
+            () -> new ListUsersCommand(ArgumentScanner.scan("list-users /page 1 /after user3"), userList));
+        assertThrows(InvalidArgumentException.class,
+            () -> new ListUsersCommand(ArgumentScanner.scan("list-users /page 0"), userList));
+    }
+
+    @Test
+    void executeCommand_pageOutOfRange_exceptionThrown() {
+        assertThrows(InvalidArgumentException.class, () -> executeList("list-users /page 4"));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.duke.event;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.StoreFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// @@author bdthanh
+class EventBusTest {
+    @Test
+    void shutdown_eventsPublished_allEventsHandledInOrder() {
+        List<String> inputs = new ArrayList<>();
+        EventBus.register(new EventSubscriber() {
+            @Override
+            public boolean accepts(DukeEvent event) {
+                return event instanceof CommandExecutedEvent;
+            }
+
+            @Override
+            public void handle(List<DukeEvent> events) {
+                for (DukeEvent event : events) {
+                    inputs.add(((CommandExecutedEvent) event).getInput());
+                }
+            }
+        });
+        for (int i = 0; i < 1000; i++) {
+            EventBus.publish(new CommandExecutedEvent("list-items " + i));
+            EventBus.publish(new DataImportedEvent("user", i));
+        }
+        EventBus.shutdown();
+        assertEquals(1000, inputs.size());
+        assertEquals("list-items 0", inputs.get(0));
+        assertEquals("list-items 999", inputs.get(999));
+    }
+
+    @Test
+    void shutdown_subscriberFailedOnce_failureReportedAndEventsHandledAgain() {
+        EventBus.takeFailures();
+        List<String> inputs = new ArrayList<>();
+        EventBus.register(new EventSubscriber() {
+            private boolean hasFailed = false;
+
+            @Override
+            public boolean accepts(DukeEvent event) {
+                return event instanceof CommandExecutedEvent;
+            }
+
+            @Override
+            public void handle(List<DukeEvent> events) throws DukeException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new StoreFailureException("disk full");
+                }
+                for (DukeEvent event : events) {
+                    inputs.add(((CommandExecutedEvent) event).getInput());
+                }
+            }
+        });
+        EventBus.publish(new CommandExecutedEvent("help"));
+        EventBus.shutdown();
+        List<Exception> failures = EventBus.takeFailures();
+        assertEquals(1, failures.size());
+        assertEquals("disk full", failures.get(0).getMessage());
+        assertEquals(List.of("help"), inputs);
+    }
+}
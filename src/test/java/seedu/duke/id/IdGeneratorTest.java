@@ -2,7 +2,16 @@ package seedu.duke.id;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IdGeneratorTest {
 
@@ -10,4 +19,38 @@ class IdGeneratorTest {
     void generateId_generateTwice_twoIdAreDifferent() {
         assertNotEquals(IdGenerator.generateId(), IdGenerator.generateId());
     }
-}
\ No newline at end of file
+
+    // @@author bdthanh
+    @Test
+    void generateId_manyThreads_idsUniqueAndNotHex() {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 100000).parallel().forEach(i -> ids.add(IdGenerator.generateId()));
+        assertEquals(100000, ids.size());
+        for (String id : ids) {
+            assertEquals(8, id.length());
+            assertTrue(id.charAt(0) >= 'g' && id.charAt(0) <= 'z');
+        }
+    }
+
+    @Test
+    void generateId_afterLoadedId_idIsLarger() {
+        String loadedId = IdGenerator.generateId();
+        IdGenerator.advancePast("zzzzzzzz");
+        IdGenerator.advancePast("1a2b3c4d");
+        String id = IdGenerator.generateId();
+        assertTrue(id.compareTo(loadedId) > 0);
+        assertTrue(id.compareTo("zzzzzzzz") < 0);
+    }
+
+    @Test
+    void initialize_highWaterMarkInFile_idsContinueAfterMark() throws IOException {
+        File markFile = Files.createTempFile("id", ".txt").toFile();
+        markFile.deleteOnExit();
+        Files.writeString(markFile.toPath(), "2000000000000");
+        IdGenerator.initialize(markFile.getPath());
+        String id = IdGenerator.generateId();
+        assertTrue(id.compareTo(Long.toString(2000000000000L, 36)) > 0);
+        long mark = Long.parseLong(Files.readString(markFile.toPath()).trim());
+        assertTrue(mark > 2000000000000L);
+    }
+}
@@ -13,7 +13,7 @@ public class ItemTest {
 
     @BeforeEach
     void initializeTest() throws InvalidCategoryException {
-        item = new Item("pen", 2, 0.75, "jingwei");
+        item = new Item("pen", 2, 75, "jingwei");
     }
 
     @Test
@@ -27,8 +27,8 @@ public class ItemTest {
     }
 
     @Test
-    void getPricePerDay_expect_zeroPointSevenFive() {
-        assert (item.getPricePerDay() == 0.75);
+    void getPricePerDay_expect_seventyFiveCents() {
+        assertEquals(75, item.getPricePerDay());
     }
 
     @Test
@@ -38,8 +38,8 @@ public class ItemTest {
 
     @Test
     void updatePriceTest() throws InvalidCategoryException {
-        item = item.updatePrice(0.50);
-        assertEquals(0.50, item.getPricePerDay());
+        item = item.updatePrice(50);
+        assertEquals(50, item.getPricePerDay());
     }
 
     @Test
@@ -0,0 +1,46 @@
+package seedu.duke.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class AsyncLogHandlerTest {
+    @Test
+    void offer_bufferFull_returnFalse() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        List<Integer> elements = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(elements, 3));
+        assertEquals(List.of(0, 1, 2), elements);
+        assertTrue(buffer.offer(4));
+    }
+
+    @Test
+    void close_manyRecords_allRecordsWrittenAndFileRotated() throws IOException {
+        File logDirectory = Files.createTempDirectory("log").toFile();
+        String logFilePath = new File(logDirectory, "Duke.log").getPath();
+        AsyncLogHandler handler = new AsyncLogHandler(logFilePath, 2048, 2);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "Command executes successfully: list-items " + i));
+        }
+        handler.close();
+        assertTrue(new File(logFilePath + ".1").exists());
+        String lastFile = Files.readString(new File(logFilePath).toPath());
+        assertTrue(lastFile.contains("list-items 99"));
+        assertTrue(new File(logFilePath).length() <= 2048);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.UserStorage;
+import seedu.duke.transaction.Transaction;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// @@author bdthanh
+class FlightRecorderEventsTest {
+    private static List<RecordedEvent> readEvents(Recording recording, String eventName) throws Exception {
+        Path recordingFile = Files.createTempFile("duke", ".jfr");
+        recordingFile.toFile().deleteOnExit();
+        recording.dump(recordingFile);
+        return RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void addUserAndDeleteUser_thresholdLowered_listChangesRecorded() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ListChangeEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            UserList userList = new UserList();
+            userList.addUser(new User("yixiang", 22, "98126666"));
+            userList.deleteUser("yixiang");
+            recording.stop();
+            events = readEvents(recording, "seedu.duke.ListChange");
+        }
+        assertEquals(2, events.size());
+        assertEquals(ListChangeEvent.ADD, events.get(0).getString("operation"));
+        assertEquals(ListChangeEvent.DELETE, events.get(1).getString("operation"));
+        assertEquals(ListChangeEvent.USERS, events.get(1).getString("list"));
+        assertEquals("yixiang", events.get(1).getString("id"));
+        assertEquals(1, events.get(1).getLong("rowsTouched"));
+    }
+
+    @Test
+    void getTransactionsByUser_thresholdLowered_noListChangesRecorded() throws Exception {
+        TransactionList transactionList = new TransactionList();
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                LocalDate.parse("2022-10-01"), 300));
+        transactionList.addTransaction(new Transaction("2a2b3c4d", "pen", "28sd37h2", "bui", "jw", 1,
+                LocalDate.parse("2022-10-05"), 300));
+        List<RecordedEvent> events;
+        TransactionList borrowed;
+        TransactionList lent;
+        try (Recording recording = new Recording()) {
+            recording.enable(ListChangeEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            borrowed = transactionList.getBorrowTransactionsByUser("jw");
+            lent = transactionList.getLendTransactionsByUser("jw");
+            recording.stop();
+            events = readEvents(recording, "seedu.duke.ListChange");
+        }
+        assertEquals(0, events.size());
+        assertEquals(1, borrowed.getSize());
+        assertEquals("1a2b3c4d", borrowed.getTransactionList().get(0).getTxId());
+        assertEquals(1, lent.getSize());
+        assertEquals("2a2b3c4d", lent.getTransactionList().get(0).getTxId());
+    }
+
+    @Test
+    void writeData_recording_rowsAndBytesRecorded() throws Exception {
+        File userFile = Files.createTempFile("user", ".txt").toFile();
+        userFile.deleteOnExit();
+        UserList userList = new UserList();
+        userList.addUser(new User("yixiang", 22, "98126666"));
+        userList.addUser(new User("John Doe", 22, "92343802"));
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(StorageEvent.class);
+            recording.start();
+            new UserStorage(userFile.getPath()).writeData(userList);
+            recording.stop();
+            events = readEvents(recording, "seedu.duke.Storage");
+        }
+        assertEquals(1, events.size());
+        assertEquals(StorageEvent.WRITE, events.get(0).getString("operation"));
+        assertEquals(2, events.get(0).getLong("rows"));
+        assertEquals(userFile.length(), events.get(0).getLong("bytesWritten"));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.duke.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class LatencyHistogramTest {
+    @Test
+    void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 60; i++) {
+            histogram.record(i);
+        }
+        assertEquals(30, histogram.getValueAtPercentile(50));
+        assertEquals(60, histogram.getValueAtPercentile(99));
+        assertEquals(60, histogram.getMax());
+        assertEquals(30.5, histogram.getMean());
+    }
+
+    @Test
+    void getValueAtPercentile_largeValues_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100000; i++) {
+            histogram.record(i * 1000);
+        }
+        long median = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(median >= 50_000_000 && median <= 50_000_000 * 1.03, "median " + median);
+        assertTrue(p99 >= 99_000_000 && p99 <= 99_000_000 * 1.03, "p99 " + p99);
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void record_outOfRangeValues_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals((1L << 43) - 1, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void record_manyThreads_noValueLost() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    histogram.record(1000);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40000, histogram.getCount());
+        assertEquals(1000, histogram.getValueAtPercentile(99));
+    }
+}
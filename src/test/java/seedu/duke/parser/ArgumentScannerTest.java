@@ -0,0 +1,75 @@
+package seedu.duke.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.InvalidArgumentException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class ArgumentScannerTest {
+    private static final List<String> INPUTS = List.of(
+            "add-item /n pen /c 1 /p 2.5 /o bui",
+            "  add-user   /n  Bui Duc   /a 20/c 12345678  ",
+            "list-users",
+            "list-users /",
+            "list-users //p 1//",
+            "view-tx /t",
+            "view-tx /t\tab /x  ",
+            "sort-items /mode hl /min 1 /max 2 /cat 3",
+            "");
+
+    @Test
+    void scan_variousInputs_sameAsSplitting() throws InvalidArgumentException {
+        for (String input : INPUTS) {
+            String[] split = input.split("/");
+            ParsedInput parsedInput = ArgumentScanner.scan(input);
+            assertEquals(split[0].trim(), parsedInput.getCommand());
+            String[] parts = Arrays.copyOfRange(split, 1, split.length);
+            assertArrayEquals(parts, parsedInput.getParts());
+            for (int i = 0; i < parts.length; i++) {
+                assertEquals(CommandParser.getArgsDelimiter(parts[i]), parsedInput.getDelimiter(i));
+                if (parsedInput.getValue(i) == null) {
+                    int index = i;
+                    assertThrows(InvalidArgumentException.class, () -> CommandParser.getArgValue(parts[index]));
+                } else {
+                    assertEquals(CommandParser.getArgValue(parts[i]), parsedInput.getValue(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void scan_manyParts_allPartsKept() {
+        StringBuilder input = new StringBuilder("cmd");
+        for (int i = 0; i < 20; i++) {
+            input.append(" /d").append(i).append(' ').append(i);
+        }
+        ParsedInput parsedInput = ArgumentScanner.scan(input.toString());
+        assertEquals(20, parsedInput.getNumberOfParts());
+        assertEquals("d17", parsedInput.getDelimiter(17));
+        assertEquals("17", parsedInput.getValue(17));
+        assertEquals("d19", parsedInput.getDelimiter(19));
+    }
+
+    @Test
+    void scan_dataSeparator_detected() {
+        assertTrue(ArgumentScanner.scan("add-user /n a|b").hasDataSeparator());
+        assertFalse(ArgumentScanner.scan("add-user /n ab").hasDataSeparator());
+        assertNull(ArgumentScanner.scan("view-tx /t").getValue(0));
+    }
+
+    @Test
+    void getFactory_knownAndUnknownCommands() {
+        assertNotNull(CommandRegistry.getFactory(CommandRegistry.COMMAND_ADD_TX));
+        assertNull(CommandRegistry.getFactory("add-txs"));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.duke.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InsufficientArgumentsException;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidPriceException;
+import seedu.duke.item.ItemList;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ARGUMENT_EMPTY;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_ARGUMENT_MISSING;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_INVALID_PARTS;
+
+// @@author bdthanh
+class ArgumentSchemaTest {
+    private static final ArgumentSpec<String> ID = ArgumentSpec.text("i");
+    private static final ArgumentSpec<Long> PRICE = ArgumentSpec.optional("p", ItemList::parsePrice, 100L);
+    private static final ArgumentSpec<String> NOTE = ArgumentSpec.optional("note", value -> value, null);
+    private static final ArgumentSchema SCHEMA = ArgumentSchema.of(ID, PRICE, NOTE);
+
+    private static ParsedInput scan(String... parts) {
+        return ArgumentScanner.scan("cmd/" + String.join("/", parts));
+    }
+
+    @Test
+    void parse_allArgumentsGiven_typedValues() throws DukeException {
+        Arguments args = SCHEMA.parse(scan("i 28sd37h2 ", " p 2.5", "note  two words "));
+        assertEquals("28sd37h2", args.get(ID));
+        assertEquals(250, (long) args.get(PRICE));
+        assertEquals("two words", args.get(NOTE));
+        assertTrue(args.isGiven(PRICE));
+    }
+
+    @Test
+    void parse_optionalArgumentsLeftOut_defaultValues() throws DukeException {
+        Arguments args = SCHEMA.parse(scan("i 28sd37h2"));
+        assertEquals(100, (long) args.get(PRICE));
+        assertNull(args.get(NOTE));
+        assertFalse(args.isGiven(PRICE));
+    }
+
+    @Test
+    void parse_argumentGivenTwice_lastOneUsed() throws DukeException {
+        Arguments args = SCHEMA.parse(scan("i a", "i b"));
+        assertEquals("b", args.get(ID));
+    }
+
+    @Test
+    void parse_invalidParts_sameErrorsAsBefore() {
+        InvalidArgumentException unknown = assertThrows(InvalidArgumentException.class,
+            () -> SCHEMA.parse(scan("i a", "x 1")));
+        assertEquals(MESSAGE_INVALID_PARTS, unknown.getMessage());
+        InvalidArgumentException empty = assertThrows(InvalidArgumentException.class,
+            () -> SCHEMA.parse(scan("i ")));
+        assertEquals(MESSAGE_ARGUMENT_EMPTY, empty.getMessage());
+        assertThrows(InvalidPriceException.class, () -> SCHEMA.parse(scan("i a", "p 1.005")));
+        assertThrows(NumberFormatException.class, () -> SCHEMA.parse(scan("i a", "p abc")));
+    }
+
+    @Test
+    void parse_requiredArgumentMissing_exceptionThrown() {
+        InvalidArgumentException missing = assertThrows(InvalidArgumentException.class,
+            () -> SCHEMA.parse(scan("p 1")));
+        assertEquals(String.format(MESSAGE_ARGUMENT_MISSING, "i"), missing.getMessage());
+    }
+
+    @Test
+    void checkNumberOfParts_outOfRange_exceptionThrown() {
+        assertThrows(InsufficientArgumentsException.class, () -> SCHEMA.checkNumberOfParts(scan()));
+        assertDoesNotThrow(() -> SCHEMA.checkNumberOfParts(scan("i a", "p 1", "note b")));
+        assertThrows(InsufficientArgumentsException.class,
+            () -> SCHEMA.withMaxNumberOfParts(2).checkNumberOfParts(scan("i a", "p 1", "note b")));
+    }
+}
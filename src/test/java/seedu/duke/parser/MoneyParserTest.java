@@ -0,0 +1,48 @@
+package seedu.duke.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.InvalidPriceException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_OUT_OF_RANGE;
+import static seedu.duke.exception.message.ExceptionMessages.MESSAGE_PRICE_TOO_MANY_DECIMALS;
+
+// @@author bdthanh
+class MoneyParserTest {
+    private static final long MAX_CENTS = 1000000;
+
+    @Test
+    void parseCents_validAmounts_exactCents() throws InvalidPriceException {
+        assertEquals(1250, MoneyParser.parseCents("12.5", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertEquals(1205, MoneyParser.parseCents("12.05", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertEquals(50, MoneyParser.parseCents(".5", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertEquals(1200, MoneyParser.parseCents("12.000", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertEquals(MAX_CENTS, MoneyParser.parseCents("10000", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+    }
+
+    @Test
+    void parseCents_invalidAmounts_sameErrorsAsBefore() {
+        assertThrows(NumberFormatException.class,
+            () -> MoneyParser.parseCents("1.2.3", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertThrows(NumberFormatException.class,
+            () -> MoneyParser.parseCents("", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        InvalidPriceException tooManyDecimals = assertThrows(InvalidPriceException.class,
+            () -> MoneyParser.parseCents("1.005", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertEquals(MESSAGE_PRICE_TOO_MANY_DECIMALS, tooManyDecimals.getMessage());
+        InvalidPriceException outOfRange = assertThrows(InvalidPriceException.class,
+            () -> MoneyParser.parseCents("10000.001", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertEquals(MESSAGE_PRICE_OUT_OF_RANGE, outOfRange.getMessage());
+        assertThrows(InvalidPriceException.class,
+            () -> MoneyParser.parseCents("-0.01", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+        assertThrows(InvalidPriceException.class,
+            () -> MoneyParser.parseCents("99999999999999999999999", MAX_CENTS, MESSAGE_PRICE_OUT_OF_RANGE));
+    }
+
+    @Test
+    void formatCents_givenCents_twoDecimals() {
+        assertEquals("0.05", MoneyParser.formatCents(5));
+        assertEquals("12.50", MoneyParser.formatCents(1250));
+        assertEquals("-3.20", MoneyParser.formatCents(-320));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.duke.report;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.TransactionNotFoundException;
+import seedu.duke.transaction.Transaction;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.transaction.TransactionTotals;
+import seedu.duke.transaction.TransactionTotals.Total;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class LeaderboardTest {
+    TransactionList transactionList;
+
+    @BeforeEach
+    void initializeTest() {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-11-01T10:00:00Z"), ZoneOffset.UTC));
+        transactionList = new TransactionList();
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                LocalDate.parse("2022-10-01"), 300));
+        transactionList.addTransaction(new Transaction("2a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                LocalDate.parse("2022-10-05"), 300));
+        transactionList.addTransaction(new Transaction("3a2b3c4d", "ball", "5mvk2ncx", "bui", "tom", 1,
+                LocalDate.parse("2022-10-05"), 500));
+        transactionList.addTransaction(new Transaction("4a2b3c4d", "cup", "9zzzzzzz", "bui", "ann", 1,
+                LocalDate.parse("2022-10-09"), 100));
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
+    }
+
+    private static List<String> getKeys(Leaderboard leaderboard) {
+        return leaderboard.getEntries().stream().map(Map.Entry::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    void of_moreTotalsThanSize_bestKeptInOrder() {
+        Map<String, Total> lenderTotals = transactionList.getTotals().getLenderTotals();
+        assertEquals(List.of("bui", "tom", "ann"), getKeys(Leaderboard.of(lenderTotals, 5, Leaderboard.Ranking.MONEY)));
+        assertEquals(List.of("bui", "tom"), getKeys(Leaderboard.of(lenderTotals, 2, Leaderboard.Ranking.MONEY)));
+        Map<String, Total> itemTotals = transactionList.getTotals().getItemTotals();
+        // The other two items are rented once each, so the one with more money comes next
+        assertEquals(List.of("28sd37h2", "5mvk2ncx"),
+                getKeys(Leaderboard.of(itemTotals, 2, Leaderboard.Ranking.COUNT)));
+    }
+
+    @Test
+    void of_sameCount_brokenByMoney() {
+        Map<String, Total> borrowerTotals = transactionList.getTotals(LocalDate.parse("2022-10-05").toEpochDay(),
+                LocalDate.parse("2022-10-05").toEpochDay()).getBorrowerTotals();
+        assertEquals(List.of("bui", "jw"), getKeys(Leaderboard.of(borrowerTotals, 2, Leaderboard.Ranking.COUNT)));
+    }
+
+    @Test
+    void getTotals_afterChanges_keptUpToDate() throws TransactionNotFoundException, InvalidTransactionException {
+        TransactionTotals totals = transactionList.getTotals();
+        transactionList.updateTransaction("1a2b3c4d", 2, 700);
+        transactionList.deleteTransaction("3a2b3c4d");
+        assertEquals(1000, totals.getLenderTotals().get("bui").getCents());
+        assertEquals(2, totals.getLenderTotals().get("bui").getCount());
+        assertTrue(totals.getItemTotals().get("5mvk2ncx") == null);
+        Map<String, Total> recounted = transactionList.getTotals(Long.MIN_VALUE, Long.MAX_VALUE).getBorrowerTotals();
+        assertEquals(recounted.keySet(), totals.getBorrowerTotals().keySet());
+        assertEquals(recounted.get("bui").getCents(), totals.getBorrowerTotals().get("bui").getCents());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.duke.report;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.item.Item;
+import seedu.duke.transaction.TieredTransactions;
+import seedu.duke.transaction.Transaction;
+import seedu.duke.transaction.TransactionColumns;
+import seedu.duke.transaction.TransactionList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class UtilizationReportTest {
+    private static final LocalDate FROM = LocalDate.parse("2022-10-01");
+    private static final LocalDate TO = LocalDate.parse("2022-10-10");
+    List<Item> items;
+    List<Transaction> transactions;
+
+    @BeforeEach
+    void initializeTest() throws InvalidCategoryException {
+        items = new ArrayList<>();
+        items.add(new Item("28sd37h2", "pen", 2, 100, "bui"));
+        items.add(new Item("5mvk2ncx", "ball", 1, 100, "bui"));
+        transactions = new ArrayList<>();
+        // Days 1 to 4, then days 3 to 6 which overlap, so 6 days in total
+        transactions.add(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 4,
+                LocalDate.parse("2022-10-01"), 400));
+        transactions.add(new Transaction("2a2b3c4d", "pen", "28sd37h2", "jw", "bui", 4,
+                LocalDate.parse("2022-10-03"), 400));
+        // Starts before the period, so only 2 of its 4 days count
+        transactions.add(new Transaction("3a2b3c4d", "ball", "5mvk2ncx", "jw", "bui", 4,
+                LocalDate.parse("2022-09-29"), 401));
+        // Ends after the period, so only 1 of its 5 days counts
+        transactions.add(new Transaction("4a2b3c4d", "ball", "5mvk2ncx", "jw", "bui", 5,
+                LocalDate.parse("2022-10-10"), 500));
+        // Outside the period and of an item that is not reported
+        transactions.add(new Transaction("5a2b3c4d", "ball", "5mvk2ncx", "jw", "bui", 5,
+                LocalDate.parse("2022-10-20"), 500));
+        transactions.add(new Transaction("6a2b3c4d", "cup", "9zzzzzzz", "jw", "bui", 5,
+                LocalDate.parse("2022-10-02"), 500));
+    }
+
+    private void assertFigures(UtilizationReport report) {
+        assertEquals(10, report.getPeriodDays());
+        assertEquals(6, report.getOccupiedDays(0));
+        assertEquals(4, report.getIdleDays(0));
+        assertEquals(800, report.getRevenueCents(0));
+        assertEquals(3, report.getOccupiedDays(1));
+        assertEquals(7, report.getIdleDays(1));
+        assertEquals(201 + 100, report.getRevenueCents(1));
+    }
+
+    @Test
+    void compute_transactionsInList_overlapsMergedAndRevenueShared() {
+        assertFigures(UtilizationReport.compute(FROM, TO, items, new TransactionList(transactions)));
+    }
+
+    @Test
+    void compute_transactionsInColumnsAndArchive_sameFigures() {
+        TransactionColumns columns = new TransactionColumns();
+        columns.addAll(transactions);
+        assertFigures(UtilizationReport.compute(FROM, TO, items, new TransactionList(columns)));
+
+        TieredTransactions tiers = new TieredTransactions(new ArrayList<>(transactions));
+        tiers.archiveFinished(LocalDate.parse("2022-10-08"));
+        assertTrue(tiers.getArchive().size() > 0);
+        assertFigures(UtilizationReport.compute(FROM, TO, items, new TransactionList(tiers)));
+    }
+
+    @Test
+    void toString_twoCategories_categoryAndItemLines() {
+        String report = UtilizationReport.compute(FROM, TO, items, new TransactionList(transactions)).toString();
+        assertTrue(report.contains("SPORTS_EQUIPMENT (1 item(s))\n   Occupancy: 30.0%, idle days: 7, revenue: $3.01"));
+        assertTrue(report.contains("Item name: pen\n   Occupancy: 60.0%, idle days: 4, revenue: $8.00"));
+    }
+}
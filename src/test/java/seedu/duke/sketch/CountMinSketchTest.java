@@ -0,0 +1,21 @@
+package seedu.duke.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class CountMinSketchTest {
+    @Test
+    void estimate_manyValues_neverTooLowAndWithinBound() {
+        CountMinSketch sketch = new CountMinSketch();
+        for (int i = 0; i < 20000; i++) {
+            sketch.add(Hashing.hash("user" + (i % 5000)), 1);
+        }
+        sketch.add(Hashing.hash("user0"), -1);
+        long estimate = sketch.estimate(Hashing.hash("user0"));
+        assertTrue(estimate >= 3 && estimate <= 3 + sketch.getErrorBound(), "estimate " + estimate);
+        assertEquals(19999, sketch.getTotalCount());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.duke.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class HyperLogLogTest {
+    @Test
+    void estimate_fewValuesAddedTwice_closeToExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 20; i++) {
+            sketch.add(Hashing.hash("user" + i));
+            sketch.add(Hashing.hash("user" + i));
+        }
+        assertTrue(Math.abs(sketch.estimate() - 20) <= 1);
+    }
+
+    @Test
+    void estimate_manyValues_withinThreeStandardErrors() {
+        HyperLogLog sketch = new HyperLogLog();
+        int numberOfValues = 100000;
+        for (int i = 0; i < numberOfValues; i++) {
+            sketch.add(Hashing.hash("user" + i));
+        }
+        double relativeError = Math.abs(sketch.estimate() - numberOfValues) / (double) numberOfValues;
+        assertTrue(relativeError < 3 * HyperLogLog.getStandardError(), "relative error " + relativeError);
+    }
+
+    @Test
+    void parse_formattedSketch_sameEstimate() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1000; i++) {
+            sketch.add(Hashing.hash("user" + i));
+        }
+        assertEquals(sketch.estimate(), HyperLogLog.parse(sketch.toFileFormat()).estimate());
+    }
+
+    @Test
+    void remove_fewValues_keptExactly() {
+        HyperLogLog sketch = new HyperLogLog();
+        sketch.add(Hashing.hash("jw"));
+        sketch.add(Hashing.hash("jw"));
+        sketch.add(Hashing.hash("tom"));
+        assertTrue(sketch.remove(Hashing.hash("jw")));
+        assertEquals(2, sketch.estimate());
+        assertTrue(sketch.remove(Hashing.hash("jw")));
+        assertEquals(1, sketch.estimate());
+        assertTrue(sketch.remove(Hashing.hash("tom")));
+        assertTrue(sketch.isEmpty());
+    }
+
+    @Test
+    void add_moreThanExactValues_registersUsed() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 16; i++) {
+            sketch.add(Hashing.hash("user" + i));
+        }
+        assertTrue(sketch.isExact());
+        assertEquals(16, sketch.estimate());
+        assertEquals(sketch.estimate(), HyperLogLog.parse(sketch.toFileFormat()).estimate());
+        assertTrue(sketch.toFileFormat().length() < 344);
+        sketch.add(Hashing.hash("user16"));
+        assertFalse(sketch.isExact());
+        assertFalse(sketch.remove(Hashing.hash("user0")));
+        assertEquals(344, sketch.toFileFormat().length());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.InvalidArgumentException;
+import seedu.duke.exception.InvalidImportException;
+import seedu.duke.item.ItemList;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class BulkImporterTest {
+    UserList userList;
+    ItemList itemList;
+    TransactionList transactionList;
+    BulkImporter bulkImporter;
+
+    @BeforeEach
+    void initializeTest() {
+        userList = new UserList();
+        userList.addUser(new User("bui", 20, "12345678"));
+        itemList = new ItemList();
+        transactionList = new TransactionList();
+        bulkImporter = new BulkImporter(userList, itemList, transactionList);
+    }
+
+    @Test
+    void importLines_validUsers_allUsersAdded() throws InvalidImportException {
+        List<String> lines = List.of("jw | 21 | 87654321", "", "winston | 22 | 11112222");
+        assertEquals(2, bulkImporter.importLines(BulkImporter.TYPE_USER, lines, false));
+        assertEquals(3, userList.getSize());
+    }
+
+    @Test
+    void importLines_duplicateUserInBatch_nothingAdded() {
+        List<String> lines = List.of("jw,21,87654321", "jw,22,11112222");
+        InvalidImportException e = assertThrows(InvalidImportException.class,
+            () -> bulkImporter.importLines(BulkImporter.TYPE_USER, lines, true));
+        assertTrue(e.getMessage().contains("Row 2"));
+        assertEquals(1, userList.getSize());
+    }
+
+    @Test
+    void importLines_itemsWithoutId_idsGenerated() throws InvalidImportException {
+        List<String> lines = List.of("\"pen, blue\",2,0.5,bui", "ball,1,3,bui");
+        assertEquals(2, bulkImporter.importLines(BulkImporter.TYPE_ITEM, lines, true));
+        assertEquals("pen, blue", itemList.getItemList().get(0).getName());
+        assertEquals(8, itemList.getItemList().get(1).getItemId().length());
+    }
+
+    @Test
+    void importLines_itemOwnerNotFound_nothingAdded() {
+        List<String> lines = List.of("pen | 2 | 0.5 | bui", "ball | 1 | 3 | jw");
+        assertThrows(InvalidImportException.class,
+            () -> bulkImporter.importLines(BulkImporter.TYPE_ITEM, lines, false));
+        assertEquals(0, itemList.getListSize());
+    }
+
+    @Test
+    void importLines_overlappingTransactionsInBatch_nothingAdded() {
+        List<String> lines = List.of("28sd37h2 | bui | 5 | 2022-10-03 | jw | pen | 3.20 | 1a2b3c4d",
+                "28sd37h2 | bui | 5 | 2022-10-05 | jw | pen | 3.20 | 5e6f7a8b");
+        InvalidImportException e = assertThrows(InvalidImportException.class,
+            () -> bulkImporter.importLines(BulkImporter.TYPE_TRANSACTION, lines, false));
+        assertTrue(e.getMessage().contains("1a2b3c4d"));
+        assertEquals(0, transactionList.getSize());
+    }
+
+    @Test
+    void splitCsvLine_quotedValues_quotesRemoved() throws InvalidArgumentException {
+        String[] values = BulkImporter.splitCsvLine("\"say \"\"hi\"\"\",2");
+        assertEquals("say \"hi\"", values[0]);
+        assertEquals("2", values[1]);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.exception.StoreFailureException;
+import seedu.duke.exception.TransactionFileNotFoundException;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.transaction.TransactionList;
+import seedu.duke.user.User;
+import seedu.duke.user.UserList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class TransactionStorageTest {
+    UserList userList;
+    ItemList itemList;
+
+    @BeforeEach
+    void initializeTest() throws InvalidCategoryException {
+        userList = new UserList();
+        userList.addUser(new User("bui", 20, "12345678"));
+        userList.addUser(new User("jw", 21, "87654321"));
+        itemList = new ItemList();
+        itemList.addItem(new Item("28sd37h2", "pen", 2, 50, "bui"));
+    }
+
+    private TransactionStorage getStorage(List<String> lines) throws IOException {
+        Path transactionFile = Files.createTempFile("transaction", ".txt");
+        transactionFile.toFile().deleteOnExit();
+        Files.write(transactionFile, lines);
+        return new TransactionStorage(transactionFile.toString(), userList, itemList);
+    }
+
+    @Test
+    void loadData_validTransactions_allTransactionsLoaded()
+            throws IOException, TransactionFileNotFoundException, StoreFailureException {
+        TransactionStorage storage = getStorage(List.of(
+                "28sd37h2 | jw | 5 | 2022-10-10 | bui | pen | 2.5 | 5e6f7a8b",
+                "28sd37h2 | jw | 5 | 2022-10-03 | bui | pen | 2.5 | 1a2b3c4d",
+                ""));
+        TransactionList transactionList = storage.loadData();
+        assertEquals(2, transactionList.getSize());
+        assertEquals("5e6f7a8b", transactionList.getTransactionList().get(0).getTxId());
+    }
+
+    @Test
+    void loadData_overlappingTransactions_firstOverlappingLineReported() throws IOException {
+        TransactionStorage storage = getStorage(List.of(
+                "28sd37h2 | jw | 5 | 2022-10-10 | bui | pen | 2.5 | 5e6f7a8b",
+                "28sd37h2 | jw | 5 | 2022-10-01 | bui | pen | 2.5 | 9c9c9c9c",
+                "28sd37h2 | jw | 5 | 2022-10-03 | bui | pen | 2.5 | 1a2b3c4d"));
+        StoreFailureException e = assertThrows(StoreFailureException.class, storage::loadData);
+        assertTrue(e.getMessage().contains("line 3"));
+        assertTrue(e.getMessage().contains("9c9c9c9c"));
+    }
+}
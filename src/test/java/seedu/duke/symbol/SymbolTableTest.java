@@ -0,0 +1,41 @@
+package seedu.duke.symbol;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.transaction.Transaction;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// @@author bdthanh
+class SymbolTableTest {
+
+    @Test
+    void intern_equalStrings_sameObjectAndId() {
+        String first = new String("symbol-test-user");
+        String second = new String("symbol-test-user");
+        assertSame(SymbolTable.intern(first), SymbolTable.intern(second));
+        assertEquals(SymbolTable.idOf(first), SymbolTable.idOf(second));
+        assertSame(SymbolTable.intern(first), SymbolTable.valueOf(SymbolTable.idOf(second)));
+    }
+
+    @Test
+    void lookup_unknownString_nullAndNotAdded() {
+        int size = SymbolTable.getSize();
+        assertNull(SymbolTable.lookup("symbol-test-never-used"));
+        assertEquals(size, SymbolTable.getSize());
+    }
+
+    @Test
+    void transaction_namesFromDifferentLines_shared() {
+        Transaction first = new Transaction(new String("pen"), new String("28sd37h2"), new String("jw"),
+                new String("bui"), 5, LocalDate.parse("2022-10-10"), 250);
+        Transaction second = new Transaction(new String("pen"), new String("28sd37h2"), new String("jw"),
+                new String("bui"), 3, LocalDate.parse("2022-10-20"), 150);
+        assertSame(first.getItemId(), second.getItemId());
+        assertSame(first.getBorrower(), second.getBorrower());
+        assertSame(first.getLender(), second.getLender());
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.duke.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.TransactionNotFoundException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class ItemSchedulesTest {
+    private static final String ITEM_ID = "28sd37h2";
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2022-10-01");
+    TransactionList transactionList;
+
+    @BeforeEach
+    void initializeTest() {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-11-01T10:00:00Z"), ZoneOffset.UTC));
+        transactionList = new TransactionList();
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", ITEM_ID, "jw", "bui", 4,
+                FIRST_DAY.plusDays(2), 400));
+        transactionList.addTransaction(new Transaction("2a2b3c4d", "pen", ITEM_ID, "jw", "bui", 0,
+                FIRST_DAY.plusDays(10), 0));
+        transactionList.addTransaction(new Transaction("3a2b3c4d", "pen", ITEM_ID, "jw", "bui", 30,
+                FIRST_DAY.plusDays(15), 400));
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
+    }
+
+    private static boolean isFreeByScan(List<Transaction> transactions, Transaction transactionToCheck) {
+        return transactions.stream().noneMatch(t -> t.checkOverlapToAddTx(transactionToCheck));
+    }
+
+    @Test
+    void isFree_everyShortPeriod_sameAsOverlapCheck() {
+        ItemSchedules schedules = transactionList.getItemSchedules();
+        for (int start = 0; start < 50; start++) {
+            for (int duration = 0; duration < 10; duration++) {
+                LocalDate createdAt = FIRST_DAY.plusDays(start);
+                Transaction transactionToCheck = new Transaction("pen", ITEM_ID, "jw", "bui", duration,
+                        createdAt, 0);
+                assertEquals(isFreeByScan(transactionList.getTransactionList(), transactionToCheck),
+                        schedules.isFree(ITEM_ID, createdAt.toEpochDay(), createdAt.plusDays(duration).toEpochDay()),
+                        "start " + start + ", duration " + duration);
+            }
+        }
+    }
+
+    @Test
+    void findEarliestFreeDay_everyShortDuration_firstFreeDayByScan() {
+        ItemSchedules schedules = transactionList.getItemSchedules();
+        for (int start = 0; start < 50; start++) {
+            for (int duration = 0; duration < 10; duration++) {
+                long expectedDay = FIRST_DAY.plusDays(start).toEpochDay();
+                while (!isFreeByScan(transactionList.getTransactionList(), new Transaction("pen", ITEM_ID, "jw",
+                        "bui", duration, LocalDate.ofEpochDay(expectedDay), 0))) {
+                    expectedDay++;
+                }
+                assertEquals(expectedDay,
+                        schedules.findEarliestFreeDay(ITEM_ID, FIRST_DAY.plusDays(start).toEpochDay(), duration));
+            }
+        }
+    }
+
+    @Test
+    void isFree_afterUpdateAndDelete_schedulesKeptUpToDate()
+            throws TransactionNotFoundException, InvalidTransactionException {
+        ItemSchedules schedules = transactionList.getItemSchedules();
+        long day = FIRST_DAY.plusDays(7).toEpochDay();
+        assertTrue(schedules.isFree(ITEM_ID, day, day + 2));
+        transactionList.updateTransaction("1a2b3c4d", 6, 600);
+        assertFalse(schedules.isFree(ITEM_ID, day, day + 2));
+        transactionList.deleteTransaction("1a2b3c4d");
+        assertTrue(schedules.isFree(ITEM_ID, day, day + 2));
+        transactionList.addTransaction(new Transaction("4a2b3c4d", "pen", ITEM_ID, "jw", "bui", 1,
+                FIRST_DAY.plusDays(8), 100));
+        assertFalse(schedules.isFree(ITEM_ID, day, day + 2));
+        assertTrue(schedules.isFree("5mvk2ncx", day, day + 2));
+    }
+
+    @Test
+    void getItemSchedules_archivedTransactions_included() {
+        TieredTransactions tiers = new TieredTransactions(new ArrayList<>(transactionList.getTransactionList()));
+        tiers.archiveFinished(BusinessClock.today());
+        TransactionList tieredList = new TransactionList(tiers);
+        long day = FIRST_DAY.plusDays(3).toEpochDay();
+        assertFalse(tieredList.getItemSchedules().isFree(ITEM_ID, day, day + 1));
+    }
+}
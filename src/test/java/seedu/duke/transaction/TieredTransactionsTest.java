@@ -0,0 +1,108 @@
+package seedu.duke.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.TransactionNotFoundException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class TieredTransactionsTest {
+    TieredTransactions tiers;
+    TransactionList transactionList;
+    Transaction finished;
+    Transaction unfinished;
+
+    @BeforeEach
+    void initializeTest() {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-11-01T10:00:00Z"), ZoneOffset.UTC));
+        tiers = new TieredTransactions(new ArrayList<>());
+        transactionList = new TransactionList(tiers);
+        finished = new Transaction("5e6f7a8b", "pen", "28sd37h2", "jw", "bui", 5,
+                LocalDate.parse("2022-10-03"), 320);
+        unfinished = new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 10,
+                LocalDate.parse("2022-11-01"), 500);
+        transactionList.addTransaction(unfinished);
+        transactionList.addTransaction(finished);
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
+    }
+
+    @Test
+    void archiveFinished_finishedTransaction_movedOffHeapButStillListed()
+            throws TransactionNotFoundException {
+        assertEquals(1, transactionList.archiveFinished(BusinessClock.today()));
+        assertEquals(1, tiers.getArchive().size());
+        assertEquals(1, tiers.getActive().size());
+        assertEquals(finished, transactionList.getTransactionList().get(0));
+        assertEquals(finished, transactionList.getTransactionById("5e6f7a8b"));
+        assertEquals(2, transactionList.getLendTransactionsByUser("bui").getSize());
+        assertEquals(820, transactionList.getTotalMoneyTransacted());
+    }
+
+    @Test
+    void checks_archivedTransactions_stillSeen() {
+        transactionList.archiveFinished(BusinessClock.today());
+        assertTrue(transactionList.hasThisBorrower("jw"));
+        assertTrue(transactionList.hasThisItemBeingBorrowed("28sd37h2"));
+        Transaction overlapping = new Transaction("pen", "28sd37h2", "jw", "bui", 2,
+                LocalDate.parse("2022-10-04"), 100);
+        assertThrows(InvalidTransactionException.class,
+            () -> transactionList.checkOldTransactionsOverlapWithNew(overlapping));
+    }
+
+    @Test
+    void updateAndDelete_archivedTransaction_movedBackOrRemoved()
+            throws TransactionNotFoundException, InvalidTransactionException {
+        transactionList.archiveFinished(BusinessClock.today());
+        transactionList.updateTransaction("5e6f7a8b", 29, 1856);
+        assertEquals(0, tiers.getArchive().size());
+        assertEquals(29, transactionList.getTransactionById("5e6f7a8b").getDuration());
+        transactionList.updateTransaction("5e6f7a8b", 5, 320);
+        transactionList.archiveFinished(BusinessClock.today());
+        transactionList.deleteTransaction("5e6f7a8b");
+        assertEquals(0, tiers.getArchive().size());
+        assertFalse(transactionList.getTransactionList().contains(finished));
+    }
+
+    @Test
+    void set_archivedTransaction_keptAtIndexOrRefused() {
+        transactionList.archiveFinished(BusinessClock.today());
+        Transaction cheaper = finished.update(5, 100);
+        tiers.set(0, cheaper);
+        assertEquals(cheaper, tiers.get(0));
+        assertThrows(IllegalArgumentException.class, () -> tiers.set(0, finished.update(29, 1856)));
+        tiers.replace(0, finished.update(29, 1856));
+        assertEquals(0, tiers.getArchive().size());
+        assertEquals("5e6f7a8b", tiers.get(1).getTxId());
+    }
+
+    @Test
+    void remove_middleOfArchive_laterRecordsMovedDown() {
+        TransactionArchive archive = new TransactionArchive();
+        for (int i = 0; i < 100; i++) {
+            archive.add(new Transaction(String.format("%08x", i), "pen", "28sd37h2", "jw", "bui", 5,
+                    LocalDate.parse("2022-10-03"), i));
+        }
+        archive.remove(40);
+        assertEquals(99, archive.size());
+        assertEquals(39, archive.get(39).getMoneyTransacted());
+        assertEquals(41, archive.get(40).getMoneyTransacted());
+        assertEquals(99, archive.get(98).getMoneyTransacted());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.duke.transaction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.TransactionNotFoundException;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class TransactionColumnsTest {
+    TransactionList transactionList;
+    Transaction finished;
+    Transaction unfinished;
+
+    @BeforeEach
+    void initializeTest() {
+        transactionList = new TransactionList(new TransactionColumns());
+        finished = new Transaction("5e6f7a8b", "pen", "28sd37h2", "jw", "bui", 5,
+                LocalDate.parse("2022-10-03"), 320);
+        unfinished = new Transaction("ball", "0a1b2c3d", "bui", "jw", 10,
+                BusinessClock.today().minusDays(1), 10);
+        transactionList.addTransaction(finished);
+        transactionList.addTransaction(unfinished);
+    }
+
+    @Test
+    void get_storedTransactions_equalToOriginals() throws TransactionNotFoundException {
+        assertEquals(finished, transactionList.getTransactionList().get(0));
+        assertEquals(unfinished, transactionList.getTransactionById(unfinished.getTxId()));
+        assertEquals(finished.toString(), transactionList.getTransactionList().get(0).toString());
+    }
+
+    @Test
+    void add_idNotInBase36_keptAsIs() {
+        Transaction transaction = new Transaction("TX-1", "pen", "28sd37h2", "jw", "bui", 5,
+                LocalDate.parse("2022-11-03"), 320);
+        transactionList.addTransaction(transaction);
+        assertEquals("TX-1", transactionList.getTransactionList().get(2).getTxId());
+    }
+
+    @Test
+    void updateAndDelete_columns_sameAsList() throws TransactionNotFoundException, InvalidTransactionException {
+        transactionList.updateTransaction(unfinished.getTxId(), 20, 150);
+        assertEquals(20, transactionList.getTransactionById(unfinished.getTxId()).getDuration());
+        transactionList.deleteTransaction(finished.getTxId());
+        assertEquals(1, transactionList.getSize());
+        assertThrows(TransactionNotFoundException.class, () -> transactionList.deleteTransaction(finished.getTxId()));
+    }
+
+    @Test
+    void scans_columns_readPrimitiveFields() {
+        assertEquals(330, transactionList.getTotalMoneyTransacted());
+        assertTrue(transactionList.hasThisBorrower("bui"));
+        assertFalse(transactionList.hasThisBorrower("jw"));
+        assertTrue(transactionList.hasThisItemBeingBorrowed("0a1b2c3d"));
+        assertFalse(transactionList.hasThisItemBeingBorrowed("28sd37h2"));
+        assertFalse(transactionList.hasThisItemBeingBorrowed("unknown1"));
+    }
+}
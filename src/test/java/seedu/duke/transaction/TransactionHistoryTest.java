@@ -0,0 +1,198 @@
+package seedu.duke.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.StoreFailureException;
+import seedu.duke.exception.TransactionNotFoundException;
+import seedu.duke.storage.HistoryStorage;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class TransactionHistoryTest {
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2022-10-01");
+    TransactionList transactionList;
+
+    @BeforeEach
+    void initializeTest() {
+        setToday(FIRST_DAY);
+        transactionList = new TransactionList();
+        transactionList.setHistory(new TransactionHistory());
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
+    }
+
+    private static void setToday(LocalDate day) {
+        BusinessClock.setClock(Clock.fixed(day.atTime(10, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    private static List<String> getFileFormats(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::convertTransactionToFileFormat).collect(Collectors.toList());
+    }
+
+    @Test
+    void getTransactionsAsOf_manyChangesOverManyDays_sameAsListOnThatDay()
+            throws TransactionNotFoundException, InvalidTransactionException {
+        List<List<String>> expectedByDay = new ArrayList<>();
+        for (int day = 0; day < 300; day++) {
+            setToday(FIRST_DAY.plusDays(day));
+            transactionList.addTransaction(new Transaction("tx" + day, "pen", "item" + day % 7, "jw", "bui", 1,
+                    FIRST_DAY.plusDays(day), 100));
+            if (day % 3 == 0 && day > 0) {
+                transactionList.updateTransaction("tx" + (day / 6 * 2 + 1), 2, 200);
+            }
+            if (day % 5 == 0) {
+                transactionList.deleteTransaction("tx" + day / 5 * 4);
+            }
+            expectedByDay.add(getFileFormats(transactionList.getTransactionList()));
+        }
+        for (int day = 299; day >= 0; day--) {
+            assertEquals(expectedByDay.get(day),
+                    getFileFormats(transactionList.getTransactionsAsOf(FIRST_DAY.plusDays(day))), "day " + day);
+        }
+        // Attaching the history again builds its checkpoints in one pass instead of as changes are recorded
+        transactionList.setHistory(transactionList.getHistory());
+        for (int day = 0; day < 300; day += 7) {
+            assertEquals(expectedByDay.get(day),
+                    getFileFormats(transactionList.getTransactionsAsOf(FIRST_DAY.plusDays(day))), "day " + day);
+        }
+        assertTrue(transactionList.getTransactionsAsOf(FIRST_DAY.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    void reconcile_transactionsChangedOutsideHistory_changesRecorded() {
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY, 100));
+        transactionList.addTransaction(new Transaction("2a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY.plusDays(3), 100));
+        TransactionHistory history = transactionList.getHistory();
+        setToday(FIRST_DAY.plusDays(10));
+        Transaction addedByHand = new Transaction("3a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY.plusDays(9), 100);
+        List<Transaction> editedTransactions = List.of(transactionList.getTransactionList().get(1).update(4, 400),
+                addedByHand);
+        history.reconcile(editedTransactions);
+        // The removal and the update are recorded, but a transaction never recorded is taken as part of the base
+        assertEquals(4, history.getNumberOfChanges());
+        assertEquals(getFileFormats(editedTransactions),
+                getFileFormats(history.getTransactionsAsOf(FIRST_DAY.plusDays(10), editedTransactions)));
+        List<Transaction> expectedTransactions = new ArrayList<>(transactionList.getTransactionList());
+        expectedTransactions.add(addedByHand);
+        assertEquals(getFileFormats(expectedTransactions),
+                getFileFormats(history.getTransactionsAsOf(FIRST_DAY.plusDays(9), editedTransactions)));
+    }
+
+    @Test
+    void getUnsavedChangesInFileFormat_notMarkedSaved_sameChangesFormattedAgain() {
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY, 100));
+        TransactionHistory history = transactionList.getHistory();
+        String formattedChanges = history.getUnsavedChangesInFileFormat();
+        assertEquals("2022-10-01 | START\n"
+                + "2022-10-01 | ADD | 28sd37h2 | jw | 1 | 2022-10-01 | bui | pen | 1.00 | 1a2b3c4d\n",
+                formattedChanges);
+        // A save that failed did not mark the changes, so they are formatted again
+        assertEquals(formattedChanges, history.getUnsavedChangesInFileFormat());
+        history.markSavedUpTo(1);
+        assertEquals("", history.getUnsavedChangesInFileFormat());
+    }
+
+    @Test
+    void getTransactionsAsOf_transactionsBeforeStart_seenFromCreatedDayWithoutChanges()
+            throws TransactionNotFoundException, InvalidTransactionException {
+        TransactionList loadedList = new TransactionList();
+        loadedList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY.minusDays(20), 100));
+        loadedList.addTransaction(new Transaction("2a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY.minusDays(10), 100));
+        TransactionHistory history = new TransactionHistory();
+        loadedList.setHistory(history);
+        history.reconcile(loadedList.getTransactionList());
+        assertEquals(0, history.getNumberOfChanges());
+        setToday(FIRST_DAY.plusDays(1));
+        loadedList.updateTransaction("1a2b3c4d", 2, 200);
+        loadedList.deleteTransaction("2a2b3c4d");
+        assertEquals(2, history.getNumberOfChanges());
+        assertEquals(List.of("1a2b3c4d"), getTxIds(loadedList.getTransactionsAsOf(FIRST_DAY.minusDays(15))));
+        assertEquals(100, loadedList.getTransactionsAsOf(FIRST_DAY.minusDays(15)).get(0).getMoneyTransacted());
+        assertEquals(List.of("1a2b3c4d", "2a2b3c4d"), getTxIds(loadedList.getTransactionsAsOf(FIRST_DAY)));
+        assertEquals(List.of("1a2b3c4d"), getTxIds(loadedList.getTransactionsAsOf(FIRST_DAY.plusDays(1))));
+        assertEquals(200, loadedList.getTransactionsAsOf(FIRST_DAY.plusDays(1)).get(0).getMoneyTransacted());
+    }
+
+    private static List<String> getTxIds(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getTxId).collect(Collectors.toList());
+    }
+
+    @Test
+    void loadData_savedHistory_sameTransactionsAsOfEachDay() throws Exception {
+        File historyFile = Files.createTempFile("history", ".txt").toFile();
+        historyFile.deleteOnExit();
+        historyFile.delete();
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY, 100));
+        HistoryStorage historyStorage = new HistoryStorage(historyFile.getPath());
+        TransactionHistory history = historyStorage.loadData(transactionList);
+        transactionList.setHistory(history);
+        setToday(FIRST_DAY.plusDays(1));
+        transactionList.updateTransaction("1a2b3c4d", 3, 300);
+        transactionList.addTransaction(new Transaction("2a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY.plusDays(5), 100));
+        historyStorage.appendFormattedData(history.getUnsavedChangesInFileFormat());
+        history.markSavedUpTo(history.getNumberOfChanges());
+        TransactionHistory loadedHistory = historyStorage.loadData(transactionList);
+        assertEquals(2, loadedHistory.getNumberOfChanges());
+        for (int day = -1; day < 3; day++) {
+            LocalDate asOf = FIRST_DAY.plusDays(day);
+            assertEquals(getFileFormats(history.getTransactionsAsOf(asOf, transactionList.getTransactionList())),
+                    getFileFormats(loadedHistory.getTransactionsAsOf(asOf, transactionList.getTransactionList())),
+                    "day " + day);
+        }
+        assertEquals(100, loadedHistory.getTransactionsAsOf(FIRST_DAY, transactionList.getTransactionList())
+                .get(0).getMoneyTransacted());
+    }
+
+    @Test
+    void loadData_lastLineCutOff_linesBeforeKept() throws Exception {
+        File historyFile = Files.createTempFile("history", ".txt").toFile();
+        historyFile.deleteOnExit();
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                FIRST_DAY, 100));
+        String savedLines = "2022-10-01 | START\n"
+                + "2022-10-01 | ADD | 28sd37h2 | jw | 1 | 2022-10-01 | bui | pen | 1.00 | 1a2b3c4d\n";
+        Files.writeString(historyFile.toPath(), savedLines + "2022-10-01 | UPDATE | 28sd37h2 | jw");
+        TransactionHistory loadedHistory = new HistoryStorage(historyFile.getPath()).loadData(transactionList);
+        assertEquals(1, loadedHistory.getNumberOfChanges());
+        assertEquals(savedLines, Files.readString(historyFile.toPath()));
+    }
+
+    @Test
+    void loadData_lineCorruptedBeforeLast_exceptionThrownAndFileKept() throws Exception {
+        File historyFile = Files.createTempFile("history", ".txt").toFile();
+        historyFile.deleteOnExit();
+        String savedLines = "2022-10-01 | START\n"
+                + "2022-10-01 | ADD | 28sd37h2 | jw | 1\n"
+                + "2022-10-01 | ADD | 28sd37h2 | jw | 1 | 2022-10-01 | bui | pen | 1.00 | 1a2b3c4d\n";
+        Files.writeString(historyFile.toPath(), savedLines);
+        HistoryStorage historyStorage = new HistoryStorage(historyFile.getPath());
+        assertThrows(StoreFailureException.class, () -> historyStorage.loadData(transactionList));
+        assertEquals(savedLines, Files.readString(historyFile.toPath()));
+    }
+}
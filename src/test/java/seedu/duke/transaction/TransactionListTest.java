@@ -1,11 +1,16 @@
 package seedu.duke.transaction;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
 import seedu.duke.exception.InvalidTransactionException;
 import seedu.duke.exception.TransactionNotFoundException;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,9 +25,15 @@ class TransactionListTest {
 
     @BeforeEach
     void initializeTest() {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-11-01T10:00:00Z"), ZoneOffset.UTC));
         transactionList = new TransactionList();
         transaction = new Transaction("pen", "28sd37h2", "bui", "jw", 5,
-                LocalDate.parse("2022-10-03"), 3.2);
+                LocalDate.parse("2022-10-03"), 320);
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
     }
 
     @Test
@@ -63,7 +74,7 @@ class TransactionListTest {
     @Test
     void unmarkFinished_notFinishedTx_expectFalse() throws TransactionNotFoundException {
         Transaction unfinishedTransaction = new Transaction("pen", "28sd37h2", "bui", "jw", 300,
-                LocalDate.parse("2022-10-03"), 3.2);
+                LocalDate.parse("2022-10-03"), 320);
         transactionList.addTransaction(unfinishedTransaction);
         assertFalse(
                 transactionList.getTransactionById(unfinishedTransaction.getTxId()).isFinished());
@@ -80,7 +91,7 @@ class TransactionListTest {
     void updateTransactionDuration_txCanBeFound_durationIsUpdated()
             throws TransactionNotFoundException, InvalidTransactionException {
         transactionList.addTransaction(transaction);
-        transactionList.updateTransaction(transaction.getTxId(), 300, 192);
+        transactionList.updateTransaction(transaction.getTxId(), 300, 19200);
         assertEquals(300, transactionList.getTransactionById(transaction.getTxId()).getDuration());
     }
 
@@ -88,13 +99,13 @@ class TransactionListTest {
     void updateTransactionDuration_txCannotBeFound_exceptionIsThrown() {
         transactionList.addTransaction(transaction);
         assertThrows(TransactionNotFoundException.class,
-            () -> transactionList.updateTransaction("982h28hw", 300, 192));
+            () -> transactionList.updateTransaction("982h28hw", 300, 19200));
     }
 
     @Test
     void hasThisBorrower_hasBorrower_returnTrue() {
         Transaction unfinishedTransaction = new Transaction("pen", "28sd37h2", "bui", "jw", 300,
-                LocalDate.parse("2022-10-03"), 3.2);
+                LocalDate.parse("2022-10-03"), 320);
         transactionList.addTransaction(unfinishedTransaction);
         assertTrue(transactionList.hasThisBorrower("bui"));
     }
@@ -108,7 +119,7 @@ class TransactionListTest {
     @Test
     void hasThisItemBeingBorrowed_hasItem_returnTrue() {
         Transaction unfinishedTransaction = new Transaction("pen", "28sd37h2", "bui", "jw", 300,
-                LocalDate.parse("2022-10-03"), 3.2);
+                LocalDate.parse("2022-10-03"), 320);
         transactionList.addTransaction(unfinishedTransaction);
         assertTrue(transactionList.hasThisItemBeingBorrowed("28sd37h2"));
     }
@@ -119,6 +130,17 @@ class TransactionListTest {
         assertFalse(transactionList.hasThisItemBeingBorrowed("pencil"));
     }
 
+    @Test
+    void countFinishedSince_dayRolledOver_countsTransactionsReturnedInBetween() {
+        transactionList.addTransaction(transaction);
+        transactionList.addTransaction(new Transaction("pen", "28sd37h2", "bui", "jw", 20,
+                LocalDate.parse("2022-10-10"), 320));
+        assertEquals(1, transactionList.countFinishedSince(LocalDate.parse("2022-10-29"),
+                LocalDate.parse("2022-10-31")));
+        assertEquals(2, transactionList.countFinishedSince(LocalDate.parse("2022-10-01"),
+                LocalDate.parse("2022-11-01")));
+    }
+
     @Test
     void convertTransactionListToFileFormat() {
         String transactionId = transaction.getTxId();
@@ -139,7 +161,7 @@ class TransactionListTest {
     void checkIfListHasTransactionOfThisItemThatOverlapWithNewTransaction() {
         transactionList.addTransaction(transaction);
         Transaction newTransaction = new Transaction("pen", "28sd37h2", "bui", "jw", 6,
-                LocalDate.parse("2022-10-03"), 3.2);
+                LocalDate.parse("2022-10-03"), 320);
         assertThrows(InvalidTransactionException.class,
             () -> transactionList.checkOldTransactionsOverlapWithNew(newTransaction));
     }
@@ -148,9 +170,9 @@ class TransactionListTest {
     void checkIfListHasTransactionOfThisItemThatOverlapWithUpdatedTransaction() {
         transactionList.addTransaction(transaction);
         Transaction newTransaction = new Transaction("pen", "28sd37h2", "bui", "jw", 6,
-                LocalDate.parse("2022-10-09"), 3.2);
+                LocalDate.parse("2022-10-09"), 320);
         transactionList.addTransaction(newTransaction);
         assertThrows(InvalidTransactionException.class, () -> transactionList
-                .checkOldTransactionsOverlapWithNew(transaction.update(10, 6.4)));
+                .checkOldTransactionsOverlapWithNew(transaction.update(10, 640)));
     }
 }
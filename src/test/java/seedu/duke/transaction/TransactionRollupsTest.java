@@ -0,0 +1,125 @@
+package seedu.duke.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.TransactionNotFoundException;
+import seedu.duke.item.Category;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+import seedu.duke.transaction.TransactionRollups.Granularity;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class TransactionRollupsTest {
+    private static final LocalDate FROM = LocalDate.parse("2022-01-01");
+    private static final LocalDate TO = LocalDate.parse("2022-12-31");
+    ItemList itemList;
+    TransactionList transactionList;
+    TransactionRollups rollups;
+
+    @BeforeEach
+    void initializeTest() throws InvalidCategoryException {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-12-01T10:00:00Z"), ZoneOffset.UTC));
+        itemList = new ItemList();
+        itemList.addItem(new Item("28sd37h2", "pen", 2, 100, "bui"));
+        itemList.addItem(new Item("5mvk2ncx", "ball", 1, 200, "bui"));
+        transactionList = new TransactionList();
+        // Mon Oct 03 and Sun Oct 09 are in the same week, Mon Oct 31 is in October but not Nov 01
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 2,
+                LocalDate.parse("2022-10-03"), 200));
+        transactionList.addTransaction(new Transaction("2a2b3c4d", "ball", "5mvk2ncx", "jw", "bui", 3,
+                LocalDate.parse("2022-10-09"), 600));
+        transactionList.addTransaction(new Transaction("3a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                LocalDate.parse("2022-10-31"), 100));
+        transactionList.addTransaction(new Transaction("4a2b3c4d", "cup", "9zzzzzzz", "jw", "bui", 4,
+                LocalDate.parse("2022-11-01"), 400));
+        rollups = TransactionRollups.build(transactionList, itemList);
+        transactionList.setRollups(rollups);
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
+    }
+
+    private static void assertFigures(long count, long rentedDays, long cents, long[] figures) {
+        assertEquals(count, figures[TransactionRollups.COUNT]);
+        assertEquals(rentedDays, figures[TransactionRollups.RENTED_DAYS]);
+        assertEquals(cents, figures[TransactionRollups.CENTS]);
+    }
+
+    @Test
+    void getFigures_weeksAndMonths_groupedByStartDate() {
+        Map<LocalDate, long[]> weeks = rollups.getFigures(Granularity.WEEK, FROM, TO, null);
+        assertEquals(List.of(LocalDate.parse("2022-10-03"), LocalDate.parse("2022-10-31")),
+                List.copyOf(weeks.keySet()));
+        assertFigures(2, 5, 800, weeks.get(LocalDate.parse("2022-10-03")));
+        assertFigures(2, 5, 500, weeks.get(LocalDate.parse("2022-10-31")));
+        Map<LocalDate, long[]> months = rollups.getFigures(Granularity.MONTH, FROM, TO, null);
+        assertFigures(3, 6, 900, months.get(LocalDate.parse("2022-10-01")));
+        assertFigures(1, 4, 400, months.get(LocalDate.parse("2022-11-01")));
+        Map<LocalDate, long[]> days = rollups.getFigures(Granularity.DAY, LocalDate.parse("2022-10-04"),
+                LocalDate.parse("2022-10-31"), null);
+        assertEquals(2, days.size());
+    }
+
+    @Test
+    void getFigures_category_onlyItemsOfCategory() {
+        Map<LocalDate, long[]> months = rollups.getFigures(Granularity.MONTH, FROM, TO,
+                Category.Categories.TEXTBOOKS_AND_NOTES);
+        assertEquals(1, months.size());
+        assertFigures(2, 3, 300, months.get(LocalDate.parse("2022-10-01")));
+    }
+
+    @Test
+    void getFigures_afterChanges_sameAsRebuilt() throws TransactionNotFoundException, InvalidTransactionException {
+        transactionList.updateTransaction("1a2b3c4d", 5, 500);
+        transactionList.deleteTransaction("2a2b3c4d");
+        transactionList.addTransaction(new Transaction("5a2b3c4d", "ball", "5mvk2ncx", "jw", "bui", 1,
+                LocalDate.parse("2022-11-20"), 200));
+        assertTrue(rollups.isConsistentWith(transactionList));
+        assertEquals(getSortedLines(TransactionRollups.build(transactionList, itemList)), getSortedLines(rollups));
+        assertTrue(rollups.getFigures(Granularity.DAY, FROM, TO, null).get(LocalDate.parse("2022-10-09")) == null);
+    }
+
+    private static List<String> getSortedLines(TransactionRollups rollups) {
+        return rollups.convertRollupsToFileFormat().lines().sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    void parse_convertedRollups_sameRollups() throws TransactionNotFoundException {
+        String formattedRollups = rollups.convertRollupsToFileFormat();
+        TransactionRollups parsedRollups = TransactionRollups.parse(List.of(formattedRollups.split("\n")), itemList);
+        assertEquals(getSortedLines(rollups), getSortedLines(parsedRollups));
+        assertTrue(parsedRollups.isConsistentWith(transactionList));
+        transactionList.deleteTransaction("4a2b3c4d");
+        assertFalse(parsedRollups.isConsistentWith(transactionList));
+    }
+
+    @Test
+    void isConsistentWith_sameCountAndMoney_otherTransactionsFound() throws InvalidTransactionException,
+            TransactionNotFoundException {
+        String formattedRollups = rollups.convertRollupsToFileFormat();
+        TransactionRollups parsedRollups = TransactionRollups.parse(List.of(formattedRollups.split("\n")), itemList);
+        // Same number of transactions and total money, but a longer rental of another item
+        transactionList.updateTransaction("1a2b3c4d", 2, 300);
+        transactionList.updateTransaction("3a2b3c4d", 3, 0);
+        assertFalse(parsedRollups.isConsistentWith(transactionList));
+        assertTrue(rollups.isConsistentWith(transactionList));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.duke.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
+import seedu.duke.exception.InvalidCategoryException;
+import seedu.duke.exception.InvalidTransactionException;
+import seedu.duke.exception.TransactionNotFoundException;
+import seedu.duke.item.Category;
+import seedu.duke.item.Item;
+import seedu.duke.item.ItemList;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// @@author bdthanh
+class TransactionSketchesTest {
+    ItemList itemList;
+    TransactionList transactionList;
+    TransactionSketches sketches;
+
+    @BeforeEach
+    void initializeTest() throws InvalidCategoryException {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-12-01T10:00:00Z"), ZoneOffset.UTC));
+        itemList = new ItemList();
+        itemList.addItem(new Item("28sd37h2", "pen", 2, 100, "bui"));
+        itemList.addItem(new Item("5mvk2ncx", "ball", 1, 200, "bui"));
+        transactionList = new TransactionList();
+        transactionList.addTransaction(new Transaction("1a2b3c4d", "pen", "28sd37h2", "jw", "bui", 2,
+                LocalDate.parse("2022-10-03"), 200));
+        transactionList.addTransaction(new Transaction("2a2b3c4d", "pen", "28sd37h2", "tom", "bui", 3,
+                LocalDate.parse("2022-10-09"), 300));
+        transactionList.addTransaction(new Transaction("3a2b3c4d", "pen", "28sd37h2", "jw", "bui", 1,
+                LocalDate.parse("2022-10-31"), 100));
+        transactionList.addTransaction(new Transaction("4a2b3c4d", "ball", "5mvk2ncx", "jw", "bui", 4,
+                LocalDate.parse("2022-11-01"), 800));
+        sketches = TransactionSketches.build(transactionList, itemList);
+        transactionList.setSketches(sketches);
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
+    }
+
+    @Test
+    void estimate_fewTransactions_exact() {
+        assertEquals(2, sketches.estimateDistinctBorrowers("28sd37h2"));
+        assertEquals(2, sketches.estimateBorrows("jw", Category.Categories.TEXTBOOKS_AND_NOTES));
+        assertEquals(1, sketches.estimateBorrows("jw", Category.Categories.SPORTS_EQUIPMENT));
+        assertEquals(0, sketches.estimateBorrows("tom", Category.Categories.SPORTS_EQUIPMENT));
+    }
+
+    @Test
+    void estimate_afterChanges_keptUpToDate() throws TransactionNotFoundException, InvalidTransactionException {
+        transactionList.updateTransaction("1a2b3c4d", 5, 500);
+        transactionList.deleteTransaction("2a2b3c4d");
+        transactionList.deleteTransaction("4a2b3c4d");
+        assertEquals(1, sketches.estimateDistinctBorrowers("28sd37h2"));
+        assertEquals(0, sketches.estimateDistinctBorrowers("5mvk2ncx"));
+        assertEquals(2, sketches.estimateBorrows("jw", Category.Categories.TEXTBOOKS_AND_NOTES));
+        assertEquals(0, sketches.estimateBorrows("jw", Category.Categories.SPORTS_EQUIPMENT));
+        assertTrue(sketches.isConsistentWith(transactionList));
+    }
+
+    @Test
+    void parse_convertedSketches_sameEstimates() throws TransactionNotFoundException {
+        String formattedSketches = sketches.convertSketchesToFileFormat();
+        TransactionSketches parsedSketches = TransactionSketches.parse(List.of(formattedSketches.split("\n")),
+                itemList);
+        assertEquals(2, parsedSketches.estimateDistinctBorrowers("28sd37h2"));
+        assertEquals(2, parsedSketches.estimateBorrows("jw", Category.Categories.TEXTBOOKS_AND_NOTES));
+        assertTrue(parsedSketches.isConsistentWith(transactionList));
+        transactionList.deleteTransaction("4a2b3c4d");
+        assertFalse(parsedSketches.isConsistentWith(transactionList));
+    }
+
+    @Test
+    void recountBorrowers_manyBorrowersDeleted_countedOnceWhenMarked() throws TransactionNotFoundException {
+        for (int i = 0; i < 20; i++) {
+            transactionList.addTransaction(new Transaction(String.format("%08x", 0x5a2b3c00 + i), "ball",
+                    "5mvk2ncx", "user" + i, "bui", 1, LocalDate.parse("2022-11-10"), 100));
+        }
+        assertFalse(sketches.isDistinctBorrowersExact("5mvk2ncx"));
+        for (int i = 0; i < 18; i++) {
+            transactionList.deleteTransaction(String.format("%08x", 0x5a2b3c00 + i));
+        }
+        TransactionSketches parsedSketches = TransactionSketches.parse(
+                List.of(sketches.convertSketchesToFileFormat().split("\n")), itemList);
+        sketches.recountBorrowers(transactionList);
+        assertTrue(sketches.isDistinctBorrowersExact("5mvk2ncx"));
+        assertEquals(3, sketches.estimateDistinctBorrowers("5mvk2ncx"));
+        parsedSketches.recountBorrowers(transactionList);
+        assertEquals(3, parsedSketches.estimateDistinctBorrowers("5mvk2ncx"));
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.duke.transaction;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.duke.clock.BusinessClock;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 // @@author bdthanh
 class TransactionTest {
@@ -16,10 +22,16 @@ class TransactionTest {
 
     @BeforeEach
     void initializeTest() {
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-11-01T10:00:00Z"), ZoneOffset.UTC));
         transaction = new Transaction("pen", "28sd37h2", "bui", "jw", 5,
-                LocalDate.parse("2022-10-03"), 3.2);
+                LocalDate.parse("2022-10-03"), 320);
         transactionToCompare = new Transaction("pen", "28sd37h2", "bui", "jw", 5,
-                LocalDate.parse("2022-10-05"), 3.2);
+                LocalDate.parse("2022-10-05"), 320);
+    }
+
+    @AfterEach
+    void resetClock() {
+        BusinessClock.useSystemClock();
     }
 
     @Test
@@ -35,10 +47,21 @@ class TransactionTest {
     @Test
     void isFinished_notFinishedTx_expectFalse() {
         transaction = new Transaction("pen", "28sd37h2", "bui", "jw", 300,
-                LocalDate.parse("2022-10-03"), 192);
+                LocalDate.parse("2022-10-03"), 19200);
         assertFalse(transaction.isFinished());
     }
 
+    @Test
+    void toString_sameDay_textReusedAndRenderedAgainNextDay() {
+        transaction = new Transaction("pen", "28sd37h2", "bui", "jw", 300,
+                LocalDate.parse("2022-10-03"), 19200);
+        String text = transaction.toString();
+        assertSame(text, transaction.toString());
+        assertTrue(text.contains("(271 day(s) left)"));
+        BusinessClock.setClock(Clock.fixed(Instant.parse("2022-11-02T10:00:00Z"), ZoneOffset.UTC));
+        assertTrue(transaction.toString().contains("(270 day(s) left)"));
+    }
+
     @Test
     void getItemIdTest() {
         assertEquals("28sd37h2", transaction.getItemId());
@@ -64,13 +87,13 @@ class TransactionTest {
     @Test
     void updateDurationTest() {
         Transaction newTransaction = new Transaction(transaction.getTxId(), "pen", "28sd37h2",
-                "bui", "jw", 300, LocalDate.parse("2022-10-03"), 192);
-        assertEquals(newTransaction.toString(), transaction.update(300, 192).toString());
+                "bui", "jw", 300, LocalDate.parse("2022-10-03"), 19200);
+        assertEquals(newTransaction.toString(), transaction.update(300, 19200).toString());
     }
 
     @Test
     void getMoneyTransacted() {
-        assertEquals(3.2, transaction.getMoneyTransacted());
+        assertEquals(320, transaction.getMoneyTransacted());
     }
 
     @Test
@@ -81,14 +104,14 @@ class TransactionTest {
     @Test
     void isOverlapWithTransactionWithEquality_notOverlap_returnFalse() {
         transactionToCompare = new Transaction("pen", "28sd37h2", "bui", "jw", 5,
-                LocalDate.parse("2022-10-10"), 3.2);
+                LocalDate.parse("2022-10-10"), 320);
         assertFalse(transaction.checkOverlapToAddTx(transactionToCompare));
     }
 
     @Test
     void isOverlapWithTransactionWithEquality_overlapWithEquality_returnTrue() {
         transactionToCompare = new Transaction("pen", "28sd37h2", "bui", "jw", 5,
-                LocalDate.parse("2022-10-03"), 3.2);
+                LocalDate.parse("2022-10-03"), 320);
         assertTrue(transaction.checkOverlapToAddTx(transactionToCompare));
     }
 
@@ -0,0 +1,30 @@
+package seedu.duke.ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// @@author bdthanh
+class RenderedTextCacheTest {
+    @Test
+    void get_sameRowAndVariant_textReused() {
+        RenderedTextCache cache = new RenderedTextCache(2);
+        cache.put("a", "row a", 1, "text a");
+        assertEquals("text a", cache.get("a", "row a", 1));
+        assertNull(cache.get("a", "row a", 2));
+        assertNull(cache.get("a", "row a updated", 1));
+    }
+
+    @Test
+    void put_overCapacity_leastRecentlyUsedDropped() {
+        RenderedTextCache cache = new RenderedTextCache(2);
+        cache.put("a", "row a", 1, "text a");
+        cache.put("b", "row b", 1, "text b");
+        cache.get("a", "row a", 1);
+        cache.put("c", "row c", 1, "text c");
+        assertEquals("text a", cache.get("a", "row a", 1));
+        assertNull(cache.get("b", "row b", 1));
+        assertEquals("text c", cache.get("c", "row c", 1));
+    }
+}